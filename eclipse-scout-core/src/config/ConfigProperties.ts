@@ -24,4 +24,5 @@ export interface MainConfigProperties {
   'scout.devMode': boolean;
   'scout.ui.backgroundPollingMaxWaitTime': number;
   'scout.uinotification.waitTimeout': number;
+  'scout.uinotification.streamEnabled': boolean;
 }
@@ -64,6 +64,9 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   /** ms */
   requestTimeoutPing: number;
   backgroundJobPollingSupport: BackgroundJobPollingSupport;
+  /** true if the server pushes the results of background jobs over a WebSocket instead of being polled, assigned by server on session startup */
+  webSocketEnabled: boolean;
+  webSocketUrl: string;
   reconnector: Reconnector;
   processingEvents: boolean;
   /** This property is enabled by URL parameter &adapterExportEnabled=1. Default is false */
@@ -84,6 +87,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   protected _asyncDelay: number;
   protected _sendTimeoutId: number;
   protected _cancellationHandler: EventHandler<Event<BusyIndicator>>;
+  protected _webSocket: WebSocket;
 
   constructor() {
     super();
@@ -125,6 +129,9 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     this.requestTimeoutPoll = 75000;
     this.requestTimeoutPing = 5000;
     this.backgroundJobPollingSupport = new BackgroundJobPollingSupport(true);
+    this.webSocketEnabled = false;
+    this.webSocketUrl = 'ws';
+    this._webSocket = null;
     this.reconnector = new Reconnector(this);
     this.processingEvents = false;
     this.adapterExportEnabled = false;
@@ -443,6 +450,9 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
       this.inspector = true;
     }
 
+    // Receive the results of background jobs over a WebSocket if the server supports it
+    this.webSocketEnabled = !!data.startupData.webSocketEnabled;
+
     // Init request timeout for poller
     this.requestTimeoutPoll = (scout.nvl(config.get('scout.ui.backgroundPollingMaxWaitTime')?.value, 60) + Session.POLLING_GRACE_PERIOD) * 1000;
 
@@ -873,6 +883,10 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
    */
   protected _pollForBackgroundJobs() {
     this.backgroundJobPollingSupport.setRunning();
+    if (this.webSocketEnabled) {
+      this._openWebSocket();
+      return;
+    }
 
     let request = this._newRequest({
       pollForBackgroundJobs: true
@@ -891,48 +905,8 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     // --- Helper methods ---
 
     function onAjaxDone(data: RemoteResponse) {
-      if (data.error) {
-        if (data.error.code === Session.JsonResponseError.SESSION_TIMEOUT) {
-          $.log.info('Session timeout, stopped polling for background jobs');
-          this.backgroundJobPollingSupport.setStopped();
-        } else {
-          $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
-          this.backgroundJobPollingSupport.setFailed();
-        }
-        // Don't schedule a new polling request, when an error occurs
-        // when the next user-initiated request succeeds, we re-enable polling
-        // otherwise the polling would ping the server to death in case of an error
-        if (this.areRequestsPending()) {
-          // Add response to queue, handle later by _performUserAjaxRequest()
-          this.responseQueue.add(data);
-        } else {
-          // No user request pending, handle immediately
-          this.responseQueue.process(data);
-        }
-      } else if (data.sessionTerminated) {
-        $.log.info('Session terminated, stopped polling for background jobs');
-        this.backgroundJobPollingSupport.setStopped();
-        // If we are not yet logged out, redirect to the logout URL (the session that initiated the
-        // session invalidation will receive a dedicated logout event, redirect is handled there).
-        if (!this.loggedOut && data.redirectUrl) {
-          this.logout(data.redirectUrl);
-        }
-      } else {
-        try {
-          // No need to change backgroundJobPollingSupport state, it should still be RUNNING
-          if (this.areRequestsPending()) {
-            // Add response to queue, handle later by _performUserAjaxRequest()
-            this.responseQueue.add(data);
-          } else {
-            // No user request pending, handle immediately
-            this.responseQueue.process(data);
-            this.layoutValidator.validate();
-          }
-          setTimeout(this._pollForBackgroundJobs.bind(this));
-        } catch (error) {
-          this.backgroundJobPollingSupport.setFailed();
-          throw error;
-        }
+      if (this._processBackgroundJobsResponse(data)) {
+        setTimeout(this._pollForBackgroundJobs.bind(this));
       }
     }
 
@@ -942,6 +916,131 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     }
   }
 
+  /**
+   * Processes a response containing the results of background jobs, received either by polling or over the WebSocket.
+   *
+   * @returns true if the session should continue to wait for background jobs, false if an error occurred or the session has been terminated.
+   */
+  protected _processBackgroundJobsResponse(data: RemoteResponse): boolean {
+    if (data.error) {
+      if (data.error.code === Session.JsonResponseError.SESSION_TIMEOUT) {
+        $.log.info('Session timeout, stopped polling for background jobs');
+        this.backgroundJobPollingSupport.setStopped();
+      } else {
+        $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
+        this.backgroundJobPollingSupport.setFailed();
+      }
+      // Don't schedule a new polling request, when an error occurs
+      // when the next user-initiated request succeeds, we re-enable polling
+      // otherwise the polling would ping the server to death in case of an error
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+      }
+      return false;
+    }
+    if (data.sessionTerminated) {
+      $.log.info('Session terminated, stopped polling for background jobs');
+      this.backgroundJobPollingSupport.setStopped();
+      // If we are not yet logged out, redirect to the logout URL (the session that initiated the
+      // session invalidation will receive a dedicated logout event, redirect is handled there).
+      if (!this.loggedOut && data.redirectUrl) {
+        this.logout(data.redirectUrl);
+      }
+      return false;
+    }
+    try {
+      // No need to change backgroundJobPollingSupport state, it should still be RUNNING
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+        this.layoutValidator.validate();
+      }
+    } catch (error) {
+      this.backgroundJobPollingSupport.setFailed();
+      throw error;
+    }
+    return true;
+  }
+
+  /**
+   * Opens a WebSocket over which the server pushes the results of background jobs as soon as they are available.
+   * The session acknowledges processed responses over the same WebSocket. If the WebSocket cannot be opened,
+   * the session falls back to polling.
+   */
+  protected _openWebSocket() {
+    this._closeWebSocket();
+    let url = new window.URL(this.webSocketUrl, document.baseURI);
+    url.protocol = url.protocol === 'https:' ? 'wss:' : 'ws:';
+    url.searchParams.set('uiSessionId', this.uiSessionId);
+
+    let webSocket = new WebSocket(url.toString());
+    let opened = false;
+    webSocket.onopen = () => {
+      opened = true;
+    };
+    webSocket.onmessage = (event: MessageEvent<string>) => this._onWebSocketMessage(webSocket, JSON.parse(event.data));
+    webSocket.onclose = () => this._onWebSocketClose(webSocket, opened);
+    this._webSocket = webSocket;
+  }
+
+  protected _closeWebSocket() {
+    let webSocket = this._webSocket;
+    this._webSocket = null;
+    if (webSocket) {
+      webSocket.close();
+    }
+  }
+
+  protected _onWebSocketMessage(webSocket: WebSocket, data: RemoteResponse) {
+    if (webSocket !== this._webSocket) {
+      return;
+    }
+    let continuePolling = false;
+    try {
+      continuePolling = this._processBackgroundJobsResponse(data);
+    } finally {
+      if (!continuePolling) {
+        this._closeWebSocket();
+      }
+    }
+    if (continuePolling && data['#']) {
+      // Allow the server to clean up its response history
+      webSocket.send(JSON.stringify({
+        '#ACK': this.responseQueue.lastProcessedSequenceNo
+      }));
+    }
+  }
+
+  protected _onWebSocketClose(webSocket: WebSocket, opened: boolean) {
+    if (webSocket !== this._webSocket || this.unloading || this.unloaded) {
+      // Closed on purpose
+      return;
+    }
+    this._webSocket = null;
+    if (!opened) {
+      $.log.warn('WebSocket could not be opened, falling back to polling for background jobs');
+      this.webSocketEnabled = false;
+      this._pollForBackgroundJobs();
+      return;
+    }
+    // The connection was lost, responses pushed in the meantime have to be requested again.
+    // If the request succeeds, background job polling is resumed which opens a new WebSocket.
+    $.log.info('WebSocket closed unexpectedly, synchronizing response queue');
+    this.backgroundJobPollingSupport.setFailed();
+    let request = this._newRequest({
+      syncResponseQueue: true
+    });
+    this.responseQueue.prepareRequest(request);
+    this._sendRequest(request);
+  }
+
   /**
    * Do NOT call this method directly, always use the response queue:
    * ```
@@ -1497,6 +1596,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
 
   logout(logoutUrl: string) {
     this.loggedOut = true;
+    this._closeWebSocket();
     // TODO [7.0] bsh: Check if there is a better solution (e.g. send a flag from server "action" = [ "redirect" | "closeWindow" ])
     if (this.forceNewClientSession) {
       this.desktop.$container.window(true).close();
@@ -1547,6 +1647,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   protected _onWindowUnload() {
     $.log.isInfoEnabled() && $.log.info('Session unloading...');
     this.unloaded = true;
+    this._closeWebSocket();
 
     // Close popup windows
     if (this.desktop && this.desktop.formController) {
@@ -1659,6 +1760,7 @@ export interface SessionStartupResponse extends RemoteResponse {
     reloadPage?: boolean;
     persistent?: boolean;
     inspector?: boolean;
+    webSocketEnabled?: boolean;
     locale?: LocaleModel;
     textMap?: TextMap;
   };
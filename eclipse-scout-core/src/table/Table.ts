@@ -91,6 +91,7 @@ export class Table extends Widget implements TableModel, Filterable<TableRow> {
   visibleRows: TableRow[];
   estimatedRowCount: number;
   maxRowCount: number;
+  remainingRowCount: number;
   aggregateRowHeight: number;
   truncatedCellTooltipEnabled: boolean;
   checkableColumn: BooleanColumn;
@@ -213,6 +214,7 @@ export class Table extends Widget implements TableModel, Filterable<TableRow> {
     this.visibleRows = [];
     this.estimatedRowCount = 0;
     this.maxRowCount = 0;
+    this.remainingRowCount = 0;
     this.truncatedCellTooltipEnabled = null;
     this.visibleRowsMap = {};
     this.rowLevelPadding = 0;
@@ -5341,6 +5343,11 @@ export class Table extends Widget implements TableModel, Filterable<TableRow> {
     this.setProperty('estimatedRowCount', estimatedRowCount);
   }
 
+  /** @see TableModel.remainingRowCount */
+  setRemainingRowCount(remainingRowCount: number) {
+    this.setProperty('remainingRowCount', remainingRowCount);
+  }
+
   protected _renderDropType() {
     this._installOrUninstallDragAndDropHandler();
   }
@@ -20,6 +20,9 @@ export class TableAdapter extends ModelAdapter {
 
   /** @internal */
   _rebuildingTable: boolean;
+  protected _fetchingRows: boolean;
+  protected _fetchingAllRows: boolean;
+  protected _filterPending: boolean;
 
   constructor() {
     super();
@@ -249,6 +252,13 @@ export class TableAdapter extends ModelAdapter {
   }
 
   protected _onWidgetFilter() {
+    if (this.widget.remainingRowCount > 0 && this.widget.filterCount() > 0) {
+      // The filter could only be applied to the loaded rows. The filtered rows are sent as soon as all rows are loaded.
+      this._filterPending = true;
+      this._fetchAllRows();
+      return;
+    }
+    this._filterPending = false;
     let rowIds = this.widget.rowsToIds(this.widget.filteredRows());
     this._sendFilter(rowIds);
   }
@@ -403,8 +413,65 @@ export class TableAdapter extends ModelAdapter {
   }
 
   protected _onRowsInserted(rows: ObjectOrModel<TableRow> | ObjectOrModel<TableRow>[]) {
+    this._fetchingRows = false;
     this.widget.insertRows(rows);
     this._rebuildingTable = false;
+    this._sendPendingFilter();
+  }
+
+  protected _syncRemainingRowCount(remainingRowCount: number) {
+    this._fetchingRows = false;
+    this._fetchingAllRows = false;
+    this.widget.setRemainingRowCount(remainingRowCount);
+    this._sendPendingFilter();
+  }
+
+  protected _sendPendingFilter() {
+    if (this._filterPending && !(this.widget.remainingRowCount > 0)) {
+      this._onWidgetFilter();
+    }
+  }
+
+  /**
+   * Requests all remaining rows from the server, e.g. to filter them.
+   */
+  protected _fetchAllRows() {
+    if (this._fetchingAllRows) {
+      return;
+    }
+    this._fetchingAllRows = true;
+    this._fetchingRows = true;
+    this._send('fetchRows', {
+      all: true
+    }, {
+      showBusyIndicator: false
+    });
+  }
+
+  /**
+   * Lets the server select all rows if not all rows are loaded yet. The server sends the remaining rows together with the selection.
+   * @internal
+   */
+  _sendSelectAll() {
+    this._send('selectAll');
+  }
+
+  /**
+   * Requests the next rows from the server if not all rows are loaded and the last loaded row is rendered.
+   * @internal
+   */
+  _fetchRowsIfNecessary() {
+    let table = this.widget;
+    if (this._fetchingRows || !(table.remainingRowCount > 0) || !table.isAttachedAndRendered()) {
+      return;
+    }
+    if (table.viewRangeRendered.to < table.visibleRows.length) {
+      return;
+    }
+    this._fetchingRows = true;
+    this._send('fetchRows', {}, {
+      showBusyIndicator: false
+    });
   }
 
   protected _onRowsDeleted(rowIds: string[]) {
@@ -691,12 +758,31 @@ export class TableAdapter extends ModelAdapter {
         // In a JS only app the flag 'uiSortPossible' is never set and thus defaults to true. Additionally, we check if each column can install
         // its comparator used to sort. If installation failed for some reason, sorting is not possible. In a remote app the server sets the
         // 'uiSortPossible' flag, which decides if the column must be sorted by the server or can be sorted by the client.
-        let uiSortPossible = scout.nvl(this.uiSortPossible, true);
+        // If not all rows are loaded yet, the rows can only be sorted by the server.
+        let uiSortPossible = scout.nvl(this.uiSortPossible, true) && !(this.remainingRowCount > 0);
         return uiSortPossible && this._isSortingPossibleOrig(sortColumns);
       }
       return this._isSortingPossibleOrig(sortColumns);
     }, true);
 
+    // _renderViewport
+    objects.replacePrototypeFunction(Table, '_renderViewport', function(this: Table & { _renderViewportOrig }) {
+      this._renderViewportOrig();
+      if (this.modelAdapter) {
+        (this.modelAdapter as TableAdapter)._fetchRowsIfNecessary();
+      }
+    }, true);
+
+    // selectAll
+    objects.replacePrototypeFunction(Table, 'selectAll', function(this: Table & { selectAllOrig }) {
+      if (this.modelAdapter && this.remainingRowCount > 0) {
+        // Not all rows are loaded, the rows are selected by the server
+        (this.modelAdapter as TableAdapter)._sendSelectAll();
+        return;
+      }
+      this.selectAllOrig();
+    }, true);
+
     // sort
     objects.replacePrototypeFunction(Table, 'sort', function(this: Table & { sortOrig }, column: Column<any>, direction?: 'asc' | 'desc', multiSort?: boolean, remove?: boolean) {
       if (this.modelAdapter && column.guiOnly) {
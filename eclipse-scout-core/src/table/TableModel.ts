@@ -217,6 +217,15 @@ export interface TableModel extends WidgetModel {
    * By default, there is no estimation.
    */
   estimatedRowCount?: number;
+  /**
+   * Number of rows not yet loaded into this table.
+   *
+   * Only used by Scout Classic if the UI server sends the rows page by page: the next page is requested as soon as the user scrolls to the end of the table.
+   * As long as not all rows are loaded, the rows are sorted and selected (select all) by the UI server, and all rows are loaded before a filter is applied.
+   *
+   * Default is 0.
+   */
+  remainingRowCount?: number;
   /**
    * Controls whether a `Reload data` link should be displayed in the {@link TableFooter} that triggers a {@link TableEventMap.reload} event when clicked.
    *
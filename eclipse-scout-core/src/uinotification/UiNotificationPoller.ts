@@ -35,6 +35,11 @@ export class UiNotificationPoller extends PropertyEventEmitter {
    * This is more like a last resort timeout, the server will release the connection earlier (see scout.uinotification.waitTimeout).
    */
   requestTimeout: number;
+  /**
+   * If true, the notifications are received as server-sent events over one connection instead of polling for them (see scout.uinotification.streamEnabled).
+   * If the stream cannot be established, the poller falls back to polling.
+   */
+  streaming: boolean;
   status: BackgroundJobPollingStatus;
   /**
    * Stores the received notifications per topic and per cluster node but not more than {@link UiNotificationPoller.HISTORY_COUNT}.
@@ -43,10 +48,19 @@ export class UiNotificationPoller extends PropertyEventEmitter {
   url: string;
   system: UiNotificationSystem;
   protected _call: AjaxCall;
+  /** Position in the response text of the stream up to which the events have been processed. */
+  protected _streamOffset: number;
+  /** True as soon as the first event of the current stream has been received. */
+  protected _streamConnected: boolean;
+  protected _streamWatchdog: number;
 
   constructor() {
     super();
     this.requestTimeout = UiNotificationPoller.DEFAULT_BACKEND_TIMEOUT + UiNotificationPoller.BACKEND_TIMEOUT_OFFSET;
+    this.streaming = false;
+    this._streamOffset = 0;
+    this._streamConnected = false;
+    this._streamWatchdog = null;
     this.status = BackgroundJobPollingStatus.STOPPED;
     this.notifications = new Map();
   }
@@ -57,6 +71,8 @@ export class UiNotificationPoller extends PropertyEventEmitter {
     let system = this.system.name as keyof ConfigProperties;
     let backendTimeout = scout.nvl(config.get(timeoutPropertyKey, system)?.value, config.get(timeoutPropertyKey)?.value, UiNotificationPoller.DEFAULT_BACKEND_TIMEOUT);
     this.requestTimeout = backendTimeout + UiNotificationPoller.BACKEND_TIMEOUT_OFFSET;
+    let streamEnabledPropertyKey: keyof MainConfigProperties = 'scout.uinotification.streamEnabled';
+    this.streaming = scout.nvl(config.get(streamEnabledPropertyKey, system)?.value, config.get(streamEnabledPropertyKey)?.value, this.streaming);
   }
 
   setTopics(topics: string[]) {
@@ -100,6 +116,7 @@ export class UiNotificationPoller extends PropertyEventEmitter {
     if (this.status === BackgroundJobPollingStatus.STOPPED) {
       return;
     }
+    this._clearStreamWatchdog();
     this._call?.abort();
     this.setStatus(BackgroundJobPollingStatus.STOPPED);
   }
@@ -122,6 +139,10 @@ export class UiNotificationPoller extends PropertyEventEmitter {
   }
 
   protected _poll() {
+    if (this.streaming) {
+      this._stream();
+      return;
+    }
     this._call?.abort(); // abort in case there is already a call running
     this._call = ajax.createCallJson({
       url: this.url,
@@ -148,7 +169,11 @@ export class UiNotificationPoller extends PropertyEventEmitter {
       // In case the poller will be started again, the discarded notifications will be sent again by the server
       return;
     }
-    let notifications = response.notifications || [];
+    this._processNotifications(response.notifications || []);
+    this._schedulePoll();
+  }
+
+  protected _processNotifications(notifications: UiNotificationDo[]) {
     $.log.isInfoEnabled() && $.log.info(`${notifications.length} UI notification(s) received.`);
     notifications = notifications.filter(notification => {
       let {topic, id, nodeId} = notification;
@@ -184,10 +209,129 @@ export class UiNotificationPoller extends PropertyEventEmitter {
       $.log.isInfoEnabled() && $.log.info(`Dispatching UI notifications with ids ${notifications.map(n => n.id)}.`);
       this.trigger('notifications', {notifications});
     }
+  }
+
+  /**
+   * Opens a stream that receives the notifications as server-sent events. The stream is kept open by the server until it reaches its max duration,
+   * then a new stream is opened which continues with the last received notifications.
+   */
+  protected _stream() {
+    this._call?.abort(); // abort in case there is already a call running
+    this._streamOffset = 0;
+    this._streamConnected = false;
+    let call = ajax.createCallJson({
+      url: this.url + '/stream',
+      dataType: 'text',
+      headers: {
+        Accept: 'text/event-stream'
+      },
+      data: objects.stringifyJson({
+        topics: this.topicsWithLastNotifications
+      }, dates.stringifyJsonDateMapper()),
+      xhrFields: {
+        onprogress: (event: ProgressEvent<XMLHttpRequest>) => {
+          if (call === this._call) {
+            this._onStreamProgress(event.target.responseText);
+          }
+        }
+      }
+    });
+    this._call = call;
+    this._resetStreamWatchdog();
+    call.call()
+      .then((responseText: string) => {
+        if (call === this._call) {
+          this._onStreamEnd(responseText);
+        }
+      })
+      .catch(error => {
+        if (call === this._call) {
+          this._onStreamError(error);
+        }
+      });
+  }
+
+  protected _onStreamProgress(responseText: string) {
+    this._resetStreamWatchdog();
+    // Only process complete events, they are separated by an empty line
+    let end = responseText.lastIndexOf('\n\n');
+    if (end < this._streamOffset) {
+      return;
+    }
+    let text = responseText.substring(this._streamOffset, end);
+    this._streamOffset = end + 2;
+    text.split('\n\n').forEach(event => this._onStreamEvent(event));
+  }
 
+  protected _onStreamEvent(event: string) {
+    let name = 'message';
+    let data: string[] = [];
+    event.split('\n').forEach(line => {
+      if (line.startsWith('event:')) {
+        name = line.substring('event:'.length).trim();
+      } else if (line.startsWith('data:')) {
+        data.push(line.substring('data:'.length).replace(/^ /, ''));
+      }
+      // Lines starting with ':' are comments the server sends to keep the connection alive
+    });
+    this._streamConnected = true;
+    if (name !== 'notifications' || !data.length) {
+      return;
+    }
+    let response: UiNotificationResponse = objects.parseJson(data.join('\n'), dates.parseJsonDateMapper('creationTime'));
+    if (response.error) {
+      this._onSuccessError(response.error);
+      return;
+    }
+    if (this.status === BackgroundJobPollingStatus.STOPPED) {
+      // Discard notifications, they will be sent again when the poller is started again
+      return;
+    }
+    this._processNotifications(response.notifications || []);
+  }
+
+  protected _onStreamEnd(responseText: string) {
+    this._onStreamProgress(responseText || '');
+    this._clearStreamWatchdog();
+    // Server closed the stream -> reconnect
     this._schedulePoll();
   }
 
+  protected _onStreamError(error: AjaxError) {
+    this._clearStreamWatchdog();
+    let offlineError = AjaxCall.isOfflineError(error.jqXHR, error.textStatus, error.errorThrown);
+    if (!this._streamConnected && !offlineError && error.textStatus !== 'abort' && !scout.isOneOf(error.jqXHR.status, 401, 403)) {
+      // Stream could not be established (e.g. disabled on the server or not supported by a proxy) -> fall back to polling
+      $.log.isInfoEnabled() && $.log.info(`Streaming UI notifications failed with status ${error.jqXHR.status}, falling back to polling.`);
+      this.streaming = false;
+      this._schedulePoll();
+      return;
+    }
+    this._onError(error);
+  }
+
+  /**
+   * The server sends a comment regularly, so if nothing arrives within the request timeout, the connection is considered dead and a new stream is opened.
+   */
+  protected _resetStreamWatchdog() {
+    this._clearStreamWatchdog();
+    this._streamWatchdog = setTimeout(() => {
+      this._streamWatchdog = null;
+      if (this.status === BackgroundJobPollingStatus.STOPPED) {
+        return;
+      }
+      $.log.isInfoEnabled() && $.log.info('UI notification stream timed out, reconnecting.');
+      this.poll();
+    }, this.requestTimeout);
+  }
+
+  protected _clearStreamWatchdog() {
+    if (this._streamWatchdog) {
+      clearTimeout(this._streamWatchdog);
+      this._streamWatchdog = null;
+    }
+  }
+
   protected _onSuccessError(error: JsonErrorResponse) {
     if (error.code === Session.JsonResponseError.SESSION_TIMEOUT) {
       $.log.isInfoEnabled() && $.log.info('Stopping ui notification poller due to session timeout');
@@ -564,6 +564,51 @@ describe('Session', () => {
       expect(session._processErrorJsonResponse).not.toHaveBeenCalled();
       expect(session._processErrorResponse).not.toHaveBeenCalled();
     });
+
+    it('receives background job results over a WebSocket if enabled', () => {
+      let session = createSession();
+      session.backgroundJobPollingSupport.enabled = true;
+      session.webSocketEnabled = true;
+      let webSocket = jasmine.createSpyObj('WebSocket', ['send', 'close']);
+      spyOn(window, 'WebSocket').and.returnValue(webSocket);
+      spyOn(session, '_processSuccessResponse').and.callThrough();
+
+      session._resumeBackgroundJobPolling();
+      jasmine.clock().tick(0);
+      expect(window.WebSocket).toHaveBeenCalled();
+      expect(jasmine.Ajax.requests.count()).toBe(0); // no ?poll request
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+
+      webSocket.onopen();
+      webSocket.onmessage({data: '{"#": 1, "events": []}'});
+      expect(session._processSuccessResponse).toHaveBeenCalled();
+      expect(webSocket.send).toHaveBeenCalledWith('{"#ACK":1}');
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+
+      webSocket.onmessage({data: '{"sessionTerminated": true}'});
+      expect(webSocket.close).toHaveBeenCalled();
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.STOPPED);
+    });
+
+    it('falls back to polling if the WebSocket cannot be opened', () => {
+      let session = createSession();
+      session.backgroundJobPollingSupport.enabled = true;
+      session.webSocketEnabled = true;
+      let webSocket = jasmine.createSpyObj('WebSocket', ['send', 'close']);
+      spyOn(window, 'WebSocket').and.returnValue(webSocket);
+
+      session._resumeBackgroundJobPolling();
+      jasmine.clock().tick(0);
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+
+      // Closed without having been opened
+      webSocket.onclose();
+      jasmine.clock().tick(0);
+      expect(session.webSocketEnabled).toBe(false);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(jasmine.Ajax.requests.at(0).url).toContain('poll');
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+    });
   });
 
   describe('init', () => {
@@ -691,6 +691,85 @@ describe('TableAdapter', () => {
     });
   });
 
+  describe('fetchRows', () => {
+
+    it('is sent if not all rows are loaded and the last row is rendered', () => {
+      let model = helper.createModelFixture(2, 5);
+      model.remainingRowCount = 100;
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+      table.render();
+
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest()).toContainEvents(new RemoteEvent(table.id, 'fetchRows', {}));
+
+      // Not sent again until the rows arrive
+      jasmine.Ajax.requests.reset();
+      table.setRemainingRowCount(100);
+      table._renderViewport();
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+    });
+
+    it('is not sent if all rows are loaded', () => {
+      let model = helper.createModelFixture(2, 5);
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+      table.render();
+
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+    });
+
+    it('requests all rows instead of sending a filter if not all rows are loaded', () => {
+      let model = helper.createModelFixture(2, 5);
+      $.extend(model, {filters: [{objectType: TableTextUserFilter, filterType: 'text', text: '2'}]});
+      model.remainingRowCount = 100;
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+
+      sendQueuedAjaxCalls(null, 250);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest()).toContainEventTypesExactly(['fetchRows']);
+      expect(mostRecentJsonRequest()).toContainEvents(new RemoteEvent(table.id, 'fetchRows', {all: true}));
+
+      // The filter is sent as soon as all rows are loaded
+      jasmine.Ajax.requests.reset();
+      adapter._syncRemainingRowCount(0);
+      sendQueuedAjaxCalls(null, 250);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest()).toContainEventTypesExactly(['filter']);
+    });
+  });
+
+  describe('selectAll', () => {
+
+    it('is sent to the server if not all rows are loaded', () => {
+      let model = helper.createModelFixture(2, 5);
+      model.remainingRowCount = 100;
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+
+      table.selectAll();
+      sendQueuedAjaxCalls();
+      expect(table.selectedRows.length).toBe(0);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest()).toContainEventTypesExactly(['selectAll']);
+    });
+
+    it('selects the rows in the UI if all rows are loaded', () => {
+      let model = helper.createModelFixture(2, 5);
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+
+      table.selectAll();
+      sendQueuedAjaxCalls();
+      expect(table.selectedRows.length).toBe(5);
+      expect(mostRecentJsonRequest()).toContainEventTypesExactly(['rowsSelected']);
+    });
+  });
+
   describe('_sendFilter', () => {
 
     // Test case for ticket #175700
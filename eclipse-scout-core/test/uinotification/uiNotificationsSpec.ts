@@ -802,6 +802,59 @@ describe('uiNotifications', () => {
       expect(poller.status).toBe(BackgroundJobPollingStatus.STOPPED); // still stopped
     });
 
+    it('receives the notifications over a stream if streaming is enabled', () => {
+      let receivedMsg: DoEntity;
+      uiNotifications.subscribe('aaa', event => {
+        receivedMsg = event.message;
+      });
+      let poller = pollers().get('main');
+      poller.streaming = true;
+      poller.restart();
+      expect(jasmine.Ajax.requests.mostRecent().url).toContain('/stream');
+
+      let response: UiNotificationResponse = {
+        notifications: [{
+          id: '1',
+          topic: 'aaa',
+          nodeId: 'node1',
+          creationTime: dates.parseJsonDate('2023-09-16 21:44:13.000'),
+          message: {
+            a: 'aaa'
+          } as JsonObject
+        }]
+      };
+      jasmine.Ajax.requests.mostRecent().respondWith({
+        status: 200,
+        responseText: ':heartbeat\n\nevent: notifications\ndata: ' + JSON.stringify(response, dates.stringifyJsonDateMapper()) + '\n\n'
+      });
+      jasmine.clock().tick(1);
+      expect(receivedMsg).toEqual({
+        a: 'aaa'
+      } as DoEntity);
+
+      // Server closed the stream -> a new one is opened which continues with the last notification
+      jasmine.clock().tick(1);
+      expect(poller.status).toBe(BackgroundJobPollingStatus.RUNNING);
+      expect(jasmine.Ajax.requests.mostRecent().url).toContain('/stream');
+      expect(mostRecentRequestData()['topics'][0].lastNotifications[0].id).toBe('1');
+    });
+
+    it('falls back to polling if the stream cannot be established', () => {
+      uiNotifications.subscribe('aaa', () => undefined);
+      let poller = pollers().get('main');
+      poller.streaming = true;
+      poller.restart();
+      expect(jasmine.Ajax.requests.mostRecent().url).toContain('/stream');
+
+      jasmine.Ajax.requests.mostRecent().respondWith({
+        status: 404
+      });
+      jasmine.clock().tick(1);
+      expect(poller.streaming).toBe(false);
+      expect(poller.status).toBe(BackgroundJobPollingStatus.RUNNING);
+      expect(jasmine.Ajax.requests.mostRecent().url).not.toContain('/stream');
+    });
+
     it('does not process any notification if stopped right before notification arrives', () => {
       let receivedEvent;
       uiNotifications.subscribe('aaa', event => {
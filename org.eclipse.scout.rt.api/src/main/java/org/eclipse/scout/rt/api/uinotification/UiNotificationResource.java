@@ -14,6 +14,7 @@ import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -21,11 +22,15 @@ import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
 import org.eclipse.scout.rt.api.data.uinotification.UiNotificationRequest;
 import org.eclipse.scout.rt.api.data.uinotification.UiNotificationResponse;
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.UiNotificationStreamEnabledProperty;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.rest.IRestResource;
 import org.eclipse.scout.rt.security.IAccessControlService;
 import org.slf4j.Logger;
@@ -75,6 +80,34 @@ public class UiNotificationResource implements IRestResource {
         });
   }
 
+  /**
+   * Sends the notifications as server-sent events over one connection instead of completing the request with the first
+   * notifications, see {@link UiNotificationStream}.
+   *
+   * @since 24.2
+   */
+  @POST
+  @Path("stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  public void stream(UiNotificationRequest request, @Context SseEventSink sink, @Context Sse sse) {
+    if (!CONFIG.getPropertyValue(UiNotificationStreamEnabledProperty.class)) {
+      // The browser will fall back to polling
+      throw new NotFoundException("Streaming ui notifications is disabled");
+    }
+    String userId = getUserId();
+    List<TopicDo> topics = request.getTopics();
+    LOG.debug("Received stream request for topics {} and user {}", topics, userId);
+    if (topics == null || topics.isEmpty()) {
+      throw new BadRequestException("Topics must not be empty");
+    }
+    createStream(sse, sink, topics, userId).start();
+  }
+
+  protected UiNotificationStream createStream(Sse sse, SseEventSink sink, List<TopicDo> topics, String userId) {
+    return new UiNotificationStream(getRegistry(), sse, sink, topics, userId);
+  }
+
   protected String getUserId() {
     return BEANS.get(IAccessControlService.class).getUserIdOfCurrentSubject();
   }
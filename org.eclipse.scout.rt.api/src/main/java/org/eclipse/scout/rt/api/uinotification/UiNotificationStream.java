@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationResponse;
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.UiNotificationStreamMaxDurationProperty;
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.UiNotificationWaitTimeoutProperty;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the notifications of the subscribed topics as server-sent events over one connection.
+ * <p>
+ * The stream remembers the last notification it has sent per topic and cluster node and continues from there, the same
+ * way the browser does when it polls for notifications. If no notification arrives within
+ * {@link UiNotificationWaitTimeoutProperty}, a comment is sent to detect closed connections. The stream is closed after
+ * {@link UiNotificationStreamMaxDurationProperty}, the browser will then reconnect with its last known notifications.
+ *
+ * @since 24.2
+ */
+public class UiNotificationStream {
+  private static final Logger LOG = LoggerFactory.getLogger(UiNotificationStream.class);
+
+  public static final String EVENT_NOTIFICATIONS = "notifications";
+
+  private final UiNotificationRegistry m_registry;
+  private final Sse m_sse;
+  private final SseEventSink m_sink;
+  private final String m_userId;
+  /**
+   * Last sent notification per topic and cluster node.
+   */
+  private final Map<String, Map<String, UiNotificationDo>> m_lastNotifications = new LinkedHashMap<>();
+  private final long m_heartbeatInterval;
+  private final long m_endTime;
+
+  public UiNotificationStream(UiNotificationRegistry registry, Sse sse, SseEventSink sink, List<TopicDo> topics, String userId) {
+    m_registry = registry;
+    m_sse = sse;
+    m_sink = sink;
+    m_userId = userId;
+    for (TopicDo topic : topics) {
+      Map<String, UiNotificationDo> lastNotificationsByNode = m_lastNotifications.computeIfAbsent(topic.getName(), k -> new LinkedHashMap<>());
+      for (UiNotificationDo notification : topic.getLastNotifications()) {
+        updateLastNotification(lastNotificationsByNode, notification);
+      }
+    }
+    m_heartbeatInterval = Math.max(CONFIG.getPropertyValue(UiNotificationWaitTimeoutProperty.class), 1000);
+    m_endTime = System.currentTimeMillis() + CONFIG.getPropertyValue(UiNotificationStreamMaxDurationProperty.class);
+  }
+
+  public void start() {
+    LOG.debug("Starting ui notification stream for topics {} and user {}", m_lastNotifications.keySet(), m_userId);
+    waitForNotifications();
+  }
+
+  protected void waitForNotifications() {
+    if (m_sink.isClosed()) {
+      LOG.debug("Ui notification stream for topics {} and user {} has been closed", m_lastNotifications.keySet(), m_userId);
+      return;
+    }
+    long remainingTime = m_endTime - System.currentTimeMillis();
+    if (remainingTime <= 0) {
+      LOG.debug("Closing ui notification stream for topics {} and user {} because max duration has been reached", m_lastNotifications.keySet(), m_userId);
+      close();
+      return;
+    }
+    m_registry.getOrWait(getTopics(), m_userId, Math.min(m_heartbeatInterval, remainingTime))
+        // Don't send the notifications in the thread that has put the notification into the registry
+        .thenAccept(notifications -> Jobs.schedule(() -> send(notifications), Jobs.newInput()
+            .withName("Sending ui notifications")));
+  }
+
+  protected void send(List<UiNotificationDo> notifications) {
+    if (m_sink.isClosed()) {
+      LOG.debug("Ui notification stream is closed, discarding {} notifications for topics {} and user {}", notifications.size(), m_lastNotifications.keySet(), m_userId);
+      return;
+    }
+    OutboundSseEvent event;
+    if (notifications.isEmpty()) {
+      event = m_sse.newEventBuilder().comment("heartbeat").build();
+    }
+    else {
+      LOG.info("Sending {} notifications for topics {} and user {}", notifications.size(), m_lastNotifications.keySet(), m_userId);
+      updateLastNotifications(notifications);
+      event = m_sse.newEventBuilder()
+          .name(EVENT_NOTIFICATIONS)
+          .mediaType(MediaType.APPLICATION_JSON_TYPE)
+          .data(UiNotificationResponse.class, new UiNotificationResponse().withNotifications(notifications))
+          .build();
+    }
+    m_sink.send(event).whenComplete((result, throwable) -> {
+      if (throwable != null) {
+        LOG.info("Error while sending ui notifications, client probably has disconnected. Original message: {}", throwable.getMessage());
+        close();
+        return;
+      }
+      waitForNotifications();
+    });
+  }
+
+  protected void close() {
+    try {
+      m_sink.close();
+    }
+    catch (Exception e) { // NOSONAR
+      LOG.debug("Could not close ui notification stream", e);
+    }
+  }
+
+  protected List<TopicDo> getTopics() {
+    List<TopicDo> topics = new ArrayList<>();
+    for (Entry<String, Map<String, UiNotificationDo>> entry : m_lastNotifications.entrySet()) {
+      topics.add(new TopicDo()
+          .withName(entry.getKey())
+          .withLastNotifications(entry.getValue().values()));
+    }
+    return topics;
+  }
+
+  protected void updateLastNotifications(List<UiNotificationDo> notifications) {
+    for (UiNotificationDo notification : notifications) {
+      Map<String, UiNotificationDo> lastNotificationsByNode = m_lastNotifications.get(notification.getTopic());
+      if (lastNotificationsByNode != null) {
+        updateLastNotification(lastNotificationsByNode, notification);
+      }
+    }
+  }
+
+  protected void updateLastNotification(Map<String, UiNotificationDo> lastNotificationsByNode, UiNotificationDo notification) {
+    UiNotificationDo lastNotification = lastNotificationsByNode.get(notification.getNodeId());
+    if (lastNotification != null && lastNotification.getCreationTime().after(notification.getCreationTime())) {
+      return;
+    }
+    // Only keep the properties required to find the next notifications
+    lastNotificationsByNode.put(notification.getNodeId(), new UiNotificationDo()
+        .withId(notification.getId())
+        .withCreationTime(notification.getCreationTime())
+        .withNodeId(notification.getNodeId()));
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import static org.eclipse.scout.rt.api.uinotification.UiNotificationPutOptions.noTransaction;
+import static org.eclipse.scout.rt.api.uinotification.UiNotificationRegistry.SUBSCRIPTION_START_ID;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationResponse;
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.UiNotificationWaitTimeoutProperty;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.testing.platform.mock.MockConfigPropertyRule;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+@RunWith(PlatformTestRunner.class)
+public class UiNotificationStreamTest {
+
+  @Rule
+  public MockConfigPropertyRule<Long> m_waitTimeoutRule = new MockConfigPropertyRule<>(UiNotificationWaitTimeoutProperty.class, 1000L);
+
+  private UiNotificationRegistry m_registry;
+  private OutboundSseEvent.Builder m_eventBuilder;
+  private SseEventSink m_sink;
+  private Sse m_sse;
+
+  @Before
+  public void before() {
+    m_registry = new UiNotificationRegistry();
+    m_registry.setCleanupJobInterval(0);
+    m_eventBuilder = mock(OutboundSseEvent.Builder.class, RETURNS_SELF);
+    when(m_eventBuilder.build()).thenReturn(mock(OutboundSseEvent.class));
+    m_sse = mock(Sse.class);
+    when(m_sse.newEventBuilder()).thenReturn(m_eventBuilder);
+    m_sink = mock(SseEventSink.class);
+    when(m_sink.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+  }
+
+  @After
+  public void after() {
+    when(m_sink.isClosed()).thenReturn(true);
+  }
+
+  @Test
+  public void testStream() {
+    UiNotificationStream stream = new UiNotificationStream(m_registry, m_sse, m_sink, Arrays.asList(new TopicDo().withName("topic")), "user");
+    stream.start();
+
+    // Subscription start
+    ArgumentCaptor<UiNotificationResponse> captor = ArgumentCaptor.forClass(UiNotificationResponse.class);
+    verify(m_eventBuilder, timeout(5000)).data(eq(UiNotificationResponse.class), captor.capture());
+    assertEquals(SUBSCRIPTION_START_ID, captor.getValue().getNotifications().get(0).getId());
+    assertEquals(SUBSCRIPTION_START_ID, getLastNotification(stream).getId());
+
+    m_registry.put("topic", createMessage("1"), noTransaction());
+    verify(m_eventBuilder, timeout(5000).times(2)).data(eq(UiNotificationResponse.class), captor.capture());
+    List<UiNotificationDo> notifications = captor.getValue().getNotifications();
+    assertEquals(1, notifications.size());
+    assertFalse(notifications.get(0).isSubscriptionStart());
+    assertEquals(notifications.get(0).getId(), getLastNotification(stream).getId());
+  }
+
+  @Test
+  public void testStreamContinuesWithLastNotification() {
+    m_registry.put("topic", createMessage("1"), noTransaction());
+    m_registry.put("topic", createMessage("2"), noTransaction());
+    UiNotificationDo first = m_registry.get(Arrays.asList(new TopicDo().withName("topic").withLastNotifications(subscriptionStart())), null).get(0);
+
+    UiNotificationStream stream = new UiNotificationStream(m_registry, m_sse, m_sink, Arrays.asList(new TopicDo().withName("topic").withLastNotifications(first)), "user");
+    stream.start();
+
+    ArgumentCaptor<UiNotificationResponse> captor = ArgumentCaptor.forClass(UiNotificationResponse.class);
+    verify(m_eventBuilder, timeout(5000)).data(eq(UiNotificationResponse.class), captor.capture());
+    List<UiNotificationDo> notifications = captor.getValue().getNotifications();
+    assertEquals(1, notifications.size());
+    assertEquals("2", notifications.get(0).getMessage().get("dummy"));
+  }
+
+  @Test
+  public void testHeartbeat() {
+    UiNotificationStream stream = new UiNotificationStream(m_registry, m_sse, m_sink, Arrays.asList(new TopicDo().withName("topic")), "user");
+    stream.start();
+
+    // No notification is put -> a comment is sent after the wait timeout
+    verify(m_eventBuilder, timeout(5000)).comment(any());
+  }
+
+  @Test
+  public void testStopWhenClosed() {
+    when(m_sink.isClosed()).thenReturn(true);
+    UiNotificationStream stream = new UiNotificationStream(m_registry, m_sse, m_sink, Arrays.asList(new TopicDo().withName("topic")), "user");
+    stream.start();
+    verify(m_sink, never()).send(any());
+  }
+
+  protected IDoEntity createMessage(String value) {
+    IDoEntity message = new DoEntity();
+    message.put("dummy", value);
+    return message;
+  }
+
+  protected UiNotificationDo getLastNotification(UiNotificationStream stream) {
+    return stream.getTopics().get(0).getLastNotifications().get(0);
+  }
+
+  protected UiNotificationDo subscriptionStart() {
+    return new UiNotificationDo().withId(SUBSCRIPTION_START_ID).withCreationTime(new Date(0)).withNodeId(m_registry.currentNodeId());
+  }
+}
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.TableRowKeyIndex;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.util.CompositeObject;
@@ -212,8 +213,7 @@ public class TableKeyTest {
   private Map<CompositeObject, ITableRow> getRowByKeyMap(AbstractTable table) throws Exception {
     Field f = AbstractTable.class.getDeclaredField("m_rowsByKey");
     f.setAccessible(true);
-    @SuppressWarnings("unchecked")
-    Map<CompositeObject, ITableRow> rows = (Map<CompositeObject, ITableRow>) f.get(table);
+    Map<CompositeObject, ITableRow> rows = ((TableRowKeyIndex) f.get(table)).toMap();
     return rows.entrySet().stream().collect(Collectors.<Entry<CompositeObject, ITableRow>, CompositeObject, ITableRow> toMap(e -> e.getKey(), e -> e.getValue()));
   }
 
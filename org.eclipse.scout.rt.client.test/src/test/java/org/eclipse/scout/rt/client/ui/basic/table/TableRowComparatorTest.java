@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link TableRowComparator}
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableRowComparatorTest {
+
+  private static final String[] NAMES = {"Lorem", "ipsum", "", null, "\u00c4hnlich", "lorem", "Dolor", "Zeta"};
+
+  @Test
+  public void testSortLikeCompare() {
+    P_Table table = createTable();
+    table.getColumnSet().setSortColumn(table.getNameColumn(), true);
+    table.getColumnSet().addSortColumn(table.getAmountColumn(), false);
+
+    List<IColumn<?>> columns = Arrays.asList(table.getNameColumn(), table.getAmountColumn(), table.getCustomColumn());
+    assertSortLikeCompare(new TableRowComparator(columns), table.getRows());
+  }
+
+  @Test
+  public void testSortWithOverriddenCompare() {
+    P_Table table = createTable();
+    assertNull(table.getCustomColumn().createSortKeyProvider());
+    assertNotNull(table.getNameColumn().createSortKeyProvider());
+    assertNotNull(table.getAmountColumn().createSortKeyProvider());
+
+    List<IColumn<?>> columns = Arrays.asList(table.getCustomColumn(), table.getAmountColumn(), table.getNameColumn());
+    assertSortLikeCompare(new TableRowComparator(columns), table.getRows());
+  }
+
+  @Test
+  public void testSortWithOverriddenCompareValues() {
+    P_Table table = createTable();
+    assertNull(table.getLengthColumn().createSortKeyProvider());
+
+    List<IColumn<?>> columns = Arrays.asList(table.getLengthColumn(), table.getAmountColumn());
+    assertSortLikeCompare(new TableRowComparator(columns), table.getRows());
+  }
+
+  protected void assertSortLikeCompare(TableRowComparator comparator, List<ITableRow> rows) {
+    List<ITableRow> shuffled = new ArrayList<>(rows);
+    Collections.shuffle(shuffled, new Random(42));
+    List<ITableRow> expected = new ArrayList<>(shuffled);
+    expected.sort(comparator);
+
+    List<ITableRow> actual = new ArrayList<>(shuffled);
+    comparator.sort(actual);
+    assertEquals(expected, actual);
+
+    // sorting again keeps the order
+    comparator.sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  protected P_Table createTable() {
+    P_Table table = new P_Table();
+    table.init();
+    table.setTableChanging(true);
+    try {
+      for (int i = 0; i < 200; i++) {
+        String name = NAMES[i % NAMES.length];
+        table.addRowByArray(new Object[]{name, i % 7 == 0 ? null : i % 13, name == null ? "" : name + i, name});
+      }
+    }
+    finally {
+      table.setTableChanging(false);
+    }
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    public NameColumn getNameColumn() {
+      return getColumnSet().getColumnByClass(NameColumn.class);
+    }
+
+    public AmountColumn getAmountColumn() {
+      return getColumnSet().getColumnByClass(AmountColumn.class);
+    }
+
+    public CustomColumn getCustomColumn() {
+      return getColumnSet().getColumnByClass(CustomColumn.class);
+    }
+
+    public LengthColumn getLengthColumn() {
+      return getColumnSet().getColumnByClass(LengthColumn.class);
+    }
+
+    @Order(10)
+    public class NameColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class AmountColumn extends AbstractIntegerColumn {
+    }
+
+    @Order(30)
+    public class CustomColumn extends AbstractStringColumn {
+
+      @Override
+      public int compareTableRows(ITableRow r1, ITableRow r2) {
+        return Integer.compare(StringUtility.length(getValue(r1)), StringUtility.length(getValue(r2)));
+      }
+    }
+
+    @Order(40)
+    public class LengthColumn extends AbstractColumn<String> {
+
+      @Override
+      protected int compareValues(String o1, String o2) {
+        return Integer.compare(StringUtility.length(o1), StringUtility.length(o2));
+      }
+    }
+  }
+}
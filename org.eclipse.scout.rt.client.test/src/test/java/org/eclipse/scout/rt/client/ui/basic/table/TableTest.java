@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
 import org.eclipse.scout.rt.client.ui.basic.table.TableTest.P_Table.FirstColumn;
@@ -526,6 +527,52 @@ public class TableTest {
     assertEquals(1, table.getSelectedRowCount());
   }
 
+  /**
+   * Adding or removing a row filter must not evaluate the other row filters again.
+   */
+  @Test
+  public void testRowFilter_IncrementalEvaluation() {
+    P_Table table = new P_Table();
+    table.init();
+    fillTable(table);
+
+    final AtomicInteger acceptCount = new AtomicInteger();
+    table.addRowFilter(row -> {
+      acceptCount.incrementAndGet();
+      return !"Ipsum".equals(table.getSecondColumn().getValue(row));
+    });
+    assertEquals(5, acceptCount.get());
+    assertEquals(3, table.getFilteredRowCount());
+
+    ITableRow lorem = table.getRowByKey(Collections.singletonList(10));
+    ITableRow total = table.getRowByKey(Collections.singletonList(1));
+    ITableRow ipsum = table.getRowByKey(Collections.singletonList(30));
+    table.getUIFacade().setFilteredRowsFromUI(CollectionUtility.arrayList(lorem, ipsum));
+    assertEquals(2, table.getRowFilters().size());
+    assertEquals(1, table.getFilteredRowCount());
+    assertFalse(total.isFilterAccepted());
+    assertTrue(total.isRejectedByUser());
+    assertFalse(ipsum.isRejectedByUser());
+    assertEquals(5, acceptCount.get());
+
+    table.getUIFacade().removeFilteredRowsFromUI();
+    assertEquals(1, table.getRowFilters().size());
+    assertEquals(3, table.getFilteredRowCount());
+    assertTrue(total.isFilterAccepted());
+    assertFalse(total.isRejectedByUser());
+    assertEquals(5, acceptCount.get());
+
+    // changed rows are evaluated again
+    table.getSecondColumn().setValue(ipsum, "Dolor");
+    assertEquals(6, acceptCount.get());
+    assertEquals(4, table.getFilteredRowCount());
+
+    // explicitly applied row filters are evaluated on all rows
+    table.applyRowFilters();
+    assertEquals(11, acceptCount.get());
+    assertEquals(4, table.getFilteredRowCount());
+  }
+
   @Test
   public void testUserRowFilter_AutoDiscard() {
     P_Table table = new P_Table();
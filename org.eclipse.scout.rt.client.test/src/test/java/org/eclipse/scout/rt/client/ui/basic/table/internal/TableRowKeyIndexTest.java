@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRow;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TableRowKeyIndex}
+ */
+public class TableRowKeyIndexTest {
+
+  @Test
+  public void testLongKeys() {
+    TableRowKeyIndex index = new TableRowKeyIndex();
+    List<ITableRow> rows = new ArrayList<>();
+    for (long i = 0; i < 1000; i++) {
+      ITableRow row = new TableRow(null);
+      rows.add(row);
+      index.put(Collections.singletonList(i * 16), row);
+    }
+    assertEquals(1000, index.size());
+    for (int i = 0; i < 1000; i++) {
+      assertSame(rows.get(i), index.get(Collections.singletonList(i * 16L)));
+    }
+    assertNull(index.get(Collections.singletonList(1L)));
+
+    // remove in random order, the remaining rows must still be found
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      order.add(i);
+    }
+    Collections.shuffle(order, new Random(7));
+    for (int n = 0; n < order.size(); n++) {
+      int removed = order.get(n);
+      assertSame(rows.get(removed), index.remove(Collections.singletonList(removed * 16L)));
+      if (n % 97 == 0) {
+        for (int m = n + 1; m < order.size(); m++) {
+          int i = order.get(m);
+          assertSame(rows.get(i), index.get(Collections.singletonList(i * 16L)));
+        }
+      }
+    }
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void testOtherKeys() {
+    TableRowKeyIndex index = new TableRowKeyIndex();
+    ITableRow longRow = new TableRow(null);
+    ITableRow integerRow = new TableRow(null);
+    ITableRow compositeRow = new TableRow(null);
+    index.put(Collections.singletonList(1L), longRow);
+    index.put(Collections.singletonList(1), integerRow);
+    index.put(Arrays.asList(1L, "a"), compositeRow);
+
+    assertEquals(3, index.size());
+    assertSame(longRow, index.get(Collections.singletonList(1L)));
+    assertSame(integerRow, index.get(Collections.singletonList(1)));
+    assertSame(compositeRow, index.get(Arrays.asList(1L, "a")));
+    assertEquals(3, index.toMap().size());
+
+    assertTrue(index.removeRow(longRow));
+    assertTrue(index.removeRow(compositeRow));
+    assertFalse(index.removeRow(compositeRow));
+    assertNull(index.get(Collections.singletonList(1L)));
+    assertSame(integerRow, index.get(Collections.singletonList(1)));
+
+    index.clear();
+    assertEquals(0, index.size());
+    assertNull(index.get(Collections.singletonList(1)));
+  }
+
+  @Test
+  public void testReplace() {
+    TableRowKeyIndex index = new TableRowKeyIndex();
+    ITableRow row1 = new TableRow(null);
+    ITableRow row2 = new TableRow(null);
+    index.put(Collections.singletonList(5L), row1);
+    index.put(Collections.singletonList(5L), row2);
+    assertEquals(1, index.size());
+    assertSame(row2, index.get(Collections.singletonList(5L)));
+  }
+}
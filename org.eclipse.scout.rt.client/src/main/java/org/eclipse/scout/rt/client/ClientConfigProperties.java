@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.client;
 
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -76,4 +77,23 @@ public final class ClientConfigProperties {
       return 10L;
     }
   }
+
+  public static class TableParallelSortThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.client.table.parallelSortThreshold";
+    }
+
+    @Override
+    public String description() {
+      return "Minimal number of rows of a table to sort them in parallel. Rows are only sorted in parallel if all sort columns provide sort keys.\n"
+          + "The default value is 10000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 10000;
+    }
+  }
 }
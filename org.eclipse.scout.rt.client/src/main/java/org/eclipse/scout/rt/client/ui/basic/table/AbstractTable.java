@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +79,7 @@ import org.eclipse.scout.rt.client.ui.basic.table.customizer.ITableCustomizer;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.ITableCustomizerProvider;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.NullTableCustomizerProvider;
 import org.eclipse.scout.rt.client.ui.basic.table.internal.InternalTableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.TableRowKeyIndex;
 import org.eclipse.scout.rt.client.ui.basic.table.menus.OrganizeColumnsMenu;
 import org.eclipse.scout.rt.client.ui.basic.table.organizer.ITableOrganizer;
 import org.eclipse.scout.rt.client.ui.basic.table.organizer.ITableOrganizerProvider;
@@ -159,13 +161,23 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     String FILTERS = "filters";
   }
 
+  private static final long ALL_ROW_FILTER_SLOTS = -1L;
+
   private final OptimisticLock m_initLock;
   private List<ITableRow> m_rows; // synchronized list
   private List<ITableRow> m_rootRows; // synchronized list
   private final Object m_cachedRowsLock;
-  private final Map<CompositeObject, ITableRow> m_rowsByKey;
+  private final TableRowKeyIndex m_rowsByKey;
   private final Map<CompositeObject, ITableRow> m_deletedRows;
   private final List<ITableRowFilter> m_rowFilters;
+  /**
+   * Each row filter is assigned a slot, i.e. a bit in the rejecting row filter mask of the rows (see
+   * {@link InternalTableRow#getRejectingRowFiltersInternal()}). Filters without slot are stored in
+   * {@link #m_rowFiltersWithoutSlot}.
+   */
+  private final ITableRowFilter[] m_rowFilterSlots;
+  private final List<ITableRowFilter> m_rowFiltersWithoutSlot;
+  private long m_usedRowFilterSlots;
   private final AttachmentSupport m_attachmentSupport;
   private final TableListeners m_listeners;
   private final Object m_cachedFilteredRowsLock;
@@ -216,9 +228,11 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     m_cachedFilteredRowsLock = new Object();
     m_rows = Collections.synchronizedList(new ArrayList<>(1));
     m_rootRows = Collections.synchronizedList(new ArrayList<>(1));
-    m_rowsByKey = Collections.synchronizedMap(new HashMap<>());
+    m_rowsByKey = new TableRowKeyIndex();
     m_deletedRows = new HashMap<>();
     m_rowFilters = new ArrayList<>(1);
+    m_rowFilterSlots = new ITableRowFilter[Long.SIZE];
+    m_rowFiltersWithoutSlot = new ArrayList<>(0);
     m_attachmentSupport = BEANS.get(AttachmentSupport.class);
     m_initLock = new OptimisticLock();
     m_objectExtensions = new ObjectExtensions<>(this, false);
@@ -1417,14 +1431,15 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   @Override
   public void addRowFilter(ITableRowFilter filter) {
     if (filter != null && !m_rowFilters.contains(filter)) {
-      m_rowFilters.add(filter);
-      applyRowFilters();
+      long slot = addRowFilterInternal(filter);
+      // only the new filter has to be evaluated
+      applyRowFilters(slot);
     }
   }
 
   @Override
   public void removeRowFilter(ITableRowFilter filter) {
-    if (filter != null && m_rowFilters.remove(filter)) {
+    if (filter != null && removeRowFilterInternal(filter)) {
       // #253699 By removing the row filter additional rows may be accepted by the filters.
       // The rows currently accepted by the user row filters do not contain these additional rows. So we will remove the user row filters. They will be reapplied by the UI.
       removeUserRowFilters();
@@ -1438,27 +1453,75 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   public void removeUserRowFilters(boolean applyRowFilters) {
     for (ITableRowFilter filter : getRowFilters()) {
       if (filter instanceof UserTableRowFilter) {
-        m_rowFilters.remove(filter);
+        removeRowFilterInternal(filter);
       }
     }
     if (applyRowFilters) {
-      applyRowFilters();
+      // the results of the remaining filters are still valid
+      applyRowFilters(0L);
+    }
+  }
+
+  /**
+   * Adds the filter and assigns it a free slot.
+   *
+   * @return the bit of the slot or 0 if there is no free slot
+   */
+  private long addRowFilterInternal(ITableRowFilter filter) {
+    m_rowFilters.add(filter);
+    for (int i = 0; i < m_rowFilterSlots.length; i++) {
+      if (m_rowFilterSlots[i] == null) {
+        m_rowFilterSlots[i] = filter;
+        m_usedRowFilterSlots |= 1L << i;
+        return 1L << i;
+      }
     }
+    m_rowFiltersWithoutSlot.add(filter);
+    return 0L;
+  }
+
+  /**
+   * Removes the filter and releases its slot. The rejecting row filter masks of the rows are cleaned up on their next
+   * evaluation.
+   */
+  private boolean removeRowFilterInternal(ITableRowFilter filter) {
+    if (!m_rowFilters.remove(filter)) {
+      return false;
+    }
+    if (m_rowFiltersWithoutSlot.remove(filter)) {
+      return true;
+    }
+    for (int i = 0; i < m_rowFilterSlots.length; i++) {
+      if (filter.equals(m_rowFilterSlots[i])) {
+        m_rowFilterSlots[i] = null;
+        m_usedRowFilterSlots &= ~(1L << i);
+        break;
+      }
+    }
+    return true;
   }
 
   @Override
   public void applyRowFilters() {
-    boolean filterChanged = applyRowFiltersInternal();
+    applyRowFilters(ALL_ROW_FILTER_SLOTS);
+  }
+
+  /**
+   * Applies the row filters to all rows. Only the filters of the given slots (and filters without slot) are evaluated,
+   * the results of the other filters are taken from the rejecting row filter masks of the rows.
+   */
+  private void applyRowFilters(long slotsToEvaluate) {
+    boolean filterChanged = applyRowFiltersInternal(slotsToEvaluate);
     if (filterChanged) {
       fireRowFilterChanged();
     }
   }
 
-  private boolean applyRowFiltersInternal() {
+  private boolean applyRowFiltersInternal(long slotsToEvaluate) {
     boolean filterChanged = false;
     for (ITableRow row : m_rows) {
       boolean wasFilterAccepted = row.isFilterAccepted();
-      applyRowFiltersInternal((InternalTableRow) row);
+      applyRowFiltersInternal((InternalTableRow) row, slotsToEvaluate);
       if (row.isFilterAccepted() != wasFilterAccepted) {
         filterChanged = true;
       }
@@ -1466,27 +1529,38 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return filterChanged;
   }
 
-  private void applyRowFiltersInternal(InternalTableRow row) {
-    List<ITableRowFilter> rejectingFilters = new ArrayList<>();
-    row.setFilterAcceptedInternal(true);
+  private void applyRowFiltersInternal(InternalTableRow row, long slotsToEvaluate) {
+    long rejectingFilters = row.getRejectingRowFiltersInternal() & m_usedRowFilterSlots & ~slotsToEvaluate;
     row.setRejectedByUser(false);
-    if (!m_rowFilters.isEmpty()) {
-      for (ITableRowFilter filter : m_rowFilters) {
-        if (!filter.accept(row)) {
-          row.setFilterAcceptedInternal(false);
-          /*
-           * ticket 95770
-           */
-          if (isSelectedRow(row)) {
-            deselectRow(row);
-          }
-          rejectingFilters.add(filter);
-        }
+    long slots = slotsToEvaluate & m_usedRowFilterSlots;
+    while (slots != 0) {
+      int slot = Long.numberOfTrailingZeros(slots);
+      slots &= slots - 1;
+      if (!m_rowFilterSlots[slot].accept(row)) {
+        rejectingFilters |= 1L << slot;
+      }
+    }
+    row.setRejectingRowFiltersInternal(rejectingFilters);
+
+    int rejectingFilterCount = Long.bitCount(rejectingFilters);
+    ITableRowFilter rejectingFilter = rejectingFilters != 0 ? m_rowFilterSlots[Long.numberOfTrailingZeros(rejectingFilters)] : null;
+    for (ITableRowFilter filter : m_rowFiltersWithoutSlot) {
+      if (!filter.accept(row)) {
+        rejectingFilterCount++;
+        rejectingFilter = filter;
       }
     }
 
+    row.setFilterAcceptedInternal(rejectingFilterCount == 0);
+    /*
+     * ticket 95770
+     */
+    if (rejectingFilterCount > 0 && isSelectedRow(row)) {
+      deselectRow(row);
+    }
+
     // Prefer row.isRejectedByUser to allow a filter to set this flag
-    row.setRejectedByUser(row.isRejectedByUser() || rejectingFilters.size() == 1 && rejectingFilters.get(0) instanceof IUserFilter);
+    row.setRejectedByUser(row.isRejectedByUser() || rejectingFilterCount == 1 && rejectingFilter instanceof IUserFilter);
   }
 
   @Override
@@ -2466,8 +2540,8 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       Set<Integer> changedColumnValues = row.getUpdatedColumnIndexes(ICell.VALUE_BIT);
       if (CollectionUtility.containsAny(changedColumnValues, IntStream.of(getColumnSet().getKeyColumnIndexes()).boxed().toArray(Integer[]::new))) {
         // update primary key
-        m_rowsByKey.values().remove(row);
-        m_rowsByKey.put(new CompositeObject(row.getKeyValues()), row);
+        m_rowsByKey.removeRow(row);
+        m_rowsByKey.put(row.getKeyValues(), row);
       }
       if (CollectionUtility.containsAny(changedColumnValues, getColumnSet().getSortColumns().stream().map(IColumn::getColumnIndex).collect(Collectors.toSet()))) {
         // sort has to be updated
@@ -3227,7 +3301,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       newIRow.setRowIndex(newIndex);
       newIRow.setTableInternal(this);
       m_rows.add(newIRow);
-      m_rowsByKey.put(new CompositeObject(newIRow.getKeyValues()), newIRow);
+      m_rowsByKey.put(newIRow.getKeyValues(), newIRow);
     }
     rebuildTreeStructure();
 
@@ -3449,24 +3523,33 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
         }
       }
       else {
+        // delete regardless if index is right, remove all rows in one pass
+        Set<ITableRow> candidateRows = Collections.newSetFromMap(new IdentityHashMap<>(deletedRows.size()));
+        for (ITableRow candidateRow : deletedRows) {
+          if (candidateRow != null) {
+            candidateRows.add(candidateRow);
+          }
+        }
+        Set<ITableRow> removedRows = Collections.newSetFromMap(new IdentityHashMap<>(candidateRows.size()));
+        synchronized (m_cachedRowsLock) {
+          m_rows.removeIf(row -> candidateRows.contains(row) && removedRows.add(row));
+          for (ITableRow candidateRow : candidateRows) {
+            m_rowsByKey.remove(candidateRow.getKeyValues());
+          }
+          if (!removedRows.isEmpty()) {
+            m_cachedRows = null;
+          }
+        }
+        boolean rowsRemoved = !removedRows.isEmpty();
         for (int i = deletedRows.size() - 1; i >= 0; i--) {
           ITableRow candidateRow = deletedRows.get(i);
-          if (candidateRow != null) {
-            // delete regardless if index is right
-            boolean removed = false;
-            synchronized (m_cachedRowsLock) {
-              removed = m_rows.remove(candidateRow);
-              m_rowsByKey.remove(new CompositeObject(candidateRow.getKeyValues()));
-              if (removed) {
-                m_cachedRows = null;
-              }
-            }
-            if (removed) {
-              deleteRowImpl(candidateRow);
-              rebuildTreeStructure();
-            }
+          if (candidateRow != null && removedRows.remove(candidateRow)) {
+            deleteRowImpl(candidateRow);
           }
         }
+        if (rowsRemoved) {
+          rebuildTreeStructure();
+        }
       }
       // update index of rows at the bottom of deleted rows
       int minAffectedIndex = Math.max(min - 1, 0);
@@ -3608,7 +3691,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     if (!CollectionUtility.hasElements(keys)) {
       return null;
     }
-    return m_rowsByKey.get(new CompositeObject(keys));
+    return m_rowsByKey.get(keys);
   }
 
   @Override
@@ -3771,18 +3854,27 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
     CollectingVisitor<ITableRow> collector = new CollectingVisitor<>();
     if (comparator != null) {
-      rootNodes.sort(comparator);
+      sortRowList(rootNodes, comparator);
     }
     rootNodes.forEach(root -> TreeTraversals.create(collector, node -> {
       List<ITableRow> childRows = parentToChildren.get(node);
       if (comparator != null && CollectionUtility.hasElements(childRows)) {
-        childRows.sort(comparator);
+        sortRowList(childRows, comparator);
       }
       return childRows;
     }).traverse(root));
     return collector.getCollection();
   }
 
+  private void sortRowList(List<ITableRow> rows, Comparator<ITableRow> comparator) {
+    if (comparator instanceof TableRowComparator) {
+      ((TableRowComparator) comparator).sort(rows);
+    }
+    else {
+      rows.sort(comparator);
+    }
+  }
+
   @Override
   public void sort(List<? extends ITableRow> rowsInNewOrder) {
     List<ITableRow> resolvedRows = resolveRows(rowsInNewOrder);
@@ -4042,7 +4134,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
         if (row.getTable() == AbstractTable.this && row instanceof InternalTableRow) {
           InternalTableRow internalRow = (InternalTableRow) row;
           boolean oldFlag = internalRow.isFilterAccepted();
-          applyRowFiltersInternal(internalRow);
+          applyRowFiltersInternal(internalRow, ALL_ROW_FILTER_SLOTS);
           boolean newFlag = internalRow.isFilterAccepted();
           filterChanged = filterChanged || (oldFlag != newFlag);
         }
@@ -5066,9 +5158,8 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
         // Create and add a new filter
         UserTableRowFilter filter = new UserTableRowFilter(rows);
 
-        // Do not use addRowFilter to prevent applyRowFilters
-        m_rowFilters.add(filter);
-        applyRowFilters();
+        // Do not use addRowFilter, the results of the other filters are still valid
+        applyRowFilters(addRowFilterInternal(filter));
       }
       finally {
         popUIProcessor();
@@ -35,10 +35,16 @@ public class TableRow implements ITableRow {
   protected static final NamedBitMaskHelper FLAGS_BIT_HELPER = new NamedBitMaskHelper(CHECKED, EXPANDED, IDimensions.ENABLED, ROW_PROPERTIES_CHANGED, REJECTED_BY_USER, FILTER_ACCEPTED);
 
   private final Object m_childRowListLock;
+  /**
+   * Created lazily since most rows have no child rows.
+   */
   private List<ITableRow> m_childRowList;
 
   private final ColumnSet m_columnSet;
-  private final Map<String, Object> m_customValues;
+  /**
+   * Created lazily since most rows have no custom values.
+   */
+  private Map<String, Object> m_customValues;
   protected final List<Cell> m_cells;
   private String m_compactValue;
 
@@ -61,9 +67,7 @@ public class TableRow implements ITableRow {
    */
   public TableRow(ColumnSet columnSet) {
     m_childRowListLock = new Object();
-    m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
-    m_customValues = new HashMap<>(0);
 
     int colCount = columnSet != null ? columnSet.getColumnCount() : 0;
     m_cells = new ArrayList<>(colCount);
@@ -73,9 +77,11 @@ public class TableRow implements ITableRow {
 
   public TableRow(ColumnSet columnSet, ITableRow row) {
     m_childRowListLock = new Object();
-    m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
-    m_customValues = new HashMap<>(row.getCustomValues());
+    Map<String, Object> customValues = row.getCustomValues();
+    if (!customValues.isEmpty()) {
+      m_customValues = new HashMap<>(customValues);
+    }
     m_compactValue = row.getCompactValue();
 
     int colCount = columnSet != null ? columnSet.getColumnCount() : 0;
@@ -269,17 +275,23 @@ public class TableRow implements ITableRow {
 
   @Override
   public Object getCustomValue(String id) {
+    if (m_customValues == null) {
+      return null;
+    }
     return m_customValues.get(id);
   }
 
   @Override
   public Map<String, Object> getCustomValues() {
+    if (m_customValues == null) {
+      m_customValues = new HashMap<>(0);
+    }
     return m_customValues;
   }
 
   @Override
   public void setCustomValue(String id, Object value) {
-    m_customValues.put(id, value);
+    getCustomValues().put(id, value);
   }
 
   @Override
@@ -399,6 +411,9 @@ public class TableRow implements ITableRow {
    */
   public final void addChildRowInternal(ITableRow row) {
     synchronized (m_childRowListLock) {
+      if (m_childRowList == null) {
+        m_childRowList = new ArrayList<>();
+      }
       m_childRowList.add(row);
     }
   }
@@ -408,7 +423,9 @@ public class TableRow implements ITableRow {
    */
   public final void removeChildRowInternal(ITableRow childRow) {
     synchronized (m_childRowListLock) {
-      m_childRowList.remove(childRow);
+      if (m_childRowList != null) {
+        m_childRowList.remove(childRow);
+      }
     }
   }
 
@@ -9,10 +9,16 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
 
+import org.eclipse.scout.rt.client.ClientConfigProperties.TableParallelSortThresholdProperty;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.ColumnSortKeyProvider;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 
 /**
  * compares two TableRow objects based on 1 ore more columns
@@ -42,6 +48,75 @@ public class TableRowComparator implements Comparator<ITableRow> {
     return 0;
   }
 
+  /**
+   * Sorts the rows like {@link List#sort(Comparator)} with this comparator, but compares sort keys extracted at most
+   * once per row and column (see {@link IColumn#createSortKeyProvider()}). Columns without sort keys compare the rows
+   * by {@link IColumn#compareTableRows(ITableRow, ITableRow)}.
+   * <p>
+   * The sort is stable and takes almost linear time if the rows are still mostly in the order of a previous sort. Lists
+   * with at least {@link TableParallelSortThresholdProperty} rows are sorted in parallel if all columns provide sort
+   * keys.
+   */
+  public void sort(List<ITableRow> rows) {
+    int rowCount = rows.size();
+    if (rowCount < 2) {
+      return;
+    }
+    IColumn<?>[] columns = m_columns.toArray(new IColumn<?>[0]);
+    ColumnSortKeyProvider<?>[] keyProviders = new ColumnSortKeyProvider<?>[columns.length];
+    boolean[] descending = new boolean[columns.length];
+    boolean allColumnsWithKeys = true;
+    for (int i = 0; i < columns.length; i++) {
+      keyProviders[i] = columns[i].createSortKeyProvider();
+      allColumnsWithKeys = allColumnsWithKeys && keyProviders[i] != null;
+      // see compare
+      descending[i] = columns[i].isSortActive() && !columns[i].getHeaderCell().isSortAscending();
+    }
+    boolean parallel = allColumnsWithKeys && rowCount >= CONFIG.getPropertyValue(TableParallelSortThresholdProperty.class);
+
+    P_SortEntry[] entries = new P_SortEntry[rowCount];
+    int index = 0;
+    for (ITableRow row : rows) {
+      P_SortEntry entry = new P_SortEntry(row, columns.length);
+      // keys of less significant columns are only extracted when needed, except for a parallel sort which must not access the rows
+      for (int i = 0; i < (parallel ? columns.length : 1); i++) {
+        entry.getSortKey(i, keyProviders[i]);
+      }
+      entries[index++] = entry;
+    }
+
+    Comparator<P_SortEntry> comparator = (e1, e2) -> {
+      for (int i = 0; i < columns.length; i++) {
+        int c;
+        if (keyProviders[i] != null) {
+          c = keyProviders[i].compareSortKeys(e1.getSortKey(i, keyProviders[i]), e2.getSortKey(i, keyProviders[i]));
+        }
+        else {
+          c = columns[i].compareTableRows(e1.m_row, e2.m_row);
+        }
+        if (descending[i]) {
+          c = -c;
+        }
+        if (c != 0) {
+          return c;
+        }
+      }
+      return 0;
+    };
+    if (parallel) {
+      Arrays.parallelSort(entries, comparator);
+    }
+    else {
+      Arrays.sort(entries, comparator);
+    }
+
+    ListIterator<ITableRow> it = rows.listIterator();
+    for (P_SortEntry entry : entries) {
+      it.next();
+      it.set(entry.m_row);
+    }
+  }
+
   @Override
   public boolean equals(Object obj) {
     return obj != null && obj.getClass() == this.getClass() && ((TableRowComparator) obj).m_columns == this.m_columns;
@@ -51,4 +126,26 @@ public class TableRowComparator implements Comparator<ITableRow> {
   public int hashCode() {
     return 0;
   }
+
+  private static final class P_SortEntry {
+    private static final Object UNRESOLVED = new Object();
+
+    private final ITableRow m_row;
+    private final Object[] m_keys;
+
+    private P_SortEntry(ITableRow row, int columnCount) {
+      m_row = row;
+      m_keys = new Object[columnCount];
+      Arrays.fill(m_keys, UNRESOLVED);
+    }
+
+    private Object getSortKey(int columnIndex, ColumnSortKeyProvider<?> keyProvider) {
+      Object key = m_keys[columnIndex];
+      if (key == UNRESOLVED) {
+        key = keyProvider != null ? keyProvider.getSortKey(m_row) : null;
+        m_keys[columnIndex] = key;
+      }
+      return key;
+    }
+  }
 }
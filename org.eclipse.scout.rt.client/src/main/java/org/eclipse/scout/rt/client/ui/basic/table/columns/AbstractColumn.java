@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -56,6 +57,7 @@ import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.IHolder;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.reflect.AbstractPropertyObserver;
 import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.status.IMultiStatus;
@@ -1555,11 +1557,23 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
    * default: compare objects by Comparable interface or use value
    */
   @Override
-  @SuppressWarnings("unchecked")
   public int compareTableRows(ITableRow r1, ITableRow r2) {
+    return compareValues(getValue(r1), getValue(r2));
+  }
+
+  protected int compareValues(VALUE o1, VALUE o2) {
+    return compareValues(NlsLocale.get(), o1, o2);
+  }
+
+  /**
+   * Compares the values like {@link #compareValues(Object, Object)}, but texts of values which are not
+   * {@link Comparable} are compared using the given locale instead of the locale of the current thread.
+   *
+   * @since 24.2
+   */
+  @SuppressWarnings("unchecked")
+  protected int compareValues(Locale locale, VALUE o1, VALUE o2) {
     int c;
-    VALUE o1 = getValue(r1);
-    VALUE o2 = getValue(r2);
     if (o1 == null && o2 == null) {
       c = 0;
     }
@@ -1573,11 +1587,65 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
       c = ((Comparable) o1).compareTo(o2);
     }
     else {
-      c = StringUtility.compareIgnoreCase(o1.toString(), o2.toString());
+      c = StringUtility.compareIgnoreCase(locale, o1.toString(), o2.toString());
     }
     return c;
   }
 
+  /**
+   * The default uses the values of the rows as sort keys, unless {@link #compareTableRows(ITableRow, ITableRow)} is
+   * overridden.
+   */
+  @Override
+  public ColumnSortKeyProvider<?> createSortKeyProvider() {
+    if (!isCompareTableRowsDeclaredBy(AbstractColumn.class)) {
+      return null;
+    }
+    return createValueSortKeyProvider();
+  }
+
+  /**
+   * @return sort keys compared by {@link #compareValues(Locale, Object, Object)} with the locale of the current thread
+   *         (the keys may be compared in other threads) or {@code null} if {@link #compareValues(Object, Object)} is
+   *         overridden
+   */
+  protected ColumnSortKeyProvider<VALUE> createValueSortKeyProvider() {
+    if (isCompareValuesOverridden()) {
+      return null;
+    }
+    Locale locale = NlsLocale.get();
+    return new ColumnSortKeyProvider<>(this::getValue, (v1, v2) -> compareValues(locale, v1, v2));
+  }
+
+  private boolean isCompareValuesOverridden() {
+    for (Class<?> c = getClass(); c != AbstractColumn.class; c = c.getSuperclass()) {
+      try {
+        c.getDeclaredMethod("compareValues", Object.class, Object.class);
+        return true;
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        // not declared by this class
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return {@code true} if the effective implementation of {@link #compareTableRows(ITableRow, ITableRow)} is declared
+   *         by the given class, i.e. it is not overridden by a subclass. Subclasses overriding
+   *         {@link #createSortKeyProvider()} use this method to fall back to
+   *         {@link #compareTableRows(ITableRow, ITableRow)} if it is overridden.
+   */
+  protected boolean isCompareTableRowsDeclaredBy(Class<?> declaringClass) {
+    try {
+      return getClass().getMethod("compareTableRows", ITableRow.class, ITableRow.class).getDeclaringClass() == declaringClass;
+    }
+    catch (NoSuchMethodException e) {
+      LOG.debug("Could not find compareTableRows of {}", getClass(), e);
+      return false;
+    }
+  }
+
   /**
    * Refresh all column values to trigger re-validate and re-format
    */
@@ -169,6 +169,17 @@ public abstract class AbstractProposalColumn<LOOKUP_TYPE> extends AbstractSmartC
     }
   }
 
+  @Override
+  public ColumnSortKeyProvider<?> createSortKeyProvider() {
+    if (!isCompareTableRowsDeclaredBy(AbstractProposalColumn.class)) {
+      return null;
+    }
+    if (getCodeTypeClass() != null && BEANS.opt(getCodeTypeClass()) != null || getLookupCall() != null) {
+      return ColumnSortKeyProvider.ofTextIgnoreCase(this::getDisplayText);
+    }
+    return createValueSortKeyProvider();
+  }
+
   protected static class LocalProposalColumnExtension<LOOKUP_TYPE, OWNER extends AbstractProposalColumn<LOOKUP_TYPE>> extends LocalSmartColumnExtension<LOOKUP_TYPE, OWNER>
       implements IProposalColumnExtension<LOOKUP_TYPE, OWNER> {
 
@@ -459,6 +459,27 @@ public abstract class AbstractSmartColumn<VALUE> extends AbstractColumn<VALUE> i
     }
   }
 
+  @Override
+  public ColumnSortKeyProvider<?> createSortKeyProvider() {
+    if (!isCompareTableRowsDeclaredBy(AbstractSmartColumn.class)) {
+      return null;
+    }
+    ICodeType<?, VALUE> codeType = getCodeTypeClass() != null ? BEANS.opt(getCodeTypeClass()) : null;
+    if (codeType != null) {
+      if (isSortCodesByDisplayText()) {
+        return ColumnSortKeyProvider.ofTextIgnoreCase(this::getDisplayText);
+      }
+      return new ColumnSortKeyProvider<Integer>(row -> {
+        VALUE t = getValue(row);
+        return t != null ? codeType.getCodeIndex(t) : -1;
+      }, Integer::compare);
+    }
+    else if (getLookupCall() != null) {
+      return ColumnSortKeyProvider.ofTextIgnoreCase(this::getDisplayText);
+    }
+    return createValueSortKeyProvider();
+  }
+
   protected final void interceptPrepareLookup(ILookupCall<VALUE> call, ITableRow row) {
     List<? extends IColumnExtension<VALUE, ? extends AbstractColumn<VALUE>>> extensions = getAllExtensions();
     SmartColumnPrepareLookupChain<VALUE> chain = new SmartColumnPrepareLookupChain<>(extensions);
@@ -234,6 +234,14 @@ public abstract class AbstractStringColumn extends AbstractColumn<String> implem
     return StringUtility.compareIgnoreCase(s1, s2);
   }
 
+  @Override
+  public ColumnSortKeyProvider<?> createSortKeyProvider() {
+    if (!isCompareTableRowsDeclaredBy(AbstractStringColumn.class)) {
+      return null;
+    }
+    return ColumnSortKeyProvider.ofTextIgnoreCase(this::getValue);
+  }
+
   protected static class LocalStringColumnExtension<OWNER extends AbstractStringColumn> extends LocalColumnExtension<String, OWNER> implements IStringColumnExtension<OWNER> {
 
     public LocalStringColumnExtension(OWNER owner) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.columns;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparator;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.CollatorProvider;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+
+/**
+ * Extracts a sort key from the rows of a column, see {@link IColumn#createSortKeyProvider()}.
+ * <p>
+ * {@link TableRowComparator#sort(java.util.List)} extracts the keys of all rows once before sorting. The keys must be
+ * compared like {@link IColumn#compareTableRows(ITableRow, ITableRow)} compares the rows. The comparator is not bound
+ * to the model thread, hence it must not access the column or the rows.
+ *
+ * @since 24.2
+ */
+public class ColumnSortKeyProvider<KEY> {
+
+  private final Function<ITableRow, KEY> m_keyFunction;
+  private final Comparator<? super KEY> m_comparator;
+
+  public ColumnSortKeyProvider(Function<ITableRow, KEY> keyFunction, Comparator<? super KEY> comparator) {
+    m_keyFunction = keyFunction;
+    m_comparator = comparator;
+  }
+
+  public KEY getSortKey(ITableRow row) {
+    return m_keyFunction.apply(row);
+  }
+
+  @SuppressWarnings("unchecked")
+  public int compareSortKeys(Object key1, Object key2) {
+    return m_comparator.compare((KEY) key1, (KEY) key2);
+  }
+
+  /**
+   * Sort keys comparing the texts like {@link StringUtility#compareIgnoreCase(String, String)} using collation keys of
+   * the current locale.
+   */
+  public static ColumnSortKeyProvider<CollationKey> ofTextIgnoreCase(Function<ITableRow, String> textFunction) {
+    Collator collator = BEANS.get(CollatorProvider.class).getInstance(NlsLocale.get());
+    collator.setStrength(Collator.SECONDARY);
+    return new ColumnSortKeyProvider<>(row -> {
+      String s = textFunction.apply(row);
+      return StringUtility.isNullOrEmpty(s) ? null : collator.getCollationKey(s);
+    }, Comparator.nullsFirst(Comparator.naturalOrder()));
+  }
+}
@@ -141,6 +141,18 @@ public interface IColumn<VALUE> extends IPropertyObserver, ITypeWithClassId, IOr
 
   int compareTableRows(ITableRow r1, ITableRow r2);
 
+  /**
+   * Creates the provider of sort keys used to sort many rows without calling
+   * {@link #compareTableRows(ITableRow, ITableRow)} on every comparison.
+   *
+   * @return the sort key provider or {@code null} if the rows must be compared by
+   *         {@link #compareTableRows(ITableRow, ITableRow)}. Default is {@code null}.
+   * @since 24.2
+   */
+  default ColumnSortKeyProvider<?> createSortKeyProvider() {
+    return null;
+  }
+
   VALUE getValue(int rowIndex);
 
   VALUE getValue(ITableRow r);
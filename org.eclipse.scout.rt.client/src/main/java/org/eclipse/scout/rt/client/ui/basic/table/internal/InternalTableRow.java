@@ -36,21 +36,23 @@ import org.eclipse.scout.rt.shared.data.basic.FontSpec;
  */
 public class InternalTableRow extends TableRow implements ICellObserver {
 
-  private final Map<ICell, Integer> m_updatedCells;
+  /**
+   * Changed cells of the current row change, created lazily and released when the change is completed.
+   */
+  private Map<ICell, Integer> m_updatedCells;
   private ITable m_table;
   private int m_rowIndex;
   private int m_rowChanging = 0;
+  private long m_rejectingRowFilters;
 
   public InternalTableRow(ITable table) {
     super(table.getColumnSet());
-    m_updatedCells = new HashMap<>(table.getColumnSet().getColumnCount());
     setFilterAcceptedInternal(true);
     m_table = table;
   }
 
   public InternalTableRow(ITable table, ITableRow row) {
     super(table.getColumnSet(), row);
-    m_updatedCells = new HashMap<>(table.getColumnSet().getColumnCount());
     setFilterAcceptedInternal(true);
     setEnabled(row.isEnabled());
     m_rowIndex = row.getRowIndex();
@@ -145,6 +147,22 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     m_flags = FLAGS_BIT_HELPER.changeBit(FILTER_ACCEPTED, b, m_flags);
   }
 
+  /**
+   * do not use this internal method
+   *
+   * @return bit mask of the row filter slots of the table whose filter rejected this row on their last evaluation
+   */
+  public long getRejectingRowFiltersInternal() {
+    return m_rejectingRowFilters;
+  }
+
+  /**
+   * do not use this internal method
+   */
+  public void setRejectingRowFiltersInternal(long rejectingRowFilters) {
+    m_rejectingRowFilters = rejectingRowFilters;
+  }
+
   @Override
   public boolean isRejectedByUser() {
     return FLAGS_BIT_HELPER.isBitSet(REJECTED_BY_USER, m_flags);
@@ -250,9 +268,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
         if (getTable() != null) {
           getTable().updateRow(this);
         }
-        if (m_updatedCells != null) {
-          m_updatedCells.clear();
-        }
+        m_updatedCells = null;
       }
     }
   }
@@ -463,10 +479,16 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   }
 
   private void setCellChanged(ICell cell, int changeBit) {
+    if (m_updatedCells == null) {
+      m_updatedCells = new HashMap<>();
+    }
     m_updatedCells.compute(cell, (iCell, bitMask) -> setBit(bitMask, changeBit));
   }
 
   private List<ICell> getChangedCells(int changedBit) {
+    if (m_updatedCells == null) {
+      return Collections.emptyList();
+    }
     List<ICell> cells = new ArrayList<>();
     for (Entry<ICell, Integer> e : m_updatedCells.entrySet()) {
       if (isBitSet(e.getValue(), changedBit)) {
@@ -477,6 +499,9 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   }
 
   private List<ICell> getChangedCells() {
+    if (m_updatedCells == null) {
+      return Collections.emptyList();
+    }
     List<ICell> cells = new ArrayList<>(m_updatedCells.size());
     for (Entry<ICell, Integer> e : m_updatedCells.entrySet()) {
       Integer changedBits = e.getValue();
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.platform.util.CompositeObject;
+
+/**
+ * Index of the rows of a table by their key values (see {@link ITableRow#getKeyValues()}).
+ * <p>
+ * Keys consisting of a single {@link Long} value (the most common case) are stored in an open addressing hash table
+ * with primitive <code>long</code> keys. Hence, no {@link CompositeObject} and no map entry are allocated for such rows,
+ * neither when adding nor when looking them up. All other keys are stored in a {@link HashMap} using
+ * {@link CompositeObject} keys.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 24.2
+ */
+public class TableRowKeyIndex {
+
+  private static final int MIN_CAPACITY = 16;
+
+  /**
+   * Slots of the primitive table. A slot is free if its row is <code>null</code>.
+   */
+  private long[] m_longKeys;
+  private ITableRow[] m_longRows;
+  private int m_longSize;
+  private final Map<CompositeObject, ITableRow> m_rowsByKey = new HashMap<>();
+
+  public TableRowKeyIndex() {
+    initLongTable(MIN_CAPACITY);
+  }
+
+  /**
+   * @return the row with the given key values or <code>null</code>
+   */
+  public synchronized ITableRow get(List<?> keys) {
+    Long longKey = toLongKey(keys);
+    if (longKey != null) {
+      int slot = findSlot(longKey.longValue());
+      return slot < 0 ? null : m_longRows[slot];
+    }
+    return m_rowsByKey.get(new CompositeObject(keys));
+  }
+
+  /**
+   * Adds the row using the given key values. A row with the same key values is replaced.
+   */
+  public synchronized void put(List<?> keys, ITableRow row) {
+    Long longKey = toLongKey(keys);
+    if (longKey == null) {
+      m_rowsByKey.put(new CompositeObject(keys), row);
+      return;
+    }
+    long key = longKey.longValue();
+    int slot = findSlot(key);
+    if (slot >= 0) {
+      m_longRows[slot] = row;
+      return;
+    }
+    if ((m_longSize + 1) * 2 > m_longRows.length) {
+      resize(m_longRows.length * 2);
+    }
+    int mask = m_longRows.length - 1;
+    int i = hash(key) & mask;
+    while (m_longRows[i] != null) {
+      i = (i + 1) & mask;
+    }
+    m_longKeys[i] = key;
+    m_longRows[i] = row;
+    m_longSize++;
+  }
+
+  /**
+   * Removes the row with the given key values.
+   *
+   * @return the removed row or <code>null</code>
+   */
+  public synchronized ITableRow remove(List<?> keys) {
+    Long longKey = toLongKey(keys);
+    if (longKey == null) {
+      return m_rowsByKey.remove(new CompositeObject(keys));
+    }
+    int slot = findSlot(longKey.longValue());
+    if (slot < 0) {
+      return null;
+    }
+    ITableRow row = m_longRows[slot];
+    removeSlot(slot);
+    return row;
+  }
+
+  /**
+   * Removes the given row regardless of its key values (e.g. because its key values have changed). This requires a
+   * linear scan.
+   *
+   * @return <code>true</code> if the row was removed
+   */
+  public synchronized boolean removeRow(ITableRow row) {
+    if (m_rowsByKey.values().remove(row)) {
+      return true;
+    }
+    for (int i = 0; i < m_longRows.length; i++) {
+      if (m_longRows[i] == row) {
+        removeSlot(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public synchronized void clear() {
+    m_rowsByKey.clear();
+    initLongTable(MIN_CAPACITY);
+  }
+
+  public synchronized int size() {
+    return m_longSize + m_rowsByKey.size();
+  }
+
+  /**
+   * @return a snapshot of this index as map
+   */
+  public synchronized Map<CompositeObject, ITableRow> toMap() {
+    Map<CompositeObject, ITableRow> map = new HashMap<>(m_rowsByKey);
+    for (int i = 0; i < m_longRows.length; i++) {
+      if (m_longRows[i] != null) {
+        map.put(new CompositeObject(m_longKeys[i]), m_longRows[i]);
+      }
+    }
+    return map;
+  }
+
+  protected Long toLongKey(List<?> keys) {
+    if (keys != null && keys.size() == 1) {
+      Object key = keys.get(0);
+      if (key instanceof Long) {
+        return (Long) key;
+      }
+    }
+    return null;
+  }
+
+  private void initLongTable(int capacity) {
+    m_longKeys = new long[capacity];
+    m_longRows = new ITableRow[capacity];
+    m_longSize = 0;
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private int findSlot(long key) {
+    int mask = m_longRows.length - 1;
+    int i = hash(key) & mask;
+    while (m_longRows[i] != null) {
+      if (m_longKeys[i] == key) {
+        return i;
+      }
+      i = (i + 1) & mask;
+    }
+    return -1;
+  }
+
+  /**
+   * Frees the slot and shifts subsequent entries of the same probe sequence backwards (no tombstones required).
+   */
+  private void removeSlot(int slot) {
+    int mask = m_longRows.length - 1;
+    int free = slot;
+    int i = slot;
+    while (true) {
+      i = (i + 1) & mask;
+      if (m_longRows[i] == null) {
+        break;
+      }
+      int home = hash(m_longKeys[i]) & mask;
+      // move the entry if its home slot is not between the free slot and its current slot (cyclically)
+      if ((i > free && (home <= free || home > i)) || (i < free && home <= free && home > i)) {
+        m_longKeys[free] = m_longKeys[i];
+        m_longRows[free] = m_longRows[i];
+        free = i;
+      }
+    }
+    m_longKeys[free] = 0L;
+    m_longRows[free] = null;
+    m_longSize--;
+    if (m_longRows.length > MIN_CAPACITY && m_longSize * 8 < m_longRows.length) {
+      resize(m_longRows.length / 2);
+    }
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = m_longKeys;
+    ITableRow[] oldRows = m_longRows;
+    initLongTable(Math.max(capacity, MIN_CAPACITY));
+    int mask = m_longRows.length - 1;
+    for (int j = 0; j < oldRows.length; j++) {
+      if (oldRows[j] != null) {
+        int i = hash(oldKeys[j]) & mask;
+        while (m_longRows[i] != null) {
+          i = (i + 1) & mask;
+        }
+        m_longKeys[i] = oldKeys[j];
+        m_longRows[i] = oldRows[j];
+        m_longSize++;
+      }
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return getClass().getSimpleName() + "[longKeys=" + m_longSize + ", otherKeys=" + m_rowsByKey.size() + "]";
+  }
+}
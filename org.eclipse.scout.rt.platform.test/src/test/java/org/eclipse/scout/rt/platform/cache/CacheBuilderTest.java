@@ -13,6 +13,7 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
 import org.junit.Test;
 
 /**
@@ -46,6 +47,33 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testBoundedCache() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder.withCacheId(CACHE_ID + "Bounded").withReplaceIfExists(true).withMaximumSize(10L).withValueResolver(String::valueOf).build();
+
+    ConcurrentBoundedMap<?, ?> map = cache.getAdapter(ConcurrentBoundedMap.class);
+    assertNotNull(map);
+    assertTrue(map.isFrequencyAdmission());
+    assertEquals(10, map.getMaximumWeight());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(String.valueOf(i), cache.get(i));
+    }
+    assertEquals(10, cache.getCacheMap().size());
+    assertTrue(BEANS.get(ICacheRegistryService.class).getAllCaches().contains(cache));
+
+    cache.invalidate(new AllCacheEntryFilter<>(), false);
+    assertTrue(cache.getCacheMap().isEmpty());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBoundedCacheNotTransactional() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    cacheBuilder.withCacheId(CACHE_ID + "BoundedTransactional").withMaximumSize(10L).withTransactional(true).withValueResolver(String::valueOf).build();
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheStatisticsByCacheIdProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheStatisticsEnabledProperty;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class CacheStatisticsWrapperTest {
+
+  @Test
+  public void testStatistics() {
+    ICache<Integer, String> cache = new CacheStatisticsWrapper<>(new BasicCache<>("test", null, String::valueOf, new ConcurrentHashMap<>()));
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertNotNull(statistics);
+
+    assertEquals("1", cache.get(1));
+    assertEquals("1", cache.get(1));
+    assertEquals(3, cache.getAll(Arrays.asList(1, 2, 3)).size());
+    assertEquals(2, cache.getAll(Arrays.asList(2, 3)).size());
+    cache.invalidate(new AllCacheEntryFilter<>(), false);
+
+    assertEquals(4, statistics.getHitCount());
+    assertEquals(3, statistics.getMissCount());
+    assertEquals(2, statistics.getLoadCount());
+    assertEquals(1, statistics.getInvalidationCount());
+    assertEquals(4.0 / 7.0, statistics.getHitRatio(), 0.0001);
+    assertTrue(statistics.getTotalLoadTime(TimeUnit.NANOSECONDS) >= 0);
+
+    statistics.reset();
+    assertEquals(0, statistics.getHitCount());
+    assertEquals(1.0, statistics.getHitRatio(), 0.0001);
+  }
+
+  @Test
+  public void testSingleLookup() {
+    @SuppressWarnings("unchecked")
+    ICache<Integer, String> delegate = mock(ICache.class);
+    when(delegate.getCachedValue(1)).thenReturn("1");
+    when(delegate.get(2)).thenReturn("2");
+    when(delegate.getAll(anyCollection())).thenReturn(Collections.singletonMap(3, "3"));
+    ICache<Integer, String> cache = new CacheStatisticsWrapper<>(delegate);
+
+    assertEquals("1", cache.get(1));
+    assertEquals("2", cache.get(2));
+    Map<Integer, String> expected = new HashMap<>();
+    expected.put(1, "1");
+    expected.put(3, "3");
+    assertEquals(expected, cache.getAll(Arrays.asList(1, 3, null)));
+
+    // cached values are not requested again, only the missing keys are passed to the delegate
+    verify(delegate, never()).get(1);
+    verify(delegate).getAll(Collections.singleton(3));
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertEquals(2, statistics.getHitCount());
+    assertEquals(2, statistics.getMissCount());
+  }
+
+  @Test
+  public void testAdapterOfDelegate() {
+    ICache<Integer, String> cache = new CacheStatisticsWrapper<>(new BasicCache<>("test", null, String::valueOf, new ConcurrentBoundedMap<>(10)));
+    assertNotNull(cache.getAdapter(ConcurrentBoundedMap.class));
+    assertNull(cache.getAdapter(Map.class));
+    assertNull(new BasicCache<>("test", null, String::valueOf, new ConcurrentHashMap<>()).getAdapter(CacheStatistics.class));
+  }
+
+  @Test
+  public void testCacheBuilder() {
+    assertFalse(BEANS.get(CacheStatisticsEnabledProperty.class).getValue());
+    assertTrue(BEANS.get(CacheStatisticsByCacheIdProperty.class).getValue().isEmpty());
+
+    ICache<Integer, String> cache = createCacheBuilder("CacheStatisticsWrapperTest.default").build();
+    assertNull(cache.getAdapter(CacheStatistics.class));
+
+    cache = createCacheBuilder("CacheStatisticsWrapperTest.enabled").withStatisticsEnabled(true).withAdditionalCustomWrapper(BoundedResolveCacheWrapper.class, 2).build();
+    assertTrue(cache instanceof CacheStatisticsWrapper);
+    assertNotNull(cache.getAdapter(CacheStatistics.class));
+  }
+
+  protected ICacheBuilder<Integer, String> createCacheBuilder(String cacheId) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> builder = BEANS.get(ICacheBuilder.class);
+    return builder.withCacheId(cacheId).withReplaceIfExists(true).withValueResolver(String::valueOf);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of bean lookups with concurrent readers, and compares the lock-free lookup of
+ * {@link BeanManagerImplementor} with a lookup guarded by a fair read-write lock (as done in former releases).
+ * <p>
+ * Performance testing based on execution time is not very accurate. Therefore, the measured throughput is only
+ * logged, whereas the assertions are about the correctness of the lookups.
+ */
+@Category(ResourceIntensiveTest.class)
+public class BeanManagerLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BeanManagerLoadTest.class);
+
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+  private static final long MEASUREMENT_DURATION_MILLIS = 200;
+
+  @Test
+  public void testLookupThroughput() throws InterruptedException {
+    for (int threadCount : THREAD_COUNTS) {
+      long locked = measureLookups(new P_LockingBeanManager(), threadCount);
+      long lockFree = measureLookups(new BeanManagerImplementor(), threadCount);
+      LOG.info("Bean lookups with {} threads [fairReadWriteLock={} ops/s, lockFree={} ops/s]", threadCount, locked, lockFree);
+    }
+  }
+
+  @Test
+  public void testLookupWhileRegistering() throws InterruptedException {
+    final BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    beanManager.registerClass(P_FixtureBean.class);
+
+    final AtomicBoolean running = new AtomicBoolean(true);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final List<Thread> readers = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Thread reader = new Thread(() -> {
+        try {
+          while (running.get()) {
+            // the replacing bean has the lower order, hence either the original or the replacing bean is returned but never both
+            IBean<IFixtureBean> bean = beanManager.getBean(IFixtureBean.class);
+            assertNotNull(bean);
+            assertFalse(beanManager.getBeans(IFixtureBean.class).isEmpty());
+          }
+        }
+        catch (Throwable t) { // NOSONAR
+          failure.compareAndSet(null, t);
+        }
+      }, "bean-reader-" + i);
+      readers.add(reader);
+      reader.start();
+    }
+
+    for (int i = 0; i < 2_000; i++) {
+      IBean<P_ReplacingFixtureBean> bean = beanManager.registerClass(P_ReplacingFixtureBean.class);
+      beanManager.unregisterBean(bean);
+    }
+
+    running.set(false);
+    for (Thread reader : readers) {
+      reader.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    assertNull(failure.get());
+    assertSame(P_FixtureBean.class, beanManager.getBean(IFixtureBean.class).getBeanClazz());
+  }
+
+  protected long measureLookups(final BeanManagerImplementor beanManager, int threadCount) throws InterruptedException {
+    beanManager.registerClass(P_FixtureBean.class);
+    beanManager.registerBean(new BeanMetaData(P_OtherFixtureBean.class));
+
+    final AtomicBoolean running = new AtomicBoolean(true);
+    final AtomicLong lookups = new AtomicLong();
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        long count = 0;
+        while (running.get()) {
+          if (beanManager.getBean(IFixtureBean.class).getBeanClazz() != P_FixtureBean.class) {
+            throw new IllegalStateException("unexpected bean");
+          }
+          count++;
+        }
+        lookups.addAndGet(count);
+      }, "bean-lookup-" + i);
+      threads.add(thread);
+      thread.start();
+    }
+
+    startLatch.countDown();
+    Thread.sleep(MEASUREMENT_DURATION_MILLIS);
+    running.set(false);
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    return lookups.get() * 1000 / MEASUREMENT_DURATION_MILLIS;
+  }
+
+  /**
+   * Bean manager which guards lookups by the read lock of the bean manager, like former releases did.
+   */
+  private static class P_LockingBeanManager extends BeanManagerImplementor {
+
+    @Override
+    protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
+      getReadWriteLock().readLock().lock();
+      try {
+        return super.querySingle(beanClazz);
+      }
+      finally {
+        getReadWriteLock().readLock().unlock();
+      }
+    }
+  }
+
+  private interface IFixtureBean {
+  }
+
+  private static class P_FixtureBean implements IFixtureBean {
+  }
+
+  @Order(-1)
+  private static class P_ReplacingFixtureBean extends P_FixtureBean {
+  }
+
+  private static class P_OtherFixtureBean {
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.junit.Test;
+
+public class BeanManifestTest {
+
+  @Test
+  public void testWriteRead() throws IOException {
+    BeanManifest manifest = new BeanManifest(42L, Arrays.asList("a.b.Bean", "a.b.OtherBean"));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    manifest.write(out);
+    BeanManifest read = BeanManifest.read(ByteBuffer.wrap(out.toByteArray()));
+
+    assertNotNull(read);
+    assertEquals(42L, read.getFingerprint());
+    assertEquals(Arrays.asList("a.b.Bean", "a.b.OtherBean"), read.getClassNames());
+  }
+
+  @Test
+  public void testFingerprint() {
+    byte[] index = "index".getBytes(StandardCharsets.UTF_8);
+    assertEquals(BeanManifest.fingerprint(ByteBuffer.wrap(index)), BeanManifest.fingerprint(ByteBuffer.wrap(index.clone())));
+    assertNotEquals(BeanManifest.fingerprint(ByteBuffer.wrap(index)), BeanManifest.fingerprint(ByteBuffer.wrap("indey".getBytes(StandardCharsets.UTF_8))));
+    assertNotEquals(BeanManifest.fingerprint(ByteBuffer.wrap(index)), BeanManifest.fingerprint(ByteBuffer.wrap("index2".getBytes(StandardCharsets.UTF_8))));
+  }
+
+  @Test
+  public void testReadOtherVersion() {
+    ByteBuffer buffer = ByteBuffer.allocate(20);
+    buffer.putInt(BeanManifest.MAGIC).putInt(BeanManifest.VERSION + 1).putLong(0).putInt(0).flip();
+    assertNull(BeanManifest.read(buffer));
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testReadTruncated() {
+    ByteBuffer buffer = ByteBuffer.allocate(20);
+    buffer.putInt(BeanManifest.MAGIC).putInt(BeanManifest.VERSION).putLong(0).putInt(1).flip();
+    BeanManifest.read(buffer);
+  }
+
+  @Test
+  public void testLoadBeansWithoutManifests() {
+    // the test classpath contains modules without bean manifest
+    assertNull(new BeanManifestLoader(RebuildStrategy.IF_MISSING).loadBeans());
+    assertNull(new BeanManifestLoader(RebuildStrategy.ALWAYS).loadBeans());
+  }
+}
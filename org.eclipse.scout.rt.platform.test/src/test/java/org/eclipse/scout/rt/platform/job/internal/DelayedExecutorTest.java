@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class DelayedExecutorTest {
+
+  private ExecutorService m_executor;
+
+  @Before
+  public void before() {
+    m_executor = new VirtualThreadExecutor(new NamedThreadFactory("test-thread"), runnable -> fail("unexpected rejection"));
+  }
+
+  @After
+  public void after() throws InterruptedException {
+    m_executor.shutdownNow();
+    m_executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testNotRunBeforeFireTime() throws InterruptedException {
+    final DelayedExecutor delayedExecutor = new DelayedExecutor(m_executor, "test-scheduler", 1, 10);
+
+    final int count = 50;
+    final List<Long> lateness = new CopyOnWriteArrayList<>();
+    final CountDownLatch latch = new CountDownLatch(count);
+    for (int i = 0; i < count; i++) {
+      final long fireTime = System.currentTimeMillis() + 5 * i;
+      delayedExecutor.schedule(() -> {
+        lateness.add(System.currentTimeMillis() - fireTime);
+        latch.countDown();
+      }, new Date(fireTime));
+    }
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    for (final Long late : lateness) {
+      assertTrue("run before fire time [lateness=" + late + "]", late >= 0);
+    }
+    assertEquals(0, delayedExecutor.getPendingCount());
+    assertEquals(count, delayedExecutor.getFiredCount());
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    final DelayedExecutor delayedExecutor = new DelayedExecutor(m_executor, "test-scheduler", 2, 10);
+
+    final AtomicBoolean cancelledRun = new AtomicBoolean();
+    final IRegistrationHandle handle = delayedExecutor.schedule(() -> cancelledRun.set(true), new Date(System.currentTimeMillis() + 200));
+    final CountDownLatch latch = new CountDownLatch(1);
+    delayedExecutor.schedule(latch::countDown, new Date(System.currentTimeMillis() + 400));
+    assertEquals(2, delayedExecutor.getPendingCount());
+
+    handle.dispose();
+    assertEquals(1, delayedExecutor.getPendingCount());
+    assertEquals(1, delayedExecutor.getCancelledCount());
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertFalse(cancelledRun.get());
+    assertEquals(0, delayedExecutor.getPendingCount());
+    assertEquals(1, delayedExecutor.getFiredCount());
+  }
+
+  @Test
+  public void testFireTimeInPast() throws InterruptedException {
+    final DelayedExecutor delayedExecutor = new DelayedExecutor(m_executor, "test-scheduler", 1, 10);
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    delayedExecutor.schedule(latch::countDown, new Date(System.currentTimeMillis() - 1000));
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+  }
+}
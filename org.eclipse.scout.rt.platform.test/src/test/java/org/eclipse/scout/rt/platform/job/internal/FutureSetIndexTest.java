@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.filter.AndFilter;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.filter.future.ExecutionHintFutureFilter;
+import org.eclipse.scout.rt.platform.job.filter.future.ExecutionSemaphoreFutureFilter;
+import org.eclipse.scout.rt.platform.job.filter.future.JobNameFutureFilter;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class FutureSetIndexTest {
+
+  @Test
+  public void testIndexedLookup() throws InterruptedException {
+    final IExecutionSemaphore semaphore1 = Jobs.newExecutionSemaphore(2);
+    final IExecutionSemaphore semaphore2 = Jobs.newExecutionSemaphore(1);
+    final BlockingCountDownLatch latch = new BlockingCountDownLatch(3);
+
+    final IFuture<Void> future1 = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput()
+        .withName("job-1")
+        .withExecutionSemaphore(semaphore1)
+        .withExecutionHint("hint-a"));
+    final IFuture<Void> future2 = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput()
+        .withName("job-2")
+        .withExecutionSemaphore(semaphore1));
+    final IFuture<Void> future3 = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput()
+        .withName("job-3")
+        .withExecutionSemaphore(semaphore2)
+        .withExecutionHint("hint-a"));
+
+    try {
+      assertTrue(latch.await());
+
+      assertEquals(CollectionUtility.hashSet(future1, future2), Jobs.getJobManager().getFutures(new ExecutionSemaphoreFutureFilter(semaphore1)));
+      assertEquals(CollectionUtility.hashSet(future3), Jobs.getJobManager().getFutures(new ExecutionSemaphoreFutureFilter(semaphore2)));
+      assertEquals(CollectionUtility.hashSet(future1, future3), Jobs.getJobManager().getFutures(new ExecutionHintFutureFilter("hint-a")));
+      assertTrue(Jobs.getJobManager().getFutures(new ExecutionHintFutureFilter("hint-b")).isEmpty());
+
+      // AND combination of indexed and non-indexed filters
+      final Set<IFuture<?>> futures = Jobs.getJobManager().getFutures(new AndFilter<>(
+          new ExecutionSemaphoreFutureFilter(semaphore1),
+          new JobNameFutureFilter("job-2")));
+      assertEquals(CollectionUtility.hashSet(future2), futures);
+
+      // hints added and removed after registration
+      future2.addExecutionHint("hint-b");
+      assertEquals(CollectionUtility.hashSet(future2), Jobs.getJobManager().getFutures(new ExecutionHintFutureFilter("hint-b")));
+      future2.removeExecutionHint("hint-b");
+      assertTrue(Jobs.getJobManager().getFutures(new ExecutionHintFutureFilter("hint-b")).isEmpty());
+    }
+    finally {
+      latch.unblock();
+    }
+
+    Jobs.getJobManager().awaitFinished(new ExecutionHintFutureFilter("hint-a"), 10, TimeUnit.SECONDS);
+    Jobs.getJobManager().awaitFinished(new ExecutionSemaphoreFutureFilter(semaphore1), 10, TimeUnit.SECONDS);
+    assertTrue(Jobs.getJobManager().getFutures(new ExecutionHintFutureFilter("hint-a")).isEmpty());
+    assertTrue(Jobs.getJobManager().getFutures(new ExecutionSemaphoreFutureFilter(semaphore1)).isEmpty());
+  }
+}
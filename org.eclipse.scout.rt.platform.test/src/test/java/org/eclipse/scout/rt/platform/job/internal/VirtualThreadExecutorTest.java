@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadExecutorTest {
+
+  @Test
+  public void testExecuteAndTerminate() throws InterruptedException {
+    final List<Runnable> rejected = new ArrayList<>();
+    final VirtualThreadExecutor executor = new VirtualThreadExecutor(new NamedThreadFactory("test-thread"), rejected::add);
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        release.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    assertEquals(1, executor.getActiveCount());
+
+    executor.shutdown();
+    assertTrue(executor.isShutdown());
+    assertFalse(executor.isTerminated());
+    assertFalse(executor.awaitTermination(10, TimeUnit.MILLISECONDS));
+
+    release.countDown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(executor.isTerminated());
+    assertTrue(rejected.isEmpty());
+  }
+
+  @Test
+  public void testRejectAfterShutdown() {
+    final List<Runnable> rejected = new ArrayList<>();
+    final VirtualThreadExecutor executor = new VirtualThreadExecutor(new NamedThreadFactory("test-thread"), rejected::add);
+    executor.shutdown();
+
+    final Runnable runnable = () -> fail("must not be executed");
+    executor.execute(runnable);
+    assertEquals(1, rejected.size());
+    assertSame(runnable, rejected.get(0));
+  }
+
+  @Test
+  public void testShutdownNowInterrupts() throws InterruptedException {
+    final VirtualThreadExecutor executor = new VirtualThreadExecutor(new NamedThreadFactory("test-thread"), runnable -> fail("unexpected rejection"));
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final AtomicReference<Boolean> interrupted = new AtomicReference<>(false);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        new CountDownLatch(1).await();
+      }
+      catch (InterruptedException e) {
+        interrupted.set(true);
+      }
+    });
+
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    executor.shutdownNow();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(interrupted.get());
+  }
+
+  @Test
+  public void testVirtualThreadInfo() throws InterruptedException {
+    assumeTrue(VirtualThreadFactory.isSupported());
+
+    final VirtualThreadExecutor executor = new VirtualThreadExecutor(new VirtualThreadFactory("test-vthread"), runnable -> fail("unexpected rejection"));
+    final AtomicReference<ThreadInfo> threadInfo = new AtomicReference<>();
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(1);
+    executor.execute(() -> {
+      threadInfo.set(ThreadInfo.CURRENT.get());
+      threadName.set(Thread.currentThread().getName());
+      done.countDown();
+    });
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertNotNull(threadInfo.get());
+    assertTrue("actual=" + threadName.get(), threadName.get().matches("test-vthread-\\d+"));
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+}
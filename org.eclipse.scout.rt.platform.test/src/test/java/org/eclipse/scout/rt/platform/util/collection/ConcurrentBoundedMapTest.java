@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ConcurrentBoundedMapTest {
+
+  @Test
+  public void testBasicOperations() {
+    ConcurrentBoundedMap<String, String> map = new ConcurrentBoundedMap<>(10);
+    assertTrue(map.isEmpty());
+    assertNull(map.put("a", "1"));
+    assertEquals("1", map.put("a", "2"));
+    assertEquals("2", map.putIfAbsent("a", "3"));
+    assertNull(map.putIfAbsent("b", "3"));
+    assertEquals(2, map.size());
+    assertTrue(map.containsKey("a"));
+    assertTrue(map.containsValue("3"));
+    assertFalse(map.replace("a", "1", "4"));
+    assertTrue(map.replace("a", "2", "4"));
+    assertEquals("4", map.replace("a", "5"));
+    assertFalse(map.remove("a", "4"));
+    assertTrue(map.remove("a", "5"));
+    assertEquals("3", map.remove("b"));
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  @Test
+  public void testStatistics() {
+    ConcurrentBoundedMap<String, String> map = new ConcurrentBoundedMap<>(10);
+    map.put("a", "1");
+    map.get("a");
+    map.get("a");
+    map.get("b");
+    assertEquals(2, map.getHitCount());
+    assertEquals(1, map.getMissCount());
+    assertEquals(0, map.getEvictionCount());
+  }
+
+  @Test
+  public void testMaximumSizeIsEnforced() {
+    List<Integer> evicted = new ArrayList<>();
+    ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<Integer, Integer>(100, null, true, -1, false) {
+      @Override
+      protected void execEntryEvicted(Integer key, Integer value) {
+        evicted.add(key);
+      }
+    };
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, i);
+      assertTrue(map.size() <= 100);
+    }
+    assertEquals(100, map.size());
+    assertEquals(100, map.getWeightedSize());
+    assertEquals(900, evicted.size());
+    assertEquals(900, map.getEvictionCount());
+  }
+
+  @Test
+  public void testFrequentlyUsedEntriesSurviveScan() {
+    ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<>(100);
+    for (int i = 0; i < 50; i++) {
+      map.put(i, i);
+    }
+    for (int n = 0; n < 5; n++) {
+      for (int i = 0; i < 50; i++) {
+        map.get(i);
+      }
+    }
+    // scan over many entries used only once
+    for (int i = 1000; i < 10000; i++) {
+      map.put(i, i);
+    }
+    for (int i = 0; i < 50; i++) {
+      assertTrue("hot entry " + i + " was evicted", map.containsKey(i));
+    }
+    assertEquals(100, map.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsed() {
+    ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<>(3, null, false, -1, false);
+    map.put(1, 1);
+    map.put(2, 2);
+    map.put(3, 3);
+    map.put(1, 1); // touch
+    map.put(4, 4);
+    assertFalse(map.containsKey(2));
+    assertTrue(map.containsKey(1));
+    assertTrue(map.containsKey(3));
+    assertTrue(map.containsKey(4));
+  }
+
+  @Test
+  public void testMaximumWeight() {
+    ConcurrentBoundedMap<String, String> map = new ConcurrentBoundedMap<>(10, (k, v) -> v.length(), true, -1, false);
+    map.put("a", "12345");
+    map.put("b", "12345");
+    assertEquals(10, map.getWeightedSize());
+    map.put("c", "123");
+    assertTrue(map.getWeightedSize() <= 10);
+    map.put("d", "12345678901");
+    assertFalse("entry heavier than the maximum weight", map.containsKey("d"));
+    assertTrue(map.getWeightedSize() <= 10);
+  }
+
+  @Test
+  public void testTimeToLive() throws InterruptedException {
+    ConcurrentBoundedMap<String, String> map = new ConcurrentBoundedMap<>(10, null, true, 50, false);
+    map.put("a", "1");
+    assertEquals("1", map.get("a"));
+    Thread.sleep(100);
+    assertNull(map.get("a"));
+    assertTrue(map.isEmpty());
+    assertEquals(1, map.getEvictionCount());
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<>(10);
+    for (int i = 0; i < 10; i++) {
+      map.put(i, i);
+    }
+    map.entrySet().removeIf(e -> e.getKey() % 2 == 0);
+    assertEquals(5, map.size());
+    assertEquals(5, map.getWeightedSize());
+    map.clear();
+    assertEquals(0, map.size());
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  @Test
+  public void testConcurrentAccess() {
+    ConcurrentBoundedMap<Integer, Integer> map = new ConcurrentBoundedMap<>(50);
+    CountDownLatch start = new CountDownLatch(1);
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int offset = t * 1000;
+      futures.add(Jobs.schedule(() -> {
+        start.await();
+        for (int i = 0; i < 5000; i++) {
+          int key = offset + (i % 200);
+          if (map.get(key) == null) {
+            map.put(key, i);
+          }
+        }
+        return null;
+      }, Jobs.newInput()));
+    }
+    start.countDown();
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(30, TimeUnit.SECONDS);
+    }
+    assertTrue(map.size() <= 50);
+    assertEquals(map.size(), map.getWeightedSize());
+  }
+}
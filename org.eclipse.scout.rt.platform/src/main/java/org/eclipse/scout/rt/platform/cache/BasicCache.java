@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -202,6 +203,10 @@ public class BasicCache<K, V> implements ICache<K, V> {
 
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    // only expose the bounded map for its statistics, other map types would bypass value resolution
+    if (clazz == ConcurrentBoundedMap.class && m_cacheMap instanceof ConcurrentBoundedMap) {
+      return clazz.cast(m_cacheMap);
+    }
     return null;
   }
 }
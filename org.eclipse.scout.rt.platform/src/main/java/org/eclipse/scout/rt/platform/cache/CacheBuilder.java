@@ -18,11 +18,16 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheStatisticsByCacheIdProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheStatisticsEnabledProperty;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
@@ -48,6 +53,10 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private Long m_maximumWeight;
+  private ToIntBiFunction<? super K, ? super V> m_weigher;
+  private CacheEvictionPolicy m_evictionPolicy;
+  private Boolean m_statisticsEnabled;
   private Integer m_maxConcurrentResolve;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
@@ -58,6 +67,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     m_threadSafe = true;
     m_throwIfExists = true;
     m_replaceIfExists = false;
+    m_evictionPolicy = CacheEvictionPolicy.TINY_LFU;
   }
 
   @Override
@@ -94,7 +104,13 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected Map<K, V> createCacheMap() {
-    if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
+    if (isCreateBoundedMap()) {
+      if (isTransactional()) {
+        throw new IllegalStateException("a transactional cache cannot be bounded by a maximum size or weight");
+      }
+      return createBoundedMap();
+    }
+    else if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
     else if (isCreateExpiringMap()) {
@@ -118,6 +134,15 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     }
   }
 
+  protected ConcurrentBoundedMap<K, V> createBoundedMap() {
+    long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
+    return new ConcurrentBoundedMap<>(getMaximumWeight(), getWeigher(), getEvictionPolicy() == CacheEvictionPolicy.TINY_LFU, timeToLive, isTouchOnGet());
+  }
+
+  protected boolean isCreateBoundedMap() {
+    return getMaximumWeight() != null;
+  }
+
   protected boolean isCreateExpiringMap() {
     return getTimeToLive() != null || getSizeBound() != null;
   }
@@ -154,6 +179,10 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected ICache<K, V> addAfterCustomWrappers(ICache<K, V> cache) {
+    if (isStatisticsEnabled()) {
+      // outermost wrapper in order to see all requests
+      cache = new CacheStatisticsWrapper<>(cache);
+    }
     return cache;
   }
 
@@ -313,6 +342,76 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withMaximumSize(Long maximumSize) {
+    if (maximumSize != null && maximumSize < 0L) {
+      throw new IllegalArgumentException("maximumSize cannot be negative");
+    }
+    m_maximumWeight = maximumSize;
+    m_weigher = null;
+    return this;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+    if (maximumWeight != null) {
+      if (maximumWeight < 0L) {
+        throw new IllegalArgumentException("maximumWeight cannot be negative");
+      }
+      if (weigher == null) {
+        throw new IllegalArgumentException("weigher is required if maximumWeight is set");
+      }
+    }
+    m_maximumWeight = maximumWeight;
+    m_weigher = maximumWeight != null ? weigher : null;
+    return this;
+  }
+
+  /**
+   * @return maximum weight, or maximum size if no weigher is set
+   */
+  public Long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  /**
+   * @return the weigher, <code>null</code> if the cache is bounded by its size
+   */
+  public ToIntBiFunction<? super K, ? super V> getWeigher() {
+    return m_weigher;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy) {
+    m_evictionPolicy = evictionPolicy != null ? evictionPolicy : CacheEvictionPolicy.TINY_LFU;
+    return this;
+  }
+
+  public CacheEvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withStatisticsEnabled(Boolean statisticsEnabled) {
+    m_statisticsEnabled = statisticsEnabled;
+    return this;
+  }
+
+  /**
+   * @return value set by {@link #withStatisticsEnabled(Boolean)}, or the configured value for the cache id if not set
+   */
+  public boolean isStatisticsEnabled() {
+    if (m_statisticsEnabled != null) {
+      return m_statisticsEnabled;
+    }
+    Map<String, String> enabledByCacheId = CONFIG.getPropertyValue(CacheStatisticsByCacheIdProperty.class);
+    String enabledForCacheId = enabledByCacheId != null ? enabledByCacheId.get(getCacheId()) : null;
+    if (enabledForCacheId != null) {
+      return Boolean.parseBoolean(enabledForCacheId.trim());
+    }
+    return CONFIG.getPropertyValue(CacheStatisticsEnabledProperty.class);
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
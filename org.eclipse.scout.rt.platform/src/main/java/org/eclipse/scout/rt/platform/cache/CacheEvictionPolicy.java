@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
+
+/**
+ * Policy used to evict entries of a cache built with {@link ICacheBuilder#withMaximumSize(Long)} or
+ * {@link ICacheBuilder#withMaximumWeight(Long, java.util.function.ToIntBiFunction)}.
+ *
+ * @see ConcurrentBoundedMap
+ * @since 24.2
+ */
+public enum CacheEvictionPolicy {
+  /**
+   * Evicts the least recently used entry.
+   */
+  LRU,
+  /**
+   * Evicts the least recently used entry of a small admission window or of the main space, depending on which of them
+   * was accessed less frequently in the recent past (W-TinyLFU). Protects frequently used entries from being flushed by
+   * a scan over many entries used only once.
+   */
+  TINY_LFU
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Publishes metrics of all registered caches:
+ * <ul>
+ * <li>hit, miss, load and invalidation counts of caches with {@link CacheStatistics} (see
+ * {@link ICacheBuilder#withStatisticsEnabled(Boolean)})
+ * <li>eviction counts and size of caches bounded by a maximum size or weight (see
+ * {@link ICacheBuilder#withMaximumSize(Long)}); their hit and miss counts are published even without statistics
+ * </ul>
+ *
+ * @since 24.2
+ */
+public class CacheMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CacheMetricProvider.class);
+
+  public static final AttributeKey<String> CACHE_ID = AttributeKey.stringKey("scout.cache.id");
+  public static final AttributeKey<String> CACHE_RESULT = AttributeKey.stringKey("scout.cache.result");
+
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+
+    ObservableLongMeasurement requests = meter.counterBuilder("scout.cache.requests")
+        .setDescription("The number of requested cache keys, by result (hit or miss).")
+        .setUnit("{request}")
+        .buildObserver();
+    ObservableLongMeasurement loads = meter.counterBuilder("scout.cache.loads")
+        .setDescription("The number of resolve operations of cache values.")
+        .setUnit("{load}")
+        .buildObserver();
+    ObservableDoubleMeasurement loadTime = meter.counterBuilder("scout.cache.load.time")
+        .ofDoubles()
+        .setDescription("The total time spent resolving cache values.")
+        .setUnit("s")
+        .buildObserver();
+    ObservableLongMeasurement invalidations = meter.counterBuilder("scout.cache.invalidations")
+        .setDescription("The number of invalidate operations.")
+        .setUnit("{invalidation}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("scout.cache.evictions")
+        .setDescription("The number of entries evicted from bounded caches because they were full or because the time to live of an entry elapsed.")
+        .setUnit("{entry}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.cache.size")
+        .setDescription("The number of entries of bounded caches.")
+        .setUnit("{entry}")
+        .buildObserver();
+
+    m_observables.add(meter.batchCallback(() -> {
+      for (ICache<?, ?> cache : BEANS.get(ICacheRegistryService.class).getAllCaches()) {
+        Attributes attributes = Attributes.of(CACHE_ID, cache.getCacheId());
+        Attributes hitAttributes = attributes.toBuilder().put(CACHE_RESULT, "hit").build();
+        Attributes missAttributes = attributes.toBuilder().put(CACHE_RESULT, "miss").build();
+
+        CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+        ConcurrentBoundedMap<?, ?> map = cache.getAdapter(ConcurrentBoundedMap.class);
+        if (statistics != null) {
+          requests.record(statistics.getHitCount(), hitAttributes);
+          requests.record(statistics.getMissCount(), missAttributes);
+          loads.record(statistics.getLoadCount(), attributes);
+          loadTime.record(statistics.getTotalLoadTime(TimeUnit.MICROSECONDS) / 1e6, attributes);
+          invalidations.record(statistics.getInvalidationCount(), attributes);
+        }
+        else if (map != null) {
+          requests.record(map.getHitCount(), hitAttributes);
+          requests.record(map.getMissCount(), missAttributes);
+        }
+        if (map != null) {
+          evictions.record(map.getEvictionCount(), attributes);
+          size.record(map.size(), attributes);
+        }
+      }
+    }, requests, loads, loadTime, invalidations, evictions, size));
+  }
+
+  @Override
+  public void close() {
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+}
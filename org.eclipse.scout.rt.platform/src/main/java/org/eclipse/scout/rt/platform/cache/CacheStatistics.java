@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters of a cache collected by {@link CacheStatisticsWrapper}. Available by
+ * {@code cache.getAdapter(CacheStatistics.class)} if statistics are enabled for a cache.
+ *
+ * @since 24.2
+ */
+public class CacheStatistics {
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_loadCount = new LongAdder();
+  private final LongAdder m_loadTimeNanos = new LongAdder();
+  private final LongAdder m_invalidationCount = new LongAdder();
+
+  public void recordHits(int count) {
+    m_hitCount.add(count);
+  }
+
+  public void recordMisses(int count) {
+    m_missCount.add(count);
+  }
+
+  public void recordLoad(long loadTimeNanos) {
+    m_loadCount.increment();
+    m_loadTimeNanos.add(loadTimeNanos);
+  }
+
+  public void recordInvalidation() {
+    m_invalidationCount.increment();
+  }
+
+  /**
+   * @return number of requested keys which were already cached
+   */
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  /**
+   * @return number of requested keys which had to be resolved
+   */
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return hit count divided by the number of requested keys, 1 if there was no request yet
+   */
+  public double getHitRatio() {
+    long hitCount = getHitCount();
+    long requestCount = hitCount + getMissCount();
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  /**
+   * @return number of (single or batch) resolve operations
+   */
+  public long getLoadCount() {
+    return m_loadCount.sum();
+  }
+
+  /**
+   * @return total time spent in resolve operations in the given unit
+   */
+  public long getTotalLoadTime(TimeUnit unit) {
+    return unit.convert(m_loadTimeNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return average time of a resolve operation in milliseconds, 0 if there was no resolve operation yet
+   */
+  public double getAverageLoadTimeMillis() {
+    long loadCount = getLoadCount();
+    return loadCount == 0 ? 0.0 : m_loadTimeNanos.sum() / 1e6 / loadCount;
+  }
+
+  /**
+   * @return number of invalidate operations
+   */
+  public long getInvalidationCount() {
+    return m_invalidationCount.sum();
+  }
+
+  /**
+   * Resets all counters to zero.
+   */
+  public void reset() {
+    m_hitCount.reset();
+    m_missCount.reset();
+    m_loadCount.reset();
+    m_loadTimeNanos.reset();
+    m_invalidationCount.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics [hits=" + getHitCount() + ", misses=" + getMissCount() + ", loads=" + getLoadCount()
+        + ", averageLoadTime=" + getAverageLoadTimeMillis() + "ms, invalidations=" + getInvalidationCount() + "]";
+  }
+}
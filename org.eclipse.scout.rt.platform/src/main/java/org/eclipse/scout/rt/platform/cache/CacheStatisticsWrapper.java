@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+
+/**
+ * Cache wrapper collecting {@link CacheStatistics} of the wrapped cache. Added by {@link CacheBuilder} as outermost
+ * wrapper if statistics are enabled (see {@link ICacheBuilder#withStatisticsEnabled(Boolean)}).
+ * <p>
+ * A request is counted as hit if the value is already cached when it is requested. Such values are looked up once by
+ * {@link ICache#getCachedValue(Object)} and returned without calling the delegate. Only the missing values are
+ * requested from the delegate, every such call is counted as load.
+ *
+ * @since 24.2
+ */
+public class CacheStatisticsWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+
+  private final CacheStatistics m_statistics;
+
+  public CacheStatisticsWrapper(ICache<K, V> delegate) {
+    this(delegate, new CacheStatistics());
+  }
+
+  public CacheStatisticsWrapper(ICache<K, V> delegate, CacheStatistics statistics) {
+    super(delegate);
+    m_statistics = statistics;
+  }
+
+  public CacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) {
+      return getDelegate().get(key);
+    }
+    V value = getDelegate().getCachedValue(key);
+    if (value != null) {
+      m_statistics.recordHits(1);
+      return value;
+    }
+    m_statistics.recordMisses(1);
+    long start = System.nanoTime();
+    try {
+      return getDelegate().get(key);
+    }
+    finally {
+      m_statistics.recordLoad(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public Map<K, V> getAll(Collection<? extends K> keys) {
+    Set<K> missingKeys = CollectionUtility.hashSetWithoutNullElements(keys);
+    Map<K, V> result = new HashMap<>();
+    for (Iterator<K> it = missingKeys.iterator(); it.hasNext();) {
+      K key = it.next();
+      V value = getDelegate().getCachedValue(key);
+      if (value != null) {
+        result.put(key, value);
+        it.remove();
+      }
+    }
+    m_statistics.recordHits(result.size());
+    if (missingKeys.isEmpty()) {
+      return result;
+    }
+    m_statistics.recordMisses(missingKeys.size());
+    long start = System.nanoTime();
+    try {
+      result.putAll(getDelegate().getAll(missingKeys));
+      return result;
+    }
+    finally {
+      m_statistics.recordLoad(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    m_statistics.recordInvalidation();
+    getDelegate().invalidate(filter, propagate);
+  }
+
+  @Override
+  public <T> T getAdapter(Class<T> adapterClass) {
+    if (adapterClass.isInstance(m_statistics)) {
+      return adapterClass.cast(m_statistics);
+    }
+    return super.getAdapter(adapterClass);
+  }
+}
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.platform.cache;
 import java.io.Serializable;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
@@ -181,6 +182,56 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * If set to a non-null value, the cache holds at most the given number of values. In contrast to
+   * {@link #withSizeBound(Integer)} the bound is strictly enforced, and entries are evicted one by one in amortized
+   * constant time according to the {@link #withEvictionPolicy(CacheEvictionPolicy) eviction policy}. A time to live set
+   * by {@link #withTimeToLive(Long, TimeUnit, boolean)} is respected as well, whereas a size bound is ignored.
+   * <p>
+   * Bounded caches cannot be transactional.
+   *
+   * @param maximumSize
+   *          maximum number of cached values
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maximumSize is negative
+   * @since 24.2
+   */
+  ICacheBuilder<K, V> withMaximumSize(Long maximumSize);
+
+  /**
+   * Like {@link #withMaximumSize(Long)} but bounds the total weight of the cached values instead of their number.
+   *
+   * @param maximumWeight
+   *          maximum total weight of all cached values
+   * @param weigher
+   *          computes the weight of a cache entry, must not return a negative value
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maximumWeight is negative or if weigher is null while maximumWeight is not
+   * @since 24.2
+   */
+  ICacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher);
+
+  /**
+   * @param evictionPolicy
+   *          policy used to evict values of a cache bounded by {@link #withMaximumSize(Long)} or
+   *          {@link #withMaximumWeight(Long, ToIntBiFunction)}. (Default {@link CacheEvictionPolicy#TINY_LFU})
+   * @return this builder
+   * @since 24.2
+   */
+  ICacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy);
+
+  /**
+   * @param statisticsEnabled
+   *          true to collect {@link CacheStatistics} for the created cache, false to disable them. If null (Default),
+   *          the config properties <code>scout.cache.statistics.enabled</code> and
+   *          <code>scout.cache.statistics.byCacheId</code> decide.
+   * @return this builder
+   * @since 24.2
+   */
+  ICacheBuilder<K, V> withStatisticsEnabled(Boolean statisticsEnabled);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
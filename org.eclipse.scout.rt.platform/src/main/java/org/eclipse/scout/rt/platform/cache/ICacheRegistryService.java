@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Collection;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 
@@ -59,4 +61,10 @@ public interface ICacheRegistryService {
    */
   <K, V> ICache<K, V> opt(String cacheId);
 
+  /**
+   * @return all registered caches
+   * @since 24.2
+   */
+  Collection<ICache<?, ?>> getAllCaches();
+
 }
@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.platform.config;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.internal.PlatformImplementor;
@@ -240,6 +243,66 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether jobs should be executed on virtual threads instead of a pool of platform threads. Requires Java 21 or newer, otherwise the platform thread pool is used."
+          + " If enabled, the properties '%s', '%s', '%s', '%s' and '%s' have no effect. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerKeepAliveTimeProperty.class).getKey(),
+          BEANS.get(JobManagerAllowCoreThreadTimeoutProperty.class).getKey(),
+          BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class JobManagerSchedulerShardsProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.scheduler.shards";
+    }
+
+    @Override
+    public String description() {
+      return "The number of scheduler threads which dispatch delayed and repeating jobs. Each scheduler thread maintains its own timing wheel, and jobs are distributed among them in round-robin fashion. The default value is 1.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1;
+    }
+  }
+
+  public static class JobManagerSchedulerTickDurationProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.scheduler.tickDuration";
+    }
+
+    @Override
+    public String description() {
+      return "The duration of a tick of the scheduler's timing wheel in milliseconds. Delayed and repeating jobs are dispatched at the earliest at their fire time, but at the latest one tick after. The default value is 10ms.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 10L;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -370,4 +433,44 @@ public final class PlatformConfigProperties {
       return 500;
     }
   }
+
+  public static class CacheStatisticsEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.cache.statistics.enabled";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether hit, miss, load time and invalidation counts are collected for all caches built by the cache builder."
+          + " The statistics are published as OpenTelemetry metrics and shown in the server admin console. Can be overridden per cache id by '%s'. The default value is false.",
+          BEANS.get(CacheStatisticsByCacheIdProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class CacheStatisticsByCacheIdProperty extends AbstractMapConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.cache.statistics.byCacheId";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Map of cache ids to 'true' or 'false' specifying whether statistics are collected for the cache with the given id."
+          + " Overrides the value of '%s' for these caches. Example: scout.cache.statistics.byCacheId[codeTypeCache]=true",
+          BEANS.get(CacheStatisticsEnabledProperty.class).getKey());
+    }
+
+    @Override
+    public Map<String, String> getDefaultValue() {
+      return Collections.emptyMap();
+    }
+  }
 }
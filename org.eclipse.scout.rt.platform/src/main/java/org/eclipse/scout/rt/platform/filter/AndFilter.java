@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.platform.filter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -44,4 +45,11 @@ public class AndFilter<ELEMENT> implements Predicate<ELEMENT> {
     }
     return true;
   }
+
+  /**
+   * Returns the filters joined by logical 'AND' operation.
+   */
+  public List<Predicate<ELEMENT>> getFilters() {
+    return Collections.unmodifiableList(m_filters);
+  }
 }
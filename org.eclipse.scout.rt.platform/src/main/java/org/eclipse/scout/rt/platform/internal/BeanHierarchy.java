@@ -27,25 +27,25 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * Hierarchy of all beans implementing a specific type.
+ * <p>
+ * Registered beans are held in an immutable list which is replaced upon every modification (copy-on-write), and the
+ * query results are computed lazily from such an immutable snapshot. Therefore, queries are thread safe and do not
+ * require any lock. Modifications however must be serialized by the caller.
  */
 public class BeanHierarchy<T> {
 
   private final Class<T> m_clazz;
-  private final List<IBean<T>> m_beans;
+  private volatile List<IBean<T>> m_beans;
 
   /**
    * Redundant, derived by {@link #m_beans}
    */
-  private List<IBean<T>> m_single;
-  /**
-   * Redundant, derived by {@link #m_beans}
-   */
-  private List<IBean<T>> m_all;
+  private volatile QueryResult<T> m_queryResult;
 
   public BeanHierarchy(Class<T> clazz) {
     m_clazz = clazz;
-    m_beans = new ArrayList<>();
+    m_beans = Collections.emptyList();
   }
 
   public Class<T> getClazz() {
@@ -53,7 +53,8 @@ public class BeanHierarchy<T> {
   }
 
   /**
-   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace}
+   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace}. The returned list is an
+   *         immutable snapshot.
    */
   public List<IBean<T>> getBeans() {
     return m_beans;
@@ -72,13 +73,17 @@ public class BeanHierarchy<T> {
   }
 
   public void addBean(IBean<T> bean) {
-    invalidate();
-    m_beans.add(bean);
+    List<IBean<T>> beans = new ArrayList<>(m_beans.size() + 1);
+    beans.addAll(m_beans);
+    beans.add(bean);
+    m_beans = Collections.unmodifiableList(beans);
   }
 
   public void removeBean(IBean<T> bean) {
-    invalidate();
-    m_beans.remove(bean);
+    List<IBean<T>> beans = new ArrayList<>(m_beans);
+    if (beans.remove(bean)) {
+      m_beans = Collections.unmodifiableList(beans);
+    }
   }
 
   /**
@@ -99,17 +104,20 @@ public class BeanHierarchy<T> {
     return query(false);
   }
 
-  protected void invalidate() {
-    m_single = null;
-    m_all = null;
-  }
-
   /**
    * @return A copy of m_beans with duplicate beans removed sorted first by {@link #ORDER_COMPARATOR} and second by
    *         bean-insertion-order.
    */
   protected List<IBean<T>> sortedBeanCopy() {
-    ArrayList<IBean<T>> sorted = new ArrayList<>(m_beans);
+    return sortedBeanCopy(m_beans);
+  }
+
+  /**
+   * @return A copy of the given beans with duplicate beans removed sorted first by {@link #ORDER_COMPARATOR} and second
+   *         by bean-insertion-order.
+   */
+  protected List<IBean<T>> sortedBeanCopy(List<IBean<T>> beans) {
+    ArrayList<IBean<T>> sorted = new ArrayList<>(beans);
 
     // m_beans contains the beans in insertion order.
     // In case there are duplicates (with the same order) the one last added should win.
@@ -128,18 +136,22 @@ public class BeanHierarchy<T> {
   }
 
   protected List<IBean<T>> query(boolean querySingle) {
-    if (m_single == null || m_all == null) {
-      initialize();
+    List<IBean<T>> beans = m_beans;
+    QueryResult<T> result = m_queryResult;
+    if (result == null || result.m_beans != beans) {
+      result = initialize(beans);
+      // Racy publication is fine: a result computed from an outdated snapshot is detected by the identity check above.
+      m_queryResult = result;
     }
     if (querySingle) {
-      return m_single;
+      return result.m_single;
     }
-    return m_all;
+    return result.m_all;
   }
 
   @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
-  protected void initialize() {
-    List<IBean<T>> list = sortedBeanCopy();
+  protected QueryResult<T> initialize(List<IBean<T>> beans) {
+    List<IBean<T>> list = sortedBeanCopy(beans);
     //manage replaced beans
     final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
     for (IBean<T> bean : list) {
@@ -175,41 +187,37 @@ public class BeanHierarchy<T> {
     list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
 
     if (list.isEmpty()) {
-      m_all = Collections.emptyList();
-      m_single = Collections.emptyList();
+      return new QueryResult<>(beans, Collections.emptyList(), Collections.emptyList());
     }
-    else {
-      m_all = Collections.unmodifiableList(new ArrayList<>(list));
 
-      IBean<T> exactBean = getExactBean(list, refClazz);
-      if (exactBean != null) {
-        // we have an exact match: use it
-        m_single = Collections.singletonList(exactBean);
-      }
-      else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
-        // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-        m_single = Collections.emptyList();
-      }
-      else if (list.size() == 1) {
-        m_single = Collections.singletonList(list.get(0));
-      }
-      else {
-        //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
-        List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
-        Iterator<IBean<T>> iterator = list.iterator();
-
-        // first bean
-        IBean<T> curBean = iterator.next();
-        double lowestOrder = orderOf(curBean);
-        lowestOrderBeans.add(curBean);
-
-        // all others having the same order
-        while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
-          lowestOrderBeans.add(curBean);
-        }
-        m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
-      }
+    List<IBean<T>> all = Collections.unmodifiableList(new ArrayList<>(list));
+    IBean<T> exactBean = getExactBean(list, refClazz);
+    if (exactBean != null) {
+      // we have an exact match: use it
+      return new QueryResult<>(beans, Collections.singletonList(exactBean), all);
+    }
+    if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
+      // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
+      return new QueryResult<>(beans, Collections.emptyList(), all);
+    }
+    if (list.size() == 1) {
+      return new QueryResult<>(beans, Collections.singletonList(list.get(0)), all);
+    }
+
+    //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
+    List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
+    Iterator<IBean<T>> iterator = list.iterator();
+
+    // first bean
+    IBean<T> curBean = iterator.next();
+    double lowestOrder = orderOf(curBean);
+    lowestOrderBeans.add(curBean);
+
+    // all others having the same order
+    while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
+      lowestOrderBeans.add(curBean);
     }
+    return new QueryResult<>(beans, Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans)), all);
   }
 
   /**
@@ -240,4 +248,20 @@ public class BeanHierarchy<T> {
     }
     return IBean.DEFAULT_BEAN_ORDER;
   }
+
+  /**
+   * Immutable query result computed from a snapshot of the registered beans.
+   */
+  protected static final class QueryResult<T> {
+
+    private final List<IBean<T>> m_beans;
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    QueryResult(List<IBean<T>> beans, List<IBean<T>> single, List<IBean<T>> all) {
+      m_beans = beans;
+      m_single = single;
+      m_all = all;
+    }
+  }
 }
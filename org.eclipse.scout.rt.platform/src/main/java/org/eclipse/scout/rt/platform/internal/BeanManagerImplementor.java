@@ -13,12 +13,12 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -40,10 +40,11 @@ public class BeanManagerImplementor implements IBeanManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(BeanManagerImplementor.class);
 
-  private final ReentrantReadWriteLock m_lock;
   /**
-   * BeanHierarchies are only accessed when we have acquired {@link #m_lock}.
+   * Serializes modifications of the registered beans. Queries do not acquire this lock because every
+   * {@link BeanHierarchy} publishes immutable snapshots of its beans.
    */
+  private final ReentrantReadWriteLock m_lock;
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
   private IBeanDecorationFactory m_beanDecorationFactory;
 
@@ -53,10 +54,14 @@ public class BeanManagerImplementor implements IBeanManager {
 
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
-    m_beanHierarchies = new HashMap<>();
+    m_beanHierarchies = new ConcurrentHashMap<>();
     m_beanDecorationFactory = f;
   }
 
+  /**
+   * @return the lock held while beans are registered or unregistered. Bean queries do not acquire this lock, hence
+   *         holding its read lock does not exclude concurrent queries but only concurrent modifications.
+   */
   public ReentrantReadWriteLock getReadWriteLock() {
     return m_lock;
   }
@@ -67,38 +72,26 @@ public class BeanManagerImplementor implements IBeanManager {
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
     checkAccess();
-    m_lock.readLock().lock();
-    try {
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
-    finally {
-      m_lock.readLock().unlock();
+    else {
+      List<IBean<T>> singleBean = h.querySingle();
+      return getDecoratedBeans(singleBean, beanClazz);
     }
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
-    }
-    finally {
-      m_lock.readLock().unlock();
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> allBeans = h.queryAll();
+    return getDecoratedBeans(allBeans, beanClazz);
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -192,33 +185,21 @@ public class BeanManagerImplementor implements IBeanManager {
   @Override
   @SuppressWarnings("unchecked")
   public <T> List<IBean<T>> getRegisteredBeans(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return CollectionUtility.emptyArrayList();
-      }
-      return new ArrayList<>(h.getBeans());
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return CollectionUtility.emptyArrayList();
     }
+    return new ArrayList<>(h.getBeans());
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> IBean<T> getRegisteredBean(Class<?> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(beanClazz);
-      if (h != null) {
-        return h.getExactBean(beanClazz);
-      }
-      return null;
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy h = m_beanHierarchies.get(beanClazz);
+    if (h != null) {
+      return h.getExactBean(beanClazz);
     }
+    return null;
   }
 
   @Override
@@ -260,28 +241,16 @@ public class BeanManagerImplementor implements IBeanManager {
 
   protected Set<IBean<?>> getAllBeans() {
     Set<IBean<?>> all = new HashSet<>();
-    m_lock.readLock().lock();
-    try {
-      for (BeanHierarchy<?> h : m_beanHierarchies.values()) {
-        all.addAll(h.getBeans());
-      }
-    }
-    finally {
-      m_lock.readLock().unlock();
+    for (BeanHierarchy<?> h : m_beanHierarchies.values()) {
+      all.addAll(h.getBeans());
     }
     return all;
   }
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(clazz);
-      return h != null && !h.getBeans().isEmpty();
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    BeanHierarchy h = m_beanHierarchies.get(clazz);
+    return h != null && !h.getBeans().isEmpty();
   }
 
   protected void callPreDestroyOnBeans() {
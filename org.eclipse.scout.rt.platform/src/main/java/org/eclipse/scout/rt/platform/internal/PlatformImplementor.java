@@ -34,6 +34,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDev
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.inventory.ClassInventory;
 import org.eclipse.scout.rt.platform.inventory.IClassInventory;
+import org.eclipse.scout.rt.platform.inventory.internal.BeanManifestLoader;
 import org.eclipse.scout.rt.platform.util.BooleanUtility;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.StringUtility;
@@ -219,9 +220,8 @@ public class PlatformImplementor implements IPlatform {
 
   protected BeanManagerImplementor createBeanManager() {
     BeanManagerImplementor beanManager = newBeanManagerImplementor();
-    IClassInventory inv = ClassInventory.get();
     long t0 = System.nanoTime();
-    Set<Class> allBeans = new BeanFilter().collect(inv);
+    Set<Class> allBeans = collectBeans();
     long t1 = System.nanoTime();
     LOG.info("Collected {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t1 - t0));
     for (Class<?> bean : allBeans) {
@@ -232,6 +232,20 @@ public class PlatformImplementor implements IPlatform {
     return beanManager;
   }
 
+  /**
+   * @return all bean classes to register. Uses the pre-built bean manifests of the modules (see
+   *         {@link BeanManifestLoader}) if available, collects the beans from the {@link ClassInventory} otherwise.
+   */
+  protected Set<Class> collectBeans() {
+    Set<Class> beans = new BeanManifestLoader().loadBeans();
+    if (beans != null) {
+      LOG.info("Using pre-built bean manifests");
+      return beans;
+    }
+    IClassInventory inv = ClassInventory.get();
+    return new BeanFilter().collect(inv);
+  }
+
   protected void initBeanDecorationFactory() {
     if (m_beanManager.getBeanDecorationFactory() != null) {
       return;
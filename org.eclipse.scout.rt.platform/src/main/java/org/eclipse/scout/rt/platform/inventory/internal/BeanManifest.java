@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+
+/**
+ * Pre-computed list of the bean classes of a module, as written at build time by {@link BeanManifestBuilder} to
+ * {@value #BEAN_MANIFEST_PATH}.
+ * <p>
+ * The manifest holds the fingerprint (see {@link #fingerprint(ByteBuffer)}) of the Jandex index
+ * ({@value JandexInventoryBuilder#JANDEX_INDEX_PATH}) of the module it was built from. A manifest whose fingerprint
+ * does not match the current Jandex index of the module is outdated, e.g. because bean classes were added or removed.
+ * <p>
+ * The manifest only replaces the discovery of the beans by {@link org.eclipse.scout.rt.platform.internal.BeanFilter}.
+ * The bean classes are still loaded and their annotations (e.g. {@code @Order} or {@code @Replace}) are read by
+ * {@link org.eclipse.scout.rt.platform.BeanMetaData} when they are registered.
+ * <p>
+ * Binary format (big endian): magic, format version, fingerprint, class count, followed by the length of the UTF-8
+ * encoded class name and the class name for every bean.
+ */
+public class BeanManifest {
+
+  public static final String BEAN_MANIFEST_PATH = "META-INF/scout-beans.idx";
+
+  public static final int MAGIC = 0x53434245; // SCBE
+  public static final int VERSION = 1;
+
+  private final long m_fingerprint;
+  private final List<String> m_classNames;
+
+  public BeanManifest(long fingerprint, List<String> classNames) {
+    m_fingerprint = fingerprint;
+    m_classNames = Collections.unmodifiableList(new ArrayList<>(classNames));
+  }
+
+  /**
+   * @return fingerprint of the Jandex index this manifest was built from
+   */
+  public long getFingerprint() {
+    return m_fingerprint;
+  }
+
+  public List<String> getClassNames() {
+    return m_classNames;
+  }
+
+  public void write(OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeLong(m_fingerprint);
+    data.writeInt(m_classNames.size());
+    for (String name : m_classNames) {
+      byte[] className = name.getBytes(StandardCharsets.UTF_8);
+      data.writeInt(className.length);
+      data.write(className);
+    }
+    data.flush();
+  }
+
+  /**
+   * Reads a manifest from the given buffer (typically a memory mapped file).
+   *
+   * @return the manifest or {@code null} if the buffer contains a manifest of another format version.
+   * @throws PlatformException
+   *           if the buffer does not contain a valid manifest.
+   */
+  public static BeanManifest read(ByteBuffer buffer) {
+    try {
+      if (buffer.getInt() != MAGIC) {
+        throw new PlatformException("Invalid bean manifest (wrong magic)");
+      }
+      if (buffer.getInt() != VERSION) {
+        return null;
+      }
+      long fingerprint = buffer.getLong();
+      int count = buffer.getInt();
+      List<String> classNames = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        byte[] className = new byte[buffer.getInt()];
+        buffer.get(className);
+        classNames.add(new String(className, StandardCharsets.UTF_8));
+      }
+      return new BeanManifest(fingerprint, classNames);
+    }
+    catch (BufferUnderflowException | NegativeArraySizeException e) {
+      throw new PlatformException("Invalid bean manifest (truncated)", e);
+    }
+  }
+
+  /**
+   * @return fingerprint of the remaining content of the given buffer (typically a memory mapped Jandex index)
+   */
+  public static long fingerprint(ByteBuffer buffer) {
+    CRC32 crc = new CRC32();
+    crc.update(buffer);
+    return ((long) buffer.limit() << 32) | crc.getValue();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.internal.BeanFilter;
+import org.eclipse.scout.rt.platform.inventory.IClassInventory;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Build time step which writes the {@link BeanManifest} of a module to {@value BeanManifest#BEAN_MANIFEST_PATH}.
+ * <p>
+ * Must be executed with the runtime classpath of the module after its classes and its Jandex index have been built,
+ * passing the classes output folder of the module as argument:
+ *
+ * <pre>
+ * java org.eclipse.scout.rt.platform.inventory.internal.BeanManifestBuilder target/classes
+ * </pre>
+ *
+ * With Maven, this is typically done by the {@code exec-maven-plugin} in the {@code process-classes} phase. Manifests
+ * are only used at runtime if all modules provide one, see {@link BeanManifestLoader}.
+ * <p>
+ * The beans are collected by {@link BeanFilter} from the class inventory of the whole classpath, and only beans whose
+ * class file is located in the given folder are written to the manifest. The manifest is bound to the Jandex index of
+ * the module by its fingerprint, hence it must be rebuilt whenever the index changes.
+ */
+public class BeanManifestBuilder {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BeanManifestBuilder.class);
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: " + BeanManifestBuilder.class.getName() + " <classes folder>");
+    }
+    new BeanManifestBuilder().build(Paths.get(args[0]).toAbsolutePath().normalize());
+  }
+
+  /**
+   * Collects the beans of the module with the given classes folder and writes its manifest into this folder.
+   */
+  @SuppressWarnings("rawtypes")
+  public BeanManifest build(Path classesFolder) throws IOException {
+    if (!Files.isDirectory(classesFolder)) {
+      throw new PlatformException("Classes folder '{}' does not exist", classesFolder);
+    }
+    Set<Class> beans = collectBeans();
+    BeanManifest manifest = createManifest(classesFolder, readFingerprint(classesFolder), beans);
+    Path manifestFile = classesFolder.resolve(BeanManifest.BEAN_MANIFEST_PATH);
+    Files.createDirectories(manifestFile.getParent());
+    try (OutputStream out = Files.newOutputStream(manifestFile)) {
+      manifest.write(out);
+    }
+    LOG.info("Wrote bean manifest '{}' with {} beans.", manifestFile, manifest.getClassNames().size());
+    return manifest;
+  }
+
+  @SuppressWarnings("rawtypes")
+  protected Set<Class> collectBeans() {
+    JandexInventoryBuilder inventoryBuilder = new JandexInventoryBuilder(RebuildStrategy.IF_MODIFIED);
+    inventoryBuilder.scanAllModules();
+    IClassInventory classInventory = new JandexClassInventory(inventoryBuilder.finish());
+    return new BeanFilter().collect(classInventory);
+  }
+
+  /**
+   * @return fingerprint of the Jandex index of the module, which is up-to-date after {@link #collectBeans()}
+   */
+  protected long readFingerprint(Path classesFolder) throws IOException {
+    Path indexFile = classesFolder.resolve(JandexInventoryBuilder.JANDEX_INDEX_PATH);
+    if (!Files.isRegularFile(indexFile)) {
+      throw new PlatformException("Jandex index '{}' does not exist. Is '{}' present?", indexFile, JandexInventoryBuilder.SCOUT_XML_PATH);
+    }
+    return BeanManifest.fingerprint(ByteBuffer.wrap(Files.readAllBytes(indexFile)));
+  }
+
+  @SuppressWarnings("rawtypes")
+  protected BeanManifest createManifest(Path classesFolder, long fingerprint, Set<Class> beans) {
+    List<String> classNames = new ArrayList<>();
+    for (Class<?> bean : beans) {
+      if (isInClassesFolder(classesFolder, bean)) {
+        classNames.add(bean.getName());
+      }
+    }
+    Collections.sort(classNames);
+    return new BeanManifest(fingerprint, classNames);
+  }
+
+  protected boolean isInClassesFolder(Path classesFolder, Class<?> bean) {
+    String classFile = bean.getName().replace('.', File.separatorChar) + ".class";
+    return Files.isRegularFile(classesFolder.resolve(classFile));
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexRebuildProperty;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.internal.BeanFilter;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the pre-built {@link BeanManifest}s of all modules, so that the beans do not have to be collected from the
+ * class inventory by {@link BeanFilter}.
+ * <p>
+ * Manifests are only used if every module (i.e. every classpath entry containing
+ * {@value JandexInventoryBuilder#SCOUT_XML_PATH}) provides a valid one whose fingerprint matches the Jandex index of
+ * the module. Otherwise, {@link #loadBeans()} returns {@code null} and the caller is expected to fall back to scanning.
+ * The {@link RebuildStrategy} is respected the same way as for Jandex indexes: {@link RebuildStrategy#ALWAYS} ignores
+ * all manifests, {@link RebuildStrategy#IF_MODIFIED} ignores manifests in class folders because their Jandex index may
+ * be outdated until the class inventory is built.
+ */
+public class BeanManifestLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(BeanManifestLoader.class);
+
+  private final RebuildStrategy m_rebuildStrategy;
+  private final ClassLoader m_classLoader;
+
+  public BeanManifestLoader() {
+    // do not use the CONFIG class here because the platform is not ready yet
+    this(new JandexRebuildProperty().getValue());
+  }
+
+  public BeanManifestLoader(RebuildStrategy rebuildStrategy) {
+    m_rebuildStrategy = rebuildStrategy;
+    m_classLoader = BeanManifestLoader.class.getClassLoader();
+  }
+
+  /**
+   * @return the bean classes of all modules or {@code null} if at least one module has no valid or an outdated
+   *         manifest.
+   */
+  @SuppressWarnings("rawtypes")
+  public Set<Class> loadBeans() {
+    if (m_rebuildStrategy == RebuildStrategy.ALWAYS) {
+      return null;
+    }
+
+    List<URL> scoutXmlUrls;
+    try {
+      scoutXmlUrls = Collections.list(m_classLoader.getResources(JandexInventoryBuilder.SCOUT_XML_PATH));
+    }
+    catch (IOException ex) {
+      throw new PlatformException("Error while reading resources '{}'", JandexInventoryBuilder.SCOUT_XML_PATH, ex);
+    }
+
+    List<BeanManifest> manifests = new ArrayList<>(scoutXmlUrls.size());
+    for (URL scoutXmlUrl : scoutXmlUrls) {
+      URI manifestUri = resolveModuleUri(scoutXmlUrl, BeanManifest.BEAN_MANIFEST_PATH);
+      if (m_rebuildStrategy == RebuildStrategy.IF_MODIFIED && "file".equals(manifestUri.getScheme())) {
+        LOG.info("Bean manifest '{}' is not used with rebuild strategy {}. Beans are collected by scanning the class inventory.", manifestUri, m_rebuildStrategy);
+        return null;
+      }
+      BeanManifest manifest = readManifest(manifestUri);
+      if (manifest == null) {
+        LOG.info("No valid bean manifest '{}' found. Beans are collected by scanning the class inventory.", manifestUri);
+        return null;
+      }
+      URI indexUri = resolveModuleUri(scoutXmlUrl, JandexInventoryBuilder.JANDEX_INDEX_PATH);
+      Long fingerprint = readFingerprint(indexUri);
+      if (fingerprint == null || fingerprint != manifest.getFingerprint()) {
+        LOG.info("Drop outdated bean manifest '{}'. It does not match the index '{}'.", manifestUri, indexUri);
+        return null;
+      }
+      manifests.add(manifest);
+    }
+
+    Set<Class> beans = new HashSet<>();
+    for (BeanManifest manifest : manifests) {
+      for (String className : manifest.getClassNames()) {
+        try {
+          beans.add(Class.forName(className, false, m_classLoader));
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+          LOG.info("Drop outdated bean manifests. Bean '{}' cannot be loaded.", className, e);
+          return null;
+        }
+      }
+    }
+    return beans;
+  }
+
+  protected URI resolveModuleUri(URL scoutXmlUrl, String path) {
+    String s = scoutXmlUrl.toExternalForm();
+    try {
+      return new URI(s.substring(0, s.length() - JandexInventoryBuilder.SCOUT_XML_PATH.length()) + path);
+    }
+    catch (URISyntaxException ex) {
+      throw new PlatformException("Cannot find URI of '{}' from '{}'", path, s, ex);
+    }
+  }
+
+  /**
+   * @return the manifest or {@code null} if not available or of another format version.
+   */
+  protected BeanManifest readManifest(URI manifestUri) {
+    try {
+      ByteBuffer buffer = readBuffer(manifestUri);
+      return buffer != null ? BeanManifest.read(buffer) : null;
+    }
+    catch (IOException | PlatformException e) {
+      LOG.warn("Error reading bean manifest '{}'", manifestUri, e);
+      return null;
+    }
+  }
+
+  /**
+   * @return the fingerprint of the Jandex index or {@code null} if not available.
+   */
+  protected Long readFingerprint(URI indexUri) {
+    try {
+      ByteBuffer buffer = readBuffer(indexUri);
+      return buffer != null ? BeanManifest.fingerprint(buffer) : null;
+    }
+    catch (IOException e) {
+      LOG.warn("Error reading index '{}'", indexUri, e);
+      return null;
+    }
+  }
+
+  /**
+   * @return the content of the given resource (memory mapped if it is a file) or {@code null} if it does not exist.
+   */
+  protected ByteBuffer readBuffer(URI uri) throws IOException {
+    try {
+      if ("file".equals(uri.getScheme())) {
+        try (FileChannel channel = FileChannel.open(Paths.get(uri), StandardOpenOption.READ)) {
+          return channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+      }
+      try (InputStream in = uri.toURL().openStream()) {
+        return ByteBuffer.wrap(in.readAllBytes());
+      }
+    }
+    catch (FileNotFoundException | NoSuchFileException e) {
+      LOG.debug("Resource not found: {}", uri, e);
+      return null;
+    }
+  }
+}
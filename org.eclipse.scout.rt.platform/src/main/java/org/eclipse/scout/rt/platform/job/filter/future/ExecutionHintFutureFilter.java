@@ -9,8 +9,6 @@
  */
 package org.eclipse.scout.rt.platform.job.filter.future;
 
-import java.util.function.Predicate;
-
 import org.eclipse.scout.rt.platform.job.IFuture;
 
 /**
@@ -18,7 +16,7 @@ import org.eclipse.scout.rt.platform.job.IFuture;
  *
  * @since 5.2
  */
-public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
+public class ExecutionHintFutureFilter implements IIndexedFutureFilter {
 
   private final String m_hint;
 
@@ -30,4 +28,9 @@ public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return future.containsExecutionHint(m_hint);
   }
+
+  @Override
+  public FutureIndexKey getIndexKey() {
+    return m_hint != null ? FutureIndexKey.ofExecutionHint(m_hint) : null;
+  }
 }
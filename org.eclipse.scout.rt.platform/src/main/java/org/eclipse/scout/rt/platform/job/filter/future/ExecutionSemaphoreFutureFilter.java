@@ -9,8 +9,6 @@
  */
 package org.eclipse.scout.rt.platform.job.filter.future;
 
-import java.util.function.Predicate;
-
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
@@ -20,7 +18,7 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
  *
  * @since 5.1
  */
-public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>> {
+public class ExecutionSemaphoreFutureFilter implements IIndexedFutureFilter {
 
   private final IExecutionSemaphore m_semaphore;
 
@@ -32,4 +30,9 @@ public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return ObjectUtility.equals(m_semaphore, future.getJobInput().getExecutionSemaphore());
   }
+
+  @Override
+  public FutureIndexKey getIndexKey() {
+    return m_semaphore != null ? FutureIndexKey.ofExecutionSemaphore(m_semaphore) : null;
+  }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import java.util.Objects;
+
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Key under which the job manager indexes its {@link IFuture}s, so that {@link IIndexedFutureFilter}s only need to be
+ * evaluated against the Futures registered under that key.
+ * <p>
+ * A key consists of a type to distinguish different kinds of keys, and a value which is compared by
+ * {@link Object#equals(Object)}.
+ *
+ * @since 24.2
+ */
+public final class FutureIndexKey {
+
+  private final Class<?> m_type;
+  private final Object m_value;
+
+  public FutureIndexKey(final Class<?> type, final Object value) {
+    m_type = Assertions.assertNotNull(type, "type must not be null");
+    m_value = Assertions.assertNotNull(value, "value must not be null");
+  }
+
+  /**
+   * Key for Futures assigned to the given {@link IExecutionSemaphore}.
+   */
+  public static FutureIndexKey ofExecutionSemaphore(final IExecutionSemaphore semaphore) {
+    return new FutureIndexKey(IExecutionSemaphore.class, semaphore);
+  }
+
+  /**
+   * Key for Futures tagged with the given execution hint.
+   */
+  public static FutureIndexKey ofExecutionHint(final String hint) {
+    return new FutureIndexKey(ExecutionHintFutureFilter.class, hint);
+  }
+
+  public Class<?> getType() {
+    return m_type;
+  }
+
+  public Object getValue() {
+    return m_value;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * m_type.hashCode() + m_value.hashCode();
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    final FutureIndexKey other = (FutureIndexKey) obj;
+    return m_type == other.m_type && Objects.equals(m_value, other.m_value);
+  }
+
+  @Override
+  public String toString() {
+    return m_type.getSimpleName() + "=" + m_value;
+  }
+}
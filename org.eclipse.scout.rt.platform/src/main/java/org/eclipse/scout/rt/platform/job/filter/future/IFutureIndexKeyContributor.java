@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import java.util.Collection;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.job.IFuture;
+
+/**
+ * Contributes additional {@link FutureIndexKey}s under which the job manager indexes a {@link IFuture}.
+ * <p>
+ * Keys for the execution semaphore and execution hints are maintained by the job manager itself. Contributed keys are
+ * computed once when the Future is registered and must therefore not change during the lifetime of the Future.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public interface IFutureIndexKeyContributor {
+
+  /**
+   * Adds the index keys of the given Future to the given collection.
+   */
+  void contributeIndexKeys(IFuture<?> future, Collection<FutureIndexKey> indexKeys);
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+
+/**
+ * {@link IFuture} filter which only accepts Futures registered under a specific {@link FutureIndexKey}.
+ * <p>
+ * The job manager uses this key to evaluate the filter only against the Futures registered under that key, instead of
+ * against all Futures. This also applies if the filter is part of an {@link org.eclipse.scout.rt.platform.filter.AndFilter}.
+ *
+ * @since 24.2
+ */
+public interface IIndexedFutureFilter extends Predicate<IFuture<?>> {
+
+  /**
+   * @return the key under which all Futures accepted by this filter are registered, or <code>null</code> if this filter
+   *         cannot be answered by the index.
+   */
+  FutureIndexKey getIndexKey();
+}
@@ -10,23 +10,31 @@
 package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.Date;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerSchedulerShardsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerSchedulerTickDurationProperty;
 import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This class provides functionality to execute Runnables some time in the future on behalf of a
- * {@link ThreadPoolExecutor}. Thereto, this executor schedules a 'Dispatch-Loop-Runnable' to wait for expired Runnables
- * to be executed.
+ * {@link ThreadPoolExecutor}. Thereto, this executor schedules one or more 'Dispatch-Loop-Runnables' to wait for
+ * expired Runnables to be executed.
  * <p>
  * This class is necessary because {@link ScheduledThreadPoolExecutor} is not applicable for {@link JobManager} due to
  * its fixed-size thread pool. That means, that once the <code>core-pool-size</code> is exceeded, the creation of
@@ -34,6 +42,11 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Also, this executor is used over Quartz Scheduler because of its better performance when having more than 10'000 jobs
  * running simultaneously.
+ * <p>
+ * Each dispatch loop maintains a hashed timing wheel: a ring of buckets, each representing a tick of
+ * {@link JobManagerSchedulerTickDurationProperty}. Scheduling and cancelling a Runnable costs O(1), and cancelled
+ * Runnables are removed from the wheel immediately. A Runnable is never run before its fire time, but at most one tick
+ * after. The number of dispatch loops is configured by {@link JobManagerSchedulerShardsProperty}.
  *
  * @since 5.1
  */
@@ -41,21 +54,44 @@ class DelayedExecutor {
 
   private static final Logger LOG = LoggerFactory.getLogger(DelayedExecutor.class);
 
+  private static final int WHEEL_SIZE = 512; // must be a power of 2
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
   private final ExecutorService m_executor;
-  private final String m_threadName;
-  private final AtomicLong m_sequencer = new AtomicLong(-Long.MAX_VALUE);
-  private final DelayQueue<P_DelayedTask> m_delayedTaskQueue = new DelayQueue<>();
+  private final P_TimingWheel[] m_shards;
+  private final AtomicInteger m_shardSequence = new AtomicInteger();
 
   /**
    * @param executor
-   *          executor to run the 'Dispatch-Loop-Runnable' and execute offered Runnables.
+   *          executor to run the 'Dispatch-Loop-Runnables' and execute offered Runnables.
    * @param threadName
-   *          the thread-name of the 'Dispatch-Loop-Runnable'.
+   *          the thread-name of the 'Dispatch-Loop-Runnables'.
    */
   DelayedExecutor(final ExecutorService executor, final String threadName) {
+    this(executor, threadName, CONFIG.getPropertyValue(JobManagerSchedulerShardsProperty.class), CONFIG.getPropertyValue(JobManagerSchedulerTickDurationProperty.class));
+  }
+
+  /**
+   * @param executor
+   *          executor to run the 'Dispatch-Loop-Runnables' and execute offered Runnables.
+   * @param threadName
+   *          the thread-name of the 'Dispatch-Loop-Runnables'.
+   * @param shardCount
+   *          the number of 'Dispatch-Loop-Runnables'.
+   * @param tickDurationMillis
+   *          the duration of a tick of the timing wheel.
+   */
+  DelayedExecutor(final ExecutorService executor, final String threadName, final int shardCount, final long tickDurationMillis) {
+    Assertions.assertGreater(shardCount, 0, "Invalid shard count; must be > 0 [shardCount={}]", shardCount);
+    Assertions.assertGreater(tickDurationMillis, 0L, "Invalid tick duration; must be > 0 [tickDuration={}]", tickDurationMillis);
+
     m_executor = executor;
-    m_threadName = threadName;
-    m_executor.execute(new P_DispatchLoop());
+    m_shards = new P_TimingWheel[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      m_shards[i] = new P_TimingWheel(shardCount == 1 ? threadName : threadName + "-" + i, TimeUnit.MILLISECONDS.toNanos(tickDurationMillis));
+      m_executor.execute(m_shards[i]);
+    }
   }
 
   /**
@@ -69,27 +105,107 @@ class DelayedExecutor {
    *          the Runnable to be executed some time in the future.
    * @param fireTime
    *          the time the Runnable should commence execution. Must not be <code>null</code>.
+   * @return handle to cancel the Runnable if not run yet.
    */
-  public void schedule(final Runnable runnable, final Date fireTime) {
+  public IRegistrationHandle schedule(final Runnable runnable, final Date fireTime) {
     Assertions.assertNotNull(fireTime, "FireTime must not be null");
-    m_delayedTaskQueue.put(new P_DelayedTask(runnable, fireTime));
+
+    final P_TimingWheel shard = (m_shards.length == 1 ? m_shards[0] : m_shards[Math.floorMod(m_shardSequence.getAndIncrement(), m_shards.length)]);
+    final P_DelayedTask task = new P_DelayedTask(shard, runnable, fireTime.getTime());
+    shard.offer(task);
+    return task::cancel;
+  }
+
+  /**
+   * Returns the number of Runnables which are scheduled but not run or cancelled yet.
+   */
+  public long getPendingCount() {
+    long count = 0;
+    for (final P_TimingWheel shard : m_shards) {
+      count += shard.m_pendingCount.get();
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of Runnables run so far.
+   */
+  public long getFiredCount() {
+    long count = 0;
+    for (final P_TimingWheel shard : m_shards) {
+      count += shard.m_firedCount.sum();
+    }
+    return count;
   }
 
   /**
-   * Returns <code>-1</code> if <code>value1</code> is less than <code>value2</code>, or <code>+1</code> if
-   * <code>value1</code> is greater than <code>value2</code>, or <code>0</code> if the two values are equals.
+   * Returns the number of Runnables cancelled so far.
    */
-  private int signum(final long value1, final long value2) {
-    // do not subtract because of potential overflow.
-    // do not subtract because of potential overflow.
-    return Long.compare(value1, value2);
+  public long getCancelledCount() {
+    long count = 0;
+    for (final P_TimingWheel shard : m_shards) {
+      count += shard.m_cancelledCount.sum();
+    }
+    return count;
+  }
+
+  /**
+   * Returns the maximal time in milliseconds a Runnable was run after its fire time since the last invocation of this
+   * method, and resets that value.
+   */
+  public long getAndResetMaxLagMillis() {
+    long maxLagNanos = 0;
+    for (final P_TimingWheel shard : m_shards) {
+      maxLagNanos = Math.max(maxLagNanos, shard.m_maxLagNanos.getAndSet(0));
+    }
+    return TimeUnit.NANOSECONDS.toMillis(maxLagNanos);
   }
 
   /**
    * Dispatch loop to wait for expired Runnables to be executed. This Runnable runs as long as the executor is not
    * shutdown.
+   * <p>
+   * Buckets and the tick counter are only accessed by the dispatch thread. Other threads hand over new and cancelled
+   * Runnables via concurrent queues.
    */
-  private class P_DispatchLoop implements Runnable {
+  private class P_TimingWheel implements Runnable {
+
+    private final String m_threadName;
+    private final long m_tickNanos;
+    private final long m_startNanos;
+    private final P_Bucket[] m_wheel;
+
+    private final BlockingQueue<P_DelayedTask> m_newTasks = new LinkedBlockingQueue<>();
+    private final Queue<P_DelayedTask> m_cancelledTasks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger m_pendingCount = new AtomicInteger();
+    private final AtomicLong m_maxLagNanos = new AtomicLong();
+    private final LongAdder m_firedCount = new LongAdder();
+    private final LongAdder m_cancelledCount = new LongAdder();
+
+    private long m_tick; // last processed tick
+    private int m_wheelTaskCount; // number of Runnables contained in the buckets
+
+    P_TimingWheel(final String threadName, final long tickNanos) {
+      m_threadName = threadName;
+      m_tickNanos = tickNanos;
+      m_startNanos = System.nanoTime();
+      m_wheel = new P_Bucket[WHEEL_SIZE];
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        m_wheel[i] = new P_Bucket();
+      }
+    }
+
+    void offer(final P_DelayedTask task) {
+      m_pendingCount.incrementAndGet();
+      m_newTasks.add(task);
+    }
+
+    void cancelled(final P_DelayedTask task) {
+      m_pendingCount.decrementAndGet();
+      m_cancelledCount.increment();
+      m_cancelledTasks.add(task);
+    }
 
     @Override
     public void run() {
@@ -97,7 +213,10 @@ class DelayedExecutor {
       try {
         while (!m_executor.isShutdown()) {
           try {
-            m_delayedTaskQueue.take().run(); // 'DelayQueue#take' blocks until a Runnable's delay expired to be executed.
+            awaitNextTickOrTask();
+            transferNewTasks();
+            removeCancelledTasks();
+            runExpiredTasks();
           }
           catch (final InterruptedException e) {
             Thread.interrupted(); // ensure the interrupted status to be cleared.
@@ -111,46 +230,207 @@ class DelayedExecutor {
         ThreadInfo.CURRENT.get().reset();
       }
     }
+
+    /**
+     * Blocks until the next tick elapses, or a new Runnable is scheduled. If the wheel is empty, this method blocks
+     * until a new Runnable is scheduled.
+     */
+    protected void awaitNextTickOrTask() throws InterruptedException {
+      final P_DelayedTask task;
+      if (m_wheelTaskCount == 0) {
+        task = m_newTasks.take();
+        m_tick = Math.max(m_tick, currentTick()); // no need to process the ticks elapsed while the wheel was empty
+      }
+      else {
+        final long sleepNanos = m_startNanos + (m_tick + 1) * m_tickNanos - System.nanoTime();
+        if (sleepNanos <= 0L) {
+          return;
+        }
+        task = m_newTasks.poll(sleepNanos, TimeUnit.NANOSECONDS);
+      }
+
+      if (task != null) {
+        addToWheel(task);
+      }
+    }
+
+    protected void transferNewTasks() {
+      for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+        final P_DelayedTask task = m_newTasks.poll();
+        if (task == null) {
+          return;
+        }
+        addToWheel(task);
+      }
+    }
+
+    protected void removeCancelledTasks() {
+      P_DelayedTask task;
+      while ((task = m_cancelledTasks.poll()) != null) {
+        if (task.m_bucket != null) {
+          task.m_bucket.remove(task);
+          m_wheelTaskCount--;
+        }
+      }
+    }
+
+    /**
+     * Runs all Runnables whose tick elapsed. If more ticks than the wheel's size elapsed, every bucket is visited once.
+     */
+    protected void runExpiredTasks() {
+      final long currentTick = currentTick();
+      if (currentTick <= m_tick) {
+        return;
+      }
+
+      final long ticks = Math.min(currentTick - m_tick, WHEEL_SIZE);
+      for (long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+        runExpiredTasks(m_wheel[(int) (tick & WHEEL_MASK)], currentTick);
+      }
+      m_tick = currentTick;
+    }
+
+    protected void runExpiredTasks(final P_Bucket bucket, final long currentTick) {
+      P_DelayedTask task = bucket.m_head;
+      while (task != null) {
+        final P_DelayedTask next = task.m_next;
+        if (task.m_deadlineTick <= currentTick) {
+          bucket.remove(task);
+          m_wheelTaskCount--;
+
+          if (System.currentTimeMillis() < task.m_fireTimeMillis) {
+            // Wall-clock time did not reach the fire time yet (e.g. due to clock adjustments); defer to the next tick.
+            addToWheel(task, currentTick + 1);
+          }
+          else {
+            runTask(task);
+          }
+        }
+        task = next;
+      }
+    }
+
+    protected void runTask(final P_DelayedTask task) {
+      if (!task.markFired()) {
+        return; // cancelled in the meantime
+      }
+
+      m_pendingCount.decrementAndGet();
+      m_firedCount.increment();
+      final long lagNanos = System.nanoTime() - task.m_dueNanos;
+      m_maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+
+      try {
+        task.m_runnable.run();
+      }
+      catch (final RuntimeException | Error t) { // NOSONAR
+        LOG.error("Unexpected exception while running expired runnable.", t);
+      }
+    }
+
+    protected void addToWheel(final P_DelayedTask task) {
+      if (task.isCancelled()) {
+        return;
+      }
+
+      final long deadlineNanos = task.m_dueNanos - m_startNanos;
+      final long deadlineTick = (deadlineNanos + m_tickNanos - 1) / m_tickNanos; // ceil, so that no Runnable is run before its fire time
+      addToWheel(task, Math.max(deadlineTick, m_tick + 1));
+    }
+
+    protected void addToWheel(final P_DelayedTask task, final long deadlineTick) {
+      task.m_deadlineTick = deadlineTick;
+      m_wheel[(int) (deadlineTick & WHEEL_MASK)].add(task);
+      m_wheelTaskCount++;
+    }
+
+    protected long currentTick() {
+      return (System.nanoTime() - m_startNanos) / m_tickNanos;
+    }
+  }
+
+  /**
+   * Doubly linked list of Runnables, only accessed by the dispatch thread.
+   */
+  private static class P_Bucket {
+
+    private P_DelayedTask m_head;
+    private P_DelayedTask m_tail;
+
+    void add(final P_DelayedTask task) {
+      task.m_bucket = this;
+      task.m_prev = m_tail;
+      task.m_next = null;
+      if (m_tail == null) {
+        m_head = task;
+      }
+      else {
+        m_tail.m_next = task;
+      }
+      m_tail = task;
+    }
+
+    void remove(final P_DelayedTask task) {
+      if (task.m_prev == null) {
+        m_head = task.m_next;
+      }
+      else {
+        task.m_prev.m_next = task.m_next;
+      }
+      if (task.m_next == null) {
+        m_tail = task.m_prev;
+      }
+      else {
+        task.m_next.m_prev = task.m_prev;
+      }
+      task.m_bucket = null;
+      task.m_prev = null;
+      task.m_next = null;
+    }
   }
 
   /**
    * Represents a task to be executed some time in the future.
    */
-  private class P_DelayedTask implements Delayed, Runnable {
+  private static class P_DelayedTask {
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_FIRED = 1;
+    private static final int STATE_CANCELLED = 2;
 
+    private final P_TimingWheel m_timingWheel;
     private final Runnable m_runnable;
-    private final long m_executionTime;
-    private final long m_sequenceNumber;
+    private final long m_fireTimeMillis;
+    private final long m_dueNanos;
+    private final AtomicInteger m_state = new AtomicInteger(STATE_PENDING);
 
-    P_DelayedTask(final Runnable runnable, final Date fireTime) {
+    // only accessed by the dispatch thread
+    private long m_deadlineTick;
+    private P_Bucket m_bucket;
+    private P_DelayedTask m_prev;
+    private P_DelayedTask m_next;
+
+    P_DelayedTask(final P_TimingWheel timingWheel, final Runnable runnable, final long fireTimeMillis) {
+      m_timingWheel = timingWheel;
       m_runnable = runnable;
-      m_executionTime = fireTime.getTime();
-      m_sequenceNumber = m_sequencer.incrementAndGet();
-    }
+      m_fireTimeMillis = fireTimeMillis;
 
-    @Override
-    public void run() {
-      m_runnable.run();
+      // Translate the wall-clock fire time into the monotonic clock; a fire time in the past is due immediately.
+      final long now = System.nanoTime();
+      m_dueNanos = now + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, fireTimeMillis - System.currentTimeMillis()));
     }
 
-    @Override
-    public long getDelay(final TimeUnit unit) {
-      return unit.convert(m_executionTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    boolean markFired() {
+      return m_state.compareAndSet(STATE_PENDING, STATE_FIRED);
     }
 
-    @Override
-    public int compareTo(final Delayed other) {
-      if (other == this) { // NOSONAR
-        return 0;
-      }
+    boolean isCancelled() {
+      return m_state.get() == STATE_CANCELLED;
+    }
 
-      final P_DelayedTask otherDelayedTask = (P_DelayedTask) other;
-      final int signum = signum(m_executionTime, otherDelayedTask.m_executionTime);
-      if (signum != 0) {
-        return signum;
-      }
-      else {
-        return signum(m_sequenceNumber, otherDelayedTask.m_sequenceNumber);
+    void cancel() {
+      if (m_state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+        m_timingWheel.cancelled(this);
       }
     }
   }
@@ -10,29 +10,48 @@
 package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
+import org.eclipse.scout.rt.platform.filter.AndFilter;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
+import org.eclipse.scout.rt.platform.job.filter.future.IFutureIndexKeyContributor;
+import org.eclipse.scout.rt.platform.job.filter.future.IIndexedFutureFilter;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
+import org.eclipse.scout.rt.platform.job.listener.JobEventType;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 
 /**
  * Thread-safe implementation of a {@link Set} to contain {@link IFuture}s.
+ * <p>
+ * Futures are held in a concurrent set and additionally indexed by {@link FutureIndexKey}s, namely by their execution
+ * semaphore, their execution hints and the keys provided by {@link IFutureIndexKeyContributor}s. Filters implementing
+ * {@link IIndexedFutureFilter}, or {@link AndFilter}s containing such a filter, are only evaluated against the Futures
+ * registered under the respective key. The index may contain more Futures than accepted by a filter, but never less,
+ * which is why filters are always evaluated against the candidates of the index.
+ * <p>
+ * Registering and unregistering Futures does not require a global lock. Waiting threads are only signaled if there
+ * are any.
  *
  * @since 5.1
  */
@@ -40,34 +59,39 @@ import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 public class FutureSet {
 
   private final Set<JobFutureTask<?>> m_futures;
+  private final Map<FutureIndexKey, Set<JobFutureTask<?>>> m_index;
 
-  private final ReadLock m_readLock;
-  private final WriteLock m_writeLock;
+  private final ReentrantLock m_changedLock;
   private final Condition m_changedCondition;
+  private final AtomicInteger m_waitingCount;
 
+  private List<IFutureIndexKeyContributor> m_indexKeyContributors;
   private IRegistrationHandle m_jobListenerRegistration;
 
   public FutureSet() {
-    m_futures = new HashSet<>(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_futures = ConcurrentHashMap.newKeySet(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_index = new ConcurrentHashMap<>();
 
-    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    m_readLock = lock.readLock();
-    m_writeLock = lock.writeLock();
-    m_changedCondition = m_writeLock.newCondition();
+    m_changedLock = new ReentrantLock();
+    m_changedCondition = m_changedLock.newCondition();
+    m_waitingCount = new AtomicInteger();
+    m_indexKeyContributors = Collections.emptyList();
   }
 
   /**
    * Invoke to initialize this {@link FutureSet}.
    */
   public void init(final IJobManager jobManager) {
+    m_indexKeyContributors = BEANS.all(IFutureIndexKeyContributor.class);
     m_jobListenerRegistration = jobManager.addListener(newSignalingFilter(), event -> {
-      m_writeLock.lock();
-      try {
-        m_changedCondition.signalAll();
+      final String hint = event.getData().getExecutionHint();
+      if (hint != null && event.getType() == JobEventType.JOB_EXECUTION_HINT_ADDED) {
+        addExecutionHintToIndex((JobFutureTask<?>) event.getData().getFuture(), hint);
       }
-      finally {
-        m_writeLock.unlock();
+      else if (hint != null && event.getType() == JobEventType.JOB_EXECUTION_HINT_REMOVED) {
+        removeFromIndex(FutureIndexKey.ofExecutionHint(hint), (JobFutureTask<?>) event.getData().getFuture());
       }
+      signalChanged();
     });
   }
 
@@ -78,16 +102,10 @@ public class FutureSet {
     m_jobListenerRegistration.dispose();
 
     // Clear and cancel all futures.
-    final List<JobFutureTask<?>> runningFutures;
-    m_writeLock.lock();
-    try {
-      runningFutures = copyFutures();
-      m_futures.clear();
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    final List<JobFutureTask<?>> runningFutures = copyFutures();
+    m_futures.clear();
+    m_index.clear();
+    signalChanged();
 
     for (final JobFutureTask<?> runningFuture : runningFutures) {
       runningFuture.cancel(true);
@@ -98,28 +116,23 @@ public class FutureSet {
    * Adds the given Future to this {@link FutureSet}.
    */
   public void add(final JobFutureTask<?> future) {
-    m_writeLock.lock();
-    try {
-      m_futures.add(future);
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
+    for (final FutureIndexKey indexKey : computeIndexKeys(future)) {
+      addToIndex(indexKey, future);
     }
+    m_futures.add(future);
+    signalChanged();
   }
 
   /**
    * Removes the given Future from this {@link FutureSet}.
    */
   public void remove(final JobFutureTask<?> future) {
-    m_writeLock.lock();
-    try {
-      m_futures.remove(future);
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
+    if (m_futures.remove(future)) {
+      for (final FutureIndexKey indexKey : computeIndexKeys(future)) {
+        removeFromIndex(indexKey, future);
+      }
     }
+    signalChanged();
   }
 
   /**
@@ -133,7 +146,7 @@ public class FutureSet {
    * @return <code>true</code> if all Futures accepted by the specified Filter are successfully matched.
    */
   public boolean matchesEvery(final Predicate<IFuture<?>> filter, final Predicate<JobFutureTask<?>> matcher) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : candidates(filter)) {
       final boolean accepted = (filter == null || filter.test(future));
 
       if (accepted && !matcher.test(future)) {
@@ -147,7 +160,7 @@ public class FutureSet {
    * Returns <code>true</code>, if this {@link FutureSet} contains one Future matching the given filter at minimum.
    */
   public boolean containsSome(final Predicate<IFuture<?>> filter) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : candidates(filter)) {
       if (filter == null || filter.test(future)) {
         return true;
       }
@@ -174,20 +187,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are done, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (!matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    awaitChange(() -> matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER), timeout, unit);
   }
 
   /**
@@ -210,20 +210,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are removed, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (containsSome(filter) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    awaitChange(() -> !containsSome(filter), timeout, unit);
   }
 
   /**
@@ -239,7 +226,7 @@ public class FutureSet {
    */
   public final Set<IFuture<?>> values(final Predicate<IFuture<?>> filter) {
     final Set<IFuture<?>> futures = new HashSet<>();
-    for (final IFuture<?> candidate : copyFutures()) {
+    for (final IFuture<?> candidate : candidates(filter)) {
       if (filter == null || filter.test(candidate)) {
         futures.add(candidate);
       }
@@ -268,12 +255,145 @@ public class FutureSet {
   }
 
   protected List<JobFutureTask<?>> copyFutures() {
-    m_readLock.lock();
+    return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+  }
+
+  /**
+   * Returns a snapshot of the Futures which possibly match the given filter. If the filter is indexed, or is an
+   * {@link AndFilter} containing indexed filters, the Futures of the smallest index bucket are returned. Otherwise, all
+   * Futures are returned.
+   */
+  protected List<JobFutureTask<?>> candidates(final Predicate<IFuture<?>> filter) {
+    final Set<JobFutureTask<?>> bucket = lookupIndex(filter);
+    if (bucket == null) {
+      return copyFutures();
+    }
+    return new ArrayList<>(bucket);
+  }
+
+  /**
+   * Returns the smallest index bucket for the given filter, or <code>null</code> if the filter is not indexed.
+   */
+  @SuppressWarnings("unchecked")
+  protected Set<JobFutureTask<?>> lookupIndex(final Predicate<IFuture<?>> filter) {
+    if (filter instanceof IIndexedFutureFilter) {
+      final FutureIndexKey indexKey = ((IIndexedFutureFilter) filter).getIndexKey();
+      if (indexKey == null) {
+        return null;
+      }
+      return m_index.getOrDefault(indexKey, Collections.emptySet());
+    }
+
+    if (filter instanceof AndFilter) {
+      Set<JobFutureTask<?>> smallestBucket = null;
+      for (final Predicate<IFuture<?>> childFilter : ((AndFilter<IFuture<?>>) filter).getFilters()) {
+        final Set<JobFutureTask<?>> bucket = lookupIndex(childFilter);
+        if (bucket != null && (smallestBucket == null || bucket.size() < smallestBucket.size())) {
+          smallestBucket = bucket;
+        }
+      }
+      return smallestBucket;
+    }
+
+    return null;
+  }
+
+  /**
+   * Computes the keys to index the given Future: its execution semaphore, its execution hints and the keys provided
+   * by {@link IFutureIndexKeyContributor}s.
+   */
+  protected Collection<FutureIndexKey> computeIndexKeys(final JobFutureTask<?> future) {
+    final List<FutureIndexKey> indexKeys = new ArrayList<>();
+
+    final IExecutionSemaphore semaphore = future.getJobInput().getExecutionSemaphore();
+    if (semaphore != null) {
+      indexKeys.add(FutureIndexKey.ofExecutionSemaphore(semaphore));
+    }
+    for (final String hint : future.getExecutionHints()) {
+      if (hint != null) {
+        indexKeys.add(FutureIndexKey.ofExecutionHint(hint));
+      }
+    }
+    for (final IFutureIndexKeyContributor contributor : m_indexKeyContributors) {
+      contributor.contributeIndexKeys(future, indexKeys);
+    }
+    return indexKeys;
+  }
+
+  protected void addToIndex(final FutureIndexKey indexKey, final JobFutureTask<?> future) {
+    m_index.compute(indexKey, (key, bucket) -> {
+      final Set<JobFutureTask<?>> newBucket = (bucket != null ? bucket : ConcurrentHashMap.newKeySet());
+      newBucket.add(future);
+      return newBucket;
+    });
+  }
+
+  protected void removeFromIndex(final FutureIndexKey indexKey, final JobFutureTask<?> future) {
+    m_index.computeIfPresent(indexKey, (key, bucket) -> {
+      bucket.remove(future);
+      return bucket.isEmpty() ? null : bucket;
+    });
+  }
+
+  /**
+   * Indexes the given Future by the given execution hint which was added after registration.
+   */
+  protected void addExecutionHintToIndex(final JobFutureTask<?> future, final String hint) {
+    final FutureIndexKey indexKey = FutureIndexKey.ofExecutionHint(hint);
+    addToIndex(indexKey, future);
+
+    // Undo if the Future was removed concurrently, or is not registered at all.
+    if (!m_futures.contains(future)) {
+      removeFromIndex(indexKey, future);
+    }
+  }
+
+  /**
+   * Signals threads waiting for a change in this {@link FutureSet}. The lock is only acquired if there are waiting
+   * threads.
+   */
+  protected void signalChanged() {
+    if (m_waitingCount.get() == 0) {
+      return;
+    }
+
+    m_changedLock.lock();
+    try {
+      m_changedCondition.signalAll();
+    }
+    finally {
+      m_changedLock.unlock();
+    }
+  }
+
+  /**
+   * Blocks the current thread until the given condition is satisfied, or the timeout elapses.
+   *
+   * @throws InterruptedException
+   *           if the current thread was interrupted while waiting.
+   * @throws TimeoutException
+   *           if the wait timed out.
+   */
+  protected void awaitChange(final BooleanSupplier condition, final long timeout, final TimeUnit unit) throws InterruptedException, TimeoutException {
+    m_waitingCount.incrementAndGet();
     try {
-      return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+      m_changedLock.lockInterruptibly();
+      try {
+        long nanos = unit.toNanos(timeout);
+        while (!condition.getAsBoolean() && nanos > 0L) {
+          nanos = m_changedCondition.awaitNanos(nanos);
+        }
+
+        if (nanos <= 0L) {
+          throw new TimeoutException();
+        }
+      }
+      finally {
+        m_changedLock.unlock();
+      }
     }
     finally {
-      m_readLock.unlock();
+      m_waitingCount.decrementAndGet();
     }
   }
 
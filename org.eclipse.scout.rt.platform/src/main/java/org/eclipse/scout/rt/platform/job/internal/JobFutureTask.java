@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -80,7 +81,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected final CompletionPromise<RESULT> m_completionPromise;
   protected final AtomicBoolean m_finished = new AtomicBoolean(false);
 
-  protected final Set<String> m_executionHints = new HashSet<>();
+  protected final Set<String> m_executionHints = Collections.synchronizedSet(new HashSet<>());
 
   protected final Date m_firstFireTime;
   protected final boolean m_singleExecution;
@@ -101,6 +102,11 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected volatile Thread m_runner;
   protected final Object m_runnerLock = new Object();
 
+  /**
+   * Handle to cancel the pending delayed execution of this task, if scheduled via {@link DelayedExecutor}.
+   */
+  protected volatile IRegistrationHandle m_delayedExecutionHandle = IRegistrationHandle.NULL_HANDLE;
+
   public JobFutureTask(final JobManager jobManager, final RunMonitor runMonitor, final JobInput input, final CallableChain<RESULT> callableChain, final Callable<RESULT> callable) {
     super(() -> callableChain.call(callable) /* run all processors as contained in the chain before invoking the callable */ );
 
@@ -195,6 +201,9 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     changeState(JobState.DONE);
     m_listeners.clear();
 
+    // Remove a pending delayed execution from the scheduler, e.g. if cancelled before the trigger's next fire time.
+    m_delayedExecutionHandle.dispose();
+
     m_runMonitor.unregisterCancellable(this);
     m_completionPromise.done();
     finishInternal();
@@ -256,6 +265,13 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     return m_trigger.mayFireAgain();
   }
 
+  /**
+   * Sets the handle to cancel the pending delayed execution of this task.
+   */
+  protected void setDelayedExecutionHandle(final IRegistrationHandle delayedExecutionHandle) {
+    m_delayedExecutionHandle = delayedExecutionHandle;
+  }
+
   /**
    * Returns the time the job's trigger will fire for the first time.
    */
@@ -321,6 +337,15 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     return m_executionHints.contains(hint);
   }
 
+  /**
+   * Returns a snapshot of the execution hints this Future is currently tagged with.
+   */
+  public Set<String> getExecutionHints() {
+    synchronized (m_executionHints) {
+      return new HashSet<>(m_executionHints);
+    }
+  }
+
   /**
    * Returns <code>true</code> if expired and this job should not commence execution, or else <code>false</code>.
    */
@@ -33,6 +33,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -66,6 +67,9 @@ import org.slf4j.LoggerFactory;
  * jobs, they are first queued via {@link DelayedExecutor}, and will commence execution once the trigger's first fire
  * time elapses. In turn, they are also given to {@link ExecutorService} for execution, so Quartz simply provides the
  * firing facility.
+ * <p>
+ * If {@link JobManagerVirtualThreadsProperty} is enabled and supported by the JVM, jobs are executed on virtual threads
+ * by {@link VirtualThreadExecutor} instead.
  *
  * @since 5.1
  */
@@ -126,7 +130,7 @@ public class JobManager implements IJobManager {
           futureTask.changeState(JobState.PENDING);
         }
 
-        m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime());
+        futureTask.setDelayedExecutionHandle(m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime()));
       }
     }
     catch (final RuntimeException | Error e) { // NOSONAR
@@ -251,6 +255,20 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads not supported by this JVM, using platform threads instead. [property={}, java.version={}]",
+          BEANS.get(JobManagerVirtualThreadsProperty.class).getKey(), System.getProperty("java.version"));
+    }
+    return createThreadPoolExecutor();
+  }
+
+  /**
+   * Creates the executor to run jobs on a pool of platform threads.
+   */
+  protected ExecutorService createThreadPoolExecutor() {
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
@@ -258,19 +276,7 @@ public class JobManager implements IJobManager {
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
     // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
-      if (isShutdown()) {
-        LOG.debug("Job rejected because the job manager is shutdown.");
-      }
-      else {
-        // Do not propagate exception, because the caller is not the submitting thread.
-        LOG.error("Job rejected because no more threads or queue slots available. [runnable={}]", runnable);
-      }
-
-      if (runnable instanceof IRejectableRunnable) {
-        ((IRejectableRunnable) runnable).reject();
-      }
-    };
+    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> handleRejectedExecution(runnable);
 
     final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
     executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
@@ -281,6 +287,30 @@ public class JobManager implements IJobManager {
     return executor;
   }
 
+  /**
+   * Creates the executor to run every job on its own virtual thread.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    return new VirtualThreadExecutor(new VirtualThreadFactory("scout-vthread"), this::handleRejectedExecution);
+  }
+
+  /**
+   * Method invoked if the executor rejects the given runnable.
+   */
+  protected void handleRejectedExecution(final Runnable runnable) {
+    if (isShutdown()) {
+      LOG.debug("Job rejected because the job manager is shutdown.");
+    }
+    else {
+      // Do not propagate exception, because the caller is not the submitting thread.
+      LOG.error("Job rejected because no more threads or queue slots available. [runnable={}]", runnable);
+    }
+
+    if (runnable instanceof IRejectableRunnable) {
+      ((IRejectableRunnable) runnable).reject();
+    }
+  }
+
   /**
    * Returns the internal Executor Service.
    */
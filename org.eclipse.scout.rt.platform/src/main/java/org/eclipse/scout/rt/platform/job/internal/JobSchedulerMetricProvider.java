@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * {@link IMetricProvider} which serves metrics of the scheduler dispatching delayed and repeating jobs (see
+ * {@link DelayedExecutor}).
+ */
+public class JobSchedulerMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobSchedulerMetricProvider.class);
+
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    DelayedExecutor delayedExecutor = BEANS.get(JobManager.class).getDelayedExecutor();
+
+    m_observables.add(meter.upDownCounterBuilder("scout.jobs.scheduler.pending")
+        .setDescription("The number of delayed or repeating job executions waiting for their fire time.")
+        .setUnit("{job}")
+        .buildWithCallback(measurement -> measurement.record(delayedExecutor.getPendingCount())));
+    m_observables.add(meter.counterBuilder("scout.jobs.scheduler.fired")
+        .setDescription("The number of delayed or repeating job executions dispatched since server start.")
+        .setUnit("{job}")
+        .buildWithCallback(measurement -> measurement.record(delayedExecutor.getFiredCount())));
+    m_observables.add(meter.counterBuilder("scout.jobs.scheduler.cancelled")
+        .setDescription("The number of delayed or repeating job executions cancelled before their fire time since server start.")
+        .setUnit("{job}")
+        .buildWithCallback(measurement -> measurement.record(delayedExecutor.getCancelledCount())));
+    m_observables.add(meter.gaugeBuilder("scout.jobs.scheduler.lag")
+        .ofLongs()
+        .setDescription("The maximal delay between the fire time of a job execution and its dispatch since the last observation.")
+        .setUnit("ms")
+        .buildWithCallback(measurement -> measurement.record(delayedExecutor.getAndResetMaxLagMillis())));
+  }
+
+  @Override
+  public void close() {
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * {@link ExecutorService} which runs every task in a new thread obtained from the given {@link ThreadFactory}, which
+ * typically is a {@link VirtualThreadFactory}.
+ * <p>
+ * Unlike a thread pool, threads are not reused. This is cheap for virtual threads, because a blocked virtual thread
+ * only occupies some memory on the heap instead of an operating system thread.
+ * <p>
+ * Tasks submitted after shutdown are passed to the given rejection handler.
+ *
+ * @since 24.2
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService {
+
+  private final ThreadFactory m_threadFactory;
+  private final Consumer<Runnable> m_rejectionHandler;
+
+  private final Set<Thread> m_threads = ConcurrentHashMap.newKeySet();
+  private final ReentrantLock m_terminationLock = new ReentrantLock();
+  private final Condition m_terminatedCondition = m_terminationLock.newCondition();
+  private volatile boolean m_shutdown;
+
+  public VirtualThreadExecutor(final ThreadFactory threadFactory, final Consumer<Runnable> rejectionHandler) {
+    m_threadFactory = Assertions.assertNotNull(threadFactory, "threadFactory must not be null");
+    m_rejectionHandler = Assertions.assertNotNull(rejectionHandler, "rejectionHandler must not be null");
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    if (m_shutdown) {
+      m_rejectionHandler.accept(command);
+      return;
+    }
+
+    final Thread thread = m_threadFactory.newThread(() -> {
+      try {
+        command.run();
+      }
+      finally {
+        m_threads.remove(Thread.currentThread());
+        signalIfTerminated();
+      }
+    });
+    m_threads.add(thread);
+
+    // Re-check to not start a thread which would be missed by 'shutdownNow'.
+    if (m_shutdown) {
+      m_threads.remove(thread);
+      signalIfTerminated();
+      m_rejectionHandler.accept(command);
+      return;
+    }
+
+    thread.start();
+  }
+
+  @Override
+  public void shutdown() {
+    m_shutdown = true;
+    signalIfTerminated();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown();
+    m_threads.forEach(Thread::interrupt);
+    return Collections.emptyList();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return m_shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return m_shutdown && m_threads.isEmpty();
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    m_terminationLock.lock();
+    try {
+      while (!isTerminated()) {
+        if (nanos <= 0L) {
+          return false;
+        }
+        nanos = m_terminatedCondition.awaitNanos(nanos);
+      }
+      return true;
+    }
+    finally {
+      m_terminationLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of threads currently executing a task.
+   */
+  public int getActiveCount() {
+    return m_threads.size();
+  }
+
+  protected void signalIfTerminated() {
+    if (!isTerminated()) {
+      return;
+    }
+    m_terminationLock.lock();
+    try {
+      m_terminatedCondition.signalAll();
+    }
+    finally {
+      m_terminationLock.unlock();
+    }
+  }
+}
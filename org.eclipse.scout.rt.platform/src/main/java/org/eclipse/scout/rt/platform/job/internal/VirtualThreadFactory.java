@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.MDC;
+
+/**
+ * Thread factory for named virtual threads and to handle uncaught exceptions.
+ * <p>
+ * Virtual threads are available since Java 21. Because the platform is compiled against an older Java release, the
+ * virtual thread builder is obtained reflectively. Use {@link #isSupported()} to check whether the running JVM
+ * supports virtual threads.
+ *
+ * @since 24.2
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    Assertions.assertTrue(isSupported(), "Virtual threads are not supported by this JVM [java.version={}]", System.getProperty("java.version"));
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = VIRTUAL_THREAD_FACTORY.newThread(() -> {
+      // Virtual threads inherit inheritable thread locals by default, so clear the Mapped Diagnostic Context (MDC) of the creating thread.
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, getThreadName(), nextSequence()));
+
+    // Virtual threads are always daemon threads and have a fixed priority.
+    thread.setUncaughtExceptionHandler(this);
+
+    return thread;
+  }
+
+  /**
+   * Returns <code>true</code> if the running JVM supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  /**
+   * Creates the JVM's virtual thread factory by invoking <code>Thread.ofVirtual().factory()</code>, or returns
+   * <code>null</code> if not supported.
+   */
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    }
+    catch (final ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      LOG.debug("Virtual threads not supported by this JVM", e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,877 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A thread-safe concurrent map with a strict bound on the total weight of its entries (by default every entry has the
+ * weight 1, hence the bound is the maximum number of entries).
+ * <p>
+ * Entries are evicted using the <em>W-TinyLFU</em> policy: new entries are first kept in a small LRU admission window
+ * (1% of the maximum weight). An entry leaving the window is only admitted to the main space if it was accessed more
+ * frequently than the entry the main space would have to evict for it. The main space is a segmented LRU with a
+ * probation and a protected (80%) segment. Access frequencies are estimated by a count-min sketch with 4-bit counters
+ * that are periodically halved, so that the history ages. If the frequency admission is disabled, the map behaves like
+ * a plain LRU map.
+ * <p>
+ * All policy operations take amortized constant time. Reads never block: they are served by the underlying
+ * {@link ConcurrentHashMap} and recorded in a lossy buffer that is applied to the policy by the next write or as soon
+ * as the buffer is half full. Writes are serialized by a lock.
+ * <p>
+ * If a time to live is set, expired entries are removed lazily when they are accessed or when they are evicted.
+ * <p>
+ * Every time an entry is evicted (because the map is full or because its time to live elapsed),
+ * {@link #execEntryEvicted(Object, Object)} is called. Hit, miss and eviction counts are available by
+ * {@link #getHitCount()}, {@link #getMissCount()} and {@link #getEvictionCount()}.
+ * <p>
+ * This class does neither allow <tt>null</tt> keys nor <tt>null</tt> values.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 24.2
+ */
+@SuppressWarnings("squid:S2160")
+public class ConcurrentBoundedMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+  private static final int READ_BUFFER_SIZE = 128;
+  private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+
+  private static final byte WINDOW = 1;
+  private static final byte PROBATION = 2;
+  private static final byte PROTECTED = 3;
+
+  private final ConcurrentHashMap<K, Node<K, V>> m_data;
+  private final long m_maximumWeight;
+  private final ToIntBiFunction<? super K, ? super V> m_weigher;
+  private final boolean m_frequencyAdmission;
+  private final long m_timeToLive;
+  private final boolean m_touchOnGet;
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+
+  private final AtomicReferenceArray<Node<K, V>> m_readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+  private final AtomicLong m_readBufferWriteIndex = new AtomicLong();
+  private volatile long m_readBufferReadIndex; // written while holding m_evictionLock only
+
+  // guarded by m_evictionLock
+  private final ReentrantLock m_evictionLock = new ReentrantLock();
+  private final AccessOrderDeque<K, V> m_window = new AccessOrderDeque<>();
+  private final AccessOrderDeque<K, V> m_probation = new AccessOrderDeque<>();
+  private final AccessOrderDeque<K, V> m_protected = new AccessOrderDeque<>();
+  private final FrequencySketch m_sketch = new FrequencySketch();
+  private final long m_windowMaximum;
+  private final long m_protectedMaximum;
+  private long m_weightedSize;
+  private long m_windowWeightedSize;
+  private long m_protectedWeightedSize;
+
+  /**
+   * Creates a new map holding at most <tt>maximumSize</tt> entries using the W-TinyLFU policy.
+   */
+  public ConcurrentBoundedMap(long maximumSize) {
+    this(maximumSize, null, true, -1, false);
+  }
+
+  /**
+   * @param maximumWeight
+   *          the maximum total weight of all entries
+   * @param weigher
+   *          computes the weight of an entry, must not return a negative value. If <tt>null</tt>, every entry has the
+   *          weight 1.
+   * @param frequencyAdmission
+   *          if true, the W-TinyLFU policy is used. Otherwise the least recently used entry is evicted.
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation resets the time to live of an entry
+   * @throws IllegalArgumentException
+   *           if maximumWeight is negative
+   */
+  public ConcurrentBoundedMap(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher, boolean frequencyAdmission, long timeToLiveDurationMillis, boolean touchOnGet) {
+    if (maximumWeight < 0) {
+      throw new IllegalArgumentException("maximumWeight cannot be negative");
+    }
+    m_data = new ConcurrentHashMap<>();
+    m_maximumWeight = maximumWeight;
+    m_weigher = weigher;
+    m_frequencyAdmission = frequencyAdmission;
+    m_timeToLive = timeToLiveDurationMillis;
+    m_touchOnGet = touchOnGet;
+    m_windowMaximum = frequencyAdmission ? Math.max(1L, maximumWeight / 100) : maximumWeight;
+    m_protectedMaximum = (maximumWeight - m_windowMaximum) * 4 / 5;
+    if (weigher == null) {
+      // presize the sketch for small maps, larger sketches grow with the map
+      m_sketch.ensureCapacity((int) Math.min(maximumWeight, 1 << 16));
+    }
+  }
+
+  public long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  public boolean isFrequencyAdmission() {
+    return m_frequencyAdmission;
+  }
+
+  public long getTimeToLive() {
+    return m_timeToLive;
+  }
+
+  public boolean isTouchOnGet() {
+    return m_touchOnGet;
+  }
+
+  /**
+   * @return number of {@link #get(Object)} calls that found a valid entry
+   */
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  /**
+   * @return number of {@link #get(Object)} calls that found no valid entry
+   */
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return number of entries evicted because the map was full or because their time to live elapsed
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  /**
+   * @return total weight of all entries (including not yet removed expired entries)
+   */
+  public long getWeightedSize() {
+    m_evictionLock.lock();
+    try {
+      return m_weightedSize;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    return m_data.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !entrySet().iterator().hasNext();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return getValidNode(key) != null;
+  }
+
+  @Override
+  public V get(Object key) {
+    Node<K, V> node = getValidNode(key);
+    if (node == null) {
+      m_missCount.increment();
+      return null;
+    }
+    m_hitCount.increment();
+    if (m_touchOnGet && m_timeToLive > 0) {
+      node.m_writeTime = System.currentTimeMillis();
+    }
+    afterRead(node);
+    return node.m_value;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    return put(key, value, false);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    return put(key, value, true);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+      put(e.getKey(), e.getValue(), false);
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    if (key == null) {
+      return null;
+    }
+    m_evictionLock.lock();
+    try {
+      Node<K, V> node = m_data.remove(key);
+      if (node == null) {
+        return null;
+      }
+      unlink(node);
+      return isExpired(node) ? null : node.m_value;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    if (key == null || value == null) {
+      return false;
+    }
+    m_evictionLock.lock();
+    try {
+      Node<K, V> node = m_data.get(key);
+      if (node == null || isExpired(node) || !value.equals(node.m_value)) {
+        return false;
+      }
+      m_data.remove(key);
+      unlink(node);
+      return true;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    assertNotNull(key, newValue);
+    if (oldValue == null) {
+      return false;
+    }
+    m_evictionLock.lock();
+    try {
+      Node<K, V> node = m_data.get(key);
+      if (node == null || isExpired(node) || !oldValue.equals(node.m_value)) {
+        return false;
+      }
+      update(node, newValue);
+      evictEntries();
+      return true;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    assertNotNull(key, value);
+    m_evictionLock.lock();
+    try {
+      Node<K, V> node = m_data.get(key);
+      if (node == null || isExpired(node)) {
+        return null;
+      }
+      V oldValue = node.m_value;
+      update(node, value);
+      evictEntries();
+      return oldValue;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    m_evictionLock.lock();
+    try {
+      m_data.clear();
+      m_window.clear();
+      m_probation.clear();
+      m_protected.clear();
+      m_weightedSize = 0;
+      m_windowWeightedSize = 0;
+      m_protectedWeightedSize = 0;
+      // pending reads of removed nodes are ignored when the buffer is drained
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  /**
+   * Called when the map evicted an entry because its time to live elapsed or because the map exceeded its maximum
+   * weight. This method is called while holding the internal write lock and should therefore return quickly.
+   */
+  protected void execEntryEvicted(K key, V value) {
+    // hook method for subclasses
+  }
+
+  protected V put(K key, V value, boolean onlyIfAbsent) {
+    assertNotNull(key, value);
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      Node<K, V> node = m_data.get(key);
+      if (node != null && isExpired(node)) {
+        m_data.remove(key);
+        unlink(node);
+        notifyEvicted(node);
+        node = null;
+      }
+      if (node != null) {
+        V oldValue = node.m_value;
+        if (!onlyIfAbsent) {
+          update(node, value);
+        }
+        onAccess(node);
+        evictEntries();
+        return oldValue;
+      }
+
+      node = new Node<>(key, value, weigh(key, value));
+      m_data.put(key, node);
+      m_sketch.ensureCapacity(m_data.size());
+      m_sketch.increment(key);
+      m_window.addLast(node);
+      node.m_queue = WINDOW;
+      m_weightedSize += node.m_weight;
+      m_windowWeightedSize += node.m_weight;
+      evictEntries();
+      return null;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  protected Node<K, V> getValidNode(Object key) {
+    if (key == null) {
+      return null;
+    }
+    Node<K, V> node = m_data.get(key);
+    if (node == null) {
+      return null;
+    }
+    if (isExpired(node)) {
+      expire(node);
+      return null;
+    }
+    return node;
+  }
+
+  protected boolean isExpired(Node<K, V> node) {
+    return m_timeToLive > 0 && node.m_writeTime + m_timeToLive <= System.currentTimeMillis();
+  }
+
+  protected void expire(Node<K, V> node) {
+    m_evictionLock.lock();
+    try {
+      if (m_data.remove(node.m_key, node)) {
+        unlink(node);
+        notifyEvicted(node);
+      }
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  protected int weigh(K key, V value) {
+    if (m_weigher == null) {
+      return 1;
+    }
+    int weight = m_weigher.applyAsInt(key, value);
+    if (weight < 0) {
+      throw new IllegalArgumentException("weight cannot be negative");
+    }
+    return weight;
+  }
+
+  /**
+   * Records a read access in the lossy read buffer. The buffer is applied to the policy as soon as it is half full, if
+   * the lock is not held by another thread.
+   */
+  protected void afterRead(Node<K, V> node) {
+    long writeIndex = m_readBufferWriteIndex.get();
+    long pending = writeIndex - m_readBufferReadIndex;
+    if (pending < READ_BUFFER_SIZE && m_readBufferWriteIndex.compareAndSet(writeIndex, writeIndex + 1)) {
+      m_readBuffer.lazySet((int) (writeIndex & READ_BUFFER_MASK), node);
+      pending++;
+    }
+    // else: buffer is full or contended, drop the read access
+    if (pending >= READ_BUFFER_DRAIN_THRESHOLD && m_evictionLock.tryLock()) {
+      try {
+        drainReadBuffer();
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  protected void drainReadBuffer() {
+    long readIndex = m_readBufferReadIndex;
+    long writeIndex = m_readBufferWriteIndex.get();
+    while (readIndex < writeIndex) {
+      int slot = (int) (readIndex & READ_BUFFER_MASK);
+      Node<K, V> node = m_readBuffer.get(slot);
+      if (node == null) {
+        // slot reserved but not yet written
+        break;
+      }
+      m_readBuffer.lazySet(slot, null);
+      readIndex++;
+      onAccess(node);
+    }
+    m_readBufferReadIndex = readIndex;
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  protected void onAccess(Node<K, V> node) {
+    if (node.m_queue == 0) {
+      // removed meanwhile
+      return;
+    }
+    m_sketch.increment(node.m_key);
+    switch (node.m_queue) {
+      case WINDOW:
+        m_window.moveToLast(node);
+        break;
+      case PROBATION:
+        // promote to protected segment
+        m_probation.remove(node);
+        m_protected.addLast(node);
+        node.m_queue = PROTECTED;
+        m_protectedWeightedSize += node.m_weight;
+        demoteFromProtected();
+        break;
+      case PROTECTED:
+        m_protected.moveToLast(node);
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  protected void update(Node<K, V> node, V value) {
+    int weight = weigh(node.m_key, value);
+    int weightDiff = weight - node.m_weight;
+    node.m_value = value;
+    node.m_weight = weight;
+    node.m_writeTime = System.currentTimeMillis();
+    m_weightedSize += weightDiff;
+    if (node.m_queue == WINDOW) {
+      m_windowWeightedSize += weightDiff;
+    }
+    else if (node.m_queue == PROTECTED) {
+      m_protectedWeightedSize += weightDiff;
+    }
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  protected void unlink(Node<K, V> node) {
+    switch (node.m_queue) {
+      case WINDOW:
+        m_window.remove(node);
+        m_windowWeightedSize -= node.m_weight;
+        break;
+      case PROBATION:
+        m_probation.remove(node);
+        break;
+      case PROTECTED:
+        m_protected.remove(node);
+        m_protectedWeightedSize -= node.m_weight;
+        break;
+      default:
+        return;
+    }
+    node.m_queue = 0;
+    m_weightedSize -= node.m_weight;
+  }
+
+  protected void demoteFromProtected() {
+    while (m_protectedWeightedSize > m_protectedMaximum) {
+      Node<K, V> demoted = m_protected.pollFirst();
+      if (demoted == null) {
+        break;
+      }
+      m_protectedWeightedSize -= demoted.m_weight;
+      m_probation.addLast(demoted);
+      demoted.m_queue = PROBATION;
+    }
+  }
+
+  /**
+   * Moves the entries exceeding the window to the probation segment and evicts entries until the map is within its
+   * maximum weight. An entry leaving the window (the candidate) is compared with the least recently used entry of the
+   * probation segment (the victim); the one with the lower estimated access frequency is evicted.
+   * <p>
+   * Must be called while holding the lock.
+   */
+  protected void evictEntries() {
+    Node<K, V> candidate = null;
+    while (m_windowWeightedSize > m_windowMaximum) {
+      Node<K, V> node = m_window.pollFirst();
+      if (node == null) {
+        break;
+      }
+      m_windowWeightedSize -= node.m_weight;
+      m_probation.addLast(node);
+      node.m_queue = PROBATION;
+      if (candidate == null) {
+        candidate = node;
+      }
+    }
+
+    while (m_weightedSize > m_maximumWeight) {
+      Node<K, V> victim = m_probation.peekFirst();
+      if (victim == null) {
+        victim = m_protected.peekFirst();
+      }
+      if (victim == null) {
+        victim = m_window.peekFirst();
+      }
+      if (victim == null) {
+        break;
+      }
+      if (!m_frequencyAdmission || candidate == null || candidate == victim) {
+        if (candidate == victim) {
+          candidate = candidate.m_next;
+        }
+        evict(victim);
+        continue;
+      }
+      Node<K, V> nextCandidate = candidate.m_next;
+      if (admit(candidate, victim)) {
+        evict(victim);
+      }
+      else {
+        evict(candidate);
+      }
+      candidate = nextCandidate;
+    }
+  }
+
+  protected boolean admit(Node<K, V> candidate, Node<K, V> victim) {
+    return m_sketch.frequency(candidate.m_key) > m_sketch.frequency(victim.m_key);
+  }
+
+  protected void evict(Node<K, V> node) {
+    m_data.remove(node.m_key, node);
+    unlink(node);
+    notifyEvicted(node);
+  }
+
+  protected void notifyEvicted(Node<K, V> node) {
+    m_evictionCount.increment();
+    execEntryEvicted(node.m_key, node.m_value);
+  }
+
+  private static void assertNotNull(Object key, Object value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      Node<K, V> node = getValidNode(e.getKey());
+      return node != null && node.m_value.equals(e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return ConcurrentBoundedMap.this.remove(e.getKey(), e.getValue());
+    }
+
+    @Override
+    public int size() {
+      return ConcurrentBoundedMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      ConcurrentBoundedMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<Node<K, V>> m_nodeIterator = m_data.values().iterator();
+    private Entry<K, V> m_nextEntry;
+    private Entry<K, V> m_lastReturned;
+
+    EntryIterator() {
+      advance();
+    }
+
+    void advance() {
+      m_nextEntry = null;
+      while (m_nodeIterator.hasNext()) {
+        Node<K, V> node = m_nodeIterator.next();
+        if (!isExpired(node)) {
+          m_nextEntry = new WriteThroughEntry(node.m_key, node.m_value);
+          break;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return m_nextEntry != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (m_nextEntry == null) {
+        throw new NoSuchElementException();
+      }
+      m_lastReturned = m_nextEntry;
+      advance();
+      return m_lastReturned;
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      ConcurrentBoundedMap.this.remove(m_lastReturned.getKey());
+      m_lastReturned = null;
+    }
+  }
+
+  private final class WriteThroughEntry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    WriteThroughEntry(K k, V v) {
+      super(k, v);
+    }
+
+    @Override
+    public V setValue(V value) {
+      V v = super.setValue(value);
+      ConcurrentBoundedMap.this.put(getKey(), value);
+      return v;
+    }
+  }
+
+  protected static final class Node<K, V> {
+    private final K m_key;
+    private volatile V m_value;
+    private volatile long m_writeTime;
+
+    // guarded by m_evictionLock
+    private int m_weight;
+    private byte m_queue;
+    private Node<K, V> m_prev;
+    private Node<K, V> m_next;
+
+    Node(K key, V value, int weight) {
+      m_key = key;
+      m_value = value;
+      m_weight = weight;
+      m_writeTime = System.currentTimeMillis();
+    }
+  }
+
+  /**
+   * Doubly linked list of nodes in access order (least recently used first) with constant time removal.
+   */
+  private static final class AccessOrderDeque<K, V> {
+    private Node<K, V> m_first;
+    private Node<K, V> m_last;
+
+    Node<K, V> peekFirst() {
+      return m_first;
+    }
+
+    Node<K, V> pollFirst() {
+      Node<K, V> node = m_first;
+      if (node != null) {
+        remove(node);
+      }
+      return node;
+    }
+
+    void addLast(Node<K, V> node) {
+      node.m_prev = m_last;
+      node.m_next = null;
+      if (m_last == null) {
+        m_first = node;
+      }
+      else {
+        m_last.m_next = node;
+      }
+      m_last = node;
+    }
+
+    void moveToLast(Node<K, V> node) {
+      if (node != m_last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+
+    void remove(Node<K, V> node) {
+      Node<K, V> prev = node.m_prev;
+      Node<K, V> next = node.m_next;
+      if (prev == null) {
+        m_first = next;
+      }
+      else {
+        prev.m_next = next;
+      }
+      if (next == null) {
+        m_last = prev;
+      }
+      else {
+        next.m_prev = prev;
+      }
+      node.m_prev = null;
+      node.m_next = null;
+    }
+
+    void clear() {
+      Node<K, V> node = m_first;
+      while (node != null) {
+        Node<K, V> next = node.m_next;
+        node.m_prev = null;
+        node.m_next = null;
+        node.m_queue = 0;
+        node = next;
+      }
+      m_first = null;
+      m_last = null;
+    }
+  }
+
+  /**
+   * Count-min sketch with four 4-bit counters per key, used to estimate the access frequency of keys. All counters are
+   * halved after a sample of ten times the table size, so that old accesses lose their weight. Not thread-safe.
+   */
+  private static final class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 24;
+
+    private long[] m_table = new long[16];
+    private int m_sampleSize = 10 * 16;
+    private int m_size;
+
+    /**
+     * Grows the table (and loses all counts) if the number of entries exceeds its size.
+     */
+    void ensureCapacity(int entryCount) {
+      if (entryCount <= m_table.length || m_table.length >= MAXIMUM_TABLE_SIZE) {
+        return;
+      }
+      int tableSize = Math.min(MAXIMUM_TABLE_SIZE, Integer.highestOneBit(entryCount - 1) << 1);
+      m_table = new long[tableSize];
+      m_sampleSize = 10 * tableSize;
+      m_size = 0;
+    }
+
+    int frequency(Object key) {
+      int hash = spread(key.hashCode());
+      int frequency = 15;
+      for (int i = 0; i < SEEDS.length; i++) {
+        long h = indexHash(hash, i);
+        int index = (int) h & (m_table.length - 1);
+        int shift = (int) ((h >>> 48) & 15) << 2;
+        frequency = Math.min(frequency, (int) ((m_table[index] >>> shift) & 15L));
+      }
+      return frequency;
+    }
+
+    void increment(Object key) {
+      int hash = spread(key.hashCode());
+      boolean added = false;
+      for (int i = 0; i < SEEDS.length; i++) {
+        long h = indexHash(hash, i);
+        int index = (int) h & (m_table.length - 1);
+        int shift = (int) ((h >>> 48) & 15) << 2;
+        if (((m_table[index] >>> shift) & 15L) < 15L) {
+          m_table[index] += 1L << shift;
+          added = true;
+        }
+      }
+      if (added && ++m_size >= m_sampleSize) {
+        reset();
+      }
+    }
+
+    private void reset() {
+      for (int i = 0; i < m_table.length; i++) {
+        m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+      }
+      m_size /= 2;
+    }
+
+    private static long indexHash(int hash, int i) {
+      long h = (hash + SEEDS[i]) * SEEDS[i];
+      return h + (h >>> 32);
+    }
+
+    private static int spread(int x) {
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      return (x >>> 16) ^ x;
+    }
+  }
+}
@@ -312,6 +312,28 @@ public class SelectInputBindTest {
 
   }
 
+  /**
+   * Batch update from an array, sent to the database as JDBC batches.
+   */
+  @Test
+  public void testJdbcBatchUpdateFromArray() {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      protected int getConfiguredJdbcBatchSize() {
+        return 2;
+      }
+    };
+
+    Long person = 9L;
+    Long[] roles = new Long[]{5L, 6L, 5L};
+    int rowCount = sql.update("UDPATE this_table SET v = :value where r = :{roles} and p = :personNr", new NVPair("personNr", person), new NVPair("roles", roles), new NVPair("value", "lorem"));
+    assertEquals(3, rowCount);
+    assertEquals(PREPARE_STATEMENT + OBJECTS_RECORD_1 + ADD_BATCH + OBJECTS_RECORD_2 + ADD_BATCH + EXECUTE_BATCH
+        + PREPARE_STATEMENT + OBJECTS_RECORD_1 + ADD_BATCH + EXECUTE_BATCH, sql.getProtocol().toString());
+  }
+
+  private static final String ADD_BATCH = "PreparedStatement.addBatch()\n";
+  private static final String EXECUTE_BATCH = "PreparedStatement.executeBatch()\n";
   private static final String PREPARE_STATEMENT = "Connection.prepareStatement(UDPATE this_table SET v = ? where r = ? and p = ?)\n";
   private static final String OBJECTS_RECORD_1 = "PreparedStatement.setObject(1, lorem, 12)\n"
       + "PreparedStatement.setObject(2, 5, -5)\n"
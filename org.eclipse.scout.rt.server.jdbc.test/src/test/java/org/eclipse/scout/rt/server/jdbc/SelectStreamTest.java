@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService} (using the mock {@link SqlServiceMock}). Methods under test
+ * {@link ISqlService#selectStream(String, ISqlRowMapper, Object...)}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class SelectStreamTest {
+
+  private SqlServiceMock m_sqlService;
+  private List<IBean<?>> m_beans;
+
+  @Before
+  public void before() {
+    m_sqlService = new SqlServiceMock();
+    m_sqlService.setResultData(new Object[][]{{1L, "a"}, {2L, "b"}, {3L, null}});
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(ISqlService.class).withInitialInstance(m_sqlService).withApplicationScoped(true));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testStream() {
+    try (Stream<Long> ids = SQL.stream("SELECT A, B FROM T", row -> row.getLong(1))) {
+      assertEquals(Arrays.asList(1L, 2L, 3L), ids.collect(Collectors.toList()));
+    }
+    assertTrue(m_sqlService.getProtocol().toString().contains("PreparedStatement.setFetchSize(1000)"));
+  }
+
+  @Test
+  public void testRowAccess() {
+    try (Stream<String> rows = SQL.stream("SELECT A, B FROM T", row -> row.getRowIndex() + ":" + row.getString(2) + ":" + row.getColumnCount())) {
+      assertEquals(Arrays.asList("0:a:2", "1:b:2", "2:null:2"), rows.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void testToArray() {
+    try (Stream<Object[]> rows = SQL.stream("SELECT A, B FROM T", ISqlRow::toArray)) {
+      Iterator<Object[]> it = rows.iterator();
+      assertArrayEquals(new Object[]{1L, "a"}, it.next());
+      assertArrayEquals(new Object[]{2L, "b"}, it.next());
+      assertArrayEquals(new Object[]{3L, null}, it.next());
+      assertFalse(it.hasNext());
+    }
+  }
+
+  @Test
+  public void testPartialConsumption() {
+    try (Stream<Long> ids = SQL.stream("SELECT A, B FROM T", row -> row.getLong(1))) {
+      assertEquals(Long.valueOf(1L), ids.findFirst().get());
+    }
+  }
+}
@@ -15,10 +15,13 @@ import java.lang.reflect.Proxy;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLWarning;
+import java.util.Arrays;
 
 public class PreparedStatementMock extends VerboseMock implements InvocationHandler/*, java.sql.PreparedStatement*/ {
   private final PreparedStatement m_ps;
   private final Object[][] m_resultData;
+  private int m_batchCount;
+  private int m_fetchSize;
 
   public PreparedStatementMock(StringBuffer protocol) {
     this(protocol, null);
@@ -78,7 +81,32 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
     return new ResultSetMock(getProtocol(), m_resultData).getResultSet();
   }
 
+  public int getFetchSize() {
+    return m_fetchSize;
+  }
+
+  public void setFetchSize(int rows) {
+    m_fetchSize = rows;
+  }
+
   public int executeUpdate() {
     return 0;
   }
+
+  public void addBatch() {
+    log(PreparedStatement.class, "addBatch");
+    m_batchCount++;
+  }
+
+  public void clearBatch() {
+    m_batchCount = 0;
+  }
+
+  public int[] executeBatch() {
+    log(PreparedStatement.class, "executeBatch");
+    int[] updateCounts = new int[m_batchCount];
+    Arrays.fill(updateCounts, 1);
+    m_batchCount = 0;
+    return updateCounts;
+  }
 }
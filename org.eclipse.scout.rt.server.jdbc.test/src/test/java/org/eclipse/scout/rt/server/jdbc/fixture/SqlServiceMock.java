@@ -10,9 +10,11 @@
 package org.eclipse.scout.rt.server.jdbc.fixture;
 
 import java.sql.Connection;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.ISqlRowMapper;
 import org.eclipse.scout.rt.server.jdbc.SQL;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
@@ -77,6 +79,11 @@ public class SqlServiceMock extends AbstractSqlService {
     return createStatementProcessor(s, bindBases, 0).processSelect(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public <T> Stream<T> selectStream(String s, ISqlRowMapper<T> mapper, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectStream(getTransaction(), new PreparedStatementCache(1), mapper);
+  }
+
   @Override
   public void selectInto(String s, Object... bindBases) {
     createPlainTextLog(s, bindBases);
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConnectionStatementCacheTest {
+
+  private final AtomicInteger m_prepareCount = new AtomicInteger();
+  private final Set<Object> m_closedStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+  private Connection m_conn;
+  private ConnectionStatementCache.Statistics m_statistics;
+  private ConnectionStatementCache m_cache;
+
+  @Before
+  public void before() {
+    m_conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+      if ("prepareStatement".equals(method.getName())) {
+        m_prepareCount.incrementAndGet();
+        return createStatement();
+      }
+      return null;
+    });
+    m_statistics = new ConnectionStatementCache.Statistics();
+    m_cache = new ConnectionStatementCache(m_conn, 2, m_statistics);
+  }
+
+  @Test
+  public void testReuseAcrossUses() throws SQLException {
+    PreparedStatement ps1 = m_cache.getPreparedStatement(m_conn, "SELECT 1");
+    m_cache.releasePreparedStatement(ps1);
+    PreparedStatement ps2 = m_cache.getPreparedStatement(m_conn, "SELECT 1");
+    m_cache.releasePreparedStatement(ps2);
+
+    assertSame(ps1, ps2);
+    assertEquals(1, m_prepareCount.get());
+    assertEquals(1, m_statistics.getHitCount());
+    assertEquals(1, m_statistics.getMissCount());
+    assertTrue(m_closedStatements.isEmpty());
+  }
+
+  @Test
+  public void testRepeatedRelease() throws SQLException {
+    PreparedStatement ps = m_cache.getPreparedStatement(m_conn, "SELECT 1");
+    m_cache.releasePreparedStatement(ps);
+    m_cache.releasePreparedStatement(ps);
+    assertFalse(m_closedStatements.contains(ps));
+    assertSame(ps, m_cache.getPreparedStatement(m_conn, "SELECT 1"));
+  }
+
+  @Test
+  public void testStatementInUse() throws SQLException {
+    PreparedStatement ps1 = m_cache.getPreparedStatement(m_conn, "SELECT 1");
+    PreparedStatement ps2 = m_cache.getPreparedStatement(m_conn, "SELECT 1");
+    assertNotSame(ps1, ps2);
+
+    m_cache.releasePreparedStatement(ps2);
+    assertTrue(m_closedStatements.contains(ps2));
+    m_cache.releasePreparedStatement(ps1);
+    assertFalse(m_closedStatements.contains(ps1));
+    assertEquals(1, m_cache.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEviction() throws SQLException {
+    PreparedStatement ps1 = m_cache.getPreparedStatement(m_conn, "SELECT 1");
+    m_cache.releasePreparedStatement(ps1);
+    PreparedStatement ps2 = m_cache.getPreparedStatement(m_conn, "SELECT 2");
+    m_cache.releasePreparedStatement(ps2);
+    // touch first statement, so that the second one is the least recently used
+    m_cache.releasePreparedStatement(m_cache.getPreparedStatement(m_conn, "SELECT 1"));
+
+    PreparedStatement ps3 = m_cache.getPreparedStatement(m_conn, "SELECT 3");
+    assertTrue(m_closedStatements.contains(ps2));
+    assertFalse(m_closedStatements.contains(ps1));
+
+    // evicted while in use: closed upon release
+    PreparedStatement ps1Again = m_cache.getPreparedStatement(m_conn, "SELECT 1");
+    assertSame(ps1, ps1Again);
+    PreparedStatement ps4 = m_cache.getPreparedStatement(m_conn, "SELECT 4");
+    assertFalse(m_closedStatements.contains(ps3));
+    m_cache.releasePreparedStatement(ps3);
+    assertTrue(m_closedStatements.contains(ps3));
+
+    m_cache.releasePreparedStatement(ps1Again);
+    m_cache.releasePreparedStatement(ps4);
+    assertFalse(m_closedStatements.contains(ps1));
+    assertFalse(m_closedStatements.contains(ps4));
+    assertEquals(2, m_cache.size());
+  }
+
+  protected PreparedStatement createStatement() {
+    return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "close":
+          m_closedStatements.add(proxy);
+          return null;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          return null;
+      }
+    });
+  }
+}
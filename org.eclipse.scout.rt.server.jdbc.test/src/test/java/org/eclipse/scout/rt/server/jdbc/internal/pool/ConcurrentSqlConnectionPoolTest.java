@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ConcurrentSqlConnectionPoolTest {
+
+  private P_ConnectionPool m_pool;
+  private AbstractSqlService m_service;
+
+  @Before
+  public void before() {
+    m_service = new SqlServiceMock() {
+      @Override
+      protected void execTestConnection(Connection conn) {
+        // connections are always valid
+      }
+    };
+    m_pool = new P_ConnectionPool();
+    m_pool.initialize("test", 2, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(1));
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testReuseConnection() throws Exception {
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn1);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn2);
+
+    assertSame(conn1, conn2);
+    assertEquals(1, m_pool.m_createCount.get());
+  }
+
+  @Test
+  public void testPoolSizeLimit() throws Exception {
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    assertNotSame(conn1, conn2);
+
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    // the third lease waits until a connection is released
+    assertFalse(future.isDone());
+    Thread.sleep(100);
+    assertFalse(future.isDone());
+
+    m_pool.releaseConnection(conn2);
+    Connection conn3 = future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    assertSame(conn2, conn3);
+    assertEquals(2, m_pool.m_createCount.get());
+
+    m_pool.releaseConnection(conn1);
+    m_pool.releaseConnection(conn3);
+  }
+
+  @Test
+  public void testDirtyConnectionIsReplaced() throws Exception {
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    m_pool.m_closed = true;
+    m_pool.releaseConnection(conn1);
+    m_pool.m_closed = false;
+
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn2);
+    assertNotSame(conn1, conn2);
+    assertEquals(2, m_pool.m_createCount.get());
+  }
+
+  @Test
+  public void testBorrowWaitsForRelease() throws Exception {
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+
+    // bypass the lease permits to simulate the moment in which a permit was returned before its connection
+    IFuture<?> future = Jobs.schedule(() -> m_pool.borrowEntry(m_service), Jobs.newInput());
+    Thread.sleep(100);
+    assertFalse(future.isDone());
+
+    m_pool.releaseConnection(conn2);
+    assertNotNull(future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    // the released connection was reserved instead of creating a new one
+    assertEquals(2, m_pool.m_createCount.get());
+
+    m_pool.releaseConnection(conn1);
+  }
+
+  private static class P_ConnectionPool extends ConcurrentSqlConnectionPool {
+
+    private final AtomicInteger m_createCount = new AtomicInteger();
+    private volatile boolean m_closed;
+
+    @Override
+    protected Connection createConnection(AbstractSqlService service) {
+      m_createCount.incrementAndGet();
+      return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "isClosed":
+            return m_closed;
+          case "equals":
+            return proxy == args[0];
+          case "hashCode":
+            return System.identityHashCode(proxy);
+          case "toString":
+            return "connection@" + System.identityHashCode(proxy);
+          default:
+            return null;
+        }
+      });
+    }
+  }
+}
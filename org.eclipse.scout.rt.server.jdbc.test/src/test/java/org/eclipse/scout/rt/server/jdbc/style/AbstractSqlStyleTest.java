@@ -19,6 +19,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
@@ -325,4 +326,12 @@ public class AbstractSqlStyleTest {
       return 0;
     }
   }
+
+  @Test
+  public void testBatchUpdateCount() {
+    assertTrue(sql.isBatchExecutionEnabled());
+    assertEquals(0, sql.getBatchUpdateCount(null));
+    assertEquals(4, sql.getBatchUpdateCount(new int[]{1, 0, 2, Statement.SUCCESS_NO_INFO}));
+    assertEquals(1, sql.getBatchUpdateCount(new int[]{1, Statement.EXECUTE_FAILED}));
+  }
 }
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import jakarta.annotation.PostConstruct;
 
@@ -45,13 +46,17 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcConnectionStatementCacheProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolImplementationProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStreamFetchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiInitialContextFactoryProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiProviderUrlProperty;
@@ -59,8 +64,10 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiUrlPkgPrefixe
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlPasswordProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMemberIdProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCacheTransactionMember;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
@@ -74,7 +81,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
 
-  private volatile SqlConnectionPool m_pool;
+  private volatile ISqlConnectionPool m_pool;
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -87,9 +94,13 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final Class<? extends ISqlConnectionPool> m_jdbcPoolImplementation;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final boolean m_jdbcConnectionStatementCache;
+  private final int m_jdbcBatchSize;
+  private final int m_jdbcStreamFetchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -116,9 +127,13 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcConnectionStatementCache = getPropertyValue(SqlJdbcConnectionStatementCacheProperty.class, getConfiguredJdbcConnectionStatementCache());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
+    m_jdbcStreamFetchSize = getPropertyValue(SqlJdbcStreamFetchSizeProperty.class, getConfiguredJdbcStreamFetchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolImplementation = getPropertyValue(SqlJdbcPoolImplementationProperty.class, getConfiguredJdbcPoolImplementation());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -247,12 +262,51 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return the {@link ISqlConnectionPool} implementation used for direct JDBC connections.
+   */
+  @ConfigProperty(ConfigProperty.OBJECT)
+  @Order(155)
+  protected Class<? extends ISqlConnectionPool> getConfiguredJdbcPoolImplementation() {
+    return SqlConnectionPool.class;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  /**
+   * @return {@code true} if prepared statements should be cached per pooled JDBC connection across transactions,
+   *         {@code false} to cache them per transaction only.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(165)
+  protected boolean getConfiguredJdbcConnectionStatementCache() {
+    return false;
+  }
+
+  /**
+   * @return maximum number of rows of a multi-row modification (array or table binds) sent to the database in one JDBC
+   *         batch. A value of 0 or 1 executes every row separately.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(167)
+  protected int getConfiguredJdbcBatchSize() {
+    return 0;
+  }
+
+  /**
+   * @return number of rows fetched from the database in one round-trip by
+   *         {@link #selectStream(String, ISqlRowMapper, Object...)}
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(168)
+  protected int getConfiguredJdbcStreamFetchSize() {
+    return 1000;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -436,6 +490,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public boolean isJdbcConnectionStatementCache() {
+    return m_jdbcConnectionStatementCache;
+  }
+
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
+  public int getJdbcStreamFetchSize() {
+    return m_jdbcStreamFetchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -484,13 +550,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public Class<? extends ISqlConnectionPool> getJdbcPoolImplementation() {
+    return m_jdbcPoolImplementation;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
 
   @Override
   public String getInventory() {
-    final SqlConnectionPool pool = m_pool;
+    final ISqlConnectionPool pool = m_pool;
     if (pool != null) {
       return pool.getInventory();
     }
@@ -548,10 +618,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     }
   }
 
-  protected synchronized SqlConnectionPool getSqlConnectionPool() {
+  protected synchronized ISqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
+      m_pool = BEANS.get(getJdbcPoolImplementation());
       m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
     }
     return m_pool;
@@ -594,12 +664,29 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     ITransaction tx = Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required");
     IStatementCache res = (IStatementCache) tx.getMember(PreparedStatementCache.TRANSACTION_MEMBER_ID);
     if (res == null) {
-      res = new PreparedStatementCache(getJdbcStatementCacheSize());
+      res = createStatementCache(tx);
       tx.registerMember((ITransactionMember) res);
     }
     return res;
   }
 
+  /**
+   * @return the connection scoped statement cache of the pooled connection used by the given transaction if enabled
+   *         (see {@link #isJdbcConnectionStatementCache()}), a new transaction scoped statement cache otherwise.
+   */
+  private IStatementCache createStatementCache(ITransaction tx) {
+    if (isDirectJdbcConnection() && isJdbcConnectionStatementCache()) {
+      ITransactionMember member = tx.getMember(getTransactionMemberId());
+      if (member instanceof SqlTransactionMember) {
+        IStatementCache connectionCache = getSqlConnectionPool().getStatementCache(((SqlTransactionMember) member).getConnection());
+        if (connectionCache != null) {
+          return new ConnectionStatementCacheTransactionMember(connectionCache);
+        }
+      }
+    }
+    return new PreparedStatementCache(getJdbcStatementCacheSize());
+  }
+
   /*
    * Operations
    */
@@ -634,6 +721,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public <T> Stream<T> selectStream(String s, ISqlRowMapper<T> mapper, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectStream(getTransaction(), getStatementCache(), mapper);
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
@@ -674,7 +766,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   }
 
   protected IStatementProcessor createStatementProcessor(String s, Object[] bindBases, int maxRowCount) {
-    return new StatementProcessor(this, s, bindBases, maxRowCount, m_maxFetchMemorySize);
+    StatementProcessor processor = new StatementProcessor(this, s, bindBases, maxRowCount, m_maxFetchMemorySize);
+    processor.setBatchSize(m_jdbcBatchSize);
+    processor.setStreamFetchSize(m_jdbcStreamFetchSize);
+    return processor;
   }
 
   /**
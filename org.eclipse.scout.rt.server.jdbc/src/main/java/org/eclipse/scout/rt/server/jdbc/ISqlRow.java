@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Date;
+
+/**
+ * Current row of a streaming select, see {@link ISqlService#selectStream(String, ISqlRowMapper, Object...)}.
+ * <p>
+ * Columns are only read when accessed. Column indexes start with 1 as in {@link ResultSet}. A row is only valid during
+ * the call of {@link ISqlRowMapper#map(ISqlRow)}.
+ */
+public interface ISqlRow {
+
+  /**
+   * @return index of this row, starting with 0
+   */
+  int getRowIndex();
+
+  int getColumnCount() throws SQLException;
+
+  /**
+   * @return value of the column as read by {@link ISqlService#getSqlStyle()}, the same value as returned by
+   *         {@link ISqlService#select(String, Object...)}
+   */
+  Object getObject(int columnIndex) throws SQLException;
+
+  String getString(int columnIndex) throws SQLException;
+
+  /**
+   * @return value of the column or 0 if it is <code>NULL</code>, see {@link #wasNull()}
+   */
+  long getLong(int columnIndex) throws SQLException;
+
+  /**
+   * @return value of the column or 0 if it is <code>NULL</code>, see {@link #wasNull()}
+   */
+  int getInt(int columnIndex) throws SQLException;
+
+  /**
+   * @return value of the column or 0 if it is <code>NULL</code>, see {@link #wasNull()}
+   */
+  double getDouble(int columnIndex) throws SQLException;
+
+  BigDecimal getBigDecimal(int columnIndex) throws SQLException;
+
+  Date getDate(int columnIndex) throws SQLException;
+
+  /**
+   * @return <code>true</code> if the last column read was <code>NULL</code>
+   */
+  boolean wasNull() throws SQLException;
+
+  /**
+   * @return all columns of this row as returned by {@link ISqlService#select(String, Object...)}
+   */
+  Object[] toArray() throws SQLException;
+
+  /**
+   * @return the underlying result set positioned on this row
+   */
+  ResultSet getResultSet();
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a streaming select to an object, see
+ * {@link ISqlService#selectStream(String, ISqlRowMapper, Object...)}.
+ */
+@FunctionalInterface
+public interface ISqlRowMapper<T> {
+
+  T map(ISqlRow row) throws SQLException;
+}
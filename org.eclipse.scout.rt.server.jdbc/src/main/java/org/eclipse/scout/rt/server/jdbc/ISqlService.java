@@ -10,9 +10,11 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.service.IService;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
@@ -237,6 +239,33 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * Pull based streaming select. Rows are fetched from the database in chunks while the stream is consumed, and every
+   * row is mapped by the given mapper. Hence, large results are processed in constant memory.
+   * <p>
+   * The returned stream holds an open statement and result set. It must be consumed and closed within the current
+   * transaction, preferably using a try-with-resources block:
+   *
+   * <pre>
+   * try (Stream&lt;Long&gt; ids = SQL.stream("SELECT PERSON_NR FROM PERSON", row -&gt; row.getLong(1))) {
+   *   ids.forEach(...);
+   * }
+   * </pre>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @param mapper
+   *          maps the current row, see {@link ISqlRow}
+   * @throws ProcessingException
+   *           if the service does not support streaming selects (default)
+   * @see #select(String, Object...)
+   * @since 24.2
+   */
+  default <T> Stream<T> selectStream(String s, ISqlRowMapper<T> mapper, Object... bindBases) {
+    throw new ProcessingException("Streaming select is not supported by {}", getClass().getName());
+  }
+
   /**
    * insert rows
    * <p>
@@ -10,6 +10,9 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 
 public interface IStatementProcessor {
 
@@ -19,6 +22,16 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * @return lazily fetched and mapped rows, see {@link ISqlService#selectStream(String, ISqlRowMapper, Object...)}
+   * @throws ProcessingException
+   *           if the processor does not support streaming selects (default)
+   * @since 24.2
+   */
+  default <T> Stream<T> processSelectStream(Connection conn, IStatementCache cache, ISqlRowMapper<T> mapper) {
+    throw new ProcessingException("Streaming select is not supported by {}", getClass().getName());
+  }
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
@@ -119,6 +120,14 @@ public final class SQL {
     service.selectIntoLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#selectStream(String, ISqlRowMapper, Object...)
+   */
+  public static <T> Stream<T> stream(String s, ISqlRowMapper<T> mapper, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectStream(s, mapper, bindBases);
+  }
+
   /**
    * @see ISqlService#insert(String, Object...)
    */
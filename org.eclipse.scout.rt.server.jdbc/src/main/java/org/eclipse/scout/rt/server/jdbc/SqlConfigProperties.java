@@ -10,9 +10,15 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractClassConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ConcurrentSqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 
 /**
  * Config properties for org.eclipse.scout.rt.server.jdbc
@@ -204,6 +210,47 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcConnectionStatementCacheProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.connectionStatementCache";
+    }
+
+    @Override
+    public String description() {
+      return "If true, prepared statements are cached per pooled JDBC connection and survive the end of the transaction. Otherwise, statements are cached per transaction only."
+          + " The maximum number of cached statements per connection is defined by 'scout.sql.jdbc.statementCacheSize'. The default value is false.";
+    }
+  }
+
+  public static class SqlJdbcBatchSizeProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one JDBC batch when a modification statement is executed for multiple rows (e.g. array or table binds)."
+          + " A value of 0 or 1 executes every row separately. The default value is 0.";
+    }
+  }
+
+  public static class SqlJdbcStreamFetchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.streamFetchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Number of rows fetched from the database in one round-trip by streaming selects (SQL.stream). The default value is 1000.";
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -216,4 +263,56 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcPoolImplementationProperty extends AbstractClassConfigProperty<ISqlConnectionPool> {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.implementation";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Fully qualified class name of the connection pool implementation. Use '%s' for a pool scaling better under high concurrency."
+          + " The default value is '%s'.", ConcurrentSqlConnectionPool.class.getName(), SqlConnectionPool.class.getName());
+    }
+  }
+
+  public static class SqlJdbcPoolLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.leaseTimeout";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximal time in milliseconds to wait for a connection if all connections are in use. Only used by '%s'. The default value is 5 minutes.",
+          ConcurrentSqlConnectionPool.class.getName());
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 300_000L;
+    }
+  }
+
+  public static class SqlJdbcPoolLeakDetectionThresholdProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.leakDetectionThreshold";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Time in milliseconds a connection may be leased before a possible leak is logged including the stack trace of the lease. Only used by '%s'."
+          + " The default value is 0 which disables leak detection.", ConcurrentSqlConnectionPool.class.getName());
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+  }
 }
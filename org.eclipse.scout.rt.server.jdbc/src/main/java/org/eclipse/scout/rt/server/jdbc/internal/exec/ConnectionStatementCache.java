@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IStatementCache} bound to a single pooled {@link Connection}. In contrast to {@link PreparedStatementCache},
+ * statements are cached upon their first use and survive the end of the transaction, as long as the connection is
+ * kept in the pool. Hence, repeated statements on a warm connection do not have to be prepared again.
+ * <p>
+ * The cache holds at most {@code maxSize} statements and evicts the least recently used one when full. A cached
+ * statement is never handed out twice at the same time: if it is still in use (e.g. by a nested streaming select), a
+ * new uncached statement is prepared instead.
+ */
+@SuppressWarnings("squid:S1166")
+public class ConnectionStatementCache implements IStatementCache {
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectionStatementCache.class);
+
+  private static final String CALLABLE_KEY_PREFIX = "{call}";
+
+  private final Connection m_conn;
+  private final Statistics m_statistics;
+  private final Map<String, PreparedStatement> m_statements;
+  private final Set<Statement> m_inUse = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Set<Statement> m_closeOnRelease = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  public ConnectionStatementCache(Connection conn, final int maxSize, Statistics statistics) {
+    m_conn = conn;
+    m_statistics = statistics;
+    m_statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Entry<String, PreparedStatement> eldest) {
+        if (size() <= maxSize) {
+          return false;
+        }
+        evict(eldest.getValue());
+        return true;
+      }
+    };
+  }
+
+  public Connection getConnection() {
+    return m_conn;
+  }
+
+  @Override
+  public synchronized PreparedStatement getPreparedStatement(Connection conn, String s) throws SQLException {
+    if (conn != m_conn) {
+      m_statistics.recordMiss();
+      return conn.prepareStatement(s);
+    }
+    PreparedStatement ps = m_statements.get(s);
+    if (ps != null && m_inUse.add(ps)) {
+      m_statistics.recordHit();
+      ps.clearParameters();
+      ps.clearWarnings();
+      return ps;
+    }
+    m_statistics.recordMiss();
+    if (ps != null) {
+      // cached statement is in use
+      return conn.prepareStatement(s);
+    }
+    ps = conn.prepareStatement(s);
+    m_statements.put(s, ps);
+    m_inUse.add(ps);
+    return ps;
+  }
+
+  @Override
+  public void releasePreparedStatement(PreparedStatement ps) {
+    release(ps);
+  }
+
+  @Override
+  public synchronized CallableStatement getCallableStatement(Connection conn, String s) throws SQLException {
+    if (conn != m_conn) {
+      m_statistics.recordMiss();
+      return conn.prepareCall(s);
+    }
+    String key = CALLABLE_KEY_PREFIX + s;
+    CallableStatement cs = (CallableStatement) m_statements.get(key);
+    if (cs != null && m_inUse.add(cs)) {
+      m_statistics.recordHit();
+      cs.clearParameters();
+      cs.clearWarnings();
+      return cs;
+    }
+    m_statistics.recordMiss();
+    if (cs != null) {
+      // cached statement is in use
+      return conn.prepareCall(s);
+    }
+    cs = conn.prepareCall(s);
+    m_statements.put(key, cs);
+    m_inUse.add(cs);
+    return cs;
+  }
+
+  @Override
+  public void releaseCallableStatement(CallableStatement cs) {
+    release(cs);
+  }
+
+  /**
+   * @return number of currently cached statements
+   */
+  public synchronized int size() {
+    return m_statements.size();
+  }
+
+  protected synchronized void release(Statement s) {
+    if (s == null) {
+      return;
+    }
+    if (m_inUse.remove(s)) {
+      if (m_closeOnRelease.remove(s)) {
+        closeStatement(s);
+      }
+      // cached statement, keep it open
+      return;
+    }
+    if (!m_statements.containsValue(s)) {
+      // uncached statement
+      closeStatement(s);
+    }
+  }
+
+  protected void evict(Statement s) {
+    if (m_inUse.contains(s)) {
+      m_closeOnRelease.add(s);
+    }
+    else {
+      closeStatement(s);
+    }
+  }
+
+  protected void closeStatement(Statement s) {
+    try {
+      s.close();
+    }
+    catch (Exception e) {
+      LOG.warn("Exception while closing statement", e);
+    }
+  }
+
+  /**
+   * Hit and miss counts of {@link ConnectionStatementCache}s, typically shared among all connections of a pool.
+   */
+  public static class Statistics {
+    private final LongAdder m_hitCount = new LongAdder();
+    private final LongAdder m_missCount = new LongAdder();
+
+    public void recordHit() {
+      m_hitCount.increment();
+    }
+
+    public void recordMiss() {
+      m_missCount.increment();
+    }
+
+    public long getHitCount() {
+      return m_hitCount.sum();
+    }
+
+    public long getMissCount() {
+      return m_missCount.sum();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+
+/**
+ * Makes the {@link ConnectionStatementCache} of the connection used by a transaction available as transaction member,
+ * registered with the same id as {@link PreparedStatementCache}. The cached statements are not closed at the end of
+ * the transaction since they belong to the connection.
+ */
+public class ConnectionStatementCacheTransactionMember extends AbstractTransactionMember implements IStatementCache {
+
+  private final IStatementCache m_cache;
+
+  public ConnectionStatementCacheTransactionMember(IStatementCache cache) {
+    super(PreparedStatementCache.TRANSACTION_MEMBER_ID);
+    m_cache = cache;
+  }
+
+  @Override
+  public PreparedStatement getPreparedStatement(Connection conn, String s) throws SQLException {
+    return m_cache.getPreparedStatement(conn, s);
+  }
+
+  @Override
+  public void releasePreparedStatement(PreparedStatement ps) {
+    m_cache.releasePreparedStatement(ps);
+  }
+
+  @Override
+  public CallableStatement getCallableStatement(Connection conn, String s) throws SQLException {
+    return m_cache.getCallableStatement(conn, s);
+  }
+
+  @Override
+  public void releaseCallableStatement(CallableStatement cs) {
+    m_cache.releaseCallableStatement(cs);
+  }
+
+  @Override
+  public void release() {
+    // statements are kept open as long as the connection is pooled
+  }
+}
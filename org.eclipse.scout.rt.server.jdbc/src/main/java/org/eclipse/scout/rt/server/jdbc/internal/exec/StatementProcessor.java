@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -21,11 +22,18 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
@@ -46,6 +54,8 @@ import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
+import org.eclipse.scout.rt.server.jdbc.ISqlRow;
+import org.eclipse.scout.rt.server.jdbc.ISqlRowMapper;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessor;
@@ -92,6 +102,8 @@ public class StatementProcessor implements IStatementProcessor {
   private final List<IBindOutput> m_outputList;
   // state
   private int m_maxFetchSize = -1;
+  private int m_batchSize;
+  private int m_streamFetchSize;
   private int m_currentInputBatchIndex = -1;
   private int m_currentOutputBatchIndex = -1;
   private String m_currentInputStm;
@@ -192,6 +204,41 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * @return maximum number of rows sent to the database in one JDBC batch by
+   *         {@link #processModification(Connection, IStatementCache, IStatementProcessorMonitor)}
+   */
+  public int getBatchSize() {
+    return m_batchSize;
+  }
+
+  /**
+   * @param batchSize
+   *          maximum number of rows of a multi-row modification (array or table binds) sent to the database in one
+   *          JDBC batch. A value of 0 or 1 executes every row separately.
+   */
+  public void setBatchSize(int batchSize) {
+    m_batchSize = batchSize;
+  }
+
+  /**
+   * @return number of rows fetched from the database in one round-trip by
+   *         {@link #processSelectStream(Connection, IStatementCache, ISqlRowMapper)}
+   */
+  public int getStreamFetchSize() {
+    return m_streamFetchSize;
+  }
+
+  /**
+   * @param streamFetchSize
+   *          number of rows fetched from the database in one round-trip by
+   *          {@link #processSelectStream(Connection, IStatementCache, ISqlRowMapper)}. A value of 0 uses the default
+   *          of the JDBC driver.
+   */
+  public void setStreamFetchSize(int streamFetchSize) {
+    m_streamFetchSize = streamFetchSize;
+  }
+
   protected TreeMap<Integer, SqlBind> getCurrentInputBindMap() {
     return m_currentInputBindMap;
   }
@@ -417,6 +464,12 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public <T> Stream<T> processSelectStream(Connection conn, IStatementCache cache, ISqlRowMapper<T> mapper) {
+    P_SelectCursor<T> cursor = new P_SelectCursor<>(conn, cache, mapper);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false).onClose(cursor::close);
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -427,6 +480,9 @@ public class StatementProcessor implements IStatementProcessor {
   @SuppressWarnings("resource")
   @Override
   public int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor) {
+    if (isJdbcBatchModification()) {
+      return processModificationJdbcBatch(conn, cache);
+    }
     PreparedStatement ps = null;
     int rowCount = 0;
     try {
@@ -456,6 +512,108 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * @return {@code true} if the rows of this modification are sent to the database as JDBC batches, i.e. if there is
+   *         a batch input, a batch size greater than 1 and the {@link ISqlStyle} supports batch execution.
+   */
+  protected boolean isJdbcBatchModification() {
+    if (m_batchSize <= 1 || !m_outputList.isEmpty()) {
+      return false;
+    }
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    if (sqlStyle == null || !sqlStyle.isBatchExecutionEnabled()) {
+      return false;
+    }
+    for (IBindInput input : m_inputList) {
+      if (input.isBatch()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Executes the modification for all input rows using {@link PreparedStatement#addBatch()}. A batch is sent to the
+   * database when it reaches the batch size or when the statement text changes (e.g. due to plain value binds).
+   */
+  @SuppressWarnings("resource")
+  protected int processModificationJdbcBatch(Connection conn, IStatementCache cache) {
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int batchCount = 0;
+    int rowCount = 0;
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !m_currentInputStm.equals(batchStm)) {
+          rowCount += executeJdbcBatch(ps, cache, sqlStyle);
+          ps = null;
+          batchCount = 0;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+          registerActiveStatement(ps);
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        batchCount++;
+        if (batchCount >= m_batchSize) {
+          rowCount += executeJdbcBatch(ps, cache, sqlStyle);
+          ps = null;
+          batchCount = 0;
+        }
+      }
+      if (ps != null) {
+        rowCount += executeJdbcBatch(ps, cache, sqlStyle);
+        ps = null;
+      }
+      return rowCount;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      if (ps != null) {
+        releaseJdbcBatch(ps, cache);
+      }
+    }
+  }
+
+  private int executeJdbcBatch(PreparedStatement ps, IStatementCache cache, ISqlStyle sqlStyle) throws SQLException {
+    boolean success = false;
+    try {
+      int rowCount = sqlStyle.getBatchUpdateCount(ps.executeBatch());
+      success = true;
+      return rowCount;
+    }
+    finally {
+      if (success) {
+        unregisterActiveStatement(ps);
+        cache.releasePreparedStatement(ps);
+      }
+    }
+  }
+
+  /**
+   * Releases a statement whose batch was not executed successfully. The pending batch is cleared since the statement
+   * might be cached and reused.
+   */
+  private void releaseJdbcBatch(PreparedStatement ps, IStatementCache cache) {
+    try {
+      ps.clearBatch();
+    }
+    catch (SQLException | RuntimeException e) {
+      LOG.warn("could not clear batch", e);
+    }
+    unregisterActiveStatement(ps);
+    cache.releasePreparedStatement(ps);
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -1475,6 +1633,189 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * Pull based cursor over the rows of all input batches. The statement of an input batch is executed when the rows of
+   * the previous one are consumed. Statement and result set are released when the last row was read, or when the
+   * cursor is closed.
+   */
+  private class P_SelectCursor<T> implements Iterator<T>, ISqlRow {
+    private final Connection m_conn;
+    private final IStatementCache m_cache;
+    private final ISqlRowMapper<T> m_mapper;
+    private final ISqlStyle m_sqlStyle;
+    private PreparedStatement m_ps;
+    private ResultSet m_rs;
+    private ResultSetMetaData m_meta;
+    private int m_originalFetchSize;
+    private int m_rowIndex;
+    private boolean m_rowAvailable;
+    private boolean m_closed;
+
+    P_SelectCursor(Connection conn, IStatementCache cache, ISqlRowMapper<T> mapper) {
+      m_conn = conn;
+      m_cache = cache;
+      m_mapper = mapper;
+      m_sqlStyle = m_callerService.getSqlStyle();
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (m_closed) {
+        return false;
+      }
+      if (m_rowAvailable) {
+        return true;
+      }
+      try {
+        while (true) {
+          if (m_maxRowCount > 0 && m_rowIndex >= m_maxRowCount) {
+            close();
+            return false;
+          }
+          if (m_rs != null) {
+            if (m_rs.next()) {
+              m_rowAvailable = true;
+              return true;
+            }
+            releaseStatement();
+          }
+          if (!hasNextInputBatch()) {
+            close();
+            return false;
+          }
+          executeNextInputBatch();
+        }
+      }
+      catch (SQLException | RuntimeException e) {
+        close();
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      m_rowAvailable = false;
+      try {
+        return m_mapper.map(this);
+      }
+      catch (SQLException | RuntimeException e) {
+        close();
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("statement", createSqlDump(true, false))
+            .withContextInfo("row", m_rowIndex);
+      }
+      finally {
+        m_rowIndex++;
+      }
+    }
+
+    protected void executeNextInputBatch() throws SQLException {
+      nextInputBatch();
+      prepareInputStatementAndBinds();
+      dump();
+      m_ps = m_cache.getPreparedStatement(m_conn, m_currentInputStm);
+      m_originalFetchSize = m_ps.getFetchSize();
+      if (m_streamFetchSize > 0) {
+        m_ps.setFetchSize(m_streamFetchSize);
+      }
+      bindBatch(m_ps);
+      registerActiveStatement(m_ps);
+      m_rs = m_ps.executeQuery();
+      m_meta = m_rs.getMetaData();
+    }
+
+    protected void releaseStatement() {
+      if (m_ps == null) {
+        return;
+      }
+      unregisterActiveStatement(m_ps);
+      try {
+        // the statement might be cached
+        m_ps.setFetchSize(m_originalFetchSize);
+      }
+      catch (SQLException | RuntimeException e) {
+        LOG.debug("could not reset fetch size", e);
+      }
+      releasePreparedStatementAndResultSet(m_ps, m_cache, m_rs);
+      m_ps = null;
+      m_rs = null;
+      m_meta = null;
+    }
+
+    public void close() {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      m_rowAvailable = false;
+      releaseStatement();
+    }
+
+    @Override
+    public int getRowIndex() {
+      return m_rowIndex;
+    }
+
+    @Override
+    public int getColumnCount() throws SQLException {
+      return m_meta.getColumnCount();
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+      return m_sqlStyle.readBind(m_rs, m_meta, m_meta.getColumnType(columnIndex), columnIndex);
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+      return m_rs.getString(columnIndex);
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+      return m_rs.getLong(columnIndex);
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+      return m_rs.getInt(columnIndex);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+      return m_rs.getDouble(columnIndex);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+      return m_rs.getBigDecimal(columnIndex);
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+      return m_rs.getTimestamp(columnIndex);
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+      return m_rs.wasNull();
+    }
+
+    @Override
+    public Object[] toArray() throws SQLException {
+      return processResultRow(m_rs);
+    }
+
+    @Override
+    public ResultSet getResultSet() {
+      return m_rs;
+    }
+  }
+
   private void releasePreparedStatementAndResultSet(PreparedStatement ps, IStatementCache cache, ResultSet rs) {
     if (rs != null) {
       try {
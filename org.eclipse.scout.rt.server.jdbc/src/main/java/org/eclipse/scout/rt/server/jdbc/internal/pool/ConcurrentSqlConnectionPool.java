@@ -0,0 +1,691 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.TimingUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolLeakDetectionThresholdProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolLeaseTimeoutProperty;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCache;
+import org.eclipse.scout.rt.shared.ISession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Connection pool which scales with the number of concurrent requests, as an alternative to {@link SqlConnectionPool}.
+ * <p>
+ * Leasing and releasing a connection does not require a global lock:
+ * <ul>
+ * <li>All connections are held in a concurrent list, and a connection is reserved by an atomic state transition from
+ * idle to busy. The connection last used by the same session or thread is tried first.</li>
+ * <li>The number of concurrent leases is limited by a fair semaphore, so that waiting threads are served in FIFO order
+ * and only one waiting thread is woken up per released connection. Waiting is bounded by
+ * {@link SqlJdbcPoolLeaseTimeoutProperty}.</li>
+ * <li>Expired and timed out connections are evicted and idle connections are validated by a background job. The job
+ * holds a lease permit while validating, so that it never reserves a connection needed by a lease.</li>
+ * <li>Connections leased for longer than {@link SqlJdbcPoolLeakDetectionThresholdProperty} are logged as possible
+ * leaks.</li>
+ * </ul>
+ */
+@Bean
+@SuppressWarnings("squid:S1166")
+public class ConcurrentSqlConnectionPool implements ISqlConnectionPool {
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentSqlConnectionPool.class);
+
+  private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
+  private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
+  private static final AttributeKey<String> CACHE_RESULT = AttributeKey.stringKey("result");
+  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
+  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_CREATE_TIME = "db.client.connections.create_time";
+  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME = "db.client.connections.use_time";
+
+  private static final int STATE_IDLE = 0;
+  private static final int STATE_BUSY = 1;
+  private static final int STATE_REMOVED = 2;
+
+  /**
+   * Upper bound of remembered session affinities, the affinities are reset by {@link #managePool()} when exceeded.
+   */
+  private static final int MAX_SESSION_AFFINITIES = 10_000;
+
+  private volatile boolean m_destroyed;
+  private final String m_identity = UUID.randomUUID().toString();
+
+  /*
+   * Instance
+   */
+  private final List<P_PoolEntry> m_entries = new CopyOnWriteArrayList<>();
+  private final Map<Connection, P_PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  private final Map<String, P_PoolEntry> m_sessionAffinities = new ConcurrentHashMap<>();
+  private final ThreadLocal<WeakReference<P_PoolEntry>> m_threadAffinity = new ThreadLocal<>();
+  private final AtomicInteger m_connectionCount = new AtomicInteger();
+  private final AtomicInteger m_pendingCount = new AtomicInteger();
+  /*
+   * Signals permit holders waiting for a connection to be released or removed
+   */
+  private final ReentrantLock m_availableLock = new ReentrantLock();
+  private final Condition m_availableCondition = m_availableLock.newCondition();
+  private final AtomicLong m_availableVersion = new AtomicLong();
+  private final AtomicInteger m_availableWaiters = new AtomicInteger();
+  private volatile Semaphore m_leasePermits;
+  private volatile AbstractSqlService m_service;
+  private volatile String m_name;
+  private volatile int m_poolSize;
+  private volatile long m_connectionLifetime;
+  private volatile long m_connectionBusyTimeout;
+  private volatile long m_leaseTimeout;
+  private volatile long m_leakDetectionThreshold;
+  private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+  private final ConnectionStatementCache.Statistics m_statementCacheStatistics = new ConnectionStatementCache.Statistics();
+  /*
+   * OpenTelemetry
+   */
+  private DoubleHistogram m_connectionWaitTime;
+  private DoubleHistogram m_connectionCreateTime;
+  private DoubleHistogram m_connectionUseTime;
+  private LongCounter m_connectionTimeouts;
+  private Attributes m_defaultAttributes;
+
+  @Override
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
+    m_name = name;
+    m_poolSize = poolSize;
+    m_connectionLifetime = connectionLifetime;
+    m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leaseTimeout = CONFIG.getPropertyValue(SqlJdbcPoolLeaseTimeoutProperty.class);
+    m_leakDetectionThreshold = CONFIG.getPropertyValue(SqlJdbcPoolLeakDetectionThresholdProperty.class);
+    m_leasePermits = new Semaphore(poolSize, true);
+    startManagePool();
+    initMetrics();
+  }
+
+  /**
+   * Start managing pool
+   */
+  private void startManagePool() {
+    Jobs.schedule(this::managePool, Jobs.newInput()
+        .withName("Managing SQL connection pool for {}", m_name)
+        .withExecutionHint(m_identity)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(1, TimeUnit.MINUTES)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(1, TimeUnit.MINUTES))));
+  }
+
+  /**
+   * @see <a href=
+   *      "https://opentelemetry.io/docs/specs/otel/metrics/semantic_conventions/database-metrics/">OpenTelemetry:
+   *      Semantic Conventions for Database Metrics</a>
+   */
+  private void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.SqlConnectionPool");
+
+    ObservableLongMeasurement connectionsUsage = meter.upDownCounterBuilder("db.client.connections.usage")
+        .setDescription("The number of connections that are currently in state described by the state attribute.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement maxConnections = meter.upDownCounterBuilder("db.client.connections.max")
+        .setDescription("The maximum number of open connections allowed.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement pendingRequests = meter.upDownCounterBuilder("db.client.connections.pending_requests")
+        .setDescription("The number of pending requests for an open connection, cumulative for the entire pool.")
+        .setUnit("{request}")
+        .buildObserver();
+    m_connectionWaitTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME)
+        .setUnit("ms")
+        .setDescription("The time it took to obtain an open connection from the pool.")
+        .build();
+    m_connectionCreateTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_CREATE_TIME)
+        .setUnit("ms")
+        .setDescription("The time it took to create a new connection.")
+        .build();
+    m_connectionUseTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME)
+        .setUnit("ms")
+        .setDescription("The time between borrowing a connection and returning it to the pool.")
+        .build();
+    m_connectionTimeouts = meter.counterBuilder("db.client.connections.timeouts")
+        .setDescription("The number of connection timeouts that have occurred trying to obtain a connection from the pool.")
+        .setUnit("{timeout}")
+        .build();
+
+    ObservableLongMeasurement statementCacheRequests = meter.counterBuilder("scout.sql.statement_cache.requests")
+        .setDescription("The number of prepared statement requests served by connection scoped statement caches, by result (hit or miss).")
+        .setUnit("{request}")
+        .buildObserver();
+
+    m_defaultAttributes = Attributes.of(POOL_NAME, m_name);
+    Attributes idleConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "idle").build();
+    Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
+    Attributes cacheHitAttributes = m_defaultAttributes.toBuilder().put(CACHE_RESULT, "hit").build();
+    Attributes cacheMissAttributes = m_defaultAttributes.toBuilder().put(CACHE_RESULT, "miss").build();
+    //noinspection resource
+    meter.batchCallback(() -> {
+      int busyCount = m_busyEntries.size();
+      connectionsUsage.record(Math.max(0, m_connectionCount.get() - busyCount), idleConnectionsAttributes);
+      connectionsUsage.record(busyCount, usedConnectionsAttributes);
+      maxConnections.record(m_poolSize, m_defaultAttributes);
+      statementCacheRequests.record(m_statementCacheStatistics.getHitCount(), cacheHitAttributes);
+      statementCacheRequests.record(m_statementCacheStatistics.getMissCount(), cacheMissAttributes);
+      pendingRequests.record(m_pendingCount.get(), m_defaultAttributes);
+    },
+        connectionsUsage,
+        maxConnections,
+        pendingRequests,
+        statementCacheRequests);
+  }
+
+  @Override
+  public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    final long startTime = System.nanoTime();
+    m_service = service;
+    acquirePermit();
+    boolean leased = false;
+    try {
+      P_PoolEntry candidate = borrowEntry(service);
+      candidate.leaseBegin = System.currentTimeMillis();
+      candidate.leaseCount.incrementAndGet();
+      candidate.leaseThread = Thread.currentThread().getName();
+      candidate.leaseTrace = m_leakDetectionThreshold > 0 ? new Exception("Lease of connection " + candidate.conn) : null;
+      candidate.leakReported = false;
+      m_busyEntries.put(candidate.conn, candidate);
+      m_threadAffinity.set(candidate.threadAffinity);
+      String sessionId = currentSessionId();
+      if (sessionId != null) {
+        m_sessionAffinities.put(sessionId, candidate);
+      }
+      leased = true;
+      LOG.debug("lease   {}", candidate.conn);
+      m_connectionWaitTime.record(TimingUtility.msElapsed(startTime), m_defaultAttributes);
+      return candidate.conn;
+    }
+    finally {
+      if (!leased) {
+        m_leasePermits.release();
+      }
+    }
+  }
+
+  protected void acquirePermit() {
+    m_pendingCount.incrementAndGet();
+    try {
+      if (!m_leasePermits.tryAcquire(m_leaseTimeout, TimeUnit.MILLISECONDS)) {
+        throw createLeaseTimeoutException();
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    finally {
+      m_pendingCount.decrementAndGet();
+    }
+  }
+
+  protected PlatformException createLeaseTimeoutException() {
+    m_connectionTimeouts.add(1, m_defaultAttributes);
+    return new PlatformException("Timed out waiting for a connection of SQL connection pool [name={}, timeout={}ms]", m_name, m_leaseTimeout);
+  }
+
+  /**
+   * Reserves an idle connection or creates a new one. Must only be called while holding a lease permit. Since there
+   * are never more connections than permits, an idle connection is available or can be created, except for the short
+   * moment in which another thread releases or removes a connection after returning its permit. In this case, the
+   * calling thread waits until it is signaled by {@link #signalAvailable()}.
+   */
+  protected P_PoolEntry borrowEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_leaseTimeout);
+    while (true) {
+      long version = m_availableVersion.get();
+      P_PoolEntry candidate = reserveIdleEntry();
+      if (candidate == null) {
+        candidate = tryCreateEntry(service);
+      }
+      if (candidate == null) {
+        awaitAvailable(version, deadline);
+        continue;
+      }
+      if (testConnection(service, candidate)) {
+        return candidate;
+      }
+      removeEntry(candidate, "dirty connection");
+    }
+  }
+
+  /**
+   * Waits until a connection was released or removed after the given version of {@link #m_availableVersion}.
+   */
+  protected void awaitAvailable(long version, long deadline) {
+    m_availableWaiters.incrementAndGet();
+    m_availableLock.lock();
+    try {
+      long nanos = deadline - System.nanoTime();
+      while (m_availableVersion.get() == version) {
+        if (nanos <= 0) {
+          throw createLeaseTimeoutException();
+        }
+        nanos = m_availableCondition.awaitNanos(nanos);
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    finally {
+      m_availableLock.unlock();
+      m_availableWaiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Wakes up the threads waiting in {@link #awaitAvailable(long, long)}. Does not acquire the lock if there are none.
+   */
+  protected void signalAvailable() {
+    m_availableVersion.incrementAndGet();
+    if (m_availableWaiters.get() == 0) {
+      return;
+    }
+    m_availableLock.lock();
+    try {
+      m_availableCondition.signalAll();
+    }
+    finally {
+      m_availableLock.unlock();
+    }
+  }
+
+  protected P_PoolEntry reserveIdleEntry() {
+    String sessionId = currentSessionId();
+    if (sessionId != null) {
+      P_PoolEntry sessionEntry = m_sessionAffinities.get(sessionId);
+      if (sessionEntry != null && sessionEntry.reserve()) {
+        return sessionEntry;
+      }
+    }
+    WeakReference<P_PoolEntry> threadAffinity = m_threadAffinity.get();
+    P_PoolEntry threadEntry = threadAffinity != null ? threadAffinity.get() : null;
+    if (threadEntry != null && threadEntry.reserve()) {
+      return threadEntry;
+    }
+    if (threadAffinity != null && (threadEntry == null || threadEntry.state.get() == STATE_REMOVED)) {
+      m_threadAffinity.remove();
+    }
+    for (P_PoolEntry entry : m_entries) {
+      if (entry.reserve()) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  protected P_PoolEntry tryCreateEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    int count;
+    do {
+      count = m_connectionCount.get();
+      if (count >= m_poolSize) {
+        return null;
+      }
+    }
+    while (!m_connectionCount.compareAndSet(count, count + 1));
+
+    boolean created = false;
+    try {
+      final long startTime = System.nanoTime();
+      P_PoolEntry entry = new P_PoolEntry();
+      entry.conn = createConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      service.callbackAfterConnectionCreated(entry.conn);
+      entry.createTime = System.currentTimeMillis();
+      if (service.isJdbcConnectionStatementCache()) {
+        entry.statementCache = new ConnectionStatementCache(entry.conn, service.getJdbcStatementCacheSize(), m_statementCacheStatistics);
+      }
+      entry.state.set(STATE_BUSY);
+      m_entries.add(entry);
+      m_connectionCreateTime.record(TimingUtility.msElapsed(startTime), m_defaultAttributes);
+      created = true;
+      return entry;
+    }
+    finally {
+      if (!created) {
+        m_connectionCount.decrementAndGet();
+        signalAvailable();
+      }
+    }
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  protected boolean testConnection(AbstractSqlService service, P_PoolEntry entry) {
+    try {
+      service.callbackTestConnection(entry.conn);
+      return true;
+    }
+    catch (Exception e) {
+      LOG.warn("closing dirty connection: {}", entry.conn, e);
+      return false;
+    }
+  }
+
+  @Override
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+
+    P_PoolEntry candidate = m_busyEntries.remove(conn);
+    if (candidate == null) {
+      // unknown or already evicted by managePool (which released the lease permit)
+      LOG.warn("closing dirty connection: {}", conn);
+      closeConnection(conn);
+      return;
+    }
+
+    try {
+      m_connectionUseTime.record(System.currentTimeMillis() - candidate.leaseBegin, m_defaultAttributes);
+      if (isReusable(conn)) {
+        candidate.leaseBegin = 0;
+        candidate.leaseThread = null;
+        candidate.leaseTrace = null;
+        candidate.state.set(STATE_IDLE);
+        signalAvailable();
+      }
+      else {
+        LOG.warn("closing dirty connection: {}", conn);
+        removeEntry(candidate, "dirty connection");
+      }
+    }
+    finally {
+      m_leasePermits.release();
+    }
+  }
+
+  protected boolean isReusable(Connection conn) {
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      return false;
+    }
+  }
+
+  protected void removeEntry(P_PoolEntry entry, String reason) {
+    if (entry.state.getAndSet(STATE_REMOVED) == STATE_REMOVED) {
+      return;
+    }
+    m_entries.remove(entry);
+    m_connectionCount.decrementAndGet();
+    signalAvailable();
+    m_sessionAffinities.values().removeIf(e -> e == entry);
+    WeakReference<P_PoolEntry> threadAffinity = m_threadAffinity.get();
+    if (threadAffinity != null && threadAffinity.get() == entry) {
+      m_threadAffinity.remove();
+    }
+    closeConnectionAsync(entry.conn, reason);
+  }
+
+  @Override
+  public IStatementCache getStatementCache(Connection conn) {
+    P_PoolEntry entry = m_busyEntries.get(conn);
+    return entry != null ? entry.statementCache : null;
+  }
+
+  @Override
+  public String getInventory() {
+    StringBuilder buf = new StringBuilder();
+    SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
+    List<P_PoolEntry> busyEntries = List.copyOf(m_busyEntries.values());
+    buf.append("Total connections: ").append(m_connectionCount.get());
+    buf.append("\n");
+    buf.append("Pending requests: ").append(m_pendingCount.get());
+    buf.append("\n");
+    buf.append("Busy: ").append(busyEntries.size());
+    buf.append("\n");
+    for (P_PoolEntry e : busyEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount.get()).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin))).append(", leaseThread=").append(e.leaseThread);
+      buf.append("\n");
+    }
+    buf.append("Idle:");
+    buf.append("\n");
+    for (P_PoolEntry e : m_entries) {
+      if (e.state.get() == STATE_IDLE) {
+        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount.get());
+        buf.append("\n");
+      }
+    }
+    return buf.toString();
+  }
+
+  /**
+   * Thread worker to manage pool: evicts expired and timed out connections, validates idle connections and detects
+   * leaked connections.
+   */
+  private void managePool() {
+    try {
+      if (isDestroyed()) {
+        return;
+      }
+      long now = System.currentTimeMillis();
+
+      // close old idle connections and validate the others. A lease permit is held while an idle connection is
+      // reserved, so that a lease never has to wait for the validation. If no permit is available, there is no idle
+      // connection which is not about to be leased.
+      if (m_leasePermits.tryAcquire()) {
+        try {
+          manageIdleEntries(now);
+        }
+        finally {
+          m_leasePermits.release();
+        }
+      }
+
+      // close timed out busy connections and report possible leaks
+      for (P_PoolEntry e : m_busyEntries.values()) {
+        long leaseDuration = now - e.leaseBegin;
+        if (leaseDuration > m_connectionBusyTimeout) {
+          if (m_busyEntries.remove(e.conn, e)) {
+            removeEntry(e, "timed out busy connection");
+            m_leasePermits.release();
+          }
+        }
+        else if (m_leakDetectionThreshold > 0 && leaseDuration > m_leakDetectionThreshold && !e.leakReported) {
+          e.leakReported = true;
+          LOG.warn("Possible connection leak: connection {} of pool {} is leased by thread {} since {}ms", e.conn, m_name, e.leaseThread, leaseDuration, e.leaseTrace);
+        }
+      }
+
+      // affinities to removed connections are forgotten by removeEntry
+      if (m_sessionAffinities.size() > MAX_SESSION_AFFINITIES) {
+        m_sessionAffinities.clear();
+      }
+    }
+    catch (Exception t) {
+      LOG.warn("Unexpected Problem while managing SQL connection pool", t);
+    }
+  }
+
+  private void manageIdleEntries(long now) {
+    AbstractSqlService service = m_service;
+    for (P_PoolEntry e : m_entries) {
+      if (!e.reserve()) {
+        continue;
+      }
+      if (now - e.createTime > m_connectionLifetime) {
+        removeEntry(e, "expired idle connection");
+      }
+      else if (service != null && !testConnection(service, e)) {
+        removeEntry(e, "dirty connection");
+      }
+      else {
+        e.state.set(STATE_IDLE);
+        signalAvailable();
+      }
+    }
+  }
+
+  protected String currentSessionId() {
+    ISession session = ISession.CURRENT.get();
+    return session != null ? session.getId() : null;
+  }
+
+  @Override
+  public boolean isDestroyed() {
+    return m_destroyed;
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (isDestroyed()) {
+      return;
+    }
+    m_destroyed = true;
+
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
+
+    for (final P_PoolEntry entry : m_entries) {
+      entry.state.set(STATE_REMOVED);
+      closeConnectionAsync(entry.conn, "destroying SQL connection pool");
+    }
+    m_entries.clear();
+    m_busyEntries.clear();
+    m_sessionAffinities.clear();
+    m_connectionCount.set(0);
+  }
+
+  protected void closeConnection(Connection connection) {
+    try {
+      connection.close();
+    }
+    catch (SQLException e) {
+      // ignored
+    }
+  }
+
+  protected void closeConnectionAsync(final Connection connection, final String reason) {
+    Jobs.schedule(() -> {
+      LOG.info("Closing SQL connection {}", connection);
+      try {
+        connection.close();
+      }
+      catch (SQLException e) {
+        LOG.error("Failed to close SQL connection [connection={}]", connection, e);
+      }
+    }, Jobs.newInput()
+        .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
+        .withExecutionHint(m_identity));
+  }
+
+  @SuppressWarnings({"squid:S00116", "squid:ClassVariableVisibilityCheck"})
+  protected static class P_PoolEntry {
+    private final AtomicInteger state = new AtomicInteger(STATE_IDLE);
+    private final AtomicInteger leaseCount = new AtomicInteger();
+    private final WeakReference<P_PoolEntry> threadAffinity = new WeakReference<>(this);
+    private Connection conn;
+    private long createTime;
+    private volatile long leaseBegin;
+    private ConnectionStatementCache statementCache;
+    private volatile String leaseThread;
+    private volatile Exception leaseTrace;
+    private volatile boolean leakReported;
+
+    /**
+     * @return {@code true} if this entry was idle and is now reserved by the calling thread.
+     */
+    protected boolean reserve() {
+      return state.get() == STATE_IDLE && state.compareAndSet(STATE_IDLE, STATE_BUSY);
+    }
+  }
+
+  /**
+   * Custom histogramm buckets for <code>db.client.connections.create_time</code> (time unit: milliseconds).
+   *
+   * @see #m_connectionCreateTime
+   */
+  public static class CreateTimeHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_DB_CLIENT_CONNECTIONS_CREATE_TIME;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(5d, 10d, 25d, 50d, 100d, 250d, 500d, 1_000d, 5_000d, 10_000d);
+    }
+  }
+
+  /**
+   * Custom histogramm buckets for <code>db.client.connections.use_time</code> (time unit: milliseconds).
+   *
+   * @see #m_connectionUseTime
+   */
+  public static class UseTimeHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d, 30_000d, 60_000d);
+    }
+  }
+}
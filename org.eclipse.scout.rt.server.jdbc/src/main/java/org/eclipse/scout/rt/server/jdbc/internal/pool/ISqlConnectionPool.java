@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolImplementationProperty;
+
+/**
+ * Pool of JDBC connections used by {@link AbstractSqlService} for direct JDBC connections. There is one pool for every
+ * {@link AbstractSqlService} sub class type.
+ * <p>
+ * The implementation to use is configured by {@link SqlJdbcPoolImplementationProperty}.
+ */
+public interface ISqlConnectionPool {
+
+  /**
+   * Initializes this pool. Must be called exactly once before any connection is leased.
+   */
+  void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout);
+
+  /**
+   * Leases a connection, waiting until a connection is available if all connections are in use.
+   */
+  Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException;
+
+  /**
+   * Returns a connection previously leased by {@link #leaseConnection(AbstractSqlService)} to this pool.
+   */
+  void releaseConnection(Connection conn);
+
+  /**
+   * @return the statement cache bound to the given leased connection, or {@code null} if statements are not cached per
+   *         connection (see {@link AbstractSqlService#isJdbcConnectionStatementCache()}).
+   */
+  IStatementCache getStatementCache(Connection conn);
+
+  /**
+   * @return a human readable description of the pooled connections.
+   */
+  String getInventory();
+
+  /**
+   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
+   */
+  boolean isDestroyed();
+
+  /**
+   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
+   */
+  void destroy();
+}
@@ -11,10 +11,13 @@ package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
 import java.sql.Connection;
 
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCache;
+
 @SuppressWarnings({"squid:S00116", "squid:ClassVariableVisibilityCheck"})
 class PoolEntry {
   public Connection conn;
   public long createTime;
   public long leaseBegin;
   public int leaseCount;
+  public ConnectionStatementCache statementCache;
 }
@@ -29,6 +29,8 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.TimingUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,11 +48,12 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
   private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
   private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
+  private static final AttributeKey<String> CACHE_RESULT = AttributeKey.stringKey("result");
   private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
 
   private volatile boolean m_destroyed;
@@ -67,12 +70,14 @@ public class SqlConnectionPool {
   private volatile long m_connectionLifetime;
   private volatile long m_connectionBusyTimeout;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+  private final ConnectionStatementCache.Statistics m_statementCacheStatistics = new ConnectionStatementCache.Statistics();
   /*
    * OpenTelemetry
    */
   private DoubleHistogram m_connectionWaitTime;
   private Attributes m_defaultAttributes;
 
+  @Override
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
@@ -116,19 +121,30 @@ public class SqlConnectionPool {
         .setDescription("The time it took to obtain an open connection from the pool.")
         .build();
 
+    ObservableLongMeasurement statementCacheRequests = meter.counterBuilder("scout.sql.statement_cache.requests")
+        .setDescription("The number of prepared statement requests served by connection scoped statement caches, by result (hit or miss).")
+        .setUnit("{request}")
+        .buildObserver();
+
     m_defaultAttributes = Attributes.of(POOL_NAME, m_name);
     Attributes idleConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "idle").build();
     Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
+    Attributes cacheHitAttributes = m_defaultAttributes.toBuilder().put(CACHE_RESULT, "hit").build();
+    Attributes cacheMissAttributes = m_defaultAttributes.toBuilder().put(CACHE_RESULT, "miss").build();
     //noinspection resource
     meter.batchCallback(() -> {
       connectionsUsage.record(m_idleEntries.size(), idleConnectionsAttributes);
       connectionsUsage.record(m_busyEntries.size(), usedConnectionsAttributes);
       maxConnections.record(m_poolSize, m_defaultAttributes);
+      statementCacheRequests.record(m_statementCacheStatistics.getHitCount(), cacheHitAttributes);
+      statementCacheRequests.record(m_statementCacheStatistics.getMissCount(), cacheMissAttributes);
     },
         connectionsUsage,
-        maxConnections);
+        maxConnections,
+        statementCacheRequests);
   }
 
+  @Override
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
     managePool();
@@ -149,6 +165,9 @@ public class SqlConnectionPool {
           LOG.info("created jdbc connection {}", test.conn);
           service.callbackAfterConnectionCreated(test.conn);
           test.createTime = System.currentTimeMillis();
+          if (service.isJdbcConnectionStatementCache()) {
+            test.statementCache = new ConnectionStatementCache(test.conn, service.getJdbcStatementCacheSize(), m_statementCacheStatistics);
+          }
           m_idleEntries.add(test);
           candidate = test;
         }
@@ -193,6 +212,7 @@ public class SqlConnectionPool {
     }
   }
 
+  @Override
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
     synchronized (m_poolLock) {
@@ -257,6 +277,19 @@ public class SqlConnectionPool {
     managePool();
   }
 
+  @Override
+  public IStatementCache getStatementCache(Connection conn) {
+    synchronized (m_poolLock) {
+      for (PoolEntry e : m_busyEntries) {
+        if (e.conn == conn) {
+          return e.statementCache;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
@@ -318,6 +351,7 @@ public class SqlConnectionPool {
   /**
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
+  @Override
   public boolean isDestroyed() {
     return m_destroyed;
   }
@@ -325,6 +359,7 @@ public class SqlConnectionPool {
   /**
    * Destroys this connection pool. Upon return, this pool cannot be used anymore.
    */
+  @Override
   public void destroy() {
     if (isDestroyed()) {
       return;
@@ -537,6 +537,11 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     cs.registerOutParameter(index, jdbcType);
   }
 
+  @Override
+  public boolean isBatchExecutionEnabled() {
+    return true;
+  }
+
   protected int getJdbcType(Class c) {
     int jdbcType;
     if (Timestamp.class.isAssignableFrom(c)) {
@@ -16,6 +16,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.eclipse.scout.rt.platform.holders.IHolder;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
@@ -153,6 +154,40 @@ public interface ISqlStyle extends Serializable {
    */
   void registerOutput(CallableStatement cs, int index, Class bindType) throws SQLException;
 
+  /**
+   * flag signaling whether modifications for multiple rows (array or table binds) may be sent to the database as JDBC
+   * batch using {@link PreparedStatement#addBatch()} and {@link PreparedStatement#executeBatch()}. Default is
+   * <code>false</code>.
+   */
+  default boolean isBatchExecutionEnabled() {
+    return false;
+  }
+
+  /**
+   * Sums up the update counts. Some drivers only report {@link Statement#SUCCESS_NO_INFO} for a successful row, which
+   * is counted as one modified row.
+   *
+   * @return number of modified rows of a JDBC batch
+   * @param updateCounts
+   *          update counts as returned by {@link PreparedStatement#executeBatch()}, may contain
+   *          {@link Statement#SUCCESS_NO_INFO}
+   */
+  default int getBatchUpdateCount(int[] updateCounts) {
+    int rowCount = 0;
+    if (updateCounts == null) {
+      return rowCount;
+    }
+    for (int count : updateCounts) {
+      if (count >= 0) {
+        rowCount += count;
+      }
+      else if (count == Statement.SUCCESS_NO_INFO) {
+        rowCount++;
+      }
+    }
+    return rowCount;
+  }
+
   /**
    * test a connection before use<br />
    * Note: this method is called before *every* sql connection pool transaction<br />
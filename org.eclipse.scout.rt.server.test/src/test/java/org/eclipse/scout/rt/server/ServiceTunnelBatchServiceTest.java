@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ServiceTunnelBatchService}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelBatchServiceTest {
+
+  @BeanMock
+  private IPingService m_pingSvc;
+
+  private final List<ITransaction> m_transactions = new ArrayList<>();
+
+  @Test
+  public void testSingleTransaction() {
+    mockPingService(null);
+    List<ServiceTunnelResponse> responses = invoke(true, "a", "b");
+
+    assertEquals(2, responses.size());
+    assertEquals("a", responses.get(0).getData());
+    assertEquals("b", responses.get(1).getData());
+    assertEquals(2, m_transactions.size());
+    assertSame(m_transactions.get(0), m_transactions.get(1));
+  }
+
+  @Test
+  public void testSeparateTransactions() {
+    mockPingService(null);
+    List<ServiceTunnelResponse> responses = invoke(false, "a", "b");
+
+    assertEquals(2, responses.size());
+    assertEquals("a", responses.get(0).getData());
+    assertEquals("b", responses.get(1).getData());
+    assertEquals(2, m_transactions.size());
+    assertNotSame(m_transactions.get(0), m_transactions.get(1));
+  }
+
+  @Test(expected = ProcessingException.class) //exception is handled with JUnitExceptionHandler
+  public void testSingleTransactionFailure() {
+    mockPingService("fail");
+    List<ServiceTunnelResponse> responses = invoke(true, "a", "fail", "c");
+
+    // The remaining requests are not invoked, all other responses signal the rollback
+    verify(m_pingSvc, times(2)).ping(anyString());
+    assertEquals(3, responses.size());
+    assertTrue(responses.get(0).getException() instanceof ProcessingException);
+    assertTrue(responses.get(1).getException() instanceof ProcessingException);
+    assertTrue(responses.get(2).getException() instanceof ProcessingException);
+    assertNull(responses.get(0).getData());
+  }
+
+  @Test(expected = ProcessingException.class) //exception is handled with JUnitExceptionHandler
+  public void testSeparateTransactionsFailure() {
+    mockPingService("fail");
+    List<ServiceTunnelResponse> responses = invoke(false, "a", "fail", "c");
+
+    verify(m_pingSvc, times(3)).ping(anyString());
+    assertEquals(3, responses.size());
+    assertEquals("a", responses.get(0).getData());
+    assertTrue(responses.get(1).getException() instanceof ProcessingException);
+    assertEquals("c", responses.get(2).getData());
+  }
+
+  private void mockPingService(String failingValue) {
+    when(m_pingSvc.ping(anyString())).thenAnswer(invocation -> {
+      m_transactions.add(ITransaction.CURRENT.get());
+      String value = invocation.getArgument(0);
+      if (value.equals(failingValue)) {
+        throw new ProcessingException(value);
+      }
+      return value;
+    });
+  }
+
+  private List<ServiceTunnelResponse> invoke(boolean singleTransaction, String... values) {
+    List<ServiceTunnelRequest> requests = new ArrayList<>();
+    Arrays.stream(values).forEach(value -> requests.add(new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{value})));
+    return ServerRunContexts.empty().call(() -> new ServiceTunnelBatchService().invoke(requests, singleTransaction));
+  }
+}
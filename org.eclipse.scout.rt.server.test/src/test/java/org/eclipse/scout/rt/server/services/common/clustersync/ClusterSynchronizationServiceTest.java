@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
@@ -33,6 +34,7 @@ import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.server.TestServerSession;
 import org.eclipse.scout.rt.server.mom.IClusterMomDestinations;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatch;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.shared.services.common.bookmark.BookmarkChangedClientNotification;
@@ -147,11 +149,12 @@ public class ClusterSynchronizationServiceTest {
     ITransaction.CURRENT.get().commitPhase1();
     ITransaction.CURRENT.get().commitPhase2();
 
-    // verify
-    verify(m_nullMomImplementorSpy, times(2)).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
+    // verify: one envelope message containing both notifications
+    verify(m_nullMomImplementorSpy, times(1)).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
     assertEquals(2, m_svc.getStatusInfo().getSentMessageCount());
 
-    List<ClusterNotificationMessage> messages = msgCaptor.getAllValues();
+    List<IClusterNotificationMessage> messages = getBatchMessages(msgCaptor.getValue());
+    assertEquals(2, messages.size());
     assertEquals("Testnotification1", messages.get(0).getNotification());
     assertEquals("Testnotification2", messages.get(1).getNotification());
   }
@@ -184,14 +187,38 @@ public class ClusterSynchronizationServiceTest {
     ITransaction.CURRENT.get().commitPhase2();
 
     // verify
-    verify(m_nullMomImplementorSpy, times(2)).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
+    verify(m_nullMomImplementorSpy, times(1)).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
     assertEquals(2, m_svc.getStatusInfo().getSentMessageCount());
 
-    List<ClusterNotificationMessage> messages = msgCaptor.getAllValues();
+    List<IClusterNotificationMessage> messages = getBatchMessages(msgCaptor.getValue());
+    assertEquals(2, messages.size());
     assertEquals(BookmarkChangedClientNotification.class, messages.get(0).getNotification().getClass());
     assertEquals(InvalidateCacheNotification.class, messages.get(1).getNotification().getClass());
   }
 
+  /**
+   * Tests that all messages of a received batch are processed.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testReceiveBatch() {
+    ClusterNotificationProperties testProps = new ClusterNotificationProperties(TEST_NODE, TEST_USER);
+    List<IClusterNotificationMessage> batch = Arrays.asList(m_message, new ClusterNotificationMessage(new BookmarkChangedClientNotification(), testProps));
+    IMessage<IClusterNotificationMessage> momMsg = mock(IMessage.class);
+    when(momMsg.getTransferObject()).thenReturn(new ClusterNotificationMessage(new ClusterNotificationBatch(batch), testProps));
+    m_svc.onMessage(momMsg);
+
+    assertEquals(2, m_svc.getStatusInfo().getReceivedMessageCount());
+    assertEquals(1, m_svc.getStatusInfo(String.class).getReceivedMessageCount());
+    assertEquals(1, m_svc.getStatusInfo(BookmarkChangedClientNotification.class).getReceivedMessageCount());
+    assertEquals(0, m_svc.getStatusInfo(ClusterNotificationBatch.class).getReceivedMessageCount());
+  }
+
+  private List<IClusterNotificationMessage> getBatchMessages(IClusterNotificationMessage message) {
+    assertTrue(message.getNotification() instanceof ClusterNotificationBatch);
+    return ((ClusterNotificationBatch) message.getNotification()).getMessages();
+  }
+
   private void assertNoMessageSent() {
     verify(m_nullMomImplementorSpy, never()).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
     assertEmptyNodeInfo(m_svc.getStatusInfo());
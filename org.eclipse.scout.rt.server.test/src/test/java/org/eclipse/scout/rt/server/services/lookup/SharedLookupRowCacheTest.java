@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.LocalLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link SharedLookupRowCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SharedLookupRowCacheTest {
+
+  private static int s_invocations;
+  private SharedLookupRowCache m_cache;
+
+  @Before
+  public void before() {
+    s_invocations = 0;
+    m_cache = new P_SharedLookupRowCache();
+    BeanInstanceUtil.initializeBeanInstance(m_cache);
+  }
+
+  @Test
+  public void testSharedAmongCalls() {
+    List<ILookupRow<?>> rows1 = m_cache.getDataByKey(createCall(1L));
+    List<ILookupRow<?>> rows2 = m_cache.getDataByKey(createCall(1L));
+    assertEquals(1, s_invocations);
+    assertEquals(1, rows1.size());
+    assertEquals("Flower 1", rows1.get(0).getText());
+    assertEquals(rows1, rows2);
+    assertNotSame(rows1, rows2);
+
+    m_cache.getDataByKey(createCall(2L));
+    assertEquals(2, s_invocations);
+  }
+
+  @Test
+  public void testKeyedByLocale() {
+    RunContexts.copyCurrent().withLocale(Locale.ENGLISH).run(() -> m_cache.getDataByKey(createCall(1L)));
+    RunContexts.copyCurrent().withLocale(Locale.GERMAN).run(() -> m_cache.getDataByKey(createCall(1L)));
+    RunContexts.copyCurrent().withLocale(Locale.ENGLISH).run(() -> m_cache.getDataByKey(createCall(1L)));
+    assertEquals(2, s_invocations);
+  }
+
+  @Test
+  public void testInvalidate() {
+    m_cache.getDataByKey(createCall(1L));
+    m_cache.invalidate(P_FlowerLookupCall.class);
+    m_cache.getDataByKey(createCall(1L));
+    assertEquals(2, s_invocations);
+
+    m_cache.invalidateAll();
+    m_cache.getDataByKey(createCall(1L));
+    assertEquals(3, s_invocations);
+  }
+
+  @Test
+  public void testNotCacheable() {
+    P_FlowerLookupCallWithMembers call = new P_FlowerLookupCallWithMembers();
+    call.setKey(1L);
+    m_cache.getDataByKey(call);
+    m_cache.getDataByKey(call);
+    assertEquals(2, s_invocations);
+
+    assertTrue(m_cache.getDataByKey(new P_FlowerLookupCall()).isEmpty());
+    assertEquals(2, s_invocations);
+  }
+
+  protected static P_FlowerLookupCall createCall(Long key) {
+    P_FlowerLookupCall call = new P_FlowerLookupCall();
+    call.setKey(key);
+    return call;
+  }
+
+  private static class P_SharedLookupRowCache extends SharedLookupRowCache {
+
+    @Override
+    public boolean isEnabled() {
+      return true;
+    }
+
+    @Override
+    protected ICacheBuilder<SharedLookupRowCacheKey, List<ILookupRow<?>>> createCacheBuilder() {
+      return super.createCacheBuilder()
+          .withCacheId(CACHE_ID + ".for.test")
+          .withReplaceIfExists(true);
+    }
+  }
+
+  public static class P_FlowerLookupCall extends LocalLookupCall<Long> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected List<? extends ILookupRow<Long>> execCreateLookupRows() {
+      s_invocations++;
+      return List.of(new LookupRow<>(1L, "Flower 1"), new LookupRow<>(2L, "Flower 2"));
+    }
+  }
+
+  public static class P_FlowerLookupCallWithMembers extends P_FlowerLookupCall {
+    private static final long serialVersionUID = 1L;
+
+    @SuppressWarnings("unused")
+    private Long m_latinId;
+  }
+}
@@ -11,9 +11,12 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
+import org.eclipse.scout.rt.server.services.lookup.SharedLookupRowCache;
 
 public final class ServerConfigProperties {
 
@@ -40,6 +43,25 @@ public final class ServerConfigProperties {
     }
   }
 
+  public static class ClusterSyncBatchMaxSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 200;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.batchMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of cluster notifications of a transaction that are published together in one message. "
+          + "If a transaction publishes more notifications, several messages are sent. Use 1 to publish every notification in its own message. The default value is 200.";
+    }
+  }
+
   public static class ServerSessionCacheExpirationProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -70,4 +92,59 @@ public final class ServerConfigProperties {
       return String.format("Absolute path to the root directory of the '%s'. The default value is null.", RemoteFileService.class.getSimpleName());
     }
   }
+
+  public static class SharedLookupRowCacheEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.lookup.sharedCache.enabled";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies if the results of key lookups executed by the batch lookup service are cached in the '%s' and shared among all sessions. "
+          + "Only enable it if the lookup rows returned for a key do not depend on the user. The default value is false.", SharedLookupRowCache.class.getSimpleName());
+    }
+  }
+
+  public static class SharedLookupRowCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 10000L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.lookup.sharedCache.maxSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of key lookup results kept in the '%s'. The default value is 10000.", SharedLookupRowCache.class.getSimpleName());
+    }
+  }
+
+  public static class SharedLookupRowCacheTtlProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return TimeUnit.MINUTES.toMillis(1);
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.lookup.sharedCache.ttl";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Number of milliseconds a key lookup result is kept in the '%s'. The default value is one minute.", SharedLookupRowCache.class.getSimpleName());
+    }
+  }
 }
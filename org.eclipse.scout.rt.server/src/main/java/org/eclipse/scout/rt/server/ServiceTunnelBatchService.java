@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.context.ServerRunContext;
+import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelBatchService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+
+/**
+ * Invokes the service operations of a batch with the {@link ServiceOperationInvoker}, like the
+ * {@link ServiceTunnelServlet} does for single requests.
+ *
+ * @since 24.2
+ */
+public class ServiceTunnelBatchService implements IServiceTunnelBatchService {
+
+  @Override
+  public List<ServiceTunnelResponse> invoke(List<ServiceTunnelRequest> requests, boolean singleTransaction) {
+    for (ServiceTunnelRequest request : requests) {
+      Assertions.assertFalse(IServiceTunnelBatchService.class.getName().equals(request.getServiceInterfaceClassName()), "Batches cannot be nested");
+    }
+
+    ServiceOperationInvoker invoker = BEANS.get(ServiceOperationInvoker.class);
+    List<ServiceTunnelResponse> responses = new ArrayList<>(requests.size());
+    int failedIndex = -1;
+    for (ServiceTunnelRequest request : requests) {
+      ServiceTunnelResponse response = invoker.invoke(createRunContext(singleTransaction), request);
+      responses.add(response);
+      if (singleTransaction && response.getException() != null) {
+        failedIndex = responses.size() - 1;
+        break;
+      }
+    }
+
+    if (failedIndex >= 0) {
+      // The transaction is rolled back, hence no other request was successful
+      ServiceTunnelResponse failedResponse = responses.get(failedIndex);
+      responses.clear();
+      for (int i = 0; i < requests.size(); i++) {
+        responses.add(i == failedIndex ? failedResponse : new ServiceTunnelResponse(createRolledBackException()));
+      }
+    }
+    return responses;
+  }
+
+  /**
+   * @return the run context to invoke a single service operation of the batch. If <code>singleTransaction</code> is
+   *         <code>true</code>, the transaction of the batch request is used.
+   */
+  protected ServerRunContext createRunContext(boolean singleTransaction) {
+    return ServerRunContexts.copyCurrent()
+        .withTransactionScope(singleTransaction ? TransactionScope.MANDATORY : TransactionScope.REQUIRES_NEW);
+  }
+
+  /**
+   * Creates the exception for requests of a batch whose transaction was rolled back because of the failure of another
+   * request. Like {@link ServiceOperationInvoker#interceptException(Throwable)}, it does not reveal any details.
+   */
+  protected Throwable createRolledBackException() {
+    ProcessingException e = new ProcessingException("Transaction rolled back because a service operation of the batch failed");
+    e.setStackTrace(new StackTraceElement[0]);
+    return e;
+  }
+}
@@ -21,10 +21,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.transaction.TransactionCancelledError;
 import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
 import org.eclipse.scout.rt.platform.util.LazyValue;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.AbstractInterruptionError;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
@@ -43,9 +45,13 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry;
 import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistrationHandle;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CompactServiceTunnelSerializationProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.CompactBinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnel;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +68,7 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
   protected static final String DUPLICATE_REQUEST_DETECTOR_SESSION_KEY = "DuplicateRequestDetector";
 
   protected transient IServiceTunnelContentHandler m_contentHandler;
+  protected transient CompactBinaryServiceTunnelContentHandler m_compactContentHandler;
   protected transient LazyValue<HttpServerRunContextProducer> m_serverRunContextProducer = new LazyValue<>(HttpServerRunContextProducer.class);
   protected transient LazyValue<HttpServletControl> m_httpServletControl = new LazyValue<>(HttpServletControl.class);
   protected transient LazyValue<HttpCacheControl> m_httpCacheControl = new LazyValue<>(HttpCacheControl.class);
@@ -250,7 +257,12 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
    * Method invoked to deserialize a service request to be given to the service handler.
    */
   protected ServiceTunnelRequest deserializeServiceRequest() throws IOException, ClassNotFoundException {
-    return m_contentHandler.readRequest(IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get().getInputStream());
+    HttpServletRequest req = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
+    // the compact content handler reads the regular binary format as well. Requests of a client with another
+    // compatibility version (e.g. after a failover to a node of another build) are read with the regular content
+    // handler, which rejects the compact format.
+    IServiceTunnelContentHandler contentHandler = isCompactSerializationAccepted(req) ? m_compactContentHandler : m_contentHandler;
+    return contentHandler.readRequest(req.getInputStream());
   }
 
   /**
@@ -263,8 +275,23 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     m_httpServletControl.get().doDefaults(this, req, resp);
 
     m_httpCacheControl.get().checkAndSetCacheHeaders(req, resp, null);
-    resp.setContentType(m_contentHandler.getContentType());
-    m_contentHandler.writeResponse(resp.getOutputStream(), serviceResponse);
+    IServiceTunnelContentHandler contentHandler = m_contentHandler;
+    if (isCompactSerializationAccepted(req)) {
+      resp.setHeader(HttpServiceTunnel.COMPACT_SERIALIZATION_HTTP_HEADER, m_compactContentHandler.getCompatibilityVersion());
+      contentHandler = m_compactContentHandler;
+    }
+    resp.setContentType(contentHandler.getContentType());
+    contentHandler.writeResponse(resp.getOutputStream(), serviceResponse);
+  }
+
+  /**
+   * @return <code>true</code> if the client has announced the support of the compact serialization format with the
+   *         same version, see {@link HttpServiceTunnel#COMPACT_SERIALIZATION_HTTP_HEADER}.
+   * @since 24.2
+   */
+  protected boolean isCompactSerializationAccepted(HttpServletRequest req) {
+    return m_compactContentHandler != null
+        && ObjectUtility.equals(m_compactContentHandler.getCompatibilityVersion(), req.getHeader(HttpServiceTunnel.COMPACT_SERIALIZATION_HTTP_HEADER));
   }
 
   // === INITIALIZATION ===
@@ -278,6 +305,7 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
       return;
     }
     m_contentHandler = createContentHandler();
+    m_compactContentHandler = createCompactContentHandler();
   }
 
   /**
@@ -291,6 +319,24 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     return e;
   }
 
+  /**
+   * Create the (reusable) content handler for the compact serialization format, which is used in addition to the
+   * regular binary content handler if {@link CompactServiceTunnelSerializationProperty} is enabled.
+   *
+   * @return <code>null</code> if the compact format is not supported, e.g. because the handler has no compatibility
+   *         version
+   * @since 24.2
+   */
+  protected CompactBinaryServiceTunnelContentHandler createCompactContentHandler() {
+    if (!CONFIG.getPropertyValue(CompactServiceTunnelSerializationProperty.class)
+        || !(m_contentHandler instanceof BinaryServiceTunnelContentHandler)) {
+      return null;
+    }
+    CompactBinaryServiceTunnelContentHandler e = BEANS.get(CompactBinaryServiceTunnelContentHandler.class);
+    e.initialize();
+    return e.getCompatibilityVersion() != null ? e : null;
+  }
+
   protected boolean isConnectionError(Throwable e) {
     return BEANS.get(ConnectionErrorDetector.class).isConnectionError(e);
   }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.admin.html.view;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.AllCacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentBoundedMap;
+import org.eclipse.scout.rt.security.ACCESS;
+import org.eclipse.scout.rt.server.admin.html.AbstractHtmlAction;
+import org.eclipse.scout.rt.server.admin.html.AdminSession;
+import org.eclipse.scout.rt.server.admin.html.widget.table.HtmlComponent;
+import org.eclipse.scout.rt.shared.security.UpdateServiceConfigurationPermission;
+
+/**
+ * Shows the registered caches and their {@link CacheStatistics}.
+ */
+@SuppressWarnings("bsiRulesDefinition:htmlInString")
+public class CachesView extends DefaultView {
+
+  public CachesView(AdminSession as) {
+    super(as);
+  }
+
+  @Override
+  public boolean isVisible() {
+    return ACCESS.check(new UpdateServiceConfigurationPermission());
+  }
+
+  @Override
+  public void produceTitle(HtmlComponent p) {
+    p.print("Caches");
+  }
+
+  @Override
+  public void produceBody(HtmlComponent p) {
+    List<ICache<?, ?>> caches = BEANS.get(ICacheRegistryService.class).getAllCaches().stream()
+        .sorted(Comparator.comparing(ICache::getCacheId))
+        .collect(Collectors.toList());
+
+    p.linkAction("Reset statistics", new AbstractHtmlAction("resetCacheStatistics") {
+
+      @Override
+      public void run() {
+        for (ICache<?, ?> cache : caches) {
+          CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+          if (statistics != null) {
+            statistics.reset();
+          }
+        }
+      }
+    });
+    p.p();
+
+    p.startTable(1, 0, 3);
+    p.startTableRow();
+    p.tableHeaderCell("Cache");
+    p.tableHeaderCell("Size");
+    p.tableHeaderCell("Hits");
+    p.tableHeaderCell("Misses");
+    p.tableHeaderCell("Hit ratio");
+    p.tableHeaderCell("Loads");
+    p.tableHeaderCell("Avg. load time");
+    p.tableHeaderCell("Invalidations");
+    p.tableHeaderCell("Evictions");
+    p.tableHeaderCell("");
+    p.endTableRow();
+    for (ICache<?, ?> cache : caches) {
+      renderCacheRow(p, cache);
+    }
+    p.endTable();
+    p.p("Hits, misses and loads are only collected for caches with statistics enabled (see config property 'scout.cache.statistics.enabled').");
+  }
+
+  protected void renderCacheRow(HtmlComponent p, ICache<?, ?> cache) {
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    ConcurrentBoundedMap<?, ?> boundedMap = cache.getAdapter(ConcurrentBoundedMap.class);
+    String label = cache.getLabel();
+
+    p.startTableRow();
+    p.tableCell(StringUtility.hasText(label) ? cache.getCacheId() + " (" + label + ")" : cache.getCacheId());
+    p.tableCell(boundedMap != null ? boundedMap.size() + " / " + boundedMap.getMaximumWeight() : "" + cache.getUnmodifiableMap().size());
+    if (statistics != null) {
+      p.tableCell("" + statistics.getHitCount());
+      p.tableCell("" + statistics.getMissCount());
+      p.tableCell(String.format("%.1f%%", statistics.getHitRatio() * 100));
+      p.tableCell("" + statistics.getLoadCount());
+      p.tableCell(String.format("%.2f ms", statistics.getAverageLoadTimeMillis()));
+      p.tableCell("" + statistics.getInvalidationCount());
+    }
+    else {
+      for (int i = 0; i < 6; i++) {
+        p.tableCell("-");
+      }
+    }
+    p.tableCell(boundedMap != null ? "" + boundedMap.getEvictionCount() : "-");
+    p.startTableCell();
+    p.linkAction("invalidate", new AbstractHtmlAction("invalidateCache." + cache.getCacheId()) {
+
+      @Override
+      public void run() {
+        invalidateAll(cache);
+      }
+    });
+    p.endTableCell();
+    p.endTableRow();
+  }
+
+  protected <K, V> void invalidateAll(ICache<K, V> cache) {
+    cache.invalidate(new AllCacheEntryFilter<>(), true);
+  }
+}
@@ -22,6 +22,7 @@ public class TopView extends DefaultView {
   private final ServicesView m_servicesView;
   private final SessionsView m_sessionsView;
   private final CallsView m_callsView;
+  private final CachesView m_cachesView;
 
   private IView m_activeView;
 
@@ -32,6 +33,7 @@ public class TopView extends DefaultView {
     m_servicesView = new ServicesView(as);
     m_sessionsView = new SessionsView(as);
     m_callsView = new CallsView(as);
+    m_cachesView = new CachesView(as);
 
     m_activeView = m_generalView;
   }
@@ -60,6 +62,10 @@ public class TopView extends DefaultView {
     m_activeView = m_callsView;
   }
 
+  public void showCaches() {
+    m_activeView = m_cachesView;
+  }
+
   public GeneralView getGeneralView() {
     return m_generalView;
   }
@@ -76,11 +82,15 @@ public class TopView extends DefaultView {
     return m_callsView;
   }
 
+  public CachesView getCachesView() {
+    return m_cachesView;
+  }
+
   @Override
   public void produceBody(HtmlComponent p) {
     m_messagesView.produceBody(p);
     p.raw("[ ");
-    for (IView v : new IView[]{m_generalView, m_servicesView, m_sessionsView, m_callsView}) {
+    for (IView v : new IView[]{m_generalView, m_servicesView, m_sessionsView, m_callsView, m_cachesView}) {
       if (v.isVisible()) {
         p.raw("&nbsp;");
         if (v == m_activeView) {
@@ -12,7 +12,6 @@ package org.eclipse.scout.rt.server.services.common.clustersync;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -36,10 +35,12 @@ import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchMaxSizeProperty;
 import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncUserProperty;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.mom.IClusterMomDestinations;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatch;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.server.session.ServerSessionProviderWithCache;
@@ -169,7 +170,7 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
    * Publish and update status.
    */
   private void publishInternal(List<IClusterNotificationMessage> messages) {
-    for (IClusterNotificationMessage message : messages) {
+    for (IClusterNotificationMessage message : createEnvelopes(messages)) {
       MOM.publish(ClusterMom.class, IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC, message);
     }
     for (IClusterNotificationMessage im : messages) {
@@ -178,6 +179,28 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
     }
   }
 
+  /**
+   * Packs the messages into envelope messages with a {@link ClusterNotificationBatch} of at most
+   * {@link ClusterSyncBatchMaxSizeProperty} messages each. A single message is published as it is.
+   */
+  protected List<IClusterNotificationMessage> createEnvelopes(List<IClusterNotificationMessage> messages) {
+    int batchMaxSize = CONFIG.getPropertyValue(ClusterSyncBatchMaxSizeProperty.class);
+    if (messages.size() <= 1 || batchMaxSize <= 1) {
+      return messages;
+    }
+    List<IClusterNotificationMessage> envelopes = new ArrayList<>();
+    for (int i = 0; i < messages.size(); i += batchMaxSize) {
+      List<IClusterNotificationMessage> batch = messages.subList(i, Math.min(i + batchMaxSize, messages.size()));
+      if (batch.size() == 1) {
+        envelopes.add(batch.get(0));
+      }
+      else {
+        envelopes.add(new ClusterNotificationMessage(new ClusterNotificationBatch(batch), batch.get(0).getProperties()));
+      }
+    }
+    return envelopes;
+  }
+
   @Override
   public IClusterNotificationProperties getNotificationProperties() {
     ISession curentSession = ISession.CURRENT.get();
@@ -196,19 +219,36 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
         return;
       }
 
-      getStatusInfoInternal().updateReceiveStatus(notificationMessage);
-      getStatusInfoInternal(notificationMessage.getNotification().getClass()).updateReceiveStatus(notificationMessage);
+      // the notifications of a batch are dispatched in a single run context
+      final List<IClusterNotificationMessage> notificationMessages = unwrap(notificationMessage);
+      for (IClusterNotificationMessage m : notificationMessages) {
+        getStatusInfoInternal().updateReceiveStatus(m);
+        getStatusInfoInternal(m.getNotification().getClass()).updateReceiveStatus(m);
+      }
 
       ServerRunContext serverRunContext = ServerRunContexts.empty();
       serverRunContext.withSubject(m_subject);
       serverRunContext.withSession(BEANS.get(ServerSessionProviderWithCache.class).provide(serverRunContext.copy()));
       serverRunContext.run(() -> {
         NotificationHandlerRegistry reg = BEANS.get(NotificationHandlerRegistry.class);
-        reg.notifyNotificationHandlers(notificationMessage.getNotification());
+        for (IClusterNotificationMessage m : notificationMessages) {
+          reg.notifyNotificationHandlers(m.getNotification());
+        }
       });
     }
   }
 
+  /**
+   * @return the messages contained in the given message if it is an envelope of a {@link ClusterNotificationBatch},
+   *         otherwise the message itself
+   */
+  protected List<IClusterNotificationMessage> unwrap(IClusterNotificationMessage message) {
+    if (message.getNotification() instanceof ClusterNotificationBatch) {
+      return ((ClusterNotificationBatch) message.getNotification()).getMessages();
+    }
+    return CollectionUtility.arrayList(message);
+  }
+
   /**
    * @return transaction member for publishing messages within a transaction
    */
@@ -224,19 +264,19 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
 
   /**
    * Transaction member that notifies other cluster nodes after the causing Scout transaction has been committed. This
-   * ensures that other cluster nodes are not informed too early.
+   * ensures that other cluster nodes are not informed too early. The messages of the transaction are coalesced once
+   * and published together (see {@link ClusterSynchronizationService#createEnvelopes(List)}).
    */
   private class ClusterSynchTransactionMember extends AbstractTransactionMember {
-    private List<IClusterNotificationMessage> m_messageQueue;
+    private final List<IClusterNotificationMessage> m_messageQueue;
 
     public ClusterSynchTransactionMember(String transactionId) {
       super(transactionId);
-      m_messageQueue = new LinkedList<>();
+      m_messageQueue = new ArrayList<>();
     }
 
     public synchronized void addMessage(IClusterNotificationMessage m) {
       m_messageQueue.add(m);
-      m_messageQueue = BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(m_messageQueue);
     }
 
     @Override
@@ -246,7 +286,7 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
 
     @Override
     public synchronized void commitPhase2() {
-      publishInternal(m_messageQueue);
+      publishInternal(BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(m_messageQueue));
     }
 
     @Override
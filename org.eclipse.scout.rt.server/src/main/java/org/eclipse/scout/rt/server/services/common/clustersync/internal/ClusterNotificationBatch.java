@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.server.services.common.clustersync.IClusterNotificationMessage;
+
+/**
+ * Notification of an envelope message which contains several {@link IClusterNotificationMessage}s that are published
+ * together using a single message.
+ *
+ * @since 24.2
+ */
+public class ClusterNotificationBatch implements Serializable {
+  private static final long serialVersionUID = 1L;
+  private final List<IClusterNotificationMessage> m_messages;
+
+  public ClusterNotificationBatch(List<? extends IClusterNotificationMessage> messages) {
+    m_messages = new ArrayList<>(messages);
+  }
+
+  public List<IClusterNotificationMessage> getMessages() {
+    return Collections.unmodifiableList(m_messages);
+  }
+
+  @Override
+  public String toString() {
+    return "ClusterNotificationBatch [m_messages=" + m_messages + "]";
+  }
+}
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.server.services.lookup;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
@@ -34,13 +35,29 @@ public class BatchLookupService implements IServerBatchLookupService {
   public List<List<ILookupRow<?>>> getBatchDataByKey(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
     List<List<ILookupRow<?>>> result = new ArrayList<>();
-    BatchLookupResultCache cache = new BatchLookupResultCache();
+    BatchLookupResultCache cache = createDataByKeyResultCache();
     for (ILookupCall<?> call : calls) {
       result.add(new ArrayList<>(cache.getDataByKey(call)));
     }
     return result;
   }
 
+  /**
+   * @return per operation cache for key lookups which delegates to the {@link SharedLookupRowCache} if it is enabled
+   */
+  protected BatchLookupResultCache createDataByKeyResultCache() {
+    final SharedLookupRowCache sharedCache = BEANS.get(SharedLookupRowCache.class);
+    if (!sharedCache.isEnabled()) {
+      return new BatchLookupResultCache();
+    }
+    return new BatchLookupResultCache() {
+      @Override
+      protected List<ILookupRow<?>> loadDataByKey(ILookupCall call) {
+        return sharedCache.getDataByKey(call);
+      }
+    };
+  }
+
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByText(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+
+/**
+ * Filter to match entries of the {@link SharedLookupRowCache} according to their lookup call classes.
+ * <p>
+ * This class is immutable.
+ *
+ * @since 24.2
+ */
+public class LookupCallCacheEntryFilter implements ICacheEntryFilter<SharedLookupRowCacheKey, List<ILookupRow<?>>> {
+  private static final long serialVersionUID = 1L;
+  private final Set<Class<? extends ILookupCall<?>>> m_lookupCallClasses;
+
+  public LookupCallCacheEntryFilter(Class<? extends ILookupCall<?>> lookupCallClass) {
+    m_lookupCallClasses = CollectionUtility.hashSet(lookupCallClass);
+  }
+
+  public LookupCallCacheEntryFilter(Collection<Class<? extends ILookupCall<?>>> lookupCallClasses) {
+    m_lookupCallClasses = CollectionUtility.hashSetWithoutNullElements(lookupCallClasses);
+  }
+
+  public Set<Class<? extends ILookupCall<?>>> getLookupCallClasses() {
+    return Collections.unmodifiableSet(m_lookupCallClasses);
+  }
+
+  @Override
+  public boolean accept(SharedLookupRowCacheKey key, List<ILookupRow<?>> value) {
+    return key.getLookupCall() != null && m_lookupCallClasses.contains(key.getLookupCall().getClass());
+  }
+
+  @Override
+  public ICacheEntryFilter<SharedLookupRowCacheKey, List<ILookupRow<?>>> coalesce(ICacheEntryFilter<SharedLookupRowCacheKey, List<ILookupRow<?>>> other) {
+    if (other instanceof LookupCallCacheEntryFilter) {
+      HashSet<Class<? extends ILookupCall<?>>> newSet = new HashSet<>(m_lookupCallClasses);
+      newSet.addAll(((LookupCallCacheEntryFilter) other).m_lookupCallClasses);
+      return new LookupCallCacheEntryFilter(newSet);
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "LookupCallCacheEntryFilter [m_lookupCallClasses=" + m_lookupCallClasses + ']';
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.AllCacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.CacheEvictionPolicy;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.cache.ICacheValueResolver;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.SharedLookupRowCacheEnabledProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.SharedLookupRowCacheMaxSizeProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.SharedLookupRowCacheTtlProperty;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+
+/**
+ * Cache for the results of {@link ILookupCall#getDataByKey()} which is shared among all sessions and requests, in
+ * contrast to {@link BatchLookupResultCache} which is used per operation only. It is used by
+ * {@link BatchLookupService#getBatchDataByKey(org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall)}.
+ * <p>
+ * The cache is disabled by default, see {@link SharedLookupRowCacheEnabledProperty}. Only enable it if the lookup rows
+ * returned for a key do not depend on the current user, or restrict the cached lookup calls by overriding
+ * {@link #isCacheable(ILookupCall)}. Entries are keyed by the locale and the lookup call, bounded by
+ * {@link SharedLookupRowCacheMaxSizeProperty} and expire after {@link SharedLookupRowCacheTtlProperty}. The cache is
+ * not transactional. If the data of a lookup call is changed, invalidate it using {@link #invalidate(Class)}, which
+ * is propagated to all cluster nodes.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class SharedLookupRowCache {
+
+  public static final String CACHE_ID = SharedLookupRowCache.class.getName();
+
+  private volatile ICache<SharedLookupRowCacheKey, List<ILookupRow<?>>> m_cache;
+
+  @PostConstruct
+  protected void initCache() {
+    if (isEnabled()) {
+      m_cache = createCacheBuilder().build();
+    }
+  }
+
+  /**
+   * Can be overridden to customize the cache builder
+   *
+   * @return {@link ICacheBuilder} for the internal cache
+   */
+  protected ICacheBuilder<SharedLookupRowCacheKey, List<ILookupRow<?>>> createCacheBuilder() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<SharedLookupRowCacheKey, List<ILookupRow<?>>> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder.withCacheId(CACHE_ID)
+        .withLabelSupplier(() -> "Shared lookup rows")
+        .withValueResolver(createCacheValueResolver())
+        .withShared(true)
+        .withClusterEnabled(true)
+        .withMaximumSize(CONFIG.getPropertyValue(SharedLookupRowCacheMaxSizeProperty.class))
+        .withEvictionPolicy(CacheEvictionPolicy.TINY_LFU)
+        .withTimeToLive(CONFIG.getPropertyValue(SharedLookupRowCacheTtlProperty.class), TimeUnit.MILLISECONDS, false);
+  }
+
+  protected ICacheValueResolver<SharedLookupRowCacheKey, List<ILookupRow<?>>> createCacheValueResolver() {
+    return key -> {
+      List<? extends ILookupRow<?>> rows = key.getLookupCall().getDataByKey();
+      return CollectionUtility.arrayList(rows);
+    };
+  }
+
+  protected ICache<SharedLookupRowCacheKey, List<ILookupRow<?>>> getCache() {
+    return m_cache;
+  }
+
+  public boolean isEnabled() {
+    return CONFIG.getPropertyValue(SharedLookupRowCacheEnabledProperty.class);
+  }
+
+  /**
+   * @return {@code true} if the results of the given lookup call may be shared. By default, calls with a key are
+   *         cacheable if they are cacheable according to {@link BatchLookupResultCache#isCacheable(Class)}.
+   */
+  protected boolean isCacheable(ILookupCall<?> call) {
+    return call != null && call.getKey() != null && BatchLookupResultCache.isCacheable(call.getClass());
+  }
+
+  /**
+   * Creates a new cache key for the current locale. The lookup call is copied since it is kept in the cache.
+   */
+  protected SharedLookupRowCacheKey createCacheKey(ILookupCall<?> call) {
+    return new SharedLookupRowCacheKey(NlsLocale.get(), call.copy());
+  }
+
+  /**
+   * @return the same as {@link ILookupCall#getDataByKey()}, but uses the shared cache if it is enabled and the call is
+   *         cacheable
+   */
+  public List<ILookupRow<?>> getDataByKey(ILookupCall<?> call) {
+    if (call == null || call.getKey() == null) {
+      return CollectionUtility.emptyArrayList();
+    }
+    ICache<SharedLookupRowCacheKey, List<ILookupRow<?>>> cache = getCache();
+    if (cache == null || !isCacheable(call)) {
+      return CollectionUtility.arrayList(call.getDataByKey());
+    }
+    return CollectionUtility.arrayList(cache.get(createCacheKey(call)));
+  }
+
+  /**
+   * Invalidates all cached results of the given lookup call class on all cluster nodes.
+   */
+  public void invalidate(Class<? extends ILookupCall<?>> lookupCallClass) {
+    ICache<SharedLookupRowCacheKey, List<ILookupRow<?>>> cache = getCache();
+    if (cache == null || lookupCallClass == null) {
+      return;
+    }
+    cache.invalidate(new LookupCallCacheEntryFilter(lookupCallClass), true);
+  }
+
+  /**
+   * Invalidates all cached results on all cluster nodes.
+   */
+  public void invalidateAll() {
+    ICache<SharedLookupRowCacheKey, List<ILookupRow<?>>> cache = getCache();
+    if (cache != null) {
+      cache.invalidate(new AllCacheEntryFilter<>(), true);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+
+/**
+ * Key class used for the cache in {@link SharedLookupRowCache}. Two keys are equal if their locales and lookup calls
+ * (according to {@link ILookupCall#equals(Object)}) are equal.
+ *
+ * @since 24.2
+ */
+public class SharedLookupRowCacheKey implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final Locale m_locale;
+  private final ILookupCall<?> m_lookupCall;
+
+  public SharedLookupRowCacheKey(Locale locale, ILookupCall<?> lookupCall) {
+    m_locale = locale;
+    m_lookupCall = lookupCall;
+  }
+
+  public Locale getLocale() {
+    return m_locale;
+  }
+
+  public ILookupCall<?> getLookupCall() {
+    return m_lookupCall;
+  }
+
+  @Override
+  public String toString() {
+    final ToStringBuilder builder = new ToStringBuilder(this);
+    builder.attr("locale", getLocale());
+    builder.attr("lookupCall", getLookupCall());
+    return builder.toString();
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + ((m_lookupCall == null) ? 0 : m_lookupCall.hashCode());
+    result = prime * result + ((m_locale == null) ? 0 : m_locale.hashCode());
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SharedLookupRowCacheKey other = (SharedLookupRowCacheKey) obj;
+    return ObjectUtility.equals(m_locale, other.m_locale)
+        && ObjectUtility.equals(m_lookupCall, other.m_lookupCall);
+  }
+}
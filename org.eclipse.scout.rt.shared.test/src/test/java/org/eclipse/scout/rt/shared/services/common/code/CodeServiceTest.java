@@ -207,6 +207,40 @@ public class CodeServiceTest {
     assertNull(r);
   }
 
+  @Test
+  public void testFindCodeTypeByIdAfterInvalidation() {
+    ICodeService service = newCodeServiceInstance();
+
+    ICodeType<Long, ?> zyxCodeType1 = service.findCodeTypeById(ZYX_ID);
+    assertTrue(zyxCodeType1 instanceof ZyxCodeType);
+
+    // ZyxCodeType is not part of getAllCodeTypeClasses anymore, it must be found using the index
+    service.invalidateCodeType(ZyxCodeType.class);
+    ICodeType<Long, ?> zyxCodeType2 = service.findCodeTypeById(ZYX_ID);
+    assertTrue(zyxCodeType2 instanceof ZyxCodeType);
+    assertNotSame(zyxCodeType1, zyxCodeType2);
+
+    assertNull(service.findCodeTypeById(999L));
+    assertNull(service.findCodeTypeById(999L));
+  }
+
+  @Test
+  public void testGetCode() {
+    ICodeService service = newCodeServiceInstance();
+
+    ZyxCodeType.DayCode dayCode1 = service.getCode(ZyxCodeType.DayCode.class);
+    ZyxCodeType.DayCode dayCode2 = service.getCode(ZyxCodeType.DayCode.class);
+    assertNotNull(dayCode1);
+    assertEquals(ZyxCodeType.DayCode.ID, dayCode1.getId());
+    assertSame(dayCode1, dayCode2);
+
+    service.invalidateCodeType(ZyxCodeType.class);
+    ZyxCodeType.DayCode dayCode3 = service.getCode(ZyxCodeType.DayCode.class);
+    assertEquals(ZyxCodeType.DayCode.ID, dayCode3.getId());
+
+    assertEquals(ZyxCodeType.MonthCode.ID, service.getCode(ZyxCodeType.MonthCode.class).getId());
+  }
+
   @Test
   public void testReplaceLookupUsingCodeService() {
     ICodeService service = newCodeServiceInstance();
@@ -9,7 +9,7 @@
  */
 package org.eclipse.scout.rt.shared.services.common.code;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 import java.util.List;
 
@@ -82,6 +82,8 @@ public class CodeTypeWithAddRemoveCodeTest {
     //replace
     root.addChildCodeInternal(-1, new MutableCode<>(new CodeRow<>(11L, "Test11b")));
     assertEquals("{id:10,text:Root10,children:[{id:5,text:Child5},{id:11,text:Test11b},{id:12,text:Test12},{id:20,text:Child20},{id:30,text:Child30}]}", dumpCodeType(ct));
+    assertEquals("Test11b", ct.getCode(11L).getText());
+    assertEquals("Child30", ct.getCode(30L).getText());
 
     //not part of it
     root.removeChildCodeInternal(10L);
@@ -92,6 +94,7 @@ public class CodeTypeWithAddRemoveCodeTest {
 
     root.removeChildCodeInternal(12L);
     assertEquals("{id:10,text:Root10,children:[{id:11,text:Test11b},{id:20,text:Child20},{id:30,text:Child30}]}", dumpCodeType(ct));
+    assertNull(ct.getCode(12L));
 
     root.removeChildCodeInternal(30L);
     assertEquals("{id:10,text:Root10,children:[{id:11,text:Test11b},{id:20,text:Child20}]}", dumpCodeType(ct));
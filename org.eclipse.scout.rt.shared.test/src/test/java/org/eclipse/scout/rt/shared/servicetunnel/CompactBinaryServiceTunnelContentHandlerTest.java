@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JUnit test for {@link CompactBinaryServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactBinaryServiceTunnelContentHandlerTest {
+  private static final Logger LOG = LoggerFactory.getLogger(CompactBinaryServiceTunnelContentHandlerTest.class);
+
+  @Test
+  public void testRequest() throws Exception {
+    CompactBinaryServiceTunnelContentHandler handler = createHandler(true);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, new ServiceTunnelRequest("test", "op", new Class[]{String.class}, new Object[]{"arg"}));
+    bos.close();
+    assertEquals(CompactBinaryServiceTunnelContentHandler.FORMAT_COMPACT | BinaryServiceTunnelContentHandler.FLAG_COMPRESSED, bos.toByteArray()[0]);
+
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+    assertEquals("op", readRequest.getOperation());
+    assertArrayEquals(new Object[]{"arg"}, readRequest.getArgs());
+  }
+
+  @Test
+  public void testResponseUncompressed() throws Exception {
+    CompactBinaryServiceTunnelContentHandler handler = createHandler(false);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(createFormData(10), null));
+    bos.close();
+    assertEquals(CompactBinaryServiceTunnelContentHandler.FORMAT_COMPACT, bos.toByteArray()[0]);
+
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertFormData(10, (P_PersonFormData) readResponse.getData());
+  }
+
+  @Test
+  public void testReadBinaryFormat() throws Exception {
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    binaryHandler.writeResponse(bos, new ServiceTunnelResponse(createFormData(10), null));
+    bos.close();
+
+    ServiceTunnelResponse readResponse = createHandler(true).readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertFormData(10, (P_PersonFormData) readResponse.getData());
+  }
+
+  @Test
+  public void testRegularHandlerRejectsCompactFormat() throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    createHandler(true).writeRequest(bos, new ServiceTunnelRequest("test", "op", new Class[]{String.class}, new Object[]{"arg"}));
+    bos.close();
+
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+    assertThrows(StreamCorruptedException.class, () -> binaryHandler.readRequest(new ByteArrayInputStream(bos.toByteArray())));
+  }
+
+  @Test
+  public void testLayoutHash() throws Exception {
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null, Collections.emptyList());
+    assertNotEquals(CompactObjectSerializer.computeLayoutHash(ObjectStreamClass.lookup(P_AddressRowData.class)), CompactObjectSerializer.computeLayoutHash(ObjectStreamClass.lookup(P_NotWhitelisted.class)));
+
+    // same class with other fields on the writing peer
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new CompactObjectSerializer.CompactObjectOutputStream(bos, null, Collections.emptyMap()) {
+      @Override
+      protected int getLayoutHash(ObjectStreamClass desc) {
+        return ~super.getLayoutHash(desc);
+      }
+    }) {
+      out.writeObject(new P_NotWhitelisted());
+    }
+    try (ObjectInputStream in = serializer.createObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+      assertThrows(InvalidClassException.class, in::readObject);
+    }
+  }
+
+  @Test
+  public void testWhitelist() throws Exception {
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null, Collections.emptyList());
+    serializer.withWhitelist(className -> !P_NotWhitelisted.class.getName().equals(className));
+    byte[] data = serializer.serialize(new P_NotWhitelisted());
+    assertThrows(ProcessingException.class, () -> serializer.deserialize(data, P_NotWhitelisted.class));
+  }
+
+  @Test
+  public void testCompareWithBinaryFormat() throws Exception {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(createFormData(200), null);
+    for (boolean compressed : new boolean[]{false, true}) {
+      BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler() {
+        @Override
+        protected boolean isUseCompression() {
+          return compressed;
+        }
+      };
+      binaryHandler.initialize();
+      CompactBinaryServiceTunnelContentHandler compactHandler = createHandler(compressed);
+
+      byte[] binaryData = writeResponse(binaryHandler, response);
+      byte[] compactData = writeResponse(compactHandler, response);
+      long binaryNanos = measureRoundtrip(binaryHandler, response);
+      long compactNanos = measureRoundtrip(compactHandler, response);
+      LOG.info("FormData with 200 rows (compressed={}): binary {} bytes ({} us), compact {} bytes ({} us)",
+          compressed, binaryData.length, binaryNanos / 1000L, compactData.length, compactNanos / 1000L);
+
+      assertTrue(String.format("binary: %s, compact: %s", binaryData.length, compactData.length), compactData.length < binaryData.length);
+      assertFormData(200, (P_PersonFormData) compactHandler.readResponse(new ByteArrayInputStream(compactData)).getData());
+    }
+  }
+
+  @Test
+  public void testCompatibilityVersion() {
+    // the compact format is refused as long as the application version is not set
+    assertNull(createHandler("0.0.0", Collections.emptyList()).getCompatibilityVersion());
+    assertNull(createHandler(null, Collections.emptyList()).getCompatibilityVersion());
+
+    String version = createHandler("1.0.0", Collections.emptyList()).getCompatibilityVersion();
+    assertTrue(version, version.startsWith("1.0.0-"));
+    assertEquals(version, createHandler("1.0.0", Collections.emptyList()).getCompatibilityVersion());
+    // another class dictionary results in another version
+    assertNotEquals(version, createHandler("1.0.0", Collections.singletonList(P_PersonFormData.class.getName())).getCompatibilityVersion());
+  }
+
+  protected CompactBinaryServiceTunnelContentHandler createHandler(String applicationVersion, List<String> additionalClasses) {
+    CompactBinaryServiceTunnelContentHandler handler = new CompactBinaryServiceTunnelContentHandler() {
+      @Override
+      protected String getApplicationVersion() {
+        return applicationVersion;
+      }
+
+      @Override
+      protected List<String> createClassDictionary() {
+        List<String> classDictionary = super.createClassDictionary();
+        classDictionary.addAll(additionalClasses);
+        return classDictionary;
+      }
+    };
+    handler.initialize();
+    return handler;
+  }
+
+  protected CompactBinaryServiceTunnelContentHandler createHandler(boolean compressed) {
+    CompactBinaryServiceTunnelContentHandler handler = new CompactBinaryServiceTunnelContentHandler() {
+      @Override
+      protected boolean isUseCompression() {
+        return compressed;
+      }
+    };
+    handler.initialize();
+    return handler;
+  }
+
+  protected byte[] writeResponse(IServiceTunnelContentHandler handler, ServiceTunnelResponse response) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, response);
+    bos.close();
+    return bos.toByteArray();
+  }
+
+  /**
+   * @return average nanoseconds to write and read the response
+   */
+  protected long measureRoundtrip(IServiceTunnelContentHandler handler, ServiceTunnelResponse response) throws Exception {
+    int warmup = 20;
+    int runs = 50;
+    long start = 0;
+    for (int i = 0; i < warmup + runs; i++) {
+      if (i == warmup) {
+        start = System.nanoTime();
+      }
+      handler.readResponse(new ByteArrayInputStream(writeResponse(handler, response)));
+    }
+    return (System.nanoTime() - start) / runs;
+  }
+
+  protected P_PersonFormData createFormData(int rowCount) {
+    P_PersonFormData formData = new P_PersonFormData();
+    formData.getName().setValue("name");
+    formData.getBirthday().setValue(new Date(0));
+    for (int i = 0; i < rowCount; i++) {
+      P_AddressRowData row = formData.getAddresses().addRow();
+      row.setStreet("street " + i);
+      row.setCity("city " + i);
+      row.setDistance(BigDecimal.valueOf(i));
+    }
+    return formData;
+  }
+
+  protected void assertFormData(int rowCount, P_PersonFormData formData) {
+    assertEquals("name", formData.getName().getValue());
+    assertEquals(new Date(0), formData.getBirthday().getValue());
+    assertEquals(rowCount, formData.getAddresses().getRowCount());
+    for (int i = 0; i < rowCount; i++) {
+      P_AddressRowData row = formData.getAddresses().rowAt(i);
+      assertEquals("street " + i, row.getStreet());
+      assertEquals("city " + i, row.getCity());
+      assertEquals(BigDecimal.valueOf(i), row.getDistance());
+    }
+  }
+
+  public static class P_NotWhitelisted implements Serializable {
+    private static final long serialVersionUID = 1L;
+  }
+
+  public static class P_PersonFormData extends AbstractFormData {
+    private static final long serialVersionUID = 1L;
+
+    public Name getName() {
+      return getFieldByClass(Name.class);
+    }
+
+    public Birthday getBirthday() {
+      return getFieldByClass(Birthday.class);
+    }
+
+    public Addresses getAddresses() {
+      return getFieldByClass(Addresses.class);
+    }
+
+    public class Name extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class Birthday extends AbstractValueFieldData<Date> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class Addresses extends AbstractTableFieldBeanData {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public P_AddressRowData addRow() {
+        return (P_AddressRowData) super.addRow();
+      }
+
+      @Override
+      public P_AddressRowData rowAt(int index) {
+        return (P_AddressRowData) super.rowAt(index);
+      }
+
+      @Override
+      public P_AddressRowData createRow() {
+        return new P_AddressRowData();
+      }
+
+      @Override
+      public Class<? extends AbstractTableRowData> getRowType() {
+        return P_AddressRowData.class;
+      }
+    }
+  }
+
+  public static class P_AddressRowData extends AbstractTableRowData {
+    private static final long serialVersionUID = 1L;
+
+    private String m_street;
+    private String m_city;
+    private BigDecimal m_distance;
+
+    public String getStreet() {
+      return m_street;
+    }
+
+    public void setStreet(String street) {
+      m_street = street;
+    }
+
+    public String getCity() {
+      return m_city;
+    }
+
+    public void setCity(String city) {
+      m_city = city;
+    }
+
+    public BigDecimal getDistance() {
+      return m_distance;
+    }
+
+    public void setDistance(BigDecimal distance) {
+      m_distance = distance;
+    }
+  }
+}
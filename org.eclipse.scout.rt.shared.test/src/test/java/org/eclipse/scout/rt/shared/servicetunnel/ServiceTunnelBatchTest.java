@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * JUnit test for {@link ServiceTunnelBatch}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelBatchTest {
+
+  @BeanMock
+  private IServiceTunnelBatchService m_batchService;
+
+  @Test
+  public void testExecute() {
+    when(m_batchService.invoke(anyList(), anyBoolean())).thenReturn(Arrays.asList(new ServiceTunnelResponse("a"), new ServiceTunnelResponse("b")));
+
+    ServiceTunnelBatch batch = BEANS.get(ServiceTunnelBatch.class);
+    Supplier<String> a = batch.call(IPingService.class, s -> s.ping("a"));
+    Supplier<String> b = batch.call(IPingService.class, s -> s.ping("b"));
+    batch.execute();
+
+    assertEquals("a", a.get());
+    assertEquals("b", b.get());
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ServiceTunnelRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(m_batchService).invoke(captor.capture(), eq(true));
+    List<ServiceTunnelRequest> requests = captor.getValue();
+    assertEquals(2, requests.size());
+    assertEquals(IPingService.class.getName(), requests.get(0).getServiceInterfaceClassName());
+    assertEquals("ping", requests.get(0).getOperation());
+    assertArrayEquals(new Class[]{String.class}, requests.get(0).getParameterTypes());
+    assertArrayEquals(new Object[]{"a"}, requests.get(0).getArgs());
+    assertArrayEquals(new Object[]{"b"}, requests.get(1).getArgs());
+  }
+
+  @Test
+  public void testExecuteSeparateTransactions() {
+    when(m_batchService.invoke(anyList(), anyBoolean())).thenReturn(Arrays.asList(new ServiceTunnelResponse("a")));
+
+    ServiceTunnelBatch batch = BEANS.get(ServiceTunnelBatch.class).withSingleTransaction(false);
+    batch.call(IPingService.class, s -> s.ping("a"));
+    batch.execute();
+
+    verify(m_batchService).invoke(anyList(), eq(false));
+  }
+
+  @Test
+  public void testExecuteFailure() {
+    when(m_batchService.invoke(anyList(), anyBoolean())).thenReturn(Arrays.asList(new ServiceTunnelResponse("a"), new ServiceTunnelResponse(new VetoException("veto"))));
+
+    ServiceTunnelBatch batch = BEANS.get(ServiceTunnelBatch.class).withSingleTransaction(false);
+    Supplier<String> a = batch.call(IPingService.class, s -> s.ping("a"));
+    Supplier<String> b = batch.call(IPingService.class, s -> s.ping("b"));
+    assertThrows(VetoException.class, batch::execute);
+
+    assertEquals("a", a.get());
+    assertThrows(VetoException.class, b::get);
+  }
+
+  @Test
+  public void testNotExecuted() {
+    ServiceTunnelBatch batch = BEANS.get(ServiceTunnelBatch.class);
+    Supplier<String> a = batch.call(IPingService.class, s -> s.ping("a"));
+    assertThrows(AssertionException.class, a::get);
+  }
+
+  @Test
+  public void testEmpty() {
+    BEANS.get(ServiceTunnelBatch.class).execute();
+    verifyNoInteractions(m_batchService);
+  }
+
+  @Test
+  public void testNoOperationInvoked() {
+    ServiceTunnelBatch batch = BEANS.get(ServiceTunnelBatch.class);
+    assertThrows(AssertionException.class, () -> batch.call(IPingService.class, s -> null));
+  }
+}
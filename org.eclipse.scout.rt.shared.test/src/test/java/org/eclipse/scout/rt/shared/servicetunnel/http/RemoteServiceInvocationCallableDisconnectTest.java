@@ -41,6 +41,8 @@ public class RemoteServiceInvocationCallableDisconnectTest {
 
     HttpServiceTunnel mockTunnel = mock(HttpServiceTunnel.class);
     when(mockTunnel.getContentHandler()).thenReturn(mock(IServiceTunnelContentHandler.class));
+    when(mockTunnel.getRequestContentHandler()).thenReturn(mock(IServiceTunnelContentHandler.class));
+    when(mockTunnel.getResponseContentHandler(Mockito.any())).thenReturn(mock(IServiceTunnelContentHandler.class));
     when(mockTunnel.executeRequest(Mockito.eq(mockRequest), Mockito.any(byte[].class))).thenReturn(m_mockResponse);
 
     m_callable = new RemoteServiceInvocationCallable(mockTunnel, mockRequest);
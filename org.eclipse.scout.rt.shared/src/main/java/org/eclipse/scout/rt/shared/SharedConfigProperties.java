@@ -205,6 +205,26 @@ public final class SharedConfigProperties {
     }
   }
 
+  public static class CompactServiceTunnelSerializationProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the service tunnel uses the compact binary format (CompactBinaryServiceTunnelContentHandler) which does not transfer the field descriptions of serialized classes. "
+          + "The compact format is only used if both peers have enabled this property and run the same build of the same application version (scout.application.version must be set), otherwise the regular binary format is used.\n"
+          + "By default this property is disabled.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.compactSerialization";
+    }
+  }
+
   public static class CreateTunnelToServerBeansProperty extends AbstractBooleanConfigProperty {
 
     @Override
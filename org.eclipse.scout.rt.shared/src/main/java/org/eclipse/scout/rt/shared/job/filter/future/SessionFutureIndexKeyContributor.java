@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.job.filter.future;
+
+import java.util.Collection;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
+import org.eclipse.scout.rt.platform.job.filter.future.IFutureIndexKeyContributor;
+import org.eclipse.scout.rt.shared.ISession;
+
+/**
+ * Indexes Futures by the {@link ISession} set in their running context, so that {@link SessionFutureFilter}s are only
+ * evaluated against the Futures of that session.
+ *
+ * @since 24.2
+ */
+public class SessionFutureIndexKeyContributor implements IFutureIndexKeyContributor {
+
+  @Override
+  public void contributeIndexKeys(final IFuture<?> future, final Collection<FutureIndexKey> indexKeys) {
+    final RunContext runContext = future.getJobInput().getRunContext();
+    if (runContext == null) {
+      return;
+    }
+
+    final ISession session = runContext.getAdapter(ISession.class);
+    if (session != null) {
+      indexKeys.add(indexKey(session));
+    }
+  }
+
+  /**
+   * Returns the index key for Futures running on behalf of the given session.
+   */
+  public static FutureIndexKey indexKey(final ISession session) {
+    return new FutureIndexKey(ISession.class, new IdentityKey(session));
+  }
+
+  /**
+   * Compares sessions by identity, as done by {@link SessionFutureFilter}.
+   */
+  private static final class IdentityKey {
+
+    private final ISession m_session;
+
+    private IdentityKey(final ISession session) {
+      m_session = session;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(m_session);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof IdentityKey && ((IdentityKey) obj).m_session == m_session;
+    }
+  }
+}
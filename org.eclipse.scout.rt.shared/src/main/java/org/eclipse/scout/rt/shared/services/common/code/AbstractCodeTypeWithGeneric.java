@@ -61,6 +61,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   private transient Map<CODE_ID, CODE> m_rootCodeMap = new HashMap<>();
   private List<CODE> m_rootCodeList = new ArrayList<>();
   private transient Map<CODE_ID, Integer> m_codeIndexMap = new HashMap<>();
+  private transient Map<CODE_ID, ICode<CODE_ID>> m_codeMap = new HashMap<>();
   protected IContributionOwner m_contributionHolder;
   private final ObjectExtensions<AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE>, ICodeTypeExtension<CODE_TYPE_ID, CODE_ID, ? extends AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE>>> m_objectExtensions;
 
@@ -372,6 +373,11 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   public CODE getCode(CODE_ID id) {
     CODE c = m_rootCodeMap.get(id);
     if (c == null) {
+      // codes of all levels are indexed, but child codes may have been added or removed after the index was built
+      ICode<CODE_ID> indexedCode = m_codeMap.get(id);
+      if (indexedCode != null && indexedCode.getCodeType() == this) {
+        return (CODE) indexedCode;
+      }
       for (CODE childCode : m_rootCodeList) {
         c = (CODE) childCode.getChildCode(id);
         if (c != null) {
@@ -401,18 +407,22 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   }
 
   protected void rebuildCodeIndexMap() {
-    m_codeIndexMap = new HashMap<>();
+    Map<CODE_ID, Integer> codeIndexMap = new HashMap<>();
+    Map<CODE_ID, ICode<CODE_ID>> codeMap = new HashMap<>();
     ICodeVisitor<ICode<CODE_ID>> v = new ICodeVisitor<>() {
       private int m_index = 0;
 
       @Override
       public boolean visit(ICode<CODE_ID> code, int treeLevel) {
-        m_codeIndexMap.put(code.getId(), m_index);
+        codeIndexMap.put(code.getId(), m_index);
+        codeMap.putIfAbsent(code.getId(), code);
         m_index++;
         return true;
       }
     };
     visit(v, false);
+    m_codeIndexMap = codeIndexMap;
+    m_codeMap = codeMap;
   }
 
   @Override
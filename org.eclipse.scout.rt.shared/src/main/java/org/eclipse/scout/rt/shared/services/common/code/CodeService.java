@@ -14,10 +14,10 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.annotation.PostConstruct;
 
@@ -34,15 +34,18 @@ import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
 import org.eclipse.scout.rt.platform.holders.Holder;
-import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
-import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.event.FastListenerList;
 import org.eclipse.scout.rt.platform.util.event.IFastListenerList;
 
 /**
  * Common logic for the {@link ICodeService} implementations. Uses {@link ICache} for caching.
+ * <p>
+ * Code types are looked up by id using an index of code type ids to code type classes, which is filled whenever a code
+ * type is loaded. Since the index refers to classes, it is independent of the locale and remains valid if the cache is
+ * invalidated. Code type ids are expected not to change for a code type class; a changed id is detected and the index
+ * is rebuilt.
  *
  * @since 4.3.0 (Mars-M5)
  */
@@ -54,6 +57,10 @@ public class CodeService implements ICodeService {
 
   private volatile ICache<CodeTypeCacheKey, ICodeType<?, ?>> m_cache;
   private volatile IFastListenerList<ICacheInvalidationListener<CodeTypeCacheKey, ICodeType<?, ?>>> m_invalidationListeners;
+  private final Map<Object, Class<? extends ICodeType<?, ?>>> m_codeTypeClassById = new ConcurrentHashMap<>();
+  private volatile boolean m_codeTypeClassByIdComplete;
+  private final Map<Class<?>, Class<? extends ICodeType<?, ?>>> m_declaringCodeTypeClassByCodeClass = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Object> m_codeIdByCodeClass = new ConcurrentHashMap<>();
 
   /**
    * Creates and initializes a new cache. Executed in {@link PostConstruct} to ensure that the cache created exactly
@@ -148,7 +155,9 @@ public class CodeService implements ICodeService {
   @SuppressWarnings("unchecked")
   @Override
   public <T extends ICodeType<?, ?>> T getCodeType(Class<T> type) {
-    return (T) getCache().get(createCacheKey(type));
+    T codeType = (T) getCache().get(createCacheKey(type));
+    indexCodeType(type, codeType);
+    return codeType;
   }
 
   @Override
@@ -157,32 +166,47 @@ public class CodeService implements ICodeService {
       return null;
     }
     ICodeType<T, ?> ct = findCodeTypeByIdInternal(id);
-    if (ct != null) {
+    if (ct != null || m_codeTypeClassByIdComplete) {
       return ct;
     }
-    // populate code type cache
+    // populate code type cache and index, done once unless code type ids change
     getAllCodeTypes();
+    m_codeTypeClassByIdComplete = true;
     return findCodeTypeByIdInternal(id);
   }
 
   /**
-   * @return Returns the code type with the given id or <code>null</code> if it is not found in the cache.
+   * @return Returns the code type with the given id (for the current locale) or <code>null</code> if the id is not
+   *         indexed yet.
    */
   @SuppressWarnings("unchecked")
   protected <T> ICodeType<T, ?> findCodeTypeByIdInternal(T id) {
-    Locale locale = NlsLocale.get();
-    for (Entry<CodeTypeCacheKey, ICodeType<?, ?>> entry : getCache().getUnmodifiableMap().entrySet()) {
-      CodeTypeCacheKey key = entry.getKey();
-      if (ObjectUtility.equals(key.getLocale(), locale)) {
-        ICodeType<?, ?> ct = entry.getValue();
-        if (ct != null && id.equals(ct.getId())) {
-          return (ICodeType<T, ?>) ct;
-        }
-      }
+    Class<? extends ICodeType<?, ?>> codeTypeClass = m_codeTypeClassById.get(id);
+    if (codeTypeClass == null) {
+      return null;
+    }
+    ICodeType<?, ?> ct = getCodeType(codeTypeClass);
+    if (ct != null && id.equals(ct.getId())) {
+      return (ICodeType<T, ?>) ct;
     }
+    // id of code type class changed
+    m_codeTypeClassById.remove(id, codeTypeClass);
+    m_codeTypeClassByIdComplete = false;
     return null;
   }
 
+  /**
+   * Adds the code type to the index used by {@link #findCodeTypeById(Object)}.
+   */
+  protected void indexCodeType(Class<? extends ICodeType<?, ?>> type, ICodeType<?, ?> codeType) {
+    if (type == null || codeType == null || codeType.getId() == null) {
+      return;
+    }
+    if (m_codeTypeClassById.get(codeType.getId()) != type) {
+      m_codeTypeClassById.put(codeType.getId(), type);
+    }
+  }
+
   @Override
   public List<ICodeType<?, ?>> getCodeTypes(List<Class<? extends ICodeType<?, ?>>> types) {
     List<ICodeType<?, ?>> result = new ArrayList<>();
@@ -217,6 +241,7 @@ public class CodeService implements ICodeService {
       Set<Class<? extends ICodeType<?, ?>>> requestedCodeTypes = requestedCodeTypesByCacheKey.get(cacheKey);
       for (Class<? extends ICodeType<?, ?>> requestedCodeType : requestedCodeTypes) {
         result.put(requestedCodeType, entry.getValue());
+        indexCodeType(requestedCodeType, entry.getValue());
       }
     }
     return result;
@@ -225,10 +250,35 @@ public class CodeService implements ICodeService {
   @SuppressWarnings("unchecked")
   @Override
   public <CODE extends ICode<?>> CODE getCode(Class<CODE> type) {
+    if (type == null) {
+      return null;
+    }
     Class typeClass = type;
-    Class declaringCodeTypeClass = getDeclaringCodeTypeClass(typeClass);
+    Class declaringCodeTypeClass = m_declaringCodeTypeClassByCodeClass.get(type);
+    if (declaringCodeTypeClass == null) {
+      declaringCodeTypeClass = getDeclaringCodeTypeClass(typeClass);
+      if (declaringCodeTypeClass == null) {
+        return null;
+      }
+      m_declaringCodeTypeClassByCodeClass.put(type, declaringCodeTypeClass);
+    }
     ICodeType codeType = getCodeType(declaringCodeTypeClass);
-    return findCode(type, codeType);
+    if (codeType == null) {
+      return null;
+    }
+    // direct access by the id of the code class, if known
+    Object codeId = m_codeIdByCodeClass.get(type);
+    if (codeId != null) {
+      ICode code = codeType.getCode(codeId);
+      if (code != null && code.getClass() == type) {
+        return (CODE) code;
+      }
+    }
+    CODE code = findCode(type, codeType);
+    if (code != null && code.getId() != null) {
+      m_codeIdByCodeClass.put(type, code.getId());
+    }
+    return code;
   }
 
   @SuppressWarnings("unchecked")
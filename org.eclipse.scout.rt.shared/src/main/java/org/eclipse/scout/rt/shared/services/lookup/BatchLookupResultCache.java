@@ -48,12 +48,20 @@ public class BatchLookupResultCache {
     }
     List<ILookupRow<?>> result = getCachedResult(call);
     if (result == null) {
-      result = call.getDataByKey();
+      result = loadDataByKey(call);
       putCachedResult(call, result);
     }
     return result;
   }
 
+  /**
+   * Executes {@link LookupCall#getDataByKey()} for a call whose result is not cached yet. Subclasses may use a cache with
+   * a broader scope.
+   */
+  protected List<ILookupRow<?>> loadDataByKey(ILookupCall call) {
+    return call.getDataByKey();
+  }
+
   /**
    * @return the same as {@link LookupCall#getDataByText()} but use the cache to lookup already fetched results
    */
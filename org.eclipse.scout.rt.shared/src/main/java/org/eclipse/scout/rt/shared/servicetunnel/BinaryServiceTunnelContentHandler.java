@@ -13,12 +13,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
 import java.io.OutputStream;
+import java.io.StreamCorruptedException;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +33,11 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
   private static final Logger LOG = LoggerFactory.getLogger(BinaryServiceTunnelContentHandler.class);
   private static final String CONTENT_TYPE = "application/octet-stream";
 
+  /**
+   * Bit of the first byte of a message signaling that the remaining data is compressed.
+   */
+  protected static final int FLAG_COMPRESSED = 0x01;
+
   private Boolean m_receivedCompressed;
 
   @Override
@@ -63,7 +70,7 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     boolean compressed = isUseCompression();
     try {
       // signal compression
-      out.write(compressed ? 1 : 0);
+      out.write(getFormat() | (compressed ? FLAG_COMPRESSED : 0));
       // build serialized data
       if (compressed) {
         deflater = new Deflater(Deflater.BEST_SPEED);
@@ -89,15 +96,16 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
   private <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
     Inflater inflater = null;
     try {
-      // read compressed flag
-      boolean compressed = in.read() == 1;
+      // read format and compressed flag
+      int header = in.read();
+      boolean compressed = header != -1 && (header & FLAG_COMPRESSED) != 0;
       m_receivedCompressed = compressed;
       // decode serial data
       if (compressed) {
         inflater = new Inflater();
         in = new InflaterInputStream(in, inflater);
       }
-      return getObjectSerializer().deserialize(in, clazz);
+      return getObjectSerializer(header != -1 ? header & ~FLAG_COMPRESSED : getFormat()).deserialize(in, clazz);
     }
     finally {
       if (inflater != null) {
@@ -110,6 +118,29 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     }
   }
 
+  /**
+   * @return the format bits written in the first byte of each message (together with {@link #FLAG_COMPRESSED}).
+   * @since 24.2
+   */
+  protected int getFormat() {
+    return 0;
+  }
+
+  /**
+   * @return the {@link IObjectSerializer} used to read a message written in the given format (see
+   *         {@link #getFormat()}).
+   * @throws StreamCorruptedException
+   *           if the format is not supported, e.g. a message in the compact format of
+   *           {@link CompactBinaryServiceTunnelContentHandler}
+   * @since 24.2
+   */
+  protected IObjectSerializer getObjectSerializer(int format) throws IOException {
+    if (format != getFormat()) {
+      throw new StreamCorruptedException("unsupported format " + format);
+    }
+    return getObjectSerializer();
+  }
+
   protected boolean isUseCompression() {
     if (isSendCompressed() != null) {
       return isSendCompressed();
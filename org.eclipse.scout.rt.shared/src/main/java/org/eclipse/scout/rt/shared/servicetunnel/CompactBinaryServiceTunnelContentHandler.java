@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationVersionProperty;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CompactServiceTunnelSerializationProperty;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractFormFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
+import org.eclipse.scout.rt.shared.data.form.properties.AbstractPropertyData;
+import org.eclipse.scout.rt.shared.extension.AbstractContributionComposite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary content handler using a {@link CompactObjectSerializer}, which does not transfer the field descriptions of
+ * the serialized classes and replaces the names of well-known classes by an index (see
+ * {@link #createClassDictionary()}).
+ * <p>
+ * Messages in the regular format of {@link BinaryServiceTunnelContentHandler} are read as well. Messages are only written
+ * in the compact format if the peer has announced the same {@link #getCompatibilityVersion()}, see
+ * {@link org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnel#COMPACT_SERIALIZATION_HTTP_HEADER}. A message
+ * in the compact format must only be read with this handler if the peer has announced the same version as well,
+ * otherwise it is read with the regular handler which rejects the compact format.
+ *
+ * @since 24.2
+ */
+@Order(5020)
+public class CompactBinaryServiceTunnelContentHandler extends BinaryServiceTunnelContentHandler {
+  private static final Logger LOG = LoggerFactory.getLogger(CompactBinaryServiceTunnelContentHandler.class);
+
+  /**
+   * Index of the classes of a module, see {@link #computeFingerprint(List)}.
+   */
+  protected static final String JANDEX_INDEX_PATH = "META-INF/jandex.idx";
+
+  /**
+   * Format bit of the first byte of a message signaling the compact format.
+   */
+  protected static final int FORMAT_COMPACT = 0x02;
+
+  private IObjectSerializer m_binaryObjectSerializer;
+  private String m_compatibilityVersion;
+
+  @Override
+  public void initialize() {
+    super.initialize();
+    m_binaryObjectSerializer = super.createObjectSerializer();
+    m_compatibilityVersion = createCompatibilityVersion(createClassDictionary());
+  }
+
+  @Override
+  protected IObjectSerializer createObjectSerializer() {
+    // use the same blacklist and whitelist as the regular format
+    IObjectSerializer binaryObjectSerializer = super.createObjectSerializer();
+    return new CompactObjectSerializer(new ServiceTunnelObjectReplacer(), createClassDictionary())
+        .withBlacklist(binaryObjectSerializer.getBlacklist())
+        .withWhitelist(binaryObjectSerializer.getWhitelist());
+  }
+
+  /**
+   * @return the version which must be the same on both peers to use the compact format or <code>null</code> if the
+   *         compact format must not be used. See {@link #createCompatibilityVersion(List)}.
+   */
+  public String getCompatibilityVersion() {
+    return m_compatibilityVersion;
+  }
+
+  /**
+   * The compatibility version consists of the application version and a fingerprint of the class dictionary and the
+   * Jandex indexes of the modules containing the classes of the dictionary. Hence, subclasses appending the classes of
+   * their data objects to the dictionary cover the modules of these classes as well.
+   *
+   * @return the compatibility version or <code>null</code> if the application version is not set, because peers of
+   *         different builds cannot be distinguished then.
+   */
+  protected String createCompatibilityVersion(List<String> classDictionary) {
+    String applicationVersion = getApplicationVersion();
+    if (applicationVersion == null || ObjectUtility.equals(applicationVersion, BEANS.get(ApplicationVersionProperty.class).getDefaultValue())) {
+      LOG.info("Compact service tunnel serialization is disabled because the application version is not set (property '{}').", BEANS.get(ApplicationVersionProperty.class).getKey());
+      return null;
+    }
+    return applicationVersion + "-" + Long.toHexString(computeFingerprint(classDictionary));
+  }
+
+  protected String getApplicationVersion() {
+    return CONFIG.getPropertyValue(ApplicationVersionProperty.class);
+  }
+
+  /**
+   * @return fingerprint of the given class names and the Jandex indexes of the modules containing these classes
+   */
+  protected long computeFingerprint(List<String> classDictionary) {
+    CRC32 crc = new CRC32();
+    Set<String> indexUrls = new TreeSet<>();
+    for (String className : classDictionary) {
+      crc.update(className.getBytes(StandardCharsets.UTF_8));
+      crc.update('\n');
+      String classPath = className.replace('.', '/') + ".class";
+      URL classUrl = SerializationUtility.getClassLoader().getResource(classPath);
+      if (classUrl != null && !"jrt".equals(classUrl.getProtocol())) {
+        String s = classUrl.toExternalForm();
+        indexUrls.add(s.substring(0, s.length() - classPath.length()) + JANDEX_INDEX_PATH);
+      }
+    }
+    for (String indexUrl : indexUrls) {
+      try (InputStream in = URI.create(indexUrl).toURL().openStream()) {
+        crc.update(in.readAllBytes());
+      }
+      catch (IOException | IllegalArgumentException e) { // NOSONAR
+        LOG.debug("No index '{}' for the compatibility version of the compact service tunnel serialization", indexUrl);
+      }
+    }
+    return crc.getValue();
+  }
+
+  /**
+   * @return names of classes which are written as an index instead of the class name. Both peers must use the same
+   *         dictionary, subclasses may only append classes.
+   */
+  protected List<String> createClassDictionary() {
+    List<Class<?>> classes = Arrays.asList(
+        ServiceTunnelRequest.class,
+        ServiceTunnelResponse.class,
+        Object[].class,
+        Class[].class,
+        Locale.class,
+        Boolean.class,
+        Number.class,
+        Integer.class,
+        Long.class,
+        Double.class,
+        BigDecimal.class,
+        Date.class,
+        ArrayList.class,
+        HashMap.class,
+        LinkedHashMap.class,
+        HashSet.class,
+        AbstractContributionComposite.class,
+        AbstractFormData.class,
+        AbstractFormFieldData.class,
+        AbstractValueFieldData.class,
+        AbstractPropertyData.class,
+        AbstractTableFieldBeanData.class,
+        AbstractTableRowData.class);
+    List<String> names = new ArrayList<>(classes.size());
+    for (Class<?> c : classes) {
+      names.add(c.getName());
+    }
+    return names;
+  }
+
+  @Override
+  protected int getFormat() {
+    return FORMAT_COMPACT;
+  }
+
+  @Override
+  protected IObjectSerializer getObjectSerializer(int format) throws IOException {
+    if (format == FORMAT_COMPACT) {
+      return getObjectSerializer();
+    }
+    if (format == super.getFormat()) {
+      return m_binaryObjectSerializer;
+    }
+    return super.getObjectSerializer(format);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import org.eclipse.scout.rt.platform.serialization.AbstractObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.IObjectReplacer;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+
+/**
+ * {@link IObjectSerializer} writing class descriptors in a compact form: instead of the name, serial version UID and
+ * field descriptions of a class, only an index into a dictionary of well-known classes (or the class name if the class
+ * is not in the dictionary), the serial version UID and a hash of the serialized fields (see
+ * {@link #computeLayoutHash(ObjectStreamClass)}) are written. When reading, the descriptor of the local class is used.
+ * <p>
+ * Hence, both peers must use the same dictionary and the same versions of all serialized classes. A class with a
+ * differing serial version UID or differing serialized fields is detected and rejected.
+ * <p>
+ * Deserialized classes are checked against the blacklist and the whitelist before they are loaded.
+ *
+ * @since 24.2
+ */
+public class CompactObjectSerializer extends AbstractObjectSerializer {
+
+  protected static final int TAG_CLASS_NAME = 0;
+  protected static final int TAG_DICTIONARY = 1;
+
+  private final List<String> m_classDictionary;
+  private final Map<String, Integer> m_classDictionaryIndex;
+
+  public CompactObjectSerializer(IObjectReplacer objectReplacer, List<String> classDictionary) {
+    super(objectReplacer);
+    m_classDictionary = classDictionary;
+    m_classDictionaryIndex = new HashMap<>();
+    for (int i = 0; i < classDictionary.size(); i++) {
+      m_classDictionaryIndex.putIfAbsent(classDictionary.get(i), i);
+    }
+  }
+
+  public List<String> getClassDictionary() {
+    return m_classDictionary;
+  }
+
+  @Override
+  public ObjectOutputStream createObjectOutputStream(OutputStream out) throws IOException {
+    return new CompactObjectOutputStream(out, m_objectReplacer, m_classDictionaryIndex);
+  }
+
+  @Override
+  public ObjectInputStream createObjectInputStream(InputStream in) throws IOException {
+    return new CompactObjectInputStream(in, m_objectReplacer, m_blacklist, m_whitelist, m_classDictionary);
+  }
+
+  /**
+   * @return hash of the names and types of the serialized fields of the given class. Many classes (e.g. form data) keep
+   *         their serial version UID when fields are added or changed, hence the fields must be compared as well.
+   */
+  public static int computeLayoutHash(ObjectStreamClass desc) {
+    CRC32 crc = new CRC32();
+    for (ObjectStreamField field : desc.getFields()) {
+      crc.update(field.getName().getBytes(StandardCharsets.UTF_8));
+      crc.update(field.getTypeCode());
+      if (field.getTypeString() != null) {
+        crc.update(field.getTypeString().getBytes(StandardCharsets.UTF_8));
+      }
+      crc.update(';');
+    }
+    return (int) crc.getValue();
+  }
+
+  public static class CompactObjectOutputStream extends ReplacingObjectOutputStream {
+    protected final Map<String, Integer> m_classDictionaryIndex;
+
+    public CompactObjectOutputStream(OutputStream out, IObjectReplacer objectReplacer, Map<String, Integer> classDictionaryIndex) throws IOException {
+      super(out, objectReplacer);
+      m_classDictionaryIndex = classDictionaryIndex;
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+      Integer index = m_classDictionaryIndex.get(desc.getName());
+      if (index != null) {
+        writeByte(TAG_DICTIONARY);
+        writeShort(index);
+      }
+      else {
+        writeByte(TAG_CLASS_NAME);
+        writeUTF(desc.getName());
+      }
+      writeLong(desc.getSerialVersionUID());
+      writeInt(getLayoutHash(desc));
+    }
+
+    protected int getLayoutHash(ObjectStreamClass desc) {
+      return computeLayoutHash(desc);
+    }
+  }
+
+  public static class CompactObjectInputStream extends ResolvingObjectInputStream {
+    protected final List<String> m_classDictionary;
+
+    public CompactObjectInputStream(InputStream in, IObjectReplacer objectReplacer, Predicate<String> blacklist, Predicate<String> whitelist, List<String> classDictionary) throws IOException {
+      super(in, objectReplacer, blacklist, whitelist);
+      m_classDictionary = classDictionary;
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      String className = readClassName();
+      long serialVersionUID = readLong();
+      int layoutHash = readInt();
+      checkClass(className);
+      ObjectStreamClass desc = ObjectStreamClass.lookup(Class.forName(className, false, SerializationUtility.getClassLoader()));
+      if (desc == null) {
+        throw new InvalidClassException(className, "local class is not serializable");
+      }
+      if (desc.getSerialVersionUID() != serialVersionUID) {
+        throw new InvalidClassException(className, "local class incompatible: stream classdesc serialVersionUID = " + serialVersionUID + ", local class serialVersionUID = " + desc.getSerialVersionUID());
+      }
+      if (computeLayoutHash(desc) != layoutHash) {
+        throw new InvalidClassException(className, "local class incompatible: serialized fields differ from the fields of the stream classdesc");
+      }
+      return desc;
+    }
+
+    protected String readClassName() throws IOException {
+      int tag = readByte();
+      if (tag == TAG_CLASS_NAME) {
+        return readUTF();
+      }
+      if (tag == TAG_DICTIONARY) {
+        int index = readUnsignedShort();
+        if (index >= m_classDictionary.size()) {
+          throw new StreamCorruptedException("invalid class dictionary index " + index);
+        }
+        return m_classDictionary.get(index);
+      }
+      throw new StreamCorruptedException("invalid class descriptor tag " + tag);
+    }
+  }
+}
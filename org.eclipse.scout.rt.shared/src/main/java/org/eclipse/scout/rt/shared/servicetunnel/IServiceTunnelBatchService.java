@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.service.IService;
+import org.eclipse.scout.rt.shared.TunnelToServer;
+
+/**
+ * Invokes several service operations with one service tunnel request. Use {@link ServiceTunnelBatch} to create the
+ * requests.
+ * <p>
+ * Each service operation is authorized like a regular remote service call. Hence, this service itself does not require
+ * an authorization.
+ *
+ * @since 24.2
+ */
+@TunnelToServer
+@RemoteServiceWithoutAuthorization
+public interface IServiceTunnelBatchService extends IService {
+
+  /**
+   * Invokes the given service operations in the given order.
+   *
+   * @param requests
+   *          service operations to invoke. The session, user agent and locale of the batch request apply to all of them.
+   * @param singleTransaction
+   *          <code>true</code> to invoke all service operations in the same transaction. If a service operation fails,
+   *          the remaining ones are not invoked and the transaction is rolled back, which is signaled by an exception
+   *          in all other responses. <code>false</code> to invoke each service operation in its own transaction.
+   * @return one response for each request, in the same order.
+   */
+  List<ServiceTunnelResponse> invoke(List<ServiceTunnelRequest> requests, boolean singleTransaction);
+}
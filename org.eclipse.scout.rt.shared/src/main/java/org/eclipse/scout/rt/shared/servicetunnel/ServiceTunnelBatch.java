@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertEqual;
+import static org.eclipse.scout.rt.platform.util.Assertions.assertFalse;
+import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
+import static org.eclipse.scout.rt.platform.util.Assertions.assertNull;
+import static org.eclipse.scout.rt.platform.util.Assertions.assertTrue;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.IThrowableWithContextInfo;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+
+/**
+ * Collects calls of remote services and invokes them with a single service tunnel request, see
+ * {@link IServiceTunnelBatchService}. This avoids a round-trip for each call, e.g. when a form loads its data from
+ * several services.
+ *
+ * <pre>
+ * ServiceTunnelBatch batch = BEANS.get(ServiceTunnelBatch.class);
+ * Supplier&lt;PersonFormData&gt; person = batch.call(IPersonService.class, s -&gt; s.load(personFormData));
+ * Supplier&lt;CompanyFormData&gt; company = batch.call(ICompanyService.class, s -&gt; s.load(companyFormData));
+ * batch.execute();
+ * person.get();
+ * </pre>
+ *
+ * By default, all calls are invoked in the same transaction on the server, see {@link #withSingleTransaction(boolean)}.
+ * A batch can be executed once.
+ *
+ * @since 24.2
+ */
+@Bean
+public class ServiceTunnelBatch {
+
+  private final List<P_Call<?>> m_calls = new ArrayList<>();
+  private boolean m_singleTransaction = true;
+  private boolean m_executed;
+
+  /**
+   * @param singleTransaction
+   *          <code>true</code> (default) to invoke all calls in the same transaction, <code>false</code> to invoke each
+   *          call in its own transaction like regular remote service calls.
+   */
+  public ServiceTunnelBatch withSingleTransaction(boolean singleTransaction) {
+    m_singleTransaction = singleTransaction;
+    return this;
+  }
+
+  public boolean isSingleTransaction() {
+    return m_singleTransaction;
+  }
+
+  /**
+   * Adds a call of a service operation with a return value.
+   *
+   * @param serviceInterfaceClass
+   *          interface of the remote service
+   * @param operation
+   *          invokes exactly one operation on the given service instance. The return value of the operation within the
+   *          function is just a placeholder.
+   * @return supplier for the result of the call, which is available after {@link #execute()}. If the call has failed,
+   *         the supplier throws the exception.
+   */
+  public <SERVICE, RESULT> Supplier<RESULT> call(Class<SERVICE> serviceInterfaceClass, Function<SERVICE, RESULT> operation) {
+    assertFalse(m_executed, "Batch already executed");
+    assertTrue(serviceInterfaceClass.isInterface(), "{} is not an interface", serviceInterfaceClass);
+    assertFalse(IServiceTunnelBatchService.class.isAssignableFrom(serviceInterfaceClass), "Batches cannot be nested");
+    P_Call<RESULT> c = new P_Call<>(serviceInterfaceClass);
+    operation.apply(serviceInterfaceClass.cast(Proxy.newProxyInstance(serviceInterfaceClass.getClassLoader(), new Class[]{serviceInterfaceClass}, (proxy, method, args) -> c.record(method, args))));
+    assertNotNull(c.m_request, "No service operation invoked on {}", serviceInterfaceClass);
+    m_calls.add(c);
+    return c;
+  }
+
+  /**
+   * Adds a call of a service operation without a return value, see {@link #call(Class, Function)}.
+   */
+  public <SERVICE> void run(Class<SERVICE> serviceInterfaceClass, Consumer<SERVICE> operation) {
+    call(serviceInterfaceClass, service -> {
+      operation.accept(service);
+      return null;
+    });
+  }
+
+  /**
+   * Invokes all calls added to this batch with a single service tunnel request.
+   *
+   * @throws RuntimeException
+   *           the exception of the first failed call
+   */
+  public void execute() {
+    assertFalse(m_executed, "Batch already executed");
+    m_executed = true;
+    if (m_calls.isEmpty()) {
+      return;
+    }
+
+    List<ServiceTunnelRequest> requests = new ArrayList<>(m_calls.size());
+    for (P_Call<?> c : m_calls) {
+      requests.add(c.m_request);
+    }
+    List<ServiceTunnelResponse> responses = BEANS.get(IServiceTunnelBatchService.class).invoke(requests, isSingleTransaction());
+    assertEqual(requests.size(), responses.size(), "Unexpected number of responses");
+
+    RuntimeException firstException = null;
+    for (int i = 0; i < m_calls.size(); i++) {
+      m_calls.get(i).setResponse(responses.get(i));
+      if (firstException == null) {
+        firstException = m_calls.get(i).m_exception;
+      }
+    }
+    if (firstException != null) {
+      throw firstException;
+    }
+  }
+
+  protected static Object getDefaultValue(Class<?> type) {
+    if (type.isPrimitive() && type != void.class) {
+      return Array.get(Array.newInstance(type, 1), 0);
+    }
+    return null;
+  }
+
+  protected static class P_Call<RESULT> implements Supplier<RESULT> {
+    private final Class<?> m_serviceInterfaceClass;
+    private ServiceTunnelRequest m_request;
+    private boolean m_done;
+    private RESULT m_result;
+    private RuntimeException m_exception;
+
+    protected P_Call(Class<?> serviceInterfaceClass) {
+      m_serviceInterfaceClass = serviceInterfaceClass;
+    }
+
+    protected Object record(Method method, Object[] args) {
+      assertNull(m_request, "Only one service operation can be invoked per call");
+      m_request = new ServiceTunnelRequest(m_serviceInterfaceClass.getName(), method.getName(), method.getParameterTypes(), args != null ? args : new Object[0]);
+      return getDefaultValue(method.getReturnType());
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void setResponse(ServiceTunnelResponse response) {
+      m_done = true;
+      Throwable t = response.getException();
+      if (t == null) {
+        m_result = (RESULT) response.getData();
+        return;
+      }
+      m_exception = BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(t);
+      if (m_exception instanceof PlatformException) {
+        ((IThrowableWithContextInfo) m_exception)
+            .withContextInfo("remote-service.name", m_request.getServiceInterfaceClassName())
+            .withContextInfo("remote-service.operation", m_request.getOperation());
+      }
+    }
+
+    @Override
+    public RESULT get() {
+      assertTrue(m_done, "Batch not executed yet");
+      if (m_exception != null) {
+        throw m_exception;
+      }
+      return m_result;
+    }
+  }
+}
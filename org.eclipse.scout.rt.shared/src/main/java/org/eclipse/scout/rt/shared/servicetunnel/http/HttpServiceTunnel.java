@@ -15,19 +15,23 @@ import java.net.URL;
 import java.util.concurrent.Callable;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.UriUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CompactServiceTunnelSerializationProperty;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.CompactBinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
@@ -47,8 +51,18 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   private static final Logger LOG = LoggerFactory.getLogger(HttpServiceTunnel.class);
 
   public static final String TOKEN_AUTH_HTTP_HEADER = "X-ScoutAccessToken";
+  /**
+   * Header announcing the support of the compact format of {@link CompactBinaryServiceTunnelContentHandler}. The value
+   * is the {@link CompactBinaryServiceTunnelContentHandler#getCompatibilityVersion()} of the sender. The server only
+   * answers in the compact format (and includes this header in its response) if its version is the same.
+   *
+   * @since 24.2
+   */
+  public static final String COMPACT_SERIALIZATION_HTTP_HEADER = "X-Scout-CompactSerialization";
 
   private IServiceTunnelContentHandler m_contentHandler;
+  private CompactBinaryServiceTunnelContentHandler m_compactContentHandler;
+  private volatile boolean m_compactSerializationAccepted;
   private final URL m_serverUrl;
   private final GenericUrl m_genericUrl;
   private final boolean m_active;
@@ -141,6 +155,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   protected void addCustomHeaders(HttpRequest httpRequest, ServiceTunnelRequest call, byte[] callData) throws IOException {
     addSignatureHeader(httpRequest, callData);
     addCorrelationId(httpRequest);
+    addCompactSerializationHeader(httpRequest);
   }
 
   protected void addSignatureHeader(HttpRequest httpRequest, byte[] callData) throws IOException {
@@ -165,6 +180,56 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
   }
 
+  /**
+   * Method invoked to announce the support of the compact serialization format, see
+   * {@link #COMPACT_SERIALIZATION_HTTP_HEADER}.
+   *
+   * @since 24.2
+   */
+  protected void addCompactSerializationHeader(HttpRequest httpRequest) {
+    if (m_compactContentHandler != null) {
+      httpRequest.getHeaders().set(COMPACT_SERIALIZATION_HTTP_HEADER, m_compactContentHandler.getCompatibilityVersion());
+    }
+  }
+
+  /**
+   * @return the content handler used to write a request. This is the compact content handler once the server has
+   *         accepted the compact format, see {@link #COMPACT_SERIALIZATION_HTTP_HEADER}.
+   * @since 24.2
+   */
+  protected IServiceTunnelContentHandler getRequestContentHandler() {
+    if (m_compactContentHandler != null && m_compactSerializationAccepted) {
+      return m_compactContentHandler;
+    }
+    return getContentHandler();
+  }
+
+  /**
+   * @return the content handler used to read the given response. The compact content handler is used if the server
+   *         has answered in the compact format, see {@link #COMPACT_SERIALIZATION_HTTP_HEADER}.
+   * @since 24.2
+   */
+  protected IServiceTunnelContentHandler getResponseContentHandler(HttpResponse httpResponse) {
+    updateCompactSerializationAccepted(httpResponse);
+    if (m_compactContentHandler != null && m_compactSerializationAccepted) {
+      return m_compactContentHandler;
+    }
+    return getContentHandler();
+  }
+
+  /**
+   * Method invoked for each response (including unsuccessful ones) to remember whether the server has accepted the
+   * compact format. A response without the same {@link #COMPACT_SERIALIZATION_HTTP_HEADER} (e.g. the rejection of a
+   * request in the compact format by a node of another build) switches back to the regular format.
+   *
+   * @since 24.2
+   */
+  protected void updateCompactSerializationAccepted(HttpResponse httpResponse) {
+    if (m_compactContentHandler != null) {
+      m_compactSerializationAccepted = ObjectUtility.equals(m_compactContentHandler.getCompatibilityVersion(), httpResponse.getHeaders().getFirstHeaderStringValue(COMPACT_SERIALIZATION_HTTP_HEADER));
+    }
+  }
+
   /**
    * @return msgEncoder used to encode and decode a request / response to and from the binary stream. Default is the
    *         {@link BinaryServiceTunnelContentHandler} which handles binary messages
@@ -187,10 +252,29 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     if (m_contentHandler == null) {
       m_contentHandler = BEANS.get(IServiceTunnelContentHandler.class);
       m_contentHandler.initialize();
+      m_compactContentHandler = createCompactContentHandler();
     }
     return super.invokeService(serviceInterfaceClass, operation, callerArgs);
   }
 
+  /**
+   * Create the content handler for the compact serialization format, which is used in addition to the regular binary
+   * content handler if {@link CompactServiceTunnelSerializationProperty} is enabled.
+   *
+   * @return <code>null</code> if the compact format is not supported, e.g. because the handler has no compatibility
+   *         version
+   * @since 24.2
+   */
+  protected CompactBinaryServiceTunnelContentHandler createCompactContentHandler() {
+    if (!CONFIG.getPropertyValue(CompactServiceTunnelSerializationProperty.class)
+        || !(m_contentHandler instanceof BinaryServiceTunnelContentHandler)) {
+      return null;
+    }
+    CompactBinaryServiceTunnelContentHandler e = BEANS.get(CompactBinaryServiceTunnelContentHandler.class);
+    e.initialize();
+    return e.getCompatibilityVersion() != null ? e : null;
+  }
+
   /**
    * Creates the {@link Callable} to invoke the remote service operation described by 'serviceRequest'.
    * <p>
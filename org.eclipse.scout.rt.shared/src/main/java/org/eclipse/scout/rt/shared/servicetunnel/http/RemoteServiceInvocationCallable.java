@@ -69,7 +69,7 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
     try {
       // Create the request.
       final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
+      m_tunnel.getRequestContentHandler().writeRequest(requestMessage, m_serviceRequest);
       requestMessage.close();
       final byte[] requestData = requestMessage.toByteArray();
       nBytes = requestData.length;
@@ -80,11 +80,12 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
         // Receive the response.
         m_tunnel.interceptHttpResponse(resp, m_serviceRequest);
         if (resp.getStatusCode() != 0 && (resp.getStatusCode() < 200 || resp.getStatusCode() > 299)) {
+          m_tunnel.updateCompactSerializationAccepted(resp);
           return new ServiceTunnelResponse(new HttpServiceTunnelException(resp.getStatusCode(), "Service tunnel request failed with status code {}", resp.getStatusCode()));
         }
 
         try (InputStream in = resp.getContent()) {
-          ServiceTunnelResponse response = m_tunnel.getContentHandler().readResponse(in);
+          ServiceTunnelResponse response = m_tunnel.getResponseContentHandler(resp).readResponse(in);
           if (response == null) {
             return new ServiceTunnelResponse(new ProcessingException("Response contains no content")
                 .withContextInfo("http-status", "{} {}", resp.getStatusCode(), resp.getStatusMessage())
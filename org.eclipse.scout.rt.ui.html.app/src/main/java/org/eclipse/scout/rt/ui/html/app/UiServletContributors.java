@@ -19,15 +19,19 @@ import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.ServletHolder.Registration;
+import org.eclipse.jetty.websocket.jakarta.server.config.JakartaWebSocketServletContainerInitializer;
 import org.eclipse.scout.rt.jetty.IServletContributor;
 import org.eclipse.scout.rt.jetty.IServletFilterContributor;
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.server.commons.HttpSessionMutex;
 import org.eclipse.scout.rt.server.commons.healthcheck.HealthCheckServlet;
 import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiWebSocketEnabledProperty;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.app.filter.UiServletMultipartConfigFilter;
+import org.eclipse.scout.rt.ui.html.websocket.UiWebSocketEndpoint;
 
 /**
  * {@link IServletContributor} and {@link IServletFilterContributor} for UI server.
@@ -121,4 +125,23 @@ public final class UiServletContributors {
       handler.addServlet(UiServlet.class, "/*");
     }
   }
+
+  /**
+   * Registers the {@link UiWebSocketEndpoint} if {@link UiWebSocketEnabledProperty} is enabled.
+   * <p>
+   * The WebSocket upgrade filter of Jetty is registered before any other filter, hence the handshake is not
+   * authenticated by the filter registered by {@link AuthFilterContributor}. The endpoint only accepts WebSockets for UI
+   * sessions which exist in the HTTP session of the handshake request.
+   */
+  @Order(2100)
+  public static class UiWebSocketContributor implements IServletContributor {
+
+    @Override
+    public void contribute(ServletContextHandler handler) {
+      if (!CONFIG.getPropertyValue(UiWebSocketEnabledProperty.class)) {
+        return;
+      }
+      JakartaWebSocketServletContainerInitializer.configure(handler, (servletContext, container) -> container.addEndpoint(UiWebSocketEndpoint.createEndpointConfig()));
+    }
+  }
 }
@@ -9,14 +9,16 @@
  */
 package org.eclipse.scout.rt.ui.html;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
-import static org.junit.Assert.assertSame;
+import static org.junit.Assert.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.eclipse.scout.rt.ui.html.json.SerializedJsonObject;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.Test;
 
@@ -40,16 +42,16 @@ public class ResponseHistoryTest {
     assertNull(history.getResponseForRequest(null));
 
     // Insert two requests
-    JSONObject resp1 = new JSONObject();
-    JSONObject resp2 = new JSONObject();
+    JSONObject resp1 = createResponse(7L);
+    JSONObject resp2 = createResponse(8L);
     history.registerResponse(7L, resp1, 1L);
     history.registerResponse(8L, resp2, 2L);
 
     // Test getters
-    assertSame(resp1, history.getResponse(7L));
-    assertSame(resp2, history.getResponse(8L));
-    assertSame(resp1, history.getResponseForRequest(1L));
-    assertSame(resp2, history.getResponseForRequest(2L));
+    assertResponseEquals(resp1, history.getResponse(7L));
+    assertResponseEquals(resp2, history.getResponse(8L));
+    assertResponseEquals(resp1, history.getResponseForRequest(1L));
+    assertResponseEquals(resp2, history.getResponseForRequest(2L));
     assertEquals(Long.valueOf(1), history.getRequestSequenceNo(7L));
     assertEquals(Long.valueOf(2), history.getRequestSequenceNo(8L));
     assertEquals(Long.valueOf(7), history.getResponseSequenceNo(1L));
@@ -90,7 +92,7 @@ public class ResponseHistoryTest {
     List<JSONObject> all = new ArrayList<>();
     // Insert many requests
     for (int i = 0; i < 20; i++) {
-      JSONObject resp = new JSONObject();
+      JSONObject resp = createResponse(i);
       all.add(resp);
       history.registerResponse(Long.valueOf(i), resp, Long.valueOf(i));
       assertEquals(Math.min(i + 1, 10), history.size());
@@ -100,13 +102,55 @@ public class ResponseHistoryTest {
     assertNull(history.getResponse(1L));
     assertNull(history.getResponse(2L));
     assertNull(history.getResponse(9L));
-    assertSame(all.get(10), history.getResponse(10L));
-    assertSame(all.get(11), history.getResponse(11L));
-    assertSame(all.get(12), history.getResponse(12L));
-    assertSame(all.get(19), history.getResponse(19L));
+    assertResponseEquals(all.get(10), history.getResponse(10L));
+    assertResponseEquals(all.get(11), history.getResponse(11L));
+    assertResponseEquals(all.get(12), history.getResponse(12L));
+    assertResponseEquals(all.get(19), history.getResponse(19L));
     assertNull(history.getResponse(20L));
   }
 
+  @Test
+  public void testSyncResponse() {
+    ResponseHistory history = new ResponseHistory();
+    JSONObject resp1 = createResponse(7L);
+    resp1.put(JsonResponse.PROP_ADAPTER_DATA, new JSONObject().put("1", new JSONObject().put("text", "a\"b/\u00e4")));
+    resp1.put(JsonResponse.PROP_EVENTS, new JSONArray().put(new JSONObject().put("type", "property")));
+    JSONObject resp2 = createResponse(8L);
+    resp2.put(JsonResponse.PROP_EVENTS, new JSONArray().put(new JSONObject().put("type", "action")));
+    history.registerResponse(7L, resp1, 1L);
+    history.registerResponse(8L, resp2, 2L);
+
+    JSONObject sync = history.toSyncResponse();
+    assertEquals(8L, sync.getLong(JsonResponse.PROP_SEQUENCE_NO));
+    assertEquals("a\"b/\u00e4", sync.getJSONObject(JsonResponse.PROP_ADAPTER_DATA).getJSONObject("1").getString("text"));
+    assertEquals(2, sync.getJSONArray(JsonResponse.PROP_EVENTS).length());
+    assertEquals("action", sync.getJSONArray(JsonResponse.PROP_EVENTS).getJSONObject(1).getString("type"));
+  }
+
+  @Test
+  public void testSerializedOnce() {
+    ResponseHistory history = new ResponseHistory();
+    JSONObject resp = createResponse(7L).put("text", "\u00e4");
+    SerializedJsonObject serialized = history.registerResponse(7L, resp, 1L);
+
+    assertResponseEquals(resp, serialized);
+    assertArrayEquals(resp.toString().getBytes(StandardCharsets.UTF_8), serialized.getUtf8());
+
+    // the bytes are parsed once when the response is resent
+    SerializedJsonObject resent = (SerializedJsonObject) history.getResponse(7L);
+    assertResponseEquals(resp, resent);
+    assertSame(serialized.getUtf8(), resent.getUtf8());
+    assertSame(resent, history.getResponseForRequest(1L));
+  }
+
+  private static JSONObject createResponse(long sequenceNo) {
+    return new JSONObject().put(JsonResponse.PROP_SEQUENCE_NO, sequenceNo);
+  }
+
+  private static void assertResponseEquals(JSONObject expected, JSONObject actual) {
+    assertEquals(expected.toString(), actual.toString());
+  }
+
   @Test
   public void testMissingRequestSequenceNo() {
     ResponseHistory history = new ResponseHistory();
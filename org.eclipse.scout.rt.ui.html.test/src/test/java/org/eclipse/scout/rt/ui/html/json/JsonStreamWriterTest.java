@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class JsonStreamWriterTest {
+
+  @Test
+  public void testSameOutputAsToString() {
+    JSONObject json = new JSONObject();
+    json.put("#", 17L);
+    json.put("string", "a\"b\\c/d\te\nf\u0001gä€");
+    json.put("int", 42);
+    json.put("double", 1.5);
+    json.put("bool", true);
+    json.put("null", JSONObject.NULL);
+    json.put("empty", new JSONObject());
+    json.put("array", new JSONArray().put(1).put("x").put(new JSONArray()).put(new JSONObject().put("k", "v")).put(JSONObject.NULL));
+
+    byte[] data = JsonStreamWriter.toUtf8(json);
+    assertEquals(json.toString(), new String(data, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testRoundTrip() {
+    JSONObject json = new JSONObject();
+    json.put("text", "line1\r\nline2 ü");
+    json.put("rows", new JSONArray().put(new JSONObject().put("id", "1").put("cells", new JSONArray().put("a").put(2))));
+
+    JSONObject parsed = new JSONObject(new String(JsonStreamWriter.toUtf8(json), StandardCharsets.UTF_8));
+    assertEquals(json.toString(), parsed.toString());
+  }
+}
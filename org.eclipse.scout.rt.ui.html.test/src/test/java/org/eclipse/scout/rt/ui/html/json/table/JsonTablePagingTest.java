@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json.table;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.mock.MockConfigPropertyRule;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowPageSizeProperty;
+import org.eclipse.scout.rt.ui.html.json.JsonEvent;
+import org.eclipse.scout.rt.ui.html.json.fixtures.JsonAdapterMock;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.eclipse.scout.rt.ui.html.json.table.fixtures.Table;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link JsonTable} sending the rows page by page, see {@link TableRowPageSizeProperty}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class JsonTablePagingTest {
+
+  @Rule
+  public MockConfigPropertyRule<Integer> m_rowPageSizeRule = new MockConfigPropertyRule<>(TableRowPageSizeProperty.class, 2);
+
+  private UiSessionMock m_uiSession;
+
+  @Before
+  public void setUp() {
+    m_uiSession = new UiSessionMock();
+  }
+
+  @Test
+  public void testToJson() {
+    Table table = JsonTableTest.createTableFixture(5);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+
+    assertEquals(2, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(3, json.getInt(JsonTable.PROP_REMAINING_ROW_COUNT));
+    assertNotNull(jsonTable.getTableRowId(table.getRow(1)));
+    assertNull(jsonTable.getTableRowId(table.getRow(2)));
+  }
+
+  @Test
+  public void testToJsonWithSelectedRow() {
+    Table table = JsonTableTest.createTableFixture(5);
+    table.selectRow(4);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+
+    // selected rows are always sent
+    assertEquals(3, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(2, json.getInt(JsonTable.PROP_REMAINING_ROW_COUNT));
+    assertNotNull(jsonTable.getTableRowId(table.getRow(4)));
+  }
+
+  @Test
+  public void testFetchRows() {
+    Table table = JsonTableTest.createTableFixture(5);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FETCH_ROWS, new JSONObject()));
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, events.size());
+    assertEquals(2, events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertNotNull(jsonTable.getTableRowId(table.getRow(3)));
+    assertNull(jsonTable.getTableRowId(table.getRow(4)));
+    Integer remainingRowCount = JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_REMAINING_ROW_COUNT);
+    assertEquals(Integer.valueOf(1), remainingRowCount);
+  }
+
+  @Test
+  public void testFetchAllRows() {
+    Table table = JsonTableTest.createTableFixture(5);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FETCH_ROWS, new JSONObject().put("all", true)));
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, events.size());
+    assertEquals(3, events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    Integer remainingRowCount = JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_REMAINING_ROW_COUNT);
+    assertEquals(Integer.valueOf(0), remainingRowCount);
+  }
+
+  @Test
+  public void testFilterWhileRowsRemain() {
+    Table table = JsonTableTest.createTableFixture(5);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // the UI only knows the first two rows, the other rows must not be hidden
+    JSONObject data = new JSONObject().put(JsonTable.PROP_ROW_IDS, new JSONArray().put(jsonTable.getTableRowId(table.getRow(0))));
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FILTER, data));
+    assertEquals(5, table.getFilteredRowCount());
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, events.size());
+    assertEquals(3, events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+  }
+
+  @Test
+  public void testSelectAll() {
+    Table table = JsonTableTest.createTableFixture(5);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_SELECT_ALL, new JSONObject()));
+    assertEquals(5, table.getSelectedRowCount());
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, events.size());
+    assertEquals(3, events.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    // the last selection event contains all rows
+    events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_SELECTED);
+    assertEquals(5, events.get(events.size() - 1).getData().getJSONArray(JsonTable.PROP_ROW_IDS).length());
+  }
+
+  @Test
+  public void testRowsInsertedOutsideWindow() {
+    Table table = JsonTableTest.createTableFixture(5);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    table.addRowByArray(new Object[]{"newRow"});
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertTrue(events.isEmpty());
+    Integer remainingRowCount = JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_REMAINING_ROW_COUNT);
+    assertEquals(Integer.valueOf(4), remainingRowCount);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json.table;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.eclipse.scout.rt.ui.html.ResponseHistory;
+import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.eclipse.scout.rt.ui.html.json.JsonStreamWriter;
+import org.eclipse.scout.rt.ui.html.json.fixtures.JsonAdapterMock;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.eclipse.scout.rt.ui.html.json.table.fixtures.TableWith3Cols;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares allocation and latency of writing the JSON response of a {@link JsonTable} with 10'000 rows, using
+ * {@link JSONObject#toString()} (as done in former releases) and using {@link JsonStreamWriter}.
+ * <p>
+ * Performance testing based on execution time is not very accurate. Therefore, the measured values are only logged,
+ * whereas the assertions are about the correctness of the output.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class JsonTableSerializationLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JsonTableSerializationLoadTest.class);
+
+  private static final int ROW_COUNT = 10000;
+  private static final int ITERATIONS = 20;
+
+  @Test
+  public void testWriteResponse() throws IOException {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(ROW_COUNT);
+    table.init();
+    JsonTable<ITable> jsonTable = new UiSessionMock().createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject response = new JSONObject();
+    response.put(JsonResponse.PROP_SEQUENCE_NO, 1L);
+    response.put(JsonResponse.PROP_ADAPTER_DATA, new JSONObject().put(jsonTable.getId(), jsonTable.toJson()));
+
+    // both variants must produce the same bytes
+    ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+    JsonStreamWriter.writeUtf8(response, streamed);
+    assertArrayEquals(response.toString().getBytes(StandardCharsets.UTF_8), streamed.toByteArray());
+
+    for (int i = 0; i < ITERATIONS; i++) {
+      long[] toStringResult = measure(() -> OutputStream.nullOutputStream().write(response.toString().getBytes(StandardCharsets.UTF_8)));
+      long[] streamResult = measure(() -> JsonStreamWriter.writeUtf8(response, OutputStream.nullOutputStream()));
+      long[] historyResult = measure(() -> new ResponseHistory().registerResponse(1L, response, null));
+      LOG.info("Writing JSON response of {} rows [toString={} ms/{} KB, stream={} ms/{} KB, responseHistory={} ms/{} KB]", ROW_COUNT,
+          toStringResult[0], toStringResult[1], streamResult[0], streamResult[1], historyResult[0], historyResult[1]);
+    }
+  }
+
+  /**
+   * @return duration in milliseconds and allocated kilobytes (or -1 if not supported by the JVM)
+   */
+  protected long[] measure(P_Task task) throws IOException {
+    long allocatedBefore = getAllocatedBytes();
+    long start = System.nanoTime();
+    task.run();
+    long duration = (System.nanoTime() - start) / 1000000L;
+    long allocatedAfter = getAllocatedBytes();
+    return new long[]{duration, allocatedBefore < 0 ? -1 : (allocatedAfter - allocatedBefore) / 1024};
+  }
+
+  protected long getAllocatedBytes() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+    return -1;
+  }
+
+  @FunctionalInterface
+  protected interface P_Task {
+    void run() throws IOException;
+  }
+}
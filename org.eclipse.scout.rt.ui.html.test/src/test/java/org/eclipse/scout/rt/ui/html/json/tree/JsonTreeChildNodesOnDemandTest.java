@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json.tree;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.tree.ITree;
+import org.eclipse.scout.rt.client.ui.basic.tree.ITreeNode;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.mock.MockConfigPropertyRule;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TreeChildNodesOnDemandProperty;
+import org.eclipse.scout.rt.ui.html.json.JsonEvent;
+import org.eclipse.scout.rt.ui.html.json.fixtures.JsonAdapterMock;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.eclipse.scout.rt.ui.html.json.tree.fixtures.Tree;
+import org.eclipse.scout.rt.ui.html.json.tree.fixtures.TreeNode;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link JsonTree} sending the child nodes on demand, see {@link TreeChildNodesOnDemandProperty}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class JsonTreeChildNodesOnDemandTest {
+
+  @Rule
+  public MockConfigPropertyRule<Boolean> m_childNodesOnDemandRule = new MockConfigPropertyRule<>(TreeChildNodesOnDemandProperty.class, true);
+
+  private UiSessionMock m_uiSession;
+  private ITree m_tree;
+  private TreeNode m_node0;
+  private TreeNode m_child0;
+  private TreeNode m_child1;
+  private TreeNode m_grandChild;
+
+  @Before
+  public void setUp() {
+    m_uiSession = new UiSessionMock();
+    m_node0 = new TreeNode("node0");
+    m_child0 = new TreeNode("child0");
+    m_child1 = new TreeNode("child1");
+    m_grandChild = new TreeNode("grandChild");
+
+    List<ITreeNode> nodes = new ArrayList<>();
+    nodes.add(m_node0);
+    nodes.add(new TreeNode("node1"));
+    m_tree = new Tree(nodes);
+    m_tree.init();
+    m_tree.addChildNode(m_node0, m_child0);
+    m_tree.addChildNode(m_node0, m_child1);
+    m_tree.addChildNode(m_child0, m_grandChild);
+    m_tree.setNodeExpanded(m_node0, false);
+    m_tree.setNodeExpanded(m_child0, false);
+  }
+
+  @Test
+  public void testToJson() {
+    JsonTree<ITree> jsonTree = createJsonTree();
+
+    JSONArray jsonNodes = jsonTree.toJson().getJSONArray(JsonTree.PROP_NODES);
+    assertEquals(2, jsonNodes.length());
+    JSONArray jsonChildNodes = jsonNodes.getJSONObject(0).optJSONArray("childNodes");
+    assertTrue(jsonChildNodes == null || jsonChildNodes.length() == 0);
+    assertNotNull(jsonTree.optNodeId(m_node0));
+    assertNull(jsonTree.optNodeId(m_child0));
+    assertNull(jsonTree.optNodeId(m_grandChild));
+  }
+
+  @Test
+  public void testExpandFromUi() {
+    JsonTree<ITree> jsonTree = createJsonTree();
+    jsonTree.handleUiEvent(JsonTreeTest.createJsonExpansionEvent(jsonTree.getNodeId(m_node0), true));
+
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTree.EVENT_NODES_INSERTED);
+    assertEquals(1, events.size());
+    JSONObject data = events.get(0).getData();
+    assertEquals(jsonTree.getNodeId(m_node0), data.getString(JsonTree.PROP_COMMON_PARENT_NODE_ID));
+    assertEquals(2, data.getJSONArray(JsonTree.PROP_NODES).length());
+    assertNotNull(jsonTree.optNodeId(m_child0));
+    assertNull(jsonTree.optNodeId(m_grandChild));
+  }
+
+  @Test
+  public void testCollapseReleasesChildNodes() {
+    JsonTree<ITree> jsonTree = createJsonTree();
+    m_tree.setNodeExpanded(m_node0, true);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    assertNotNull(jsonTree.optNodeId(m_child0));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    m_tree.setNodeExpanded(m_node0, false);
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTree.EVENT_ALL_CHILD_NODES_DELETED);
+    assertEquals(1, events.size());
+    assertEquals(jsonTree.getNodeId(m_node0), events.get(0).getData().getString(JsonTree.PROP_COMMON_PARENT_NODE_ID));
+    assertNull(jsonTree.optNodeId(m_child0));
+    assertNull(jsonTree.optNodeId(m_child1));
+  }
+
+  @Test
+  public void testCollapseKeepsSelectedChildNodes() {
+    JsonTree<ITree> jsonTree = createJsonTree();
+    m_tree.setNodeExpanded(m_node0, true);
+    m_tree.selectNode(m_child1);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    JsonTestUtility.endRequest(m_uiSession);
+
+    m_tree.setNodeExpanded(m_node0, false);
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTree.EVENT_ALL_CHILD_NODES_DELETED);
+    assertTrue(events.isEmpty());
+    assertNotNull(jsonTree.optNodeId(m_child1));
+  }
+
+  @Test
+  public void testSelectDeferredNode() {
+    JsonTree<ITree> jsonTree = createJsonTree();
+    m_tree.selectNode(m_grandChild);
+
+    List<JsonEvent> events = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), null);
+    List<JsonEvent> insertedEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTree.EVENT_NODES_INSERTED);
+    assertEquals(2, insertedEvents.size());
+    JsonEvent selectedEvent = events.get(events.size() - 1);
+    assertEquals(JsonTree.EVENT_NODES_SELECTED, selectedEvent.getType());
+    assertEquals(jsonTree.getNodeId(m_grandChild), selectedEvent.getData().getJSONArray(JsonTree.PROP_NODE_IDS).getString(0));
+  }
+
+  protected JsonTree<ITree> createJsonTree() {
+    JsonTree<ITree> jsonTree = m_uiSession.createJsonAdapter(m_tree, new JsonAdapterMock());
+    jsonTree.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+    return jsonTree;
+  }
+}
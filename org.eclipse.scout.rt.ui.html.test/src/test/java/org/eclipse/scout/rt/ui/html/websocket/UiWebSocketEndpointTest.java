@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.websocket;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerEndpointConfig;
+
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.websocket.UiWebSocketEndpoint.P_Configurator;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class UiWebSocketEndpointTest {
+
+  @Test
+  public void testCheckOriginWithExternalBaseUrl() {
+    P_Configurator configurator = createConfigurator("https://app.example.com");
+    assertTrue(configurator.checkOrigin("https://app.example.com"));
+    assertFalse(configurator.checkOrigin("https://evil.example.com"));
+    assertFalse(configurator.checkOrigin("http://app.example.com"));
+    assertFalse(configurator.checkOrigin(null));
+  }
+
+  @Test
+  public void testSameOriginAsHost() {
+    P_Configurator configurator = createConfigurator(null);
+    assertTrue(configurator.checkOrigin("https://evil.example.com")); // checked in modifyHandshake
+    assertFalse(configurator.checkOrigin(""));
+
+    assertHandshake(configurator, true, "https://app.example.com", "app.example.com");
+    assertHandshake(configurator, true, "https://app.example.com", "APP.example.com:443");
+    assertHandshake(configurator, true, "http://localhost:8082", "localhost:8082");
+    assertHandshake(configurator, false, "http://localhost:8083", "localhost:8082");
+    assertHandshake(configurator, false, "https://evil.example.com", "app.example.com");
+    assertHandshake(configurator, false, "null", "app.example.com");
+    assertHandshake(configurator, false, null, "app.example.com");
+  }
+
+  protected void assertHandshake(P_Configurator configurator, boolean accepted, String origin, String host) {
+    HttpSession httpSession = mock(HttpSession.class);
+    Map<String, List<String>> headers = new HashMap<>();
+    headers.put("host", Collections.singletonList(host));
+    if (origin != null) {
+      headers.put("origin", Collections.singletonList(origin));
+    }
+    HandshakeRequest request = mock(HandshakeRequest.class);
+    when(request.getHeaders()).thenReturn(headers);
+    when(request.getHttpSession()).thenReturn(httpSession);
+    ServerEndpointConfig config = UiWebSocketEndpoint.createEndpointConfig();
+
+    configurator.modifyHandshake(config, request, mock(HandshakeResponse.class));
+    assertEquals(accepted ? httpSession : null, config.getUserProperties().get(UiWebSocketEndpoint.HTTP_SESSION_PROPERTY));
+  }
+
+  protected P_Configurator createConfigurator(String allowedOrigin) {
+    return new P_Configurator() {
+      @Override
+      protected String getAllowedOrigin() {
+        return allowedOrigin;
+      }
+    };
+  }
+}
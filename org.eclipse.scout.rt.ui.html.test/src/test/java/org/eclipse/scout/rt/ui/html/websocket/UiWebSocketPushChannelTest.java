@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.websocket;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.RemoteEndpoint.Basic;
+import jakarta.websocket.Session;
+
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest.RequestType;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+@RunWith(PlatformTestRunner.class)
+public class UiWebSocketPushChannelTest {
+
+  private IUiSession m_uiSession;
+  private Session m_webSocketSession;
+  private Basic m_remote;
+  private UiWebSocketPushChannel m_pushChannel;
+
+  @Before
+  public void before() {
+    m_uiSession = mock(IUiSession.class);
+    when(m_uiSession.getUiSessionId()).thenReturn("uiSessionId");
+    when(m_uiSession.getLastAccessedTime()).thenReturn(System.currentTimeMillis());
+    when(m_uiSession.uiSessionLock()).thenReturn(new ReentrantLock());
+    m_remote = mock(Basic.class);
+    m_webSocketSession = mock(Session.class);
+    when(m_webSocketSession.isOpen()).thenReturn(true);
+    when(m_webSocketSession.getBasicRemote()).thenReturn(m_remote);
+    m_pushChannel = new UiWebSocketPushChannel(m_uiSession, m_webSocketSession);
+  }
+
+  @Test
+  public void testPushResponse() throws Exception {
+    JSONObject response = new JSONObject().put("#", 1);
+    when(m_uiSession.processJsonRequest(isNull(), isNull(), any())).thenReturn(response);
+
+    assertTrue(m_pushChannel.pushNextResponse());
+    ArgumentCaptor<JsonRequest> captor = ArgumentCaptor.forClass(JsonRequest.class);
+    verify(m_uiSession).waitForBackgroundJobs(captor.capture(), anyInt());
+    assertEquals(RequestType.POLL_REQUEST, captor.getValue().getRequestType());
+    assertNull(captor.getValue().getSequenceNo());
+    verify(m_remote).sendText(response.toString());
+  }
+
+  @Test
+  public void testUserRequestInProgress() throws Exception {
+    ReentrantLock lock = mock(ReentrantLock.class);
+    when(lock.tryLock()).thenReturn(false);
+    when(m_uiSession.uiSessionLock()).thenReturn(lock);
+
+    // The response is sent along with the user request
+    assertTrue(m_pushChannel.pushNextResponse());
+    verify(m_uiSession, never()).processJsonRequest(any(), any(), any());
+    verify(m_remote, never()).sendText(anyString());
+  }
+
+  @Test
+  public void testUiSessionDisposed() throws Exception {
+    when(m_uiSession.isDisposed()).thenReturn(true);
+
+    assertFalse(m_pushChannel.pushNextResponse());
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(m_remote).sendText(captor.capture());
+    assertTrue(new JSONObject(captor.getValue()).getBoolean("sessionTerminated"));
+    verify(m_webSocketSession).close(any(CloseReason.class));
+  }
+
+  @Test
+  public void testIdleTimeout() throws Exception {
+    when(m_uiSession.getLastAccessedTime()).thenReturn(0L);
+
+    assertFalse(m_pushChannel.pushNextResponse());
+    verify(m_uiSession).dispose();
+    verify(m_uiSession, never()).waitForBackgroundJobs(any(), anyInt());
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(m_remote).sendText(captor.capture());
+    assertTrue(new JSONObject(captor.getValue()).has("error"));
+  }
+
+  @Test
+  public void testMaxIdleTimeout() {
+    long keepAliveInterval = TimeUnit.SECONDS.toMillis(CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class));
+    assertTrue(m_pushChannel.getMaxIdleTimeout() > keepAliveInterval);
+
+    // container default below the keep-alive interval is raised
+    when(m_webSocketSession.getMaxIdleTimeout()).thenReturn(30000L);
+    m_pushChannel.initMaxIdleTimeout();
+    verify(m_webSocketSession).setMaxIdleTimeout(m_pushChannel.getMaxIdleTimeout());
+  }
+
+  @Test
+  public void testMaxIdleTimeoutNotLowered() {
+    // no timeout
+    when(m_webSocketSession.getMaxIdleTimeout()).thenReturn(0L);
+    m_pushChannel.initMaxIdleTimeout();
+
+    // higher timeout
+    when(m_webSocketSession.getMaxIdleTimeout()).thenReturn(m_pushChannel.getMaxIdleTimeout() + 1);
+    m_pushChannel.initMaxIdleTimeout();
+    verify(m_webSocketSession, never()).setMaxIdleTimeout(anyLong());
+  }
+
+  @Test
+  public void testHandleAck() {
+    m_pushChannel.handleMessage("{\"#ACK\": 5}");
+    verify(m_uiSession).confirmResponseProcessed(5L);
+  }
+}
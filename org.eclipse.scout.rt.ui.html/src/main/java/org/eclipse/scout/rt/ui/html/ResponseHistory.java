@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.ui.html;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -20,6 +21,8 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.eclipse.scout.rt.ui.html.json.JsonStreamWriter;
+import org.eclipse.scout.rt.ui.html.json.SerializedJsonObject;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -29,6 +32,10 @@ import org.slf4j.LoggerFactory;
  * Collects JSON responses and their corresponding <i>request sequence number</i> and <i>response sequence number</i>
  * until they are acknowledged by the client. A maximum of 10 responses is stored in the history.
  * <p>
+ * The responses are kept as UTF-8 encoded JSON, which is much more compact than the {@link JSONObject} graph. The
+ * serialization is done once, the response to be sent is a {@link SerializedJsonObject} which is written as is. The
+ * bytes are only parsed again (once) in the rare case a response has to be resent to the client.
+ * <p>
  * This class is thread-safe.
  */
 @Bean
@@ -41,7 +48,7 @@ public class ResponseHistory {
 
   private final Map<Long, Long> m_requestToResponseMap = new HashMap<>(); // RequestSequenceNo -> ResponseSequenceNo
   private final Map<Long, Long> m_responseToRequestMap = new HashMap<>(); // ResponseSequenceNo -> RequestSequenceNo
-  private final SortedMap<Long, JSONObject> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
+  private final SortedMap<Long, P_Response> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response (UTF-8 encoded JSON)
 
   private UiSession m_uiSession;
 
@@ -71,12 +78,15 @@ public class ResponseHistory {
    *          The <u>response</u> to remember <i>(mandatory)</i>
    * @param requestSequenceNo
    *          The sequence number of the <u>request</u> that caused the response <i>(optional)</i>
+   * @return the response along with its serialization, to be sent to the client
    * @throws AssertionException
    *           if mandatory arguments are <code>null</code>
    */
-  public void registerResponse(Long responseSequenceNo, JSONObject response, Long requestSequenceNo) {
+  public SerializedJsonObject registerResponse(Long responseSequenceNo, JSONObject response, Long requestSequenceNo) {
     Assertions.assertNotNull(responseSequenceNo);
     Assertions.assertNotNull(response);
+    // serialize outside of the lock
+    SerializedJsonObject serializedResponse = new SerializedJsonObject(response, JsonStreamWriter.toUtf8(response));
 
     synchronized (m_mutex) {
       Assertions.assertFalse(m_responses.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
@@ -85,7 +95,7 @@ public class ResponseHistory {
         Assertions.assertFalse(m_responseToRequestMap.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       }
 
-      m_responses.put(responseSequenceNo, response);
+      m_responses.put(responseSequenceNo, new P_Response(serializedResponse.getUtf8()));
       if (requestSequenceNo != null) { // optional
         m_requestToResponseMap.put(requestSequenceNo, responseSequenceNo);
         m_responseToRequestMap.put(responseSequenceNo, requestSequenceNo);
@@ -99,6 +109,7 @@ public class ResponseHistory {
       }
       LOG.debug("Added response #{} to history {} for UI session {}", responseSequenceNo, m_responses.keySet(), getUiSessionId());
     }
+    return serializedResponse;
   }
 
   /**
@@ -141,7 +152,8 @@ public class ResponseHistory {
       Long lastSentSequenceNo = m_responses.lastKey();
       JSONObject combinedAdapterData = new JSONObject();
       JSONArray combinedEvents = new JSONArray();
-      for (JSONObject response : m_responses.values()) {
+      for (P_Response r : m_responses.values()) {
+        JSONObject response = r.toJson();
         // combine adapterData
         JSONObject adapterData = response.optJSONObject(JsonResponse.PROP_ADAPTER_DATA);
         if (adapterData != null) {
@@ -203,7 +215,8 @@ public class ResponseHistory {
       return null;
     }
     synchronized (m_mutex) {
-      return m_responses.get(responseSequenceNo);
+      P_Response r = m_responses.get(responseSequenceNo);
+      return r == null ? null : r.toJson();
     }
   }
 
@@ -230,4 +243,26 @@ public class ResponseHistory {
   public String toString() {
     return "[" + CollectionUtility.format(m_responses.keySet()) + "]";
   }
+
+  /**
+   * Response in the history. Must only be accessed while holding {@link ResponseHistory#m_mutex}.
+   */
+  protected static class P_Response {
+    private final byte[] m_data;
+    private SerializedJsonObject m_json;
+
+    protected P_Response(byte[] data) {
+      m_data = data;
+    }
+
+    /**
+     * @return the response, parsed only once
+     */
+    protected SerializedJsonObject toJson() {
+      if (m_json == null) {
+        m_json = new SerializedJsonObject(new JSONObject(new String(m_data, StandardCharsets.UTF_8)), m_data);
+      }
+      return m_json;
+    }
+  }
 }
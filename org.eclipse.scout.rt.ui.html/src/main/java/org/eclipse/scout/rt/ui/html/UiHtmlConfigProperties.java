@@ -23,6 +23,7 @@ import jakarta.servlet.MultipartConfigElement;
 
 import org.eclipse.scout.rt.api.data.ApiExposed;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -168,6 +169,67 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  public static class TableRowPageSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+
+    @Override
+    public String description() {
+      return "Number of table rows sent to the UI at once. If a table has more rows, the remaining rows are sent page by page when the user scrolls to the end of the table. "
+          + "Sorting is delegated to the UI server as long as not all rows are sent, text and column filters of the UI only consider the rows already sent.\n"
+          + "By default this property is set to 0 which means that all rows are sent at once.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.tableRowPageSize";
+    }
+  }
+
+  public static class TreeChildNodesOnDemandProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the child nodes of collapsed tree nodes are only sent to the UI when the node is expanded. "
+          + "If enabled, the child nodes of a node are released again when the node is collapsed, unless they contain a selected node.\n"
+          + "By default this property is disabled which means that all nodes of a tree are sent at once.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.treeChildNodesOnDemand";
+    }
+  }
+
+  public static class UiWebSocketEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the UI opens a WebSocket to receive the responses of background jobs instead of sending poll requests. "
+          + "If the WebSocket cannot be opened or is closed unexpectedly, the UI falls back to polling.\n"
+          + "The WebSocket endpoint has to be registered in the servlet container, see UiWebSocketEndpoint.\n"
+          + "By default this property is disabled.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.webSocketEnabled";
+    }
+  }
+
   public static class MaxUploadFileCountProperty extends AbstractLongConfigProperty {
 
     @Override
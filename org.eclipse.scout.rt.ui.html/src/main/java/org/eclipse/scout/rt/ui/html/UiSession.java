@@ -46,6 +46,7 @@ import org.eclipse.scout.rt.client.ui.form.fields.ValidationFailedStatus;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.PropertyMap;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
@@ -79,6 +80,7 @@ import org.eclipse.scout.rt.shared.ui.UiLayer;
 import org.eclipse.scout.rt.shared.ui.UiSystem;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiWebSocketEnabledProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonAdapterRegistry;
@@ -518,6 +520,9 @@ public class UiSession implements IUiSession {
     startupData.put("clientSessionId", m_clientSession.getId()); // Send back clientSessionId to allow the browser to attach to the same client session on page reload
     startupData.put("clientSession", clientSessionAdapterId);
     startupData.put("persistent", isPersistent());
+    if (CONFIG.getPropertyValue(UiWebSocketEnabledProperty.class)) {
+      startupData.put("webSocketEnabled", true);
+    }
     putLocaleData(startupData, BEANS.get(UiJobs.class).awaitAndGet(future));
   }
 
@@ -928,10 +933,10 @@ public class UiSession implements IUiSession {
     // Convert response to JSON (must be done in model thread due to potential model access inside the toJson() method).
     final JSONObject json = m_currentJsonResponse.toJson();
 
-    // Remember response in history
+    // Remember response in history. The response is serialized once, the serialization is sent to the client.
     if (m_currentJsonResponse.getSequenceNo() != null) {
       Long currentRequestSequenceNo = (m_currentJsonRequest == null ? null : m_currentJsonRequest.getSequenceNo()); // optional, e.g. when uploading files
-      m_responseHistory.registerResponse(m_currentJsonResponse.getSequenceNo(), json, currentRequestSequenceNo);
+      return m_responseHistory.registerResponse(m_currentJsonResponse.getSequenceNo(), json, currentRequestSequenceNo);
     }
 
     return json;
@@ -143,12 +143,10 @@ public class JsonRequestHelper {
   }
 
   /**
-   * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * Writes the given {@link JSONObject} into the given {@link ServletResponse}. The serialization of a
+   * {@link SerializedJsonObject} is written as is.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -158,7 +156,13 @@ public class JsonRequestHelper {
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
     try {
-      servletResponse.getOutputStream().write(data);
+      if (jsonResponse instanceof SerializedJsonObject) {
+        servletResponse.getOutputStream().write(((SerializedJsonObject) jsonResponse).getUtf8());
+      }
+      else {
+        // Stream the JSON directly to the response instead of building the whole string (and its bytes) in memory first
+        JsonStreamWriter.writeUtf8(jsonResponse, servletResponse.getOutputStream());
+      }
     }
     catch (final Exception e) {
       if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
@@ -172,7 +176,7 @@ public class JsonRequestHelper {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.scout.rt.ui.html.UiException;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Writes {@link JSONObject}s and {@link JSONArray}s directly to a {@link Writer}, without building the whole JSON
+ * string in memory first (as {@link JSONObject#toString()} does). The output is the same as the one of
+ * {@link JSONObject#toString()}.
+ */
+public class JsonStreamWriter {
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final Writer m_out;
+
+  public JsonStreamWriter(Writer out) {
+    m_out = out;
+  }
+
+  /**
+   * Writes the given value, which is a {@link JSONObject}, {@link JSONArray}, String, Boolean, Number,
+   * {@link JSONObject#NULL} or <code>null</code>. Other objects are written as string using their
+   * {@link Object#toString()} method.
+   */
+  public JsonStreamWriter write(Object value) throws IOException {
+    if (value instanceof JSONObject) {
+      writeObject((JSONObject) value);
+    }
+    else if (value instanceof JSONArray) {
+      writeArray((JSONArray) value);
+    }
+    else if (value == null || value instanceof Boolean || value == JSONObject.NULL) {
+      m_out.write(String.valueOf(value));
+    }
+    else if (value instanceof Number) {
+      m_out.write(JSONObject.numberToString((Number) value));
+    }
+    else {
+      writeString(value.toString());
+    }
+    return this;
+  }
+
+  public void flush() throws IOException {
+    m_out.flush();
+  }
+
+  protected void writeObject(JSONObject object) throws IOException {
+    m_out.write('{');
+    boolean first = true;
+    for (String key : object.keySet()) {
+      if (!first) {
+        m_out.write(',');
+      }
+      first = false;
+      writeString(key);
+      m_out.write(':');
+      write(object.opt(key));
+    }
+    m_out.write('}');
+  }
+
+  protected void writeArray(JSONArray array) throws IOException {
+    m_out.write('[');
+    for (int i = 0, length = array.length(); i < length; i++) {
+      if (i > 0) {
+        m_out.write(',');
+      }
+      write(array.opt(i));
+    }
+    m_out.write(']');
+  }
+
+  /**
+   * Writes a quoted string, escaped as by {@link JSONObject#quote(String)}. Unescaped sections are written in one
+   * piece.
+   */
+  protected void writeString(String value) throws IOException {
+    m_out.write('"');
+    int start = 0;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      String escaped = null;
+      switch (c) {
+        case '"':
+          escaped = "\\\"";
+          break;
+        case '\\':
+          escaped = "\\\\";
+          break;
+        case '/':
+          escaped = "\\/";
+          break;
+        case '\t':
+          escaped = "\\t";
+          break;
+        case '\b':
+          escaped = "\\b";
+          break;
+        case '\n':
+          escaped = "\\n";
+          break;
+        case '\r':
+          escaped = "\\r";
+          break;
+        case '\f':
+          escaped = "\\f";
+          break;
+        default:
+          if (c <= 0x1F) {
+            escaped = new String(new char[]{'\\', 'u', '0', '0', HEX_DIGITS[c >> 4], HEX_DIGITS[c & 0xF]});
+          }
+          break;
+      }
+      if (escaped != null) {
+        if (i > start) {
+          m_out.write(value, start, i - start);
+        }
+        m_out.write(escaped);
+        start = i + 1;
+      }
+    }
+    if (value.length() > start) {
+      m_out.write(value, start, value.length() - start);
+    }
+    m_out.write('"');
+  }
+
+  /**
+   * Writes the given value as UTF-8 encoded JSON to the given stream. The stream is flushed but not closed.
+   */
+  public static void writeUtf8(Object value, OutputStream out) throws IOException {
+    @SuppressWarnings("resource")
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    new JsonStreamWriter(writer).write(value).flush();
+  }
+
+  /**
+   * @return the given value as UTF-8 encoded JSON
+   */
+  public static byte[] toUtf8(Object value) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      writeUtf8(value, out);
+    }
+    catch (IOException e) {
+      throw new UiException(e.getMessage(), e);
+    }
+    return out.toByteArray();
+  }
+}
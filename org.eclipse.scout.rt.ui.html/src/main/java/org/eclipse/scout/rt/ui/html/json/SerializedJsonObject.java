@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.ui.html.ResponseHistory;
+import org.json.JSONObject;
+
+/**
+ * {@link JSONObject} whose UTF-8 encoded serialization is already known, e.g. because it was serialized for the
+ * {@link ResponseHistory}. {@link JsonRequestHelper#writeResponse(jakarta.servlet.ServletResponse, JSONObject)} writes
+ * these bytes instead of serializing the object again.
+ * <p>
+ * The object must not be modified, otherwise its content and its serialization diverge.
+ *
+ * @since 24.2
+ */
+public class SerializedJsonObject extends JSONObject {
+
+  private final byte[] m_utf8;
+
+  /**
+   * @param json
+   *          the object whose top level mappings are copied (values are not copied)
+   * @param utf8
+   *          the UTF-8 encoded serialization of the given object
+   */
+  public SerializedJsonObject(JSONObject json, byte[] utf8) {
+    super(json, json.keySet().toArray(new String[0]));
+    m_utf8 = Assertions.assertNotNull(utf8);
+  }
+
+  /**
+   * @return the UTF-8 encoded serialization of this object (not a copy, must not be modified)
+   */
+  public byte[] getUtf8() {
+    return m_utf8;
+  }
+}
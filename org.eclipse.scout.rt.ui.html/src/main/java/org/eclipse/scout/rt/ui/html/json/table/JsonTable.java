@@ -11,12 +11,14 @@ package org.eclipse.scout.rt.ui.html.json.table;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.client.context.ClientRunContext;
@@ -50,6 +52,7 @@ import org.eclipse.scout.rt.client.ui.dnd.TextTransferObject;
 import org.eclipse.scout.rt.client.ui.dnd.TransferObject;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.status.IStatus;
@@ -61,6 +64,7 @@ import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.security.CopyToClipboardPermission;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowPageSizeProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonWidget;
 import org.eclipse.scout.rt.ui.html.json.FilteredJsonAdapterIds;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -127,6 +131,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_FETCH_ROWS = "fetchRows";
+  public static final String EVENT_SELECT_ALL = "selectAll";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -139,6 +145,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_REMAINING_ROW_COUNT = "remainingRowCount";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -150,6 +157,19 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  /**
+   * Number of rows sent to the UI at once, 0 if all rows are sent (see {@link TableRowPageSizeProperty}).
+   */
+  private final int m_rowPageSize;
+  /**
+   * Number of rows the UI requested so far, only used if rows are sent page by page.
+   */
+  private int m_rowWindowSize;
+  private int m_remainingRowCount;
+  /**
+   * {@code true} if the rows known by the UI may differ from the {@link #getRowWindow()}, see {@link #syncRowWindow()}.
+   */
+  private boolean m_rowWindowChanged;
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -160,6 +180,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     m_jsonColumns = new HashMap<>();
     m_eventBuffer = model.createEventBuffer();
     m_binaryResourceMediator = createBinaryResourceMediator();
+    m_rowPageSize = CONFIG.getPropertyValue(TableRowPageSizeProperty.class);
+    m_rowWindowSize = m_rowPageSize;
   }
 
   protected BinaryResourceMediator createBinaryResourceMediator() {
@@ -454,7 +476,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void attachRows() {
-    List<ITableRow> rows = getModel().getRows();
+    Collection<ITableRow> rows = isRowPagingEnabled() ? getRowWindow() : getModel().getRows();
     for (ITableRow row : rows) {
       if (isRowAccepted(row)) {
         getOrCreateRowId(row);
@@ -567,7 +589,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    if (isRowPagingEnabled()) {
+      List<ITableRow> rowWindow = getRowWindow();
+      json.put(PROP_ROWS, tableRowsToJson(rowWindow));
+      m_remainingRowCount = getFilteredRowCount() - rowWindow.size();
+      json.put(PROP_REMAINING_ROW_COUNT, m_remainingRowCount);
+    }
+    else {
+      json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    }
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
@@ -651,6 +681,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_FILTER.equals(event.getType())) {
       handleUiFilter(event);
     }
+    else if (EVENT_FETCH_ROWS.equals(event.getType())) {
+      handleUiFetchRows(event);
+    }
+    else if (EVENT_SELECT_ALL.equals(event.getType())) {
+      handleUiSelectAll(event);
+    }
     else if (EVENT_COLUMN_AGGR_FUNC_CHANGED.equals(event.getType())) {
       handleColumnAggregationFunctionChanged(event);
     }
@@ -1005,12 +1041,45 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (event.getData().optBoolean("remove")) {
       getModel().getUIFacade().removeFilteredRowsFromUI();
     }
+    else if (isRowPagingEnabled() && m_remainingRowCount > 0) {
+      // The UI only knows the rows sent so far, the rows not yet sent must not be hidden by the filter. The UI fetches
+      // all rows before filtering, hence this is an obsolete event: just make sure all rows are sent.
+      m_rowWindowSize = Integer.MAX_VALUE;
+      invalidateRowWindow();
+    }
     else {
       List<ITableRow> tableRows = extractTableRows(event.getData());
       getModel().getUIFacade().setFilteredRowsFromUI(tableRows);
     }
   }
 
+  protected void handleUiFetchRows(JsonEvent event) {
+    if (!isRowPagingEnabled() || m_remainingRowCount <= 0) {
+      return;
+    }
+    if (event.getData().optBoolean("all")) {
+      // e.g. to filter the rows in the UI
+      m_rowWindowSize = Integer.MAX_VALUE;
+    }
+    else {
+      // next page, but not more than the number of rows
+      int rowCount = m_tableRows.size() + m_remainingRowCount;
+      m_rowWindowSize = Math.min(Math.max(m_rowWindowSize, m_tableRows.size()) + m_rowPageSize, rowCount);
+    }
+    invalidateRowWindow();
+  }
+
+  /**
+   * Selects all rows if the UI does not know all rows yet (otherwise, the UI selects the rows itself). The selected
+   * rows not yet known by the UI are sent by {@link #syncRowWindow()}.
+   */
+  protected void handleUiSelectAll(JsonEvent event) {
+    if (!getModel().isMultiSelect()) {
+      return;
+    }
+    getModel().getUIFacade().setSelectedRowsFromUI(getModel().getFilteredRows());
+  }
+
   protected JSONObject tableRowToJson(ITableRow row) {
     JSONArray jsonCells = new JSONArray();
     for (IColumn<?> column : getModel().getColumnSet().getColumns()) {
@@ -1100,6 +1169,106 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonRowIds;
   }
 
+  /**
+   * @return {@code true} if the rows are sent page by page, see {@link TableRowPageSizeProperty}. Tables in tile mode
+   *         always send all rows.
+   */
+  protected boolean isRowPagingEnabled() {
+    return m_rowPageSize > 0 && !getModel().isTileMode();
+  }
+
+  /**
+   * @return the rows to be sent to the UI in model order if rows are sent page by page: the first accepted rows up to
+   *         the number of rows requested by the UI, the selected rows and their parent rows
+   */
+  protected List<ITableRow> getRowWindow() {
+    List<ITableRow> rows = getModel().getRows();
+    List<ITableRow> window = new ArrayList<>(Math.min(m_rowWindowSize, rows.size()));
+    int end = 0;
+    while (end < rows.size() && window.size() < m_rowWindowSize) {
+      ITableRow row = rows.get(end++);
+      if (isRowAccepted(row)) {
+        window.add(row);
+      }
+    }
+    // selected rows (and their parent rows) after the first rows, ordered by row index
+    Set<ITableRow> selectedRows = new TreeSet<>(Comparator.comparingInt(ITableRow::getRowIndex));
+    for (ITableRow row : getModel().getSelectedRows()) {
+      for (ITableRow r = row; r != null && isRowAccepted(r); r = getModel().findParentRow(r)) {
+        if (r.getRowIndex() >= end && !selectedRows.add(r)) {
+          break;
+        }
+      }
+    }
+    window.addAll(selectedRows);
+    return window;
+  }
+
+  /**
+   * Marks the rows known by the UI to be synchronized with the {@link #getRowWindow()} when the buffered events are
+   * processed.
+   */
+  protected void invalidateRowWindow() {
+    m_rowWindowChanged = true;
+    registerAsBufferedEventsAdapter();
+  }
+
+  /**
+   * @return {@code true} if the given event may change the {@link #getRowWindow()}. Other events (e.g. updated rows)
+   *         only affect rows already sent.
+   */
+  protected boolean isRowWindowAffected(TableEvent event) {
+    switch (event.getType()) {
+      case TableEvent.TYPE_ROWS_INSERTED:
+      case TableEvent.TYPE_ROWS_DELETED:
+      case TableEvent.TYPE_ALL_ROWS_DELETED:
+      case TableEvent.TYPE_ROWS_SELECTED:
+      case TableEvent.TYPE_ROW_ORDER_CHANGED:
+      case TableEvent.TYPE_ROW_FILTER_CHANGED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Sends the rows of the {@link #getRowWindow()} not yet known by the UI and deletes the rows no longer part of it.
+   */
+  protected void syncRowWindow() {
+    List<ITableRow> rowWindow = getRowWindow();
+    Set<ITableRow> rowWindowSet = new HashSet<>(rowWindow);
+    List<ITableRow> rowsToDelete = new ArrayList<>();
+    for (ITableRow row : m_tableRowIds.keySet()) {
+      if (!rowWindowSet.contains(row)) {
+        rowsToDelete.add(row);
+      }
+    }
+    handleModelRowsDeleted(rowsToDelete);
+
+    List<ITableRow> rowsToInsert = new ArrayList<>();
+    for (ITableRow row : rowWindow) {
+      if (getTableRowId(row) == null) {
+        rowsToInsert.add(row);
+      }
+    }
+    if (!rowsToInsert.isEmpty()) {
+      boolean hadRows = !m_tableRows.isEmpty();
+      handleModelRowsInserted(rowsToInsert);
+      if (hadRows) {
+        handleModelRowOrderChanged(rowWindow);
+      }
+      if (CollectionUtility.containsAny(getModel().getSelectedRows(), rowsToInsert)) {
+        handleModelRowsSelected(getModel().getSelectedRows());
+      }
+    }
+
+    int remainingRowCount = getFilteredRowCount() - rowWindow.size();
+    if (remainingRowCount != m_remainingRowCount) {
+      m_remainingRowCount = remainingRowCount;
+      addPropertyChangeEvent(PROP_REMAINING_ROW_COUNT, remainingRowCount);
+    }
+  }
+
   /**
    * Ignore deleted or filtered rows, because for the UI, they don't exist
    */
@@ -1226,6 +1395,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelTableEvent(TableEvent event) {
+    if (isRowPagingEnabled() && isRowWindowAffected(event)) {
+      if (event.getType() == TableEvent.TYPE_ALL_ROWS_DELETED) {
+        // e.g. reloaded table: start with the first page again
+        m_rowWindowSize = m_rowPageSize;
+      }
+      // the row window has to be synchronized even if the event itself is filtered (e.g. the row order changed by the UI)
+      invalidateRowWindow();
+    }
     event = m_tableEventFilter.filter(event);
     if (event == null) {
       return;
@@ -1351,23 +1528,29 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   @Override
   public void processBufferedEvents() {
-    if (m_eventBuffer.isEmpty()) {
-      return;
+    if (!m_eventBuffer.isEmpty()) {
+      preprocessBufferedEvents();
+      List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
+      for (TableEvent event : coalescedEvents) {
+        processEvent(event);
+      }
     }
-    preprocessBufferedEvents();
-    List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
-    for (TableEvent event : coalescedEvents) {
-      processEvent(event);
+    if (isRowPagingEnabled() && m_rowWindowChanged) {
+      m_rowWindowChanged = false;
+      syncRowWindow();
     }
   }
 
   protected void processEvent(TableEvent event) {
     switch (event.getType()) {
       case TableEvent.TYPE_ROWS_INSERTED:
-        handleModelRowsInserted(event.getRows());
+        if (!isRowPagingEnabled()) {
+          // otherwise, the rows are sent by syncRowWindow
+          handleModelRowsInserted(event.getRows());
+        }
         break;
       case TableEvent.TYPE_ROWS_UPDATED:
-        handleModelRowsUpdated(event.getRows());
+        handleModelRowsUpdated(isRowPagingEnabled() ? filterSentRows(event.getRows()) : event.getRows());
         break;
       case TableEvent.TYPE_ROWS_DELETED:
         handleModelRowsDeleted(event.getRows());
@@ -1429,6 +1612,13 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * @return the rows already sent to the UI
+   */
+  protected List<ITableRow> filterSentRows(Collection<ITableRow> rows) {
+    return rows.stream().filter(row -> getTableRowId(row) != null).collect(Collectors.toList());
+  }
+
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
     Set<ITableRow> acceptedRows = new HashSet<>();
     JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
@@ -1518,7 +1708,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsChecked(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = new JSONArray();
     for (ITableRow row : modelRows) {
-      if (!isRowAccepted(row)) {
+      if (!isRowAccepted(row) || getTableRowId(row) == null) {
         continue;
       }
       JSONObject jsonRow = new JSONObject();
@@ -1536,7 +1726,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRowsExpanded(List<ITableRow> rows) {
     JSONArray jsonRows = new JSONArray();
-    rows.stream().filter(this::isRowAccepted)
+    rows.stream().filter(row -> isRowAccepted(row) && getTableRowId(row) != null)
         .map(row -> {
           JSONObject jsonRow = new JSONObject();
           putProperty(jsonRow, "id", getTableRowId(row));
@@ -1553,8 +1743,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONArray jsonRowIds = new JSONArray();
     List<String> rowIds = new ArrayList<>();
     for (ITableRow row : modelRows) {
-      if (isRowAccepted(row)) {
-        String rowId = getTableRowId(row);
+      String rowId = getTableRowId(row);
+      if (rowId != null && isRowAccepted(row)) { // Ignore rows that are not yet sent to the UI
         jsonRowIds.put(rowId);
         rowIds.add(rowId);
       }
@@ -1662,7 +1852,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRequestFocusInCell(TableEvent event) {
     final ITableRow row = CollectionUtility.firstElement(event.getRows());
-    if (row == null || !isRowAccepted(row)) {
+    if (row == null || !isRowAccepted(row) || isRowPagingEnabled() && getTableRowId(row) == null) {
       return;
     }
 
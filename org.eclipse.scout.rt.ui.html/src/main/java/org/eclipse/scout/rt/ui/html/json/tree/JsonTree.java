@@ -19,6 +19,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.client.job.ModelJobs;
 import org.eclipse.scout.rt.client.ui.AbstractEventBuffer;
@@ -37,6 +38,7 @@ import org.eclipse.scout.rt.client.ui.basic.tree.TreeListener;
 import org.eclipse.scout.rt.client.ui.basic.tree.TreeUtility;
 import org.eclipse.scout.rt.client.ui.dnd.IDNDSupport;
 import org.eclipse.scout.rt.client.ui.dnd.ResourceListTransferObject;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
@@ -45,6 +47,7 @@ import org.eclipse.scout.rt.platform.util.visitor.DepthFirstTreeVisitor;
 import org.eclipse.scout.rt.platform.util.visitor.TreeVisitResult;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TreeChildNodesOnDemandProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonWidget;
 import org.eclipse.scout.rt.ui.html.json.FilteredJsonAdapterIds;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -106,6 +109,19 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
   private final AbstractEventBuffer<TreeEvent> m_eventBuffer;
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final JsonTreeListeners m_listeners = new JsonTreeListeners();
+  /**
+   * {@code true} if the child nodes of collapsed nodes are sent on demand (see {@link TreeChildNodesOnDemandProperty}).
+   */
+  private final boolean m_childNodesOnDemand;
+  /**
+   * Nodes known by the UI whose child nodes are not yet sent, only used if child nodes are sent on demand.
+   */
+  private final Set<ITreeNode> m_nodesWithDeferredChildNodes;
+  /**
+   * Nodes expanded or collapsed since the deferred child nodes were synchronized the last time.
+   */
+  private final Set<ITreeNode> m_expansionChangedNodes;
+  private boolean m_selectionChanged;
 
   public JsonTree(TREE model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -115,6 +131,9 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
     m_parentNodes = new HashMap<>();
     m_treeEventFilter = new TreeEventFilter(this);
     m_eventBuffer = model.createEventBuffer();
+    m_childNodesOnDemand = CONFIG.getPropertyValue(TreeChildNodesOnDemandProperty.class);
+    m_nodesWithDeferredChildNodes = new HashSet<>();
+    m_expansionChangedNodes = new HashSet<>();
   }
 
   @Override
@@ -259,6 +278,9 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
     m_jsonContextMenu = createJsonContextMenu();
     m_jsonContextMenu.init();
     attachNodes(getTopLevelNodes(), true);
+    if (m_childNodesOnDemand) {
+      resolveDeferredChildNodesOfSelectedNodes(this::attachDeferredChildNodes);
+    }
   }
 
   protected JsonContextMenu<IContextMenu> createJsonContextMenu() {
@@ -313,7 +335,13 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
     attachNodeInternal(node);
 
     if (attachChildren) {
-      attachNodes(node.getChildNodes(), true);
+      if (isDeferChildNodes(node)) {
+        m_nodesWithDeferredChildNodes.add(node);
+      }
+      else {
+        m_nodesWithDeferredChildNodes.remove(node);
+        attachNodes(node.getChildNodes(), true);
+      }
     }
   }
 
@@ -331,6 +359,8 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
     m_treeNodes.clear();
     m_childNodes.clear();
     m_parentNodes.clear();
+    m_nodesWithDeferredChildNodes.clear();
+    m_expansionChangedNodes.clear();
   }
 
   protected void disposeNode(ITreeNode node, boolean disposeChildren, Set<ITreeNode> disposedNodes) {
@@ -345,6 +375,7 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
     // The node will be removed from its parent childNodes list later in unlinkFromParentNode
     m_childNodes.remove(node);
     m_parentNodes.remove(node);
+    m_nodesWithDeferredChildNodes.remove(node);
     disposedNodes.add(node);
   }
 
@@ -383,6 +414,141 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
     }
   }
 
+  /**
+   * @return {@code true} if the child nodes of the given node are not sent to the UI until the node is expanded (see
+   *         {@link TreeChildNodesOnDemandProperty})
+   */
+  protected boolean isDeferChildNodes(ITreeNode node) {
+    return m_childNodesOnDemand && !isInvisibleRootNode(node) && !node.isExpanded() && node.getChildNodeCount() > 0;
+  }
+
+  /**
+   * @return {@code true} if the UI knows the child nodes of the given node. This is always the case unless child nodes
+   *         are sent on demand.
+   */
+  protected boolean isChildNodesSent(ITreeNode node) {
+    if (!m_childNodesOnDemand || node == null || isInvisibleRootNode(node)) {
+      return true;
+    }
+    return optNodeId(node) != null && !m_nodesWithDeferredChildNodes.contains(node);
+  }
+
+  /**
+   * Attaches the deferred child nodes of the given node without sending them to the UI.
+   *
+   * @return {@code true} if the child nodes of the given node were deferred
+   */
+  protected boolean attachDeferredChildNodes(ITreeNode node) {
+    if (!m_nodesWithDeferredChildNodes.remove(node)) {
+      return false;
+    }
+    attachNodes(node.getChildNodes(), true);
+    return true;
+  }
+
+  /**
+   * Sends the deferred child nodes of the given node to the UI.
+   *
+   * @return {@code true} if the child nodes of the given node were deferred
+   */
+  protected boolean sendDeferredChildNodes(ITreeNode node) {
+    if (!m_nodesWithDeferredChildNodes.remove(node)) {
+      return false;
+    }
+    handleModelNodesInserted(new TreeEvent(getModel(), TreeEvent.TYPE_NODES_INSERTED, node, node.getChildNodes()));
+    return true;
+  }
+
+  /**
+   * Resolves the deferred child nodes of all parent nodes of the selected nodes (top-down), because the UI has to know
+   * the selected nodes.
+   *
+   * @return {@code true} if the child nodes of at least one node were resolved
+   */
+  protected boolean resolveDeferredChildNodesOfSelectedNodes(Predicate<ITreeNode> resolver) {
+    boolean resolved = false;
+    for (ITreeNode selectedNode : getModel().getSelectedNodes()) {
+      LinkedList<ITreeNode> parentNodes = new LinkedList<>();
+      for (ITreeNode parentNode = selectedNode.getParentNode(); parentNode != null; parentNode = parentNode.getParentNode()) {
+        parentNodes.addFirst(parentNode);
+      }
+      for (ITreeNode parentNode : parentNodes) {
+        resolved |= resolver.test(parentNode);
+      }
+    }
+    return resolved;
+  }
+
+  /**
+   * Deletes the child nodes of the given collapsed node in the UI and releases their node ids (and the adapters attached
+   * to them). The child nodes are sent again when the node is expanded. Child nodes containing a selected node are
+   * not released.
+   */
+  protected void releaseChildNodes(ITreeNode node) {
+    if (!isDeferChildNodes(node) || !isChildNodesSent(node) || isParentOfSelectedNode(node)) {
+      return;
+    }
+    Set<ITreeNode> childNodes = new HashSet<>(getChildNodes(node));
+    m_nodesWithDeferredChildNodes.add(node);
+    if (childNodes.isEmpty()) {
+      return;
+    }
+    JSONObject jsonEvent = new JSONObject();
+    putProperty(jsonEvent, PROP_COMMON_PARENT_NODE_ID, getNodeId(node));
+    addActionEvent(EVENT_ALL_CHILD_NODES_DELETED, jsonEvent);
+    m_childNodes.remove(node);
+    Set<ITreeNode> disposedNodes = new HashSet<>();
+    disposeNodes(childNodes, true, disposedNodes);
+    m_listeners.fireEvent(new JsonTreeEvent(this, JsonTreeEvent.TYPE_NODES_DELETED, disposedNodes));
+  }
+
+  protected boolean isParentOfSelectedNode(ITreeNode node) {
+    for (ITreeNode selectedNode : getModel().getSelectedNodes()) {
+      for (ITreeNode parentNode = selectedNode.getParentNode(); parentNode != null; parentNode = parentNode.getParentNode()) {
+        if (parentNode == node) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Synchronizes the child nodes known by the UI with the expanded state of the nodes if child nodes are sent on demand:
+   * the child nodes of collapsed nodes are released, the deferred child nodes of expanded nodes and of the parents of
+   * the selected nodes are sent.
+   */
+  protected void syncDeferredChildNodes() {
+    boolean expansionChanged = !m_expansionChangedNodes.isEmpty();
+    List<ITreeNode> expansionChangedNodes = new ArrayList<>(m_expansionChangedNodes);
+    m_expansionChangedNodes.clear();
+    for (ITreeNode node : expansionChangedNodes) {
+      // the invisible root node is collapsed when all nodes are collapsed recursively
+      Collection<ITreeNode> nodes = isInvisibleRootNode(node) ? node.getChildNodes() : Collections.singletonList(node);
+      for (ITreeNode n : nodes) {
+        if (!n.isExpanded() && !n.isStatusDeleted()) {
+          releaseChildNodes(n);
+        }
+      }
+    }
+    boolean childNodesSent = false;
+    if (expansionChanged) {
+      for (ITreeNode node : new ArrayList<>(m_nodesWithDeferredChildNodes)) {
+        if (node.isExpanded()) {
+          childNodesSent |= sendDeferredChildNodes(node);
+        }
+      }
+    }
+    if (m_selectionChanged) {
+      m_selectionChanged = false;
+      childNodesSent |= resolveDeferredChildNodesOfSelectedNodes(this::sendDeferredChildNodes);
+      if (childNodesSent) {
+        // the selection event did not contain the nodes unknown by the UI
+        handleModelNodesSelected(getModel().getSelectedNodes());
+      }
+    }
+  }
+
   @Override
   public JSONObject toJson() {
     JSONObject json = super.toJson();
@@ -429,6 +595,18 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
   }
 
   protected void handleModelTreeEvent(TreeEvent event) {
+    if (m_childNodesOnDemand) {
+      // the deferred child nodes have to be synchronized even if the event itself is filtered (e.g. the node expanded by the UI)
+      if (ObjectUtility.isOneOf(event.getType(), TreeEvent.TYPE_NODE_EXPANDED, TreeEvent.TYPE_NODE_COLLAPSED,
+          TreeEvent.TYPE_NODE_EXPANDED_RECURSIVE, TreeEvent.TYPE_NODE_COLLAPSED_RECURSIVE)) {
+        m_expansionChangedNodes.add(event.getNode());
+        registerAsBufferedEventsAdapter();
+      }
+      else if (event.getType() == TreeEvent.TYPE_NODES_SELECTED) {
+        m_selectionChanged = true;
+        registerAsBufferedEventsAdapter();
+      }
+    }
     event = m_treeEventFilter.filter(event);
     if (event == null) {
       return;
@@ -508,6 +686,10 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
           // Stop recursion, because this node (including its child nodes) is already deleted
           processChildNodes = false;
         }
+        if (m_nodesWithDeferredChildNodes.contains(node)) {
+          // Stop recursion, because the UI does not know the child nodes yet
+          processChildNodes = false;
+        }
       }
 
       // Recursion
@@ -519,12 +701,14 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
 
   @Override
   public void processBufferedEvents() {
-    if (m_eventBuffer.isEmpty()) {
-      return;
+    if (!m_eventBuffer.isEmpty()) {
+      List<TreeEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
+      for (TreeEvent event : coalescedEvents) {
+        processBufferedEvent(event);
+      }
     }
-    List<TreeEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
-    for (TreeEvent event : coalescedEvents) {
-      processBufferedEvent(event);
+    if (m_childNodesOnDemand) {
+      syncDeferredChildNodes();
     }
   }
 
@@ -617,6 +801,9 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
   }
 
   protected void handleModelNodesInserted(TreeEvent event) {
+    if (!isChildNodesSent(event.getCommonParentNode())) { // Nodes are sent when the parent node is expanded
+      return;
+    }
     Set<ITreeNode> acceptedNodes = new HashSet<>();
     attachNodes(event.getNodes(), true); // TODO [7.0] cgu: why not inside loop? attaching for rejected nodes?
     IChildNodeIndexLookup childIndexes = createChildNodeIndexLookup();
@@ -661,6 +848,9 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
   }
 
   protected void handleModelNodesDeleted(TreeEvent event) {
+    if (!isChildNodesSent(event.getCommonParentNode())) { // Ignore nodes that were never sent to the UI
+      return;
+    }
     Collection<ITreeNode> nodes = event.getNodes();
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_COMMON_PARENT_NODE_ID, optNodeId(event.getCommonParentNode()));
@@ -687,6 +877,9 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
   }
 
   protected void handleModelAllChildNodesDeleted(TreeEvent event) {
+    if (!isChildNodesSent(event.getCommonParentNode())) { // Ignore nodes that were never sent to the UI
+      return;
+    }
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_COMMON_PARENT_NODE_ID, getNodeId(event.getCommonParentNode()));
     addActionEvent(EVENT_ALL_CHILD_NODES_DELETED, jsonEvent);
@@ -759,6 +952,9 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
   }
 
   protected void handleModelChildNodeOrderChanged(TreeEvent event) {
+    if (!isChildNodesSent(event.getCommonParentNode())) {
+      return;
+    }
     JSONObject jsonEvent = new JSONObject();
     jsonEvent.put("parentNodeId", getNodeId(event.getCommonParentNode()));
     boolean hasNodeIds = false;
@@ -954,7 +1150,7 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
     putChildNodeIndex(json, node, childIndexes);
     putCellProperties(json, node.getCell());
     JSONArray jsonChildNodes = new JSONArray();
-    if (node.getChildNodeCount() > 0) {
+    if (node.getChildNodeCount() > 0 && !m_nodesWithDeferredChildNodes.contains(node)) {
       for (ITreeNode childNode : node.getChildNodes()) {
         if (!isNodeAccepted(childNode)) {
           continue;
@@ -1153,6 +1349,9 @@ public class JsonTree<TREE extends ITree> extends AbstractJsonWidget<TREE> imple
     for (int i = 0; i < jsonNodes.length(); i++) {
       JSONObject jsonObject = jsonNodes.optJSONObject(i);
       ITreeNode row = m_treeNodes.get(jsonObject.getString("nodeId"));
+      if (row == null) { // Ignore nodes no longer known (e.g. child nodes released when their parent node was collapsed)
+        continue;
+      }
       checkInfo.getAllNodes().add(row);
       if (jsonObject.optBoolean("checked")) {
         checkInfo.getCheckedNodes().add(row);
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.websocket;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Map.Entry;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerEndpointConfig;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ExternalBaseUrlProperty;
+import org.eclipse.scout.rt.ui.html.HttpSessionHelper;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UiWebSocketEnabledProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * WebSocket endpoint used by the UI to receive the responses of background jobs, see {@link UiWebSocketPushChannel}.
+ * <p>
+ * The UI opens the WebSocket with the parameter {@link #PARAM_UI_SESSION_ID} if {@link UiWebSocketEnabledProperty} is
+ * enabled. The UI session is looked up in the HTTP session of the handshake request. Like for regular JSON requests, the
+ * ID of the UI session protects against cross-site requests. Additionally, only handshake requests from the origin of the
+ * application are accepted (see {@link P_Configurator}). The endpoint has to be registered in the servlet container
+ * using {@link #createEndpointConfig()}.
+ *
+ * @since 24.2
+ */
+@Bean
+public class UiWebSocketEndpoint extends Endpoint {
+  private static final Logger LOG = LoggerFactory.getLogger(UiWebSocketEndpoint.class);
+
+  public static final String PATH = "/ws";
+  public static final String PARAM_UI_SESSION_ID = "uiSessionId";
+
+  protected static final String HTTP_SESSION_PROPERTY = HttpSession.class.getName();
+
+  private UiWebSocketPushChannel m_pushChannel;
+
+  public static ServerEndpointConfig createEndpointConfig() {
+    return ServerEndpointConfig.Builder.create(UiWebSocketEndpoint.class, PATH)
+        .configurator(new P_Configurator())
+        .build();
+  }
+
+  @Override
+  public void onOpen(Session session, EndpointConfig config) {
+    IUiSession uiSession = getUiSession(session, config);
+    if (uiSession == null || uiSession.isDisposed()) {
+      LOG.info("Closing WebSocket because the UI session does not exist [uiSessionId={}]", getUiSessionId(session));
+      close(session, new CloseReason(CloseCodes.VIOLATED_POLICY, "Unknown UI session"));
+      return;
+    }
+    LOG.debug("WebSocket opened for UI session {}", uiSession.getUiSessionId());
+    m_pushChannel = createPushChannel(uiSession, session);
+    session.addMessageHandler(String.class, m_pushChannel::handleMessage);
+    m_pushChannel.start();
+  }
+
+  @Override
+  public void onClose(Session session, CloseReason closeReason) {
+    if (m_pushChannel != null) {
+      LOG.debug("WebSocket closed for UI session {} [reason={}]", m_pushChannel.getUiSession().getUiSessionId(), closeReason);
+      m_pushChannel.stop();
+      m_pushChannel = null;
+    }
+  }
+
+  @Override
+  public void onError(Session session, Throwable thr) {
+    LOG.debug("WebSocket error [uiSessionId={}]", getUiSessionId(session), thr);
+  }
+
+  protected UiWebSocketPushChannel createPushChannel(IUiSession uiSession, Session session) {
+    return new UiWebSocketPushChannel(uiSession, session);
+  }
+
+  protected IUiSession getUiSession(Session session, EndpointConfig config) {
+    HttpSession httpSession = (HttpSession) config.getUserProperties().get(HTTP_SESSION_PROPERTY);
+    String uiSessionId = getUiSessionId(session);
+    if (httpSession == null || uiSessionId == null) {
+      return null;
+    }
+    return BEANS.get(HttpSessionHelper.class).getSessionStore(httpSession).getUiSession(uiSessionId);
+  }
+
+  protected String getUiSessionId(Session session) {
+    List<String> values = session.getRequestParameterMap().get(PARAM_UI_SESSION_ID);
+    return CollectionUtility.firstElement(values);
+  }
+
+  protected void close(Session session, CloseReason closeReason) {
+    try {
+      session.close(closeReason);
+    }
+    catch (IOException e) {
+      LOG.debug("Could not close WebSocket", e);
+    }
+  }
+
+  /**
+   * Accepts only handshake requests from the origin of the application, remembers the HTTP session of the handshake
+   * request and creates the endpoint using {@link BEANS}.
+   * <p>
+   * The origin of the application is taken from {@link ExternalBaseUrlProperty} if set (required if a proxy changes
+   * the host of the requests). Otherwise, the origin must match the host of the handshake request.
+   */
+  public static class P_Configurator extends ServerEndpointConfig.Configurator {
+    protected static final String ORIGIN_HEADER = "Origin";
+    protected static final String HOST_HEADER = "Host";
+
+    @Override
+    public boolean checkOrigin(String originHeaderValue) {
+      if (StringUtility.isNullOrEmpty(originHeaderValue)) {
+        LOG.info("Rejecting WebSocket handshake without origin");
+        return false;
+      }
+      String allowedOrigin = getAllowedOrigin();
+      if (allowedOrigin == null) {
+        // the host of the handshake request is only known in modifyHandshake
+        return true;
+      }
+      if (!allowedOrigin.equalsIgnoreCase(originHeaderValue)) {
+        LOG.info("Rejecting WebSocket handshake from foreign origin {}", originHeaderValue);
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public void modifyHandshake(ServerEndpointConfig config, HandshakeRequest request, HandshakeResponse response) {
+      Object httpSession = request.getHttpSession();
+      if (getAllowedOrigin() == null && !isSameOrigin(request)) {
+        // without HTTP session, the endpoint closes the WebSocket
+        LOG.info("Rejecting WebSocket handshake from foreign origin {}", getHeader(request, ORIGIN_HEADER));
+        httpSession = null;
+      }
+      if (httpSession != null) {
+        config.getUserProperties().put(HTTP_SESSION_PROPERTY, httpSession);
+      }
+      else {
+        config.getUserProperties().remove(HTTP_SESSION_PROPERTY);
+      }
+    }
+
+    @Override
+    public <T> T getEndpointInstance(Class<T> endpointClass) {
+      return BEANS.get(endpointClass);
+    }
+
+    /**
+     * @return the origin (scheme, host and port) of {@link ExternalBaseUrlProperty} or {@code null} if not set
+     */
+    protected String getAllowedOrigin() {
+      String externalBaseUrl = CONFIG.getPropertyValue(ExternalBaseUrlProperty.class);
+      if (externalBaseUrl == null) {
+        return null;
+      }
+      URI uri = URI.create(externalBaseUrl);
+      return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    /**
+     * @return {@code true} if the origin of the handshake request has the same host and port as the request
+     */
+    protected boolean isSameOrigin(HandshakeRequest request) {
+      String origin = getHeader(request, ORIGIN_HEADER);
+      String host = getHeader(request, HOST_HEADER);
+      if (origin == null || host == null) {
+        return false;
+      }
+      try {
+        URI originUri = new URI(origin);
+        URI hostUri = new URI(originUri.getScheme() + "://" + host);
+        return originUri.getHost() != null
+            && originUri.getHost().equalsIgnoreCase(hostUri.getHost())
+            && getPort(originUri) == getPort(hostUri);
+      }
+      catch (URISyntaxException e) {
+        LOG.debug("Invalid origin {} or host {}", origin, host, e);
+        return false;
+      }
+    }
+
+    protected int getPort(URI uri) {
+      if (uri.getPort() != -1) {
+        return uri.getPort();
+      }
+      return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    protected String getHeader(HandshakeRequest request, String name) {
+      for (Entry<String, List<String>> header : request.getHeaders().entrySet()) {
+        if (name.equalsIgnoreCase(header.getKey())) {
+          return CollectionUtility.firstElement(header.getValue());
+        }
+      }
+      return null;
+    }
+  }
+}
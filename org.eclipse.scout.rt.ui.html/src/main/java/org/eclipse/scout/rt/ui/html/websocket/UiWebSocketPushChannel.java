@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.websocket;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.CloseReason.CloseCodes;
+import jakarta.websocket.Session;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
+import org.eclipse.scout.rt.ui.html.json.JsonObjectUtility;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest.RequestType;
+import org.eclipse.scout.rt.ui.html.json.JsonRequestHelper;
+import org.eclipse.scout.rt.ui.html.json.SerializedJsonObject;
+import org.eclipse.scout.rt.ui.html.logging.IUiRunContextDiagnostics;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes the responses of background jobs of an {@link IUiSession} to the UI over a WebSocket, instead of waiting for
+ * the UI to send a {@link RequestType#POLL_REQUEST}.
+ * <p>
+ * The responses are created exactly like the responses of poll requests, which means they get a sequence number and
+ * are stored in the response history of the UI session until the UI acknowledges them. If the WebSocket is closed
+ * before the UI has received a response, the UI retrieves it with a {@link RequestType#SYNC_RESPONSE_QUEUE} request.
+ * <p>
+ * Requests initiated by the user are still sent over HTTP.
+ *
+ * @since 24.2
+ */
+public class UiWebSocketPushChannel {
+  private static final Logger LOG = LoggerFactory.getLogger(UiWebSocketPushChannel.class);
+
+  private final IUiSession m_uiSession;
+  private final Session m_webSocketSession;
+  private final JsonRequestHelper m_jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+  private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
+  private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
+  private volatile IFuture<Void> m_future;
+
+  public UiWebSocketPushChannel(IUiSession uiSession, Session webSocketSession) {
+    m_uiSession = uiSession;
+    m_webSocketSession = webSocketSession;
+  }
+
+  public IUiSession getUiSession() {
+    return m_uiSession;
+  }
+
+  /**
+   * Starts pushing responses until the WebSocket or the UI session is closed.
+   */
+  public void start() {
+    initMaxIdleTimeout();
+    m_future = Jobs.schedule(this::pushResponses, Jobs.newInput()
+        .withName("Pushing UI responses [uiSessionId={}]", m_uiSession.getUiSessionId())
+        .withRunContext(RunContexts.empty()
+            .withThreadLocal(IUiSession.CURRENT, m_uiSession)
+            .withDiagnostics(BEANS.all(IUiRunContextDiagnostics.class))));
+  }
+
+  /**
+   * The push loop sends a (possibly empty) response at least every {@link BackgroundPollingIntervalProperty} seconds,
+   * which keeps the WebSocket alive. The idle timeout of the WebSocket defaults to a container specific value (e.g. 30
+   * seconds) and is raised to {@link #getMaxIdleTimeout()}, otherwise the container would close a WebSocket without
+   * background activity before the next keep-alive and the UI would have to synchronize its response queue over HTTP.
+   */
+  protected void initMaxIdleTimeout() {
+    long maxIdleTimeout = getMaxIdleTimeout();
+    long currentMaxIdleTimeout = m_webSocketSession.getMaxIdleTimeout();
+    // a value <= 0 means that the WebSocket never times out
+    if (currentMaxIdleTimeout > 0 && currentMaxIdleTimeout < maxIdleTimeout) {
+      LOG.debug("Raising idle timeout of WebSocket for UI session {} from {} ms to {} ms", m_uiSession.getUiSessionId(), currentMaxIdleTimeout, maxIdleTimeout);
+      m_webSocketSession.setMaxIdleTimeout(maxIdleTimeout);
+    }
+  }
+
+  /**
+   * @return idle timeout in milliseconds, twice the keep-alive interval plus a margin for slow responses (e.g. while a
+   *         user request holds the lock of the UI session)
+   */
+  protected long getMaxIdleTimeout() {
+    return TimeUnit.SECONDS.toMillis(2L * m_pollingInterval + 30L);
+  }
+
+  /**
+   * Stops pushing responses. Responses which have not been sent yet remain in the response history of the UI session.
+   */
+  public void stop() {
+    IFuture<Void> future = m_future;
+    if (future != null) {
+      future.cancel(true);
+    }
+  }
+
+  /**
+   * Handles a message sent by the UI. The UI only sends the sequence number of the last processed response (
+   * {@link JsonRequest#PROP_ACK_SEQUENCE_NO}), so the response history can be cleaned up.
+   */
+  public void handleMessage(String message) {
+    Long ackSequenceNo = JsonObjectUtility.optLong(new JSONObject(message), JsonRequest.PROP_ACK_SEQUENCE_NO);
+    m_uiSession.confirmResponseProcessed(ackSequenceNo);
+  }
+
+  protected void pushResponses() {
+    LOG.debug("Start pushing responses for UI session {}", m_uiSession.getUiSessionId());
+    try {
+      while (m_webSocketSession.isOpen() && pushNextResponse()) {
+        // continue
+      }
+    }
+    catch (InterruptedException e) { // NOSONAR
+      LOG.debug("Pushing responses for UI session {} interrupted", m_uiSession.getUiSessionId());
+    }
+    catch (IOException e) {
+      LOG.debug("Could not push response for UI session {}, WebSocket has probably been closed by the UI", m_uiSession.getUiSessionId(), e);
+    }
+    LOG.debug("Stop pushing responses for UI session {}", m_uiSession.getUiSessionId());
+  }
+
+  /**
+   * Waits until a background job has produced a response and sends it to the UI.
+   *
+   * @return <code>true</code> if more responses should be pushed, <code>false</code> if the UI session is no longer
+   *         valid.
+   */
+  protected boolean pushNextResponse() throws InterruptedException, IOException {
+    int idleSeconds = (int) ((System.currentTimeMillis() - m_uiSession.getLastAccessedTime()) / 1000L);
+    if (idleSeconds > m_maxUserIdleTime) {
+      LOG.info("Detected idle timeout for UI session {} after {} seconds (maxIdleSeconds={})", m_uiSession.getUiSessionId(), idleSeconds, m_maxUserIdleTime);
+      disposeUiSession();
+      send(m_jsonRequestHelper.createSessionTimeoutResponse());
+      close(CloseCodes.NORMAL_CLOSURE, "UI session timeout");
+      return false;
+    }
+
+    // Same wait time as for poll requests, see JsonMessageRequestHandler#handlePollRequest
+    JsonRequest pollRequest = createPollRequest();
+    m_uiSession.waitForBackgroundJobs(pollRequest, Math.max(Math.min(m_maxUserIdleTime - idleSeconds, m_pollingInterval), 3));
+    if (!m_webSocketSession.isOpen()) {
+      return false;
+    }
+
+    // If a user request currently holds the lock, the response will be sent along with that request.
+    ReentrantLock uiSessionLock = m_uiSession.uiSessionLock();
+    if (!uiSessionLock.tryLock()) {
+      return true;
+    }
+    JSONObject response;
+    try {
+      if (m_uiSession.isDisposed()) {
+        send(m_jsonRequestHelper.createSessionTerminatedResponse(m_uiSession.getLogoutRedirectUrl()));
+        close(CloseCodes.NORMAL_CLOSURE, "UI session terminated");
+        return false;
+      }
+      response = m_uiSession.processJsonRequest(null, null, pollRequest);
+    }
+    finally {
+      uiSessionLock.unlock();
+    }
+    if (response == null) {
+      // Processing was interrupted, the response (if any) remains in the response history
+      return true;
+    }
+    // Empty responses are sent as well, so the UI notices if the connection is lost
+    send(response);
+    return true;
+  }
+
+  protected JsonRequest createPollRequest() {
+    JSONObject request = new JSONObject();
+    request.put(JsonRequest.PROP_UI_SESSION_ID, m_uiSession.getUiSessionId());
+    request.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(request);
+  }
+
+  protected void disposeUiSession() {
+    ReentrantLock uiSessionLock = m_uiSession.uiSessionLock();
+    uiSessionLock.lock();
+    try {
+      m_uiSession.dispose();
+    }
+    finally {
+      uiSessionLock.unlock();
+    }
+  }
+
+  protected void send(JSONObject response) throws IOException {
+    if (response instanceof SerializedJsonObject) {
+      m_webSocketSession.getBasicRemote().sendText(new String(((SerializedJsonObject) response).getUtf8(), StandardCharsets.UTF_8));
+      return;
+    }
+    m_webSocketSession.getBasicRemote().sendText(response.toString());
+  }
+
+  protected void close(CloseCodes closeCode, String reason) {
+    try {
+      m_webSocketSession.close(new CloseReason(closeCode, reason));
+    }
+    catch (IOException e) {
+      LOG.debug("Could not close WebSocket of UI session {}", m_uiSession.getUiSessionId(), e);
+    }
+  }
+}
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.api.uinotification;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.api.data.ApiExposed;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 
@@ -38,6 +39,47 @@ public final class UiNotificationConfigProperties {
     }
   }
 
+  @ApiExposed
+  public static class UiNotificationStreamEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.uinotification.streamEnabled";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether the browser should receive the ui notifications as server-sent events over one long living connection instead of polling for them. "
+          + "If the stream cannot be established, the browser falls back to polling. "
+          + "The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+  }
+
+  public static class UiNotificationStreamMaxDurationProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.uinotification.streamMaxDuration";
+    }
+
+    @Override
+    public String description() {
+      return "Configures in milliseconds how long a stream of ui notifications is kept open before the server closes it. "
+          + "The browser reconnects immediately and continues with the last notifications it has received. "
+          + "Default is 30 minutes.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return TimeUnit.MINUTES.toMillis(30);
+    }
+  }
+
   public static class RegistryCleanupJobIntervalProperty extends AbstractLongConfigProperty {
 
     @Override
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.api.uinotification;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -20,11 +21,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,19 +65,15 @@ public class UiNotificationRegistry {
   public static final String SUBSCRIPTION_START_ID = "-1";
 
   private IdGenerator m_idGenerator = new IdGenerator();
-  private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
   /**
-   * Contains all notifications per topic including notifications that are created by other cluster nodes.
+   * Contains all notifications per topic including notifications that are created by other cluster nodes. Each topic is
+   * guarded by its own lock, see {@link TopicNotifications}.
    * <p>
-   * The order is not relevant for the implementation, however, notifications created this registry are actually ordered
-   * by {@link UiNotificationDo#creationTime()} because only one notification can be inserted at a time, and it will be
-   * added to the end of the list. Notifications received from other cluster nodes are also added at the end of the
-   * list, but they may not arrive in the same order as inserted in the registry of the other cluster node.
-   * <p>
-   * The list will be cleaned up regularly by {@link #m_cleanupJob}.
+   * The topics will be cleaned up regularly by {@link #m_cleanupJob}.
    */
-  private Map<String, List<UiNotificationMessageDo>> m_notifications = new HashMap<>();
-  private final Map<String, FastListenerList<UiNotificationListener>> m_listeners = new HashMap<>();
+  private final ConcurrentMap<String, TopicNotifications> m_topics = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, FastListenerList<UiNotificationListener>> m_listeners = new ConcurrentHashMap<>();
+  private final Object m_cleanupJobLock = new Object();
   private IFuture<Void> m_cleanupJob;
   private long m_cleanupJobInterval = CONFIG.getPropertyValue(RegistryCleanupJobIntervalProperty.class);
   private IUiNotificationClusterService m_clusterService;
@@ -169,38 +169,32 @@ public class UiNotificationRegistry {
   }
 
   protected List<UiNotificationDo> get(String topic, String user, final List<UiNotificationDo> lastKnownNotifications) {
-    m_lock.readLock().lock();
-    try {
-      Stream<UiNotificationDo> notificationStream = getNotifications().getOrDefault(topic, Collections.emptyList()).stream()
-          .filter(elem -> isNotificationRelevantForUser(elem, user))
-          .map(elem -> elem.getNotification());
+    TopicNotifications topicNotifications = m_topics.get(topic);
+    if (topicNotifications == null) {
+      // Return notification that just acts as subscription start marker
+      return lastKnownNotifications.isEmpty() ? createSubscriptionStartNotifications(topic, Stream.empty()) : new ArrayList<>();
+    }
 
+    topicNotifications.getLock().readLock().lock();
+    try {
       // Return notifications that just act as subscription start markers
       if (lastKnownNotifications.isEmpty()) {
-        return createSubscriptionStartNotifications(topic, notificationStream);
+        return createSubscriptionStartNotifications(topic, topicNotifications.getLastNotificationPerNode(user, elem -> isNotificationRelevantForUser(elem, user)));
       }
 
       // If the last element is SUBSCRIPTION_START_ID, return all elements
-      if (lastKnownNotifications.size() == 1 && SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId())) {
-        return notificationStream.collect(Collectors.toList());
+      Map<String, Long> lastKnownCreationTimeByNode = Collections.emptyMap();
+      if (lastKnownNotifications.size() != 1 || !SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId())) {
+        // Group last known notifications by nodeId
+        lastKnownCreationTimeByNode = lastKnownNotifications.stream()
+            .collect(Collectors.toMap(UiNotificationDo::getNodeId, notification -> notification.getCreationTime().getTime(), Math::max));
       }
 
-      // Group last known notifications by nodeId
-      Map<String, UiNotificationDo> lastKnownNotificationsByNode = lastKnownNotifications.stream()
-          .collect(Collectors.toMap(UiNotificationDo::getNodeId, Function.identity()));
-
       // Return all elements that were created after the last known notifications
-      return notificationStream
-          .filter(notification -> {
-            UiNotificationDo lastKnownNotification = lastKnownNotificationsByNode.get(notification.getNodeId());
-            long creationTime = notification.getCreationTime().getTime();
-            long lastKnownNotificationTime = lastKnownNotification == null ? 0 : lastKnownNotification.getCreationTime().getTime();
-            return creationTime > lastKnownNotificationTime;
-          })
-          .collect(Collectors.toList());
+      return topicNotifications.getNotificationsAfter(user, lastKnownCreationTimeByNode, elem -> isNotificationRelevantForUser(elem, user));
     }
     finally {
-      m_lock.readLock().unlock();
+      topicNotifications.getLock().readLock().unlock();
     }
   }
 
@@ -385,31 +379,37 @@ public class UiNotificationRegistry {
   protected void putInternal(UiNotificationMessageDo message, UiNotificationPutOptions options) {
     UiNotificationDo notification = message.getNotification();
     String topic = notification.getTopic();
-    m_lock.writeLock().lock();
-    try {
-      updateNotificationCreationTime(notification);
+    while (true) {
+      TopicNotifications topicNotifications = m_topics.computeIfAbsent(topic, key -> new TopicNotifications());
+      topicNotifications.getLock().writeLock().lock();
+      try {
+        if (topicNotifications.isRemoved()) {
+          // Topic has just been removed by the cleanup job, retry with a new one
+          continue;
+        }
+        updateNotificationCreationTime(notification); // inside lock to ensure notifications of a node are inserted in creation order
 
-      List<UiNotificationMessageDo> uiNotifications = getNotifications().computeIfAbsent(topic, key -> new ArrayList<>());
-      uiNotifications.add(message);
-      if (LOG.isDebugEnabled()) {
-        LOG.debug("Added new ui notification {} for topic {}. New size: {}", notification, topic, uiNotifications.size());
+        int size = topicNotifications.add(message);
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Added new ui notification {} for topic {}. New size: {}", notification, topic, size);
+        }
+        else {
+          LOG.info("Added new ui notification with id {} for topic {}. New size: {}", notification.getId(), topic, size);
+        }
       }
-      else {
-        LOG.info("Added new ui notification with id {} for topic {}. New size: {}", notification.getId(), topic, uiNotifications.size());
+      finally {
+        topicNotifications.getLock().writeLock().unlock();
       }
-
-      startCleanupJob(); // inside lock to ensure cleanup job will be started only once
-    }
-    finally {
-      m_lock.writeLock().unlock();
+      break;
     }
+    startCleanupJob(); // after the topic has been added to ensure the job is not stopped because of an empty registry
     triggerEvent(topic, notification); // outside lock because it is (a) an open call and (b) not required to be synchronized
     if (options == null || ObjectUtility.nvl(options.getPublishOverCluster(), true)) {
       publishOverCluster(message);
     }
   }
 
-  protected void updateNotificationCreationTime(UiNotificationDo notification) {
+  protected synchronized void updateNotificationCreationTime(UiNotificationDo notification) {
     if (!currentNodeId().equals(notification.getNodeId())) {
       // Ignore notifications created by other nodes
       return;
@@ -423,23 +423,20 @@ public class UiNotificationRegistry {
   }
 
   public void addListener(String topic, UiNotificationListener listener) {
-    synchronized (m_listeners) {
-      FastListenerList<UiNotificationListener> listeners = m_listeners.computeIfAbsent(topic, k -> new FastListenerList<>());
+    m_listeners.compute(topic, (k, listeners) -> {
+      if (listeners == null) {
+        listeners = new FastListenerList<>();
+      }
       listeners.add(listener);
-    }
+      return listeners;
+    });
   }
 
   public void removeListener(String topic, UiNotificationListener listener) {
-    synchronized (m_listeners) {
-      FastListenerList<UiNotificationListener> listeners = getListeners(topic);
-      if (listeners == null) {
-        return;
-      }
+    m_listeners.computeIfPresent(topic, (k, listeners) -> {
       listeners.remove(listener);
-      if (listeners.isEmpty()) {
-        m_listeners.remove(topic);
-      }
-    }
+      return listeners.isEmpty() ? null : listeners;
+    });
   }
 
   /**
@@ -486,16 +483,36 @@ public class UiNotificationRegistry {
   }
 
   protected final FastListenerList<UiNotificationListener> getListeners(String topic) {
-    synchronized (m_listeners) {
-      return m_listeners.get(topic);
-    }
+    return m_listeners.get(topic);
   }
 
+  /**
+   * @return a snapshot of all notifications per topic in the order they were put into the registry
+   */
   protected final Map<String, List<UiNotificationMessageDo>> getNotifications() {
-    return m_notifications;
+    Map<String, List<UiNotificationMessageDo>> notifications = new HashMap<>();
+    for (Entry<String, TopicNotifications> entry : m_topics.entrySet()) {
+      TopicNotifications topicNotifications = entry.getValue();
+      topicNotifications.getLock().readLock().lock();
+      try {
+        if (!topicNotifications.isRemoved()) {
+          notifications.put(entry.getKey(), topicNotifications.getAll());
+        }
+      }
+      finally {
+        topicNotifications.getLock().readLock().unlock();
+      }
+    }
+    return notifications;
   }
 
   public void startCleanupJob() {
+    synchronized (m_cleanupJobLock) {
+      startCleanupJobInternal();
+    }
+  }
+
+  protected void startCleanupJobInternal() {
     if (m_cleanupJob != null || getCleanupJobInterval() == 0) {
       // Already started
       return;
@@ -504,17 +521,13 @@ public class UiNotificationRegistry {
     m_cleanupJob = Jobs.schedule(() -> {
       BEANS.get(UiNotificationRegistry.class).cleanup();
 
-      m_lock.readLock().lock();
-      try {
-        if (getNotifications().isEmpty()) {
+      synchronized (m_cleanupJobLock) {
+        if (m_topics.isEmpty()) {
           m_cleanupJob.cancel(false);
           m_cleanupJob = null;
           LOG.info("Cleanup job stopped.");
         }
       }
-      finally {
-        m_lock.readLock().unlock();
-      }
     }, Jobs.newInput()
         .withName("UI Notification registry cleanup")
         .withExceptionHandling(new ExceptionHandler() {
@@ -534,33 +547,32 @@ public class UiNotificationRegistry {
    * @see UiNotificationMessageDo#getTimeout(), {@link UiNotificationDo#creationTime()}
    */
   public void cleanup() {
-    m_lock.writeLock().lock();
-    try {
-      if (getNotifications().isEmpty()) {
-        return;
-      }
-      LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", getNotifications().size());
-
-      long now = new Date().getTime();
-      for (Iterator<Entry<String, List<UiNotificationMessageDo>>> it = getNotifications().entrySet().iterator(); it.hasNext();) {
-        Entry<String, List<UiNotificationMessageDo>> entry = it.next();
-        List<UiNotificationMessageDo> notifications = entry.getValue();
-        int oldSize = notifications.size();
-        if (notifications.removeIf(elem -> elem.getNotification().getCreationTime().getTime() + elem.getTimeout() < now)) {
-          int newSize = notifications.size();
-          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", oldSize - newSize, entry.getKey(), newSize);
-          if (newSize == 0) {
-            // Remove topic if there are no notifications left
-            it.remove();
-          }
+    if (m_topics.isEmpty()) {
+      return;
+    }
+    LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", m_topics.size());
+
+    long now = new Date().getTime();
+    for (Entry<String, TopicNotifications> entry : m_topics.entrySet()) {
+      TopicNotifications topicNotifications = entry.getValue();
+      topicNotifications.getLock().writeLock().lock();
+      try {
+        int removedCount = topicNotifications.removeExpired(now);
+        if (removedCount > 0) {
+          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", removedCount, entry.getKey(), topicNotifications.size());
+        }
+        if (topicNotifications.size() == 0) {
+          // Remove topic if there are no notifications left
+          topicNotifications.markRemoved();
+          m_topics.remove(entry.getKey(), topicNotifications);
         }
       }
-
-      LOG.debug("Clean up finished. New topic count: {}.", getNotifications().size());
-    }
-    finally {
-      m_lock.writeLock().unlock();
+      finally {
+        topicNotifications.getLock().writeLock().unlock();
+      }
     }
+
+    LOG.debug("Clean up finished. New topic count: {}.", m_topics.size());
   }
 
   /**
@@ -594,4 +606,251 @@ public class UiNotificationRegistry {
   public String currentNodeId() {
     return Base64Utility.encode(SecurityUtility.hash(NodeId.current().toString().getBytes()));
   }
+
+  /**
+   * Notifications of a single topic guarded by its own lock.
+   * <p>
+   * The notifications are kept per cluster node and ordered by their {@link UiNotificationDo#creationTime()}, so that a
+   * reader can directly seek to the notifications created after its last known notification of that node. Notifications
+   * for a specific user are kept separately per user, so that they don't have to be checked by the readers of other
+   * users. Every notification gets a sequence number which preserves the order in which the notifications were put.
+   */
+  protected static class TopicNotifications {
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+    private final Map<String, NodeNotifications> m_notificationsByNode = new HashMap<>();
+    private final Map<String, Map<String, NodeNotifications>> m_userNotificationsByNode = new HashMap<>();
+    private long m_nextSequence;
+    private int m_size;
+    private boolean m_removed;
+
+    public ReadWriteLock getLock() {
+      return m_lock;
+    }
+
+    public int size() {
+      return m_size;
+    }
+
+    /**
+     * @return {@code true} if the topic has been removed from the registry because it contained no notifications
+     */
+    public boolean isRemoved() {
+      return m_removed;
+    }
+
+    protected void markRemoved() {
+      m_removed = true;
+    }
+
+    /**
+     * Must be called with the write lock held.
+     *
+     * @return the new number of notifications
+     */
+    protected int add(UiNotificationMessageDo message) {
+      Map<String, NodeNotifications> notificationsByNode = m_notificationsByNode;
+      if (message.getUser() != null) {
+        notificationsByNode = m_userNotificationsByNode.computeIfAbsent(message.getUser(), k -> new HashMap<>());
+      }
+      notificationsByNode
+          .computeIfAbsent(message.getNotification().getNodeId(), k -> new NodeNotifications())
+          .add(new SequencedNotification(m_nextSequence++, message));
+      return ++m_size;
+    }
+
+    /**
+     * @return the notifications maps per node relevant for the given user
+     */
+    protected List<Map<String, NodeNotifications>> getNotificationsByNode(String user) {
+      Map<String, NodeNotifications> userNotificationsByNode = user == null ? null : m_userNotificationsByNode.get(user);
+      if (userNotificationsByNode == null) {
+        return Collections.singletonList(m_notificationsByNode);
+      }
+      return List.of(m_notificationsByNode, userNotificationsByNode);
+    }
+
+    /**
+     * Must be called with the read lock held.
+     *
+     * @return the notifications for the given user created after the given creation time of the same node (all
+     *         notifications of nodes without creation time) in the order they were put
+     */
+    protected List<UiNotificationDo> getNotificationsAfter(String user, Map<String, Long> lastKnownCreationTimeByNode, Predicate<UiNotificationMessageDo> filter) {
+      List<SequencedNotification> notifications = new ArrayList<>();
+      for (Map<String, NodeNotifications> notificationsByNode : getNotificationsByNode(user)) {
+        for (Entry<String, NodeNotifications> entry : notificationsByNode.entrySet()) {
+          Long lastKnownCreationTime = lastKnownCreationTimeByNode.get(entry.getKey());
+          List<SequencedNotification> nodeNotifications = entry.getValue().list();
+          int start = lastKnownCreationTime == null ? 0 : entry.getValue().indexAfter(lastKnownCreationTime);
+          for (int i = start; i < nodeNotifications.size(); i++) {
+            SequencedNotification notification = nodeNotifications.get(i);
+            if (filter.test(notification.getMessage())) {
+              notifications.add(notification);
+            }
+          }
+        }
+      }
+      return toSortedNotifications(notifications.stream());
+    }
+
+    /**
+     * Must be called with the read lock held.
+     *
+     * @return the last notification per node for the given user in the order they were put. The last notification of a
+     *         node is the one with the latest creation time (see {@link NodeNotifications#indexAfter(long)}), also if
+     *         general and user specific notifications of the node were put in a different order.
+     */
+    protected Stream<UiNotificationDo> getLastNotificationPerNode(String user, Predicate<UiNotificationMessageDo> filter) {
+      Map<String, SequencedNotification> lastNotificationByNode = new HashMap<>();
+      for (Map<String, NodeNotifications> notificationsByNode : getNotificationsByNode(user)) {
+        for (Entry<String, NodeNotifications> entry : notificationsByNode.entrySet()) {
+          SequencedNotification last = entry.getValue().last(filter);
+          if (last != null) {
+            lastNotificationByNode.merge(entry.getKey(), last, (n1, n2) -> SequencedNotification.CREATION_ORDER.compare(n1, n2) >= 0 ? n1 : n2);
+          }
+        }
+      }
+      return toSortedNotifications(lastNotificationByNode.values().stream()).stream();
+    }
+
+    /**
+     * Must be called with the read lock held.
+     *
+     * @return all notifications in the order they were put
+     */
+    protected List<UiNotificationMessageDo> getAll() {
+      return Stream.concat(Stream.of(m_notificationsByNode), m_userNotificationsByNode.values().stream())
+          .flatMap(notificationsByNode -> notificationsByNode.values().stream())
+          .flatMap(nodeNotifications -> nodeNotifications.list().stream())
+          .sorted(Comparator.comparingLong(SequencedNotification::getSequence))
+          .map(SequencedNotification::getMessage)
+          .collect(Collectors.toList());
+    }
+
+    /**
+     * Must be called with the write lock held.
+     *
+     * @return number of removed notifications
+     */
+    protected int removeExpired(long now) {
+      int removedCount = removeExpired(m_notificationsByNode, now);
+      for (Iterator<Map<String, NodeNotifications>> it = m_userNotificationsByNode.values().iterator(); it.hasNext();) {
+        Map<String, NodeNotifications> userNotificationsByNode = it.next();
+        removedCount += removeExpired(userNotificationsByNode, now);
+        if (userNotificationsByNode.isEmpty()) {
+          it.remove();
+        }
+      }
+      m_size -= removedCount;
+      return removedCount;
+    }
+
+    protected int removeExpired(Map<String, NodeNotifications> notificationsByNode, long now) {
+      int removedCount = 0;
+      for (Iterator<NodeNotifications> it = notificationsByNode.values().iterator(); it.hasNext();) {
+        NodeNotifications nodeNotifications = it.next();
+        removedCount += nodeNotifications.removeExpired(now);
+        if (nodeNotifications.list().isEmpty()) {
+          it.remove();
+        }
+      }
+      return removedCount;
+    }
+
+    protected List<UiNotificationDo> toSortedNotifications(Stream<SequencedNotification> notifications) {
+      return notifications
+          .sorted(Comparator.comparingLong(SequencedNotification::getSequence))
+          .map(notification -> notification.getMessage().getNotification())
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Notifications of a topic created by the same cluster node, ordered by their {@link UiNotificationDo#creationTime()}.
+   */
+  protected static class NodeNotifications {
+    private final List<SequencedNotification> m_notifications = new ArrayList<>();
+
+    protected List<SequencedNotification> list() {
+      return m_notifications;
+    }
+
+    /**
+     * Adds the notification according to its creation time. Notifications are usually added in creation order, only
+     * notifications received from other cluster nodes may arrive in a different order.
+     */
+    protected void add(SequencedNotification notification) {
+      int index = m_notifications.size();
+      while (index > 0 && m_notifications.get(index - 1).getCreationTime() > notification.getCreationTime()) {
+        index--;
+      }
+      m_notifications.add(index, notification);
+    }
+
+    /**
+     * @return the index of the first notification created after the given creation time
+     */
+    protected int indexAfter(long creationTime) {
+      int low = 0;
+      int high = m_notifications.size();
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (m_notifications.get(mid).getCreationTime() <= creationTime) {
+          low = mid + 1;
+        }
+        else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    /**
+     * @return the last notification accepted by the given filter or {@code null} if there is none
+     */
+    protected SequencedNotification last(Predicate<UiNotificationMessageDo> filter) {
+      for (int i = m_notifications.size() - 1; i >= 0; i--) {
+        SequencedNotification notification = m_notifications.get(i);
+        if (filter.test(notification.getMessage())) {
+          return notification;
+        }
+      }
+      return null;
+    }
+
+    protected int removeExpired(long now) {
+      int oldSize = m_notifications.size();
+      m_notifications.removeIf(elem -> elem.getCreationTime() + elem.getMessage().getTimeout() < now);
+      return oldSize - m_notifications.size();
+    }
+  }
+
+  protected static class SequencedNotification {
+    /**
+     * Orders notifications by creation time like {@link NodeNotifications}, notifications with the same creation time
+     * by the order they were put.
+     */
+    public static final Comparator<SequencedNotification> CREATION_ORDER = Comparator.comparingLong(SequencedNotification::getCreationTime)
+        .thenComparingLong(SequencedNotification::getSequence);
+
+    private final long m_sequence;
+    private final UiNotificationMessageDo m_message;
+
+    public SequencedNotification(long sequence, UiNotificationMessageDo message) {
+      m_sequence = sequence;
+      m_message = message;
+    }
+
+    public long getSequence() {
+      return m_sequence;
+    }
+
+    public UiNotificationMessageDo getMessage() {
+      return m_message;
+    }
+
+    public long getCreationTime() {
+      return m_message.getNotification().getCreationTime().getTime();
+    }
+  }
 }
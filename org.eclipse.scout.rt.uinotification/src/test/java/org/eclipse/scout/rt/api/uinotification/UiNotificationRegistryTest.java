@@ -236,37 +236,22 @@ public class UiNotificationRegistryTest {
     List<UiNotificationDo> subscriptions = m_registry.get(Arrays.asList(createTopic("topic")), null);
     assertEquals(Arrays.asList(createInitialNotification("topic")), subscriptions);
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode1 = m_registry.getNotifications().get("topic").get(0).getNotification();
-    lastNotificationNode1.withNodeId("node1");
-    lastNotificationNode1.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode1 = putClusterNotification("topic", "node1", "20220922 140000");
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode2 = m_registry.getNotifications().get("topic").get(1).getNotification();
-    lastNotificationNode2.withNodeId("node2");
-    lastNotificationNode2.withCreationTime(DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
+    UiNotificationDo lastNotificationNode2 = putClusterNotification("topic", "node2", "20220922 135959"); // The time of Node 2 is slightly behind Node 1
 
     // Return notifications from both nodes
     assertEquals(Arrays.asList(lastNotificationNode1, lastNotificationNode2), m_registry.get(Arrays.asList(createTopic("topic", subscriptions.get(0))), null));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node1 = m_registry.getNotifications().get("topic").get(2).getNotification();
-    lastNotification2Node1.withNodeId("node1");
-    lastNotification2Node1.withCreationTime(DateUtility.parse("20220922 140001", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification2Node1 = putClusterNotification("topic", "node1", "20220922 140001");
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node2 = m_registry.getNotifications().get("topic").get(3).getNotification();
-    lastNotification2Node2.withNodeId("node2");
-    lastNotification2Node2.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification2Node2 = putClusterNotification("topic", "node2", "20220922 140000");
 
     // Return notifications from both nodes
     assertEquals(Arrays.asList(lastNotification2Node1, lastNotification2Node2), m_registry.get(Arrays.asList(createTopic("topic", lastNotificationNode1, lastNotificationNode2)), null));
 
     // Add new notification for a node that is unknown to client
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode3 = m_registry.getNotifications().get("topic").get(4).getNotification();
-    lastNotificationNode3.withNodeId("node3");
-    lastNotificationNode3.withCreationTime(DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode3 = putClusterNotification("topic", "node3", "20220922 140010");
 
     assertEquals(Arrays.asList(lastNotificationNode3), m_registry.get(Arrays.asList(createTopic("topic", lastNotification2Node1, lastNotification2Node2)), null));
 
@@ -277,15 +262,9 @@ public class UiNotificationRegistryTest {
   @Test
   public void testGetWithLastNotificationMultipleNodesExistingTopics() {
     // There are notifications for the topic created by node 1 and node 2, but not node 3
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode1 = m_registry.getNotifications().get("topic").get(0).getNotification();
-    lastNotificationNode1.withNodeId("node1");
-    lastNotificationNode1.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode1 = putClusterNotification("topic", "node1", "20220922 140000");
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode2 = m_registry.getNotifications().get("topic").get(1).getNotification();
-    lastNotificationNode2.withNodeId("node2");
-    lastNotificationNode2.withCreationTime(DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
+    UiNotificationDo lastNotificationNode2 = putClusterNotification("topic", "node2", "20220922 135959"); // The time of Node 2 is slightly behind Node 1
 
     UiNotificationDo node1Subscription = asSubscriptionStartNotification(lastNotificationNode1);
     UiNotificationDo node2Subscription = asSubscriptionStartNotification(lastNotificationNode2);
@@ -298,22 +277,13 @@ public class UiNotificationRegistryTest {
     assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", subscriptions.get(0), subscriptions.get(1))), null));
 
     // Old, obsolete notification by node1 -> It must not be returned
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node1Old = m_registry.getNotifications().get("topic").get(2).getNotification();
-    lastNotification2Node1Old.withNodeId("node1");
-    lastNotification2Node1Old.withCreationTime(DateUtility.parse("20220922 120000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification2Node1Old = putClusterNotification("topic", "node1", "20220922 120000");
 
     // Valid notification by node1
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification3Node1 = m_registry.getNotifications().get("topic").get(3).getNotification();
-    lastNotification3Node1.withNodeId("node1");
-    lastNotification3Node1.withCreationTime(DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification3Node1 = putClusterNotification("topic", "node1", "20220922 140010");
 
     // Server 3 has a bad time, but since there weren't any notifications created by that node at the subscription time, it will be returned
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode3 = m_registry.getNotifications().get("topic").get(4).getNotification();
-    lastNotificationNode3.withNodeId("node3");
-    lastNotificationNode3.withCreationTime(DateUtility.parse("20220922 130055", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode3 = putClusterNotification("topic", "node3", "20220922 130055");
 
     // Return valid one from node 1 and new one from node3
     assertEquals(Arrays.asList(lastNotification3Node1, lastNotificationNode3), m_registry.get(Arrays.asList(createTopic("topic", node1Subscription, node2Subscription)), null));
@@ -322,6 +292,18 @@ public class UiNotificationRegistryTest {
     assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", lastNotification3Node1, node2Subscription, lastNotificationNode3)), null));
   }
 
+  @Test
+  public void testGetWithLastNotificationMultipleNodesAndUser() {
+    // The user specific notification of node1 was created after the general one but arrived first
+    UiNotificationDo userNotificationNode1 = putClusterNotification("topic", "otto", "node1", "20220922 140010");
+    putClusterNotification("topic", "node1", "20220922 140000");
+
+    // The subscription starts at the latest notification of node1, otherwise the general one would be returned again
+    List<UiNotificationDo> subscriptions = m_registry.get(Arrays.asList(createTopic("topic")), "otto");
+    assertEquals(Arrays.asList(asSubscriptionStartNotification(userNotificationNode1)), subscriptions);
+    assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", subscriptions.get(0))), "otto"));
+  }
+
   @Test
   public void testGetOrWait() {
     IDoEntity message = createMessage();
@@ -656,6 +638,30 @@ public class UiNotificationRegistryTest {
     }
   }
 
+  /**
+   * Simulates a notification created by another cluster node.
+   */
+  protected UiNotificationDo putClusterNotification(String topic, String nodeId, String creationTime) {
+    return putClusterNotification(topic, null, nodeId, creationTime);
+  }
+
+  /**
+   * Simulates a notification for the given user created by another cluster node.
+   */
+  protected UiNotificationDo putClusterNotification(String topic, String user, String nodeId, String creationTime) {
+    UiNotificationDo notification = new UiNotificationDo()
+        .withId(m_registry.getIdGenerator().generate())
+        .withTopic(topic)
+        .withNodeId(nodeId)
+        .withCreationTime(DateUtility.parse(creationTime, "yyyyMMdd HHmmss"))
+        .withMessage(createMessage());
+    m_registry.handleClusterNotification(BEANS.get(UiNotificationMessageDo.class)
+        .withNotification(notification)
+        .withUser(user)
+        .withTimeout(TimeUnit.HOURS.toMillis(1)));
+    return notification;
+  }
+
   protected UiNotificationDo getNewestNotification(String topic) {
     List<UiNotificationMessageDo> notifications = m_registry.getNotifications().get(topic);
     if (notifications == null) {